@@ -0,0 +1,75 @@
+package org.mosip.nist.nfiq1;
+
+/***********************************************************************
+************************************************************************
+#cat: FingerImage - A decoded grayscale fingerprint image queued for
+#cat:             batch NFIQ scoring, either as int pixel values or as a
+#cat:             byte raster (see util.ImageUtil.toRaster8).
+   imageData     - grayscale fingerprint image data (null if the image
+                   was given as a raster)
+   image         - 8-bit grayscale image (null if the image was given
+                   as int pixel values)
+   imageWidth    - image pixel width
+   imageHeight   - image pixel height
+   imageDepth    - image pixel depth (should always be 8)
+   imagePPI      - image scan density in pix/inch (-1 for 500ppi)
+************************************************************************/
+public class FingerImage {
+	private final int[] imageData;
+	private final Raster8 image;
+	private final int imageWidth;
+	private final int imageHeight;
+	private final int imageDepth;
+	private final int imagePPI;
+
+	public FingerImage(int[] imageData, int imageWidth, int imageHeight, int imageDepth, int imagePPI) {
+		super();
+		this.imageData = imageData;
+		this.image = null;
+		this.imageWidth = imageWidth;
+		this.imageHeight = imageHeight;
+		this.imageDepth = imageDepth;
+		this.imagePPI = imagePPI;
+	}
+
+	public FingerImage(Raster8 image, int imageDepth, int imagePPI) {
+		super();
+		this.imageData = null;
+		this.image = image;
+		this.imageWidth = image.getWidth();
+		this.imageHeight = image.getHeight();
+		this.imageDepth = imageDepth;
+		this.imagePPI = imagePPI;
+	}
+
+	public int[] getImageData() {
+		return imageData;
+	}
+
+	/*
+	 * The image as a raster. An image given as int pixel values is narrowed on
+	 * every call, so that batch tasks do it in parallel on their own thread.
+	 */
+	public Raster8 getImage() {
+		if (image != null) {
+			return image;
+		}
+		return Raster8.fromInts(imageData, imageWidth, imageHeight);
+	}
+
+	public int getImageWidth() {
+		return imageWidth;
+	}
+
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	public int getImageDepth() {
+		return imageDepth;
+	}
+
+	public int getImagePPI() {
+		return imagePPI;
+	}
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.mosip.nist.nfiq1;
 
+import org.mosip.nist.nfiq1.mindtct.Detect;
+import org.mosip.nist.nfiq1.mindtct.Free;
 import org.mosip.nist.nfiq1.mindtct.GetMinutiae;
 import org.mosip.nist.nfiq1.mindtct.Globals;
 import org.mosip.nist.nfiq1.mindtct.MinutiaHelper;
@@ -17,10 +19,18 @@ public class Nfiq1 extends Nist {
 		return Globals.getInstance();
 	}
 
+	public Detect getDetect() {
+		return Detect.getInstance();
+	}
+
 	public GetMinutiae getGetMinutiae() {
 		return GetMinutiae.getInstance();
 	}
 
+	public Free getFree() {
+		return Free.getInstance();
+	}
+
 	public Nfiq1Globals getNfiqGlobals() {
 		return nfiqGlobals;
 	}
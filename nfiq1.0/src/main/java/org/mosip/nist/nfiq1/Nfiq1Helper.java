@@ -1,9 +1,17 @@
 package org.mosip.nist.nfiq1;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
 
 import org.mosip.nist.nfiq1.common.IAn2k;
 import org.mosip.nist.nfiq1.common.ILfs;
@@ -12,12 +20,21 @@ import org.mosip.nist.nfiq1.common.ILfs.Minutia;
 import org.mosip.nist.nfiq1.common.ILfs.Minutiae;
 import org.mosip.nist.nfiq1.common.INfiq.INfiq1Helper;
 import org.mosip.nist.nfiq1.mindtct.Maps;
+import org.mosip.nist.nfiq1.mindtct.MindtctWorkspace;
 import org.mosip.nist.nfiq1.mindtct.Quality;
+import org.mosip.nist.nfiq1.mlp.NfiqMlpModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 	private static final Logger LOGGER = LoggerFactory.getLogger(Nfiq1Helper.class);	
+	// batchParallelism - max number of images scored at once by computeNfiqBatch
+	// batchPermits - shared by all batches so that concurrent bursts queue
+	//                instead of each holding its own set of image maps
+	private int batchParallelism = Runtime.getRuntime().availableProcessors();
+	private Semaphore batchPermits = new Semaphore(batchParallelism, true);
+	private ExecutorService batchExecutor;
+
 	/***********************************************************************
 	************************************************************************
 	#cat: computeNfiqFeatureVector - Routine takes results from NIST's Mindtct and
@@ -41,7 +58,7 @@ public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 		int foreground;
 		int featureVectorIndex;
 		int qualityMapHist [] = new int[ILfs.QMAP_LEVELS];
-		AtomicIntegerArray qptr = null;
+		int[] qptr = null;
 		int qualityMapLength;
 		int num_rel_bins = INfiq.NFIQ_NUM_CLASSES;
 		double[] rel_threshs = {0.5, 0.6, 0.7, 0.8, 0.9};
@@ -54,7 +71,7 @@ public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 		int qptrIndex = 0;
 		for (i = 0; i < qualityMapLength; i++)
 		{
-			qualityMapHist[qptr.get(qptrIndex++)]++;
+			qualityMapHist[qptr[qptrIndex++]]++;
 		}
 
 		/* Compute pixel foreground */
@@ -208,29 +225,138 @@ public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 		double[] zNormMeans, double[] zNormStds, 
 		int nInps, int nHids, int nOuts, final int acFuncHids, final int acFuncOuts,
 		double[] weights) {
+		return computeNfiqFlex(new NfiqContext(), oNfiq, oConf, imageData, 
+			imageWidth, imageHeight, imageDepth, imagePPI, zNormMeans, zNormStds, 
+			nInps, nHids, nOuts, acFuncHids, acFuncOuts, weights);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqFlex - Same as above, but all per-image working state
+	#cat:             (maps, quality map, minutiae) is kept in the supplied
+	#cat:             context, which remains readable after the call.
+	   Input:
+	      context       - per-invocation working state, not shared between threads
+	      (remaining arguments as above)
+	************************************************************************/
+	public int computeNfiqFlex(NfiqContext context, AtomicInteger oNfiq, AtomicReference<Double> oConf, int [] imageData, 
+		final int imageWidth, final int imageHeight, final int imageDepth, final int imagePPI,
+		double[] zNormMeans, double[] zNormStds, 
+		int nInps, int nHids, int nOuts, final int acFuncHids, final int acFuncOuts,
+		double[] weights) {
+
+		return computeNfiqFlex(context, oNfiq, oConf, Raster8.fromInts(imageData, imageWidth, imageHeight),
+			imageDepth, imagePPI, zNormMeans, zNormStds, nInps, nHids, nOuts, acFuncHids, acFuncOuts, weights);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqFlex - Same as above, for an image already held one
+	#cat:             byte per pixel.
+	   Input:
+	      image         - 8-bit grayscale fingerprint image
+	      (remaining arguments as above)
+	************************************************************************/
+	public int computeNfiqFlex(NfiqContext context, AtomicInteger oNfiq, AtomicReference<Double> oConf, Raster8 image, 
+		final int imageDepth, final int imagePPI,
+		double[] zNormMeans, double[] zNormStds, 
+		int nInps, int nHids, int nOuts, final int acFuncHids, final int acFuncOuts,
+		double[] weights) {
 
 		AtomicInteger ret = new AtomicInteger(0);
 
 		double[] featureVector = new double[INfiq.NFIQ_VCTRLEN];
-		double[] outacsarr = new double[INfiq.NFIQ_NUM_CLASSES];
-		AtomicInteger binarizedImageWidth = new AtomicInteger(0), 
-			binarizedImageHeight = new AtomicInteger(0), 
-			binarizedImageDepth = new AtomicInteger(0);
-		double binarizedImageWidthPPMM = 0.0d;
-		int[] binarizedImageData = null;
 
-		AtomicReferenceArray<Double> wts = new AtomicReferenceArray<Double>(weights.length);
-		for (int index = 0; index < weights.length; index++)
+		/* MLP layers in primitive form, built once and reused for the same weights */
+		NfiqMlpModel mlpModel = NfiqMlpModel.getInstance(ret, nInps, nHids, nOuts, acFuncHids, acFuncOuts, weights);
+		if (ret.get() != ILfs.FALSE)
 		{
-			wts.set(index, weights[index]);
+			return (ret.get());
 		}
 
-		AtomicReference<Minutiae> minutiae = new AtomicReference<Minutiae>();
-		minutiae.set(new Minutiae());
-		//AtomicInteger quality_map = new AtomicInteger ();
+		/* Detect minutiae and compute feature vector */
+		ret.set(computeNfiqFeatures(context, featureVector, image, imageDepth, imagePPI));
+		if (ret.get() == INfiq.TOO_FEW_MINUTIAE)
+		{
+			oNfiq.set(INfiq.MIN_MINUTIAE_QUAL);
+			oConf.set(1.0d);
+			return (ret.get());
+		}
+		if (ret.get() == INfiq.EMPTY_IMG)
+		{
+		   oNfiq.set(INfiq.EMPTY_IMG_QUAL);
+		   oConf.set(1.0d);
+		   return (ret.get());
+		}
+		if (ret.get() != ILfs.FALSE)
+		{
+			return (ret.get());
+		}
+
+		/* ZNormalize feature vector */
+		getZNorm().ZNormalizeFeatureVector(featureVector, zNormMeans, zNormStds, INfiq.NFIQ_VCTRLEN);
+
+		/* Classify feature vector with feedforward MLP */
+		double[] outacs = context.getOutputActivations(nOuts);
+		int classIndex = mlpModel.runMlp(featureVector, context.getHiddenActivations(nHids), outacs);
+
+		oNfiq.set(classIndex + 1);
+		oConf.set(mlpModel.getConfidence(outacs));
 
-		AtomicInteger class_i = new AtomicInteger();
-		AtomicReference<Double> maxact = new AtomicReference<Double>(0.0d);
+		ret.set(ILfs.FALSE);
+		return ret.get();
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqFeatures - Routine runs NIST's Mindtct on an input image
+	#cat:             and computes its (raw) NFIQ feature vector, stopping
+	#cat:             short of Z-Normalization and MLP classification.
+
+	   Input:
+	      context       - per-invocation working state, not shared between threads
+	      imageData     - grayscale fingerprint image data
+	      imageWidth    - image pixel width
+	      imageHeight   - image pixel height
+	      imageDepth    - image pixel depth (should always be 8)
+	      imagePPI      - image scan density in pix/inch
+	                    If scan density is unknown (pass in -1),
+	                    then default density of 500ppi is used.
+	   Output:
+	      featureVector - resulting feature vector values, NFIQ_VCTRLEN long
+	   Return Code:
+	      Zero        	- successful completion
+	      EMPTY_IMG   	- empty image detected (feature vector set to 0's)
+	      TOO_FEW_MINUTIAE - too few minutiae detected from fingerprint image
+	                    (feature vector not computed)
+	      Negative    	- system error
+	************************************************************************/
+	public int computeNfiqFeatures(NfiqContext context, double[] featureVector, int [] imageData, 
+		final int imageWidth, final int imageHeight, final int imageDepth, final int imagePPI) {
+		return computeNfiqFeatures(context, featureVector, Raster8.fromInts(imageData, imageWidth, imageHeight),
+			imageDepth, imagePPI);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqFeatures - Same as above, for an image already held
+	#cat:             one byte per pixel.
+	   Input:
+	      image         - 8-bit grayscale fingerprint image
+	      (remaining arguments as above)
+	************************************************************************/
+	public int computeNfiqFeatures(NfiqContext context, double[] featureVector, Raster8 image, 
+		final int imageDepth, final int imagePPI) {
+		AtomicInteger ret = new AtomicInteger(0);
+
+		AtomicInteger binarizedImageWidth = context.getBinarizedImageWidth(), 
+			binarizedImageHeight = context.getBinarizedImageHeight(), 
+			binarizedImageDepth = context.getBinarizedImageDepth();
+		double binarizedImageWidthPPMM = 0.0d;
+		byte[] binarizedImageData = null;
+
+		AtomicReference<Minutiae> minutiae = context.getMinutiae();
+		//AtomicInteger quality_map = new AtomicInteger ();
 
 		/* If image ppi not defined, then assume 500 */
 		if(imagePPI == ILfs.UNDEFINED)
@@ -238,27 +364,44 @@ public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 		else 
 			binarizedImageWidthPPMM  = imagePPI / (double)IAn2k.MM_PER_INCH;
 
-		Maps imageMap = Maps.getInstance();
-		Quality imageQualityMap = Quality.getInstance(); 
+		Maps imageMap = context.getMaps();
+		Quality imageQualityMap = context.getQuality();
+
+		/* Reject an image without a single block of contrast before */
+		/* running Mindtct: all of its blocks would be low contrast, */
+		/* with no ridge flow direction and so no minutiae. */
+		if (imageDepth == ILfs.IMAGE_DEPTH)
+		{
+			ret.set(getDetect().isLowContrastImage(imageMap, image, getGlobals().getLfsParamsV2()));
+			if (ret.get() < 0)
+			{
+				return (ret.get());
+			}
+			if (ret.get() == ILfs.TRUE)
+			{
+				Arrays.fill(featureVector, 0, INfiq.NFIQ_VCTRLEN, 0.0d);
+				return (INfiq.EMPTY_IMG);
+			}
+		}
 		
 		/* Detect minutiae */
 		binarizedImageData = getGetMinutiae().getMinutiae(ret, minutiae, 
 			imageMap, imageQualityMap, binarizedImageWidth, binarizedImageHeight, binarizedImageDepth, 
-			imageData, imageWidth, imageHeight, imageDepth, binarizedImageWidthPPMM, 
+			image, imageDepth, binarizedImageWidthPPMM, 
 			getGlobals().getLfsParamsV2());
 		if (ret.get() != ILfs.FALSE)
 		{
 			return (ret.get());
 		}
 		
+		/* The binarized image is not used past minutiae detection */
+		getFree().free(binarizedImageData);
 		binarizedImageData = null;
 		/* Catch case where too few minutiae detected */
 		if (minutiae.get().getNum() <= INfiq.MIN_MINUTIAE)
 		{
 			getMinutiaHelper().freeMinutiae (minutiae);
 			imageQualityMap = null;
-			oNfiq.set(INfiq.MIN_MINUTIAE_QUAL);
-			oConf.set(1.0d);
 			return (INfiq.TOO_FEW_MINUTIAE);
 		}
 
@@ -269,42 +412,246 @@ public class Nfiq1Helper extends Nfiq1 implements INfiq1Helper{
 		{
 		   getMinutiaHelper().freeMinutiae (minutiae);
 		   imageQualityMap = null;
-		   oNfiq.set(INfiq.EMPTY_IMG_QUAL);
-		   oConf.set(1.0d);
 		   return (ret.get());
 		}
 
 		getMinutiaHelper().freeMinutiae (minutiae);
 		imageQualityMap = null;
 
-		/* ZNormalize feature vector */
-		getZNorm().ZNormalizeFeatureVector(featureVector, zNormMeans, zNormStds, INfiq.NFIQ_VCTRLEN);
+		return (ret.get());
+	}
 
-		AtomicReferenceArray<Double> outacs = new AtomicReferenceArray<Double>(outacsarr.length);
-		for (int index = 0; index < outacsarr.length; index++)
-		{
-			outacs.set(index, outacsarr[index]);
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqBatch - Scores a list of images in parallel using the
+	#cat:             default statistics and weights, on a work-stealing pool
+	#cat:             sized by the batch parallelism.
+	   Input:
+	      images      - decoded fingerprint images
+	   Return:
+	      one NfiqResult per image, in input order
+	************************************************************************/
+	public List<NfiqResult> computeNfiqBatch(List<FingerImage> images) {
+		return computeNfiqBatch(images, getBatchExecutor());
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiqBatch - Scores a list of images in parallel on the given
+	#cat:             executor and waits for all of them. At most
+	#cat:             batchParallelism images (summed over all concurrent
+	#cat:             batches on this helper) are in flight; submission
+	#cat:             blocks until a slot frees up. Tasks must not call
+	#cat:             back into computeNfiqBatch on the same helper.
+	   Input:
+	      images      - decoded fingerprint images
+	      executor    - executor running the per-image tasks
+	   Return:
+	      one NfiqResult per image, in input order. An image whose task
+	      could not run or threw gets BATCH_TASK_FAILED.
+	************************************************************************/
+	public List<NfiqResult> computeNfiqBatch(List<FingerImage> images, Executor executor) {
+		final int size = images.size();
+		final NfiqResult[] results = new NfiqResult[size];
+
+		runBatch(images, executor, (image, position) -> results[position] = computeNfiqResult(image));
+
+		for (int index = 0; index < size; index++) {
+			if (results[index] == null) {
+				results[index] = new NfiqResult(INfiq.BATCH_TASK_FAILED, 0, 0.0d);
+			}
 		}
-		
-		/* Classify feature vector with feedforward MLP */
-		ret.set(getRunMlp().runMlp2(nInps, nHids, nOuts, acFuncHids, acFuncOuts, wts, 
-			featureVector, outacs, class_i, maxact));
-		if (ret.get() != ILfs.FALSE)
-		{
-			return (ret.get());
+		return Arrays.asList(results);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: extractNfiqFeatures - Feature extraction mode of computeNfiqBatch:
+	#cat:             runs Mindtct on a list of images, using the default
+	#cat:             Z-Norm statistics, and appends their raw and
+	#cat:             Z-normalized feature vectors to a feature file without
+	#cat:             classifying them.
+	   Input:
+	      images      - decoded fingerprint images
+	      writer      - feature file writer, NFIQ_VCTRLEN features per vector
+	   Output:
+	      one record per image, in input order
+	************************************************************************/
+	public void extractNfiqFeatures(List<FingerImage> images, NfiqFeatureFile.Writer writer) throws IOException {
+		extractNfiqFeatures(images, getBatchExecutor(), getNfiqGlobals().getDfltZnormMeans(), 
+			getNfiqGlobals().getDfltZnormStds(), writer);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: extractNfiqFeatures - Same as above on the given executor and with
+	#cat:             the given Z-Norm statistics. Records are written once
+	#cat:             the whole list has been processed, so very large sets
+	#cat:             are best passed a slice at a time to the same writer.
+	   Input:
+	      images      - decoded fingerprint images
+	      executor    - executor running the per-image tasks
+	      zNormMeans  - global mean for each feature vector coef used for Z-Norm
+	      zNormStds   - global stddev for each feature vector coef used for Z-Norm
+	      writer      - feature file writer, NFIQ_VCTRLEN features per vector
+	   Output:
+	      one record per image, in input order. An image whose task could
+	      not run or threw gets BATCH_TASK_FAILED.
+	************************************************************************/
+	public void extractNfiqFeatures(List<FingerImage> images, Executor executor, 
+		double[] zNormMeans, double[] zNormStds, NfiqFeatureFile.Writer writer) throws IOException {
+		if (writer.getVectorLength() != INfiq.NFIQ_VCTRLEN) {
+			throw new IllegalArgumentException("feature file vector length must be " + INfiq.NFIQ_VCTRLEN);
 		}
+		final int size = images.size();
+		final int[] returnCodes = new int[size];
+		final double[][] rawVectors = new double[size][];
+		final double[][] zNormVectors = new double[size][];
 
-		for (int index = 0; index < outacs.length(); index++)
-		{
-			outacsarr[index] = outacs.get(index);
+		Arrays.fill(returnCodes, INfiq.BATCH_TASK_FAILED);
+		runBatch(images, executor, (image, position) -> {
+			double[] featureVector = new double[INfiq.NFIQ_VCTRLEN];
+			int ret;
+			try {
+				ret = computeNfiqFeatures(new NfiqContext(), featureVector, image.getImage(), 
+					image.getImageDepth(), image.getImagePPI());
+			} catch (RuntimeException e) {
+				LOGGER.error("extractNfiqFeatures : image task failed", e);
+				return;
+			}
+			rawVectors[position] = featureVector;
+			if (ret == ILfs.FALSE) {
+				double[] zNormVector = featureVector.clone();
+				getZNorm().ZNormalizeFeatureVector(zNormVector, zNormMeans, zNormStds, INfiq.NFIQ_VCTRLEN);
+				zNormVectors[position] = zNormVector;
+			}
+			returnCodes[position] = ret;
+		});
+
+		for (int index = 0; index < size; index++) {
+			writer.write(returnCodes[index], rawVectors[index], zNormVectors[index]);
 		}
+	}
 
-		oNfiq.set(class_i.get() + 1);
-		oConf.set(maxact.get());
+	/*
+	 * Runs task on every image on the executor and waits for all of them, with at
+	 * most batchParallelism images in flight. Images whose task could not be
+	 * started are skipped; the caller records them as failed. Once started, every
+	 * task is waited for even if the calling thread is interrupted (the interrupt
+	 * stops further submissions and is re-asserted on return), so the caller never
+	 * reads results that a task may still be writing.
+	 */
+	private void runBatch(List<FingerImage> images, Executor executor, ObjIntConsumer<FingerImage> task) {
+		final int size = images.size();
+		final CountDownLatch pending = new CountDownLatch(size);
+		final Semaphore permits = getBatchPermits();
+		boolean interrupted = false;
 
-		ret.set(ILfs.FALSE);
-		return ret.get();
+		for (int index = 0; index < size; index++) {
+			final int position = index;
+			final FingerImage image = images.get(index);
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				interrupted = true;
+				for (int rest = position; rest < size; rest++) {
+					pending.countDown();
+				}
+				break;
+			}
+			try {
+				executor.execute(() -> {
+					try {
+						task.accept(image, position);
+					} finally {
+						permits.release();
+						pending.countDown();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				LOGGER.error("runBatch : image {} rejected by executor", position, e);
+				permits.release();
+				pending.countDown();
+			}
+		}
+
+		while (true) {
+			try {
+				pending.await();
+				break;
+			} catch (InterruptedException e) {
+				if (!interrupted) {
+					LOGGER.error("runBatch : interrupted, waiting for the running image tasks");
+				}
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
 	}
-}
 
+	private NfiqResult computeNfiqResult(FingerImage image) {
+		AtomicInteger nfiq = new AtomicInteger(0);
+		AtomicReference<Double> conf = new AtomicReference<Double>(0.0d);
+		int ret;
+		try {
+			ret = computeNfiqFlex(new NfiqContext(), nfiq, conf, image.getImage(), 
+				image.getImageDepth(), image.getImagePPI(), 
+				getNfiqGlobals().getDfltZnormMeans(), 
+				getNfiqGlobals().getDfltZnormStds(), 
+				getNfiqGlobals().getDfltNInps(), 
+				getNfiqGlobals().getDfltNHids(), 
+				getNfiqGlobals().getDfltNOuts(), 
+				getNfiqGlobals().getDfltAcFuncHids(), 
+				getNfiqGlobals().getDfltAcFuncOuts(), 
+				getNfiqGlobals().getDfltWts());
+		} catch (RuntimeException e) {
+			LOGGER.error("computeNfiqBatch : image task failed", e);
+			return new NfiqResult(INfiq.BATCH_TASK_FAILED, 0, 0.0d);
+		}
+		return new NfiqResult(ret, nfiq.get(), conf.get());
+	}
+
+	public synchronized int getBatchParallelism() {
+		return batchParallelism;
+	}
+
+	/*
+	 * Changing the parallelism only affects batches started afterwards; the
+	 * previous default pool is shut down once its queued work is done, and the
+	 * idle working buffers of the workspaces are released.
+	 */
+	public synchronized void setBatchParallelism(int batchParallelism) {
+		if (batchParallelism < 1) {
+			throw new IllegalArgumentException("batchParallelism must be >= 1");
+		}
+		this.batchParallelism = batchParallelism;
+		this.batchPermits = new Semaphore(batchParallelism, true);
+		if (this.batchExecutor != null) {
+			this.batchExecutor.shutdown();
+			this.batchExecutor = null;
+		}
+		releaseWorkspaces();
+	}
+
+	/*
+	 * Gives back the idle Mindtct working buffers that the threads which scored
+	 * images (batch pool and fork/join workers included) keep for reuse; they
+	 * are allocated again as needed. Safe to call while images are being scored.
+	 */
+	public void releaseWorkspaces() {
+		MindtctWorkspace.releaseAll();
+	}
 
+	private synchronized Semaphore getBatchPermits() {
+		return batchPermits;
+	}
+
+	private synchronized Executor getBatchExecutor() {
+		if (batchExecutor == null) {
+			batchExecutor = Executors.newWorkStealingPool(batchParallelism);
+		}
+		return batchExecutor;
+	}
+}
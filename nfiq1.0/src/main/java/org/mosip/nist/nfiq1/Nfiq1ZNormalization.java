@@ -100,6 +100,59 @@ public class Nfiq1ZNormalization implements INfiq1ZNormalization
 	   return ILfs.FALSE;
 	}		
 
+	/***********************************************************************
+	************************************************************************
+	#cat: computeZNormStats - Routine computes the mean and stddev of each
+	#cat:             feature of the raw vectors in a feature file, over the
+	#cat:             records whose vector was classified (return code zero).
+	#cat:             Sums are kept in double so that large files do not
+	#cat:             lose precision.
+
+	   Input:
+	      featureFile      - feature file written by extractNfiqFeatures
+	   Output:
+	      oMeans           - resulting coef means (vector length long)
+	      oStdDevs         - resulting coef stddevs (vector length long)
+	   Return Code:
+	      Zero        		- successful completion
+	      Negative    		- system error (fewer than 2 usable records)
+	************************************************************************/
+	public int computeZNormStats(double[] oMeans, double[] oStdDevs, NfiqFeatureFile featureFile) {
+		final int vectorLength = featureFile.getVectorLength();
+		final double[] sumX = new double[vectorLength];
+		final double[] sumX2 = new double[vectorLength];
+		final double[] featureVector = new double[vectorLength];
+		int nfeatureVectors = 0;
+
+		for (int record = 0; record < featureFile.getRecordCount(); record++)
+		{
+			if (featureFile.getReturnCode(record) != ILfs.FALSE)
+			{
+				continue;
+			}
+			featureFile.readRawVector(record, featureVector);
+			for (int featureIndex = 0; featureIndex < vectorLength; featureIndex++)
+			{
+				sumX[featureIndex] += featureVector[featureIndex];
+				sumX2[featureIndex] += featureVector[featureIndex] * featureVector[featureIndex];
+			}
+			nfeatureVectors++;
+		}
+
+		for (int featureIndex = 0; featureIndex < vectorLength; featureIndex++)
+		{
+			double fret = getSsxStats().ssxStdDev(sumX[featureIndex], sumX2[featureIndex], nfeatureVectors);
+			if (fret < 0.0d)
+			{
+				return (-4);
+			}
+			oMeans[featureIndex] = sumX[featureIndex] / nfeatureVectors;
+			oStdDevs[featureIndex] = fret;
+		}
+
+		return ILfs.FALSE;
+	}
+
 	public SsxStats getSsxStats() {
 		return ssxStats;
 	}
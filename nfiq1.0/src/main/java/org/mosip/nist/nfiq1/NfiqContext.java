@@ -0,0 +1,76 @@
+package org.mosip.nist.nfiq1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mosip.nist.nfiq1.common.ILfs.Minutiae;
+import org.mosip.nist.nfiq1.mindtct.Maps;
+import org.mosip.nist.nfiq1.mindtct.Quality;
+
+/***********************************************************************
+************************************************************************
+#cat: NfiqContext - Per-invocation working state of one NFIQ computation.
+#cat:             Holds the image maps, the quality map and the detected
+#cat:             minutiae so that no per-image data lives in shared
+#cat:             singletons. A context must not be shared between
+#cat:             concurrent invocations.
+************************************************************************/
+public class NfiqContext {
+	private final Maps maps;
+	private final Quality quality;
+	private final AtomicReference<Minutiae> minutiae;
+	private final AtomicInteger binarizedImageWidth;
+	private final AtomicInteger binarizedImageHeight;
+	private final AtomicInteger binarizedImageDepth;
+	/* MLP activation buffers, grown on demand */
+	private double[] hiddenActivations;
+	private double[] outputActivations;
+
+	public NfiqContext() {
+		super();
+		this.maps = Maps.newInstance();
+		this.quality = Quality.newInstance();
+		this.minutiae = new AtomicReference<Minutiae>(new Minutiae());
+		this.binarizedImageWidth = new AtomicInteger(0);
+		this.binarizedImageHeight = new AtomicInteger(0);
+		this.binarizedImageDepth = new AtomicInteger(0);
+		this.hiddenActivations = new double[0];
+		this.outputActivations = new double[0];
+	}
+
+	public Maps getMaps() {
+		return maps;
+	}
+
+	public Quality getQuality() {
+		return quality;
+	}
+
+	public AtomicReference<Minutiae> getMinutiae() {
+		return minutiae;
+	}
+
+	public AtomicInteger getBinarizedImageWidth() {
+		return binarizedImageWidth;
+	}
+
+	public AtomicInteger getBinarizedImageHeight() {
+		return binarizedImageHeight;
+	}
+
+	public AtomicInteger getBinarizedImageDepth() {
+		return binarizedImageDepth;
+	}
+
+	public double[] getHiddenActivations(final int nHids) {
+		if (hiddenActivations.length < nHids)
+			hiddenActivations = new double[nHids];
+		return hiddenActivations;
+	}
+
+	public double[] getOutputActivations(final int nOuts) {
+		if (outputActivations.length < nOuts)
+			outputActivations = new double[nOuts];
+		return outputActivations;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package org.mosip.nist.nfiq1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/***********************************************************************
+************************************************************************
+#cat: NfiqEngine - Thread-safe NFIQ scorer. Every call allocates its own
+#cat:             NfiqContext for the per-image maps and minutiae, and the
+#cat:             mindtct/mlp routines it reaches are stateless, so a single
+#cat:             engine may be shared by any number of threads.
+#cat:             The log flag is global and is fixed when the engine is
+#cat:             constructed rather than on every call.
+************************************************************************/
+public class NfiqEngine extends Nfiq1Helper {
+	public NfiqEngine() {
+		this(0);
+	}
+
+	public NfiqEngine(int logflag) {
+		super();
+		setShowLogs(logflag == 1);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiq - Computes NFIQ for an image with the default Z-Norm
+	#cat:             statistics and MLP weights. Safe for concurrent use.
+	   Input:
+	      imageData     - grayscale fingerprint image data
+	      imageWidth    - image pixel width
+	      imageHeight   - image pixel height
+	      imageDepth    - image pixel depth (should always be 8)
+	      imagePPI      - image scan density in pix/inch (-1 for 500ppi)
+	   Output:
+	      oNfiq         - resulting NFIQ value
+	      oConf         - max output class MLP activation
+	   Return Code:
+	      Zero          - successful completion
+	      EMPTY_IMG     - empty image detected
+	      TOO_FEW_MINUTIAE - too few minutiae detected
+	      Negative      - system error
+	************************************************************************/
+	public int computeNfiq(AtomicInteger oNfiq, AtomicReference<Double> oConf, int [] imageData,
+		final int imageWidth, final int imageHeight, final int imageDepth, final int imagePPI) {
+		return computeNfiq(new NfiqContext(), oNfiq, oConf, imageData,
+			imageWidth, imageHeight, imageDepth, imagePPI);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiq - Same as above, using a caller supplied context so
+	#cat:             the maps and minutiae can be inspected afterwards.
+	************************************************************************/
+	public int computeNfiq(NfiqContext context, AtomicInteger oNfiq, AtomicReference<Double> oConf,
+		int [] imageData, final int imageWidth, final int imageHeight, final int imageDepth,
+		final int imagePPI) {
+		return computeNfiqFlex(context, oNfiq, oConf, imageData,
+				imageWidth, imageHeight, imageDepth, imagePPI,
+				getNfiqGlobals().getDfltZnormMeans(),
+				getNfiqGlobals().getDfltZnormStds(),
+				getNfiqGlobals().getDfltNInps(),
+				getNfiqGlobals().getDfltNHids(),
+				getNfiqGlobals().getDfltNOuts(),
+				getNfiqGlobals().getDfltAcFuncHids(),
+				getNfiqGlobals().getDfltAcFuncOuts(),
+				getNfiqGlobals().getDfltWts());
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: computeNfiq - Computes NFIQ for an image held one byte per pixel,
+	#cat:             such as a decoder buffer wrapped by
+	#cat:             util.ImageUtil.toRaster8. Safe for concurrent use.
+	   Input:
+	      image         - 8-bit grayscale fingerprint image
+	      imageDepth    - image pixel depth (should always be 8)
+	      imagePPI      - image scan density in pix/inch (-1 for 500ppi)
+	   (outputs and return codes as above)
+	************************************************************************/
+	public int computeNfiq(AtomicInteger oNfiq, AtomicReference<Double> oConf, Raster8 image,
+		final int imageDepth, final int imagePPI) {
+		return computeNfiq(new NfiqContext(), oNfiq, oConf, image, imageDepth, imagePPI);
+	}
+
+	public int computeNfiq(NfiqContext context, AtomicInteger oNfiq, AtomicReference<Double> oConf,
+		Raster8 image, final int imageDepth, final int imagePPI) {
+		return computeNfiqFlex(context, oNfiq, oConf, image, imageDepth, imagePPI,
+				getNfiqGlobals().getDfltZnormMeans(),
+				getNfiqGlobals().getDfltZnormStds(),
+				getNfiqGlobals().getDfltNInps(),
+				getNfiqGlobals().getDfltNHids(),
+				getNfiqGlobals().getDfltNOuts(),
+				getNfiqGlobals().getDfltAcFuncHids(),
+				getNfiqGlobals().getDfltAcFuncOuts(),
+				getNfiqGlobals().getDfltWts());
+	}
+}
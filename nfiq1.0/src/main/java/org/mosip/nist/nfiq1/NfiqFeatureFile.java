@@ -0,0 +1,267 @@
+package org.mosip.nist.nfiq1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/***********************************************************************
+************************************************************************
+#cat: NfiqFeatureFile - Binary file of NFIQ feature vectors, written by
+#cat:             Nfiq1Helper.extractNfiqFeatures so that MINDTCT is run
+#cat:             once and the vectors replayed against new Z-Norm stats
+#cat:             or MLP weights. All values are little-endian and every
+#cat:             record has the same width, so a column is read at a
+#cat:             fixed stride from the memory mapped file.
+
+   Layout:
+      header (HEADER_SIZE bytes)
+         int    magic        - FILE_MAGIC
+         int    version      - FILE_VERSION
+         int    vectorLength - number of features per vector
+         int    reserved     - zero
+         long   recordCount  - number of records
+      record (getRecordSize(vectorLength) bytes), one per image
+         int    returnCode   - Zero, EMPTY_IMG, TOO_FEW_MINUTIAE or negative
+                               error, as returned by computeNfiqFlex
+         int    reserved     - zero
+         double raw[vectorLength]
+                             - feature vector (0's where not computed)
+         double zNorm[vectorLength]
+                             - Z-normalized feature vector (0's unless
+                               returnCode is zero)
+************************************************************************/
+public final class NfiqFeatureFile implements Closeable {
+	public static final int FILE_MAGIC = 0x5146564e; // "NVFQ"
+	public static final int FILE_VERSION = 1;
+	public static final int HEADER_SIZE = 24;
+
+	private static final int RECORD_HEADER_SIZE = 8;
+	/* Records written per write to the channel */
+	private static final int WRITE_BUFFER_RECORDS = 1024;
+
+	private final FileChannel channel;
+	private final int vectorLength;
+	private final int recordSize;
+	private final int recordCount;
+	/* A mapping is limited to 2GB: records are mapped in segments of */
+	/* recordsPerSegment records. */
+	private final int recordsPerSegment;
+	private final ByteBuffer[] segments;
+
+	private NfiqFeatureFile(FileChannel channel, int vectorLength, int recordCount) throws IOException {
+		super();
+		this.channel = channel;
+		this.vectorLength = vectorLength;
+		this.recordSize = getRecordSize(vectorLength);
+		this.recordCount = recordCount;
+		this.recordsPerSegment = Integer.MAX_VALUE / recordSize;
+
+		final int nSegments = (recordCount + recordsPerSegment - 1) / recordsPerSegment;
+		this.segments = new ByteBuffer[nSegments];
+		for (int segment = 0; segment < nSegments; segment++) {
+			final int nRecords = Math.min(recordsPerSegment, recordCount - (segment * recordsPerSegment));
+			final long position = HEADER_SIZE + ((long) segment * recordsPerSegment * recordSize);
+			this.segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) nRecords * recordSize)
+					.order(ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	public static int getRecordSize(final int vectorLength) {
+		return RECORD_HEADER_SIZE + (2 * vectorLength * Double.BYTES);
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: open - Maps a feature file for reading.
+	   Input:
+	      path        - feature file written by a Writer
+	   Return:
+	      the mapped file; IOException if it is not a complete feature file
+	************************************************************************/
+	public static NfiqFeatureFile open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("NfiqFeatureFile : truncated header : " + path);
+				}
+			}
+			header.flip();
+			final int magic = header.getInt();
+			final int version = header.getInt();
+			final int vectorLength = header.getInt();
+			header.getInt();
+			final long recordCount = header.getLong();
+			if (magic != FILE_MAGIC || version != FILE_VERSION || vectorLength <= 0) {
+				throw new IOException("NfiqFeatureFile : not a version " + FILE_VERSION + " feature file : " + path);
+			}
+			if (recordCount > Integer.MAX_VALUE
+					|| channel.size() < HEADER_SIZE + (recordCount * getRecordSize(vectorLength))) {
+				throw new IOException("NfiqFeatureFile : " + recordCount + " records do not fit in " + path);
+			}
+			return new NfiqFeatureFile(channel, vectorLength, (int) recordCount);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	public int getVectorLength() {
+		return vectorLength;
+	}
+
+	public int getRecordCount() {
+		return recordCount;
+	}
+
+	public int getReturnCode(final int record) {
+		return segment(record).getInt(offset(record));
+	}
+
+	public double getRawFeature(final int record, final int feature) {
+		return segment(record).getDouble(offset(record) + RECORD_HEADER_SIZE + (feature * Double.BYTES));
+	}
+
+	public double getZNormFeature(final int record, final int feature) {
+		return segment(record)
+				.getDouble(offset(record) + RECORD_HEADER_SIZE + ((vectorLength + feature) * Double.BYTES));
+	}
+
+	/*
+	 * Copies the raw feature vector of a record into featureVector, which must
+	 * hold at least vectorLength values.
+	 */
+	public void readRawVector(final int record, double[] featureVector) {
+		final ByteBuffer buffer = segment(record);
+		final int offset = offset(record) + RECORD_HEADER_SIZE;
+		for (int feature = 0; feature < vectorLength; feature++) {
+			featureVector[feature] = buffer.getDouble(offset + (feature * Double.BYTES));
+		}
+	}
+
+	/*
+	 * Copies the Z-normalized feature vector of a record into featureVector,
+	 * which must hold at least vectorLength values.
+	 */
+	public void readZNormVector(final int record, double[] featureVector) {
+		final ByteBuffer buffer = segment(record);
+		final int offset = offset(record) + RECORD_HEADER_SIZE + (vectorLength * Double.BYTES);
+		for (int feature = 0; feature < vectorLength; feature++) {
+			featureVector[feature] = buffer.getDouble(offset + (feature * Double.BYTES));
+		}
+	}
+
+	private ByteBuffer segment(final int record) {
+		return segments[record / recordsPerSegment];
+	}
+
+	private int offset(final int record) {
+		return (record % recordsPerSegment) * recordSize;
+	}
+
+	/* The mapped segments stay valid until they are garbage collected. */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/***********************************************************************
+	************************************************************************
+	#cat: newWriter - Creates (or truncates) a feature file and returns a
+	#cat:             writer appending records to it. The record count in
+	#cat:             the header is filled in when the writer is closed.
+	   Input:
+	      path          - feature file to write
+	      vectorLength  - number of features per vector
+	************************************************************************/
+	public static Writer newWriter(Path path, final int vectorLength) throws IOException {
+		if (vectorLength <= 0) {
+			throw new IllegalArgumentException("vectorLength must be > 0");
+		}
+		return new Writer(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING), vectorLength);
+	}
+
+	public static final class Writer implements Closeable {
+		private final FileChannel channel;
+		private final int vectorLength;
+		private final ByteBuffer buffer;
+		private long recordCount;
+
+		private Writer(FileChannel channel, final int vectorLength) throws IOException {
+			super();
+			this.channel = channel;
+			this.vectorLength = vectorLength;
+			this.buffer = ByteBuffer.allocate(WRITE_BUFFER_RECORDS * getRecordSize(vectorLength))
+					.order(ByteOrder.LITTLE_ENDIAN);
+			this.recordCount = 0;
+			writeHeader();
+		}
+
+		public int getVectorLength() {
+			return vectorLength;
+		}
+
+		public long getRecordCount() {
+			return recordCount;
+		}
+
+		/*
+		 * Appends a record. A null vector is written as 0's.
+		 */
+		public void write(final int returnCode, final double[] rawVector, final double[] zNormVector)
+				throws IOException {
+			if (buffer.remaining() < getRecordSize(vectorLength)) {
+				flush();
+			}
+			buffer.putInt(returnCode);
+			buffer.putInt(0);
+			putVector(rawVector);
+			putVector(zNormVector);
+			recordCount++;
+		}
+
+		private void putVector(final double[] featureVector) {
+			for (int feature = 0; feature < vectorLength; feature++) {
+				buffer.putDouble((featureVector == null) ? 0.0d : featureVector[feature]);
+			}
+		}
+
+		private void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+
+		private void writeHeader() throws IOException {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(FILE_MAGIC);
+			header.putInt(FILE_VERSION);
+			header.putInt(vectorLength);
+			header.putInt(0);
+			header.putLong(recordCount);
+			header.flip();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			channel.position(HEADER_SIZE);
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+				writeHeader();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package org.mosip.nist.nfiq1;
+
+/***********************************************************************
+************************************************************************
+#cat: NfiqResult - Outcome of scoring one image of a batch.
+   returnCode    - Zero on success, EMPTY_IMG, TOO_FEW_MINUTIAE, or
+                   negative system error (BATCH_TASK_FAILED if the task
+                   itself could not complete)
+   nfiq          - resulting NFIQ value (0 if not computed)
+   conf          - max output class MLP activation
+************************************************************************/
+public class NfiqResult {
+	private final int returnCode;
+	private final int nfiq;
+	private final double conf;
+
+	public NfiqResult(int returnCode, int nfiq, double conf) {
+		super();
+		this.returnCode = returnCode;
+		this.nfiq = nfiq;
+		this.conf = conf;
+	}
+
+	public int getReturnCode() {
+		return returnCode;
+	}
+
+	public int getNfiq() {
+		return nfiq;
+	}
+
+	public double getConf() {
+		return conf;
+	}
+
+	@Override
+	public String toString() {
+		return "NfiqResult [returnCode=" + returnCode + ", nfiq=" + nfiq + ", conf=" + conf + "]";
+	}
+}
@@ -18,6 +18,11 @@ public class Nist extends Object {
 		return data.get(0 + (by * iw) + bx);
 	}
 
+	public static int getPixelValueFromIntArray(int[] data, int bx, int by, int iw, int ih)
+	{
+		return data [0 + (by * iw) + bx];
+	}
+
 	public static int getPixelValueFromByteArray(byte[] data, int bx, int by, int iw, int ih)
 	{
 		return data [0 + (by * iw) + bx];
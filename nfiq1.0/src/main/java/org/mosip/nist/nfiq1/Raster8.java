@@ -0,0 +1,88 @@
+package org.mosip.nist.nfiq1;
+
+/***********************************************************************
+************************************************************************
+#cat: Raster8 - View of an 8-bit grayscale image held in a byte array,
+#cat:             one unsigned byte per pixel. Scanlines start stride
+#cat:             bytes apart from the offset of the first pixel, so a
+#cat:             sub-image or a decoder buffer can be used in place.
+#cat:             The pixels are not copied; the array must not change
+#cat:             while the image is being processed.
+   data          - pixel bytes
+   offset        - index of pixel (0, 0) in data
+   stride        - distance between the starts of two scanlines
+   width         - image pixel width
+   height        - image pixel height
+************************************************************************/
+public final class Raster8 {
+	private final byte[] data;
+	private final int offset;
+	private final int stride;
+	private final int width;
+	private final int height;
+
+	public Raster8(byte[] data, int offset, int stride, int width, int height) {
+		super();
+		if (width < 0 || height < 0 || offset < 0 || (height > 1 && stride < width)
+				|| (height > 0 && (long) offset + ((long) (height - 1) * stride) + width > data.length)) {
+			throw new IllegalArgumentException("Raster8 : " + width + "x" + height + " image at offset " + offset
+					+ " stride " + stride + " does not fit in " + data.length + " bytes");
+		}
+		this.data = data;
+		this.offset = offset;
+		this.stride = stride;
+		this.width = width;
+		this.height = height;
+	}
+
+	/*
+	 * Contiguous image: offset 0, stride == width.
+	 */
+	public static Raster8 wrap(byte[] data, int width, int height) {
+		return new Raster8(data, 0, width, width, height);
+	}
+
+	/*
+	 * Narrows an image of int pixel values in [0..255], as produced by
+	 * util.ImageUtil.convertTo1DWithoutUsingGetRGB, into a new contiguous
+	 * raster.
+	 */
+	public static Raster8 fromInts(int[] imageData, int width, int height) {
+		final int imageSize = width * height;
+		byte[] data = new byte[imageSize];
+		for (int index = 0; index < imageSize; index++) {
+			data[index] = (byte) imageData[index];
+		}
+		return wrap(data, width, height);
+	}
+
+	/* Unsigned pixel value at (x, y). */
+	public int get(int x, int y) {
+		return data[offset + (y * stride) + x] & 0xff;
+	}
+
+	/* Index of pixel (x, y) in data. */
+	public int index(int x, int y) {
+		return offset + (y * stride) + x;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
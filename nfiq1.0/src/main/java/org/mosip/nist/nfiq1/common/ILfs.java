@@ -9,8 +9,12 @@ import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.mindtct.Contour;
+import org.mosip.nist.nfiq1.mindtct.DftLineSums;
+import org.mosip.nist.nfiq1.mindtct.IntegralImage;
 import org.mosip.nist.nfiq1.mindtct.Maps;
+import org.mosip.nist.nfiq1.mindtct.PixelMapView;
 import org.mosip.nist.nfiq1.mindtct.Quality;
 
 import lombok.Data;
@@ -36,6 +40,7 @@ public interface ILfs {
 	public static final int ERROR_CODE_240 = -240;// isMinutiaAppearing : bad configuration of pixels
 	public static final int ERROR_CODE_301 = -301;// removeHooksIslandsLakesOverlaps : INVALID direction
 	public static final int ERROR_CODE_380 = -380;// removeMinutia : index out of range
+	public static final int ERROR_CODE_381 = -381;// removeMinutiae : flag list shorter than minutiae list
 	public static final int ERROR_CODE_412 = -412;// linePoints : coord list overflow
 	public static final int ERROR_CODE_470 = -470;// updateNbrDists : illegal position for new neighbor
 	public static final int ERROR_CODE_471 = -471;// updateNbrDists : insert neighbor failed
@@ -1383,50 +1388,70 @@ public interface ILfs {
 	/* Binarization.java */
 	public interface IBinarization {
 		@SuppressWarnings({ "java:S107" })
-		public int[] binarize(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-				AtomicIntegerArray mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
+		public byte[] binarize(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
 				final RotGrids dirbingrids, final LfsParams lfsParms);
 
 		@SuppressWarnings({ "java:S107" })
-		public int[] binarizeV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-				AtomicIntegerArray directionMap, final int mappedImageWidth, final int mappedImageHeight,
+		public byte[] binarizeV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
 				final RotGrids dirbingrids, final LfsParams lfsParms);
 
 		@SuppressWarnings({ "java:S107" })
-		public int[] binarizeImage(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-				AtomicIntegerArray mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
+		public byte[] binarizeV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
+				final RotGrids dirbingrids, final LfsParams lfsParms, final boolean parallel);
+
+		@SuppressWarnings({ "java:S107" })
+		public byte[] binarizeImage(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
 				final int imapBlockSize, RotGrids dirbingrids, final int isoBinGridDim);
 
 		@SuppressWarnings({ "java:S107" })
-		public int[] binarizeImageV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-				AtomicIntegerArray directionMap, final int mappedImageWidth, final int mappedImageHeight,
+		public byte[] binarizeImageV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
 				final int blockOffsetSize, final RotGrids dirbingrids);
 
-		public int dirbinarize(int[] paddedImageData, final int paddedImageIndex, final int imapDirection,
+		@SuppressWarnings({ "java:S107" })
+		public byte[] binarizeImageV2(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+				int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
+				final int blockOffsetSize, final RotGrids dirbingrids, final boolean parallel);
+
+		public int dirbinarize(byte[] paddedImageData, final int paddedImageIndex, final int imapDirection,
 				final RotGrids dirbingrids);
 
-		public int isoBinarize(int[] paddedImageData, final int paddedImageIndex, final int paddedImageWidth,
+		public int isoBinarize(byte[] paddedImageData, final int paddedImageIndex, final int paddedImageWidth,
 				final int paddedImageHeight, final int isoBinGridDim);
 	}
 
 	/* Block.java */
 	public interface IBlock {
-		public AtomicIntegerArray blockOffsets(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+		public int[] blockOffsets(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
 				final int imageWidth, final int imageHeight, final int pad, final int blockOffsetSize);
 
-		public int lowContrastBlock(final int blockOffset, final int blockOffsetSize, int[] paddedImageData,
+		public int lowContrastBlock(final int blockOffset, final int blockOffsetSize, byte[] paddedImageData,
 				final int paddedImageWidth, final int paddedImageHeight, LfsParams lfsParams);
 
+		@SuppressWarnings({ "java:S107" })
+		public int lowContrastBlock(int[] pixTable, final int tableOffset, final int blockOffset,
+				final int blockOffsetSize, byte[] paddedImageData, final int paddedImageWidth,
+				final int paddedImageHeight, LfsParams lfsParams);
+
+		public int lowContrastBlock(int[] pixTable, final int tableOffset, final int blockOffset,
+				final int blockOffsetSize, Raster8 image, LfsParams lfsParams);
+
 		@SuppressWarnings({ "java:S107" })
 		public int findValidBlock(AtomicInteger nbrDir, AtomicInteger nbrX, AtomicInteger nbrY,
-				AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap, final int startX, final int startY,
+				int[] directionMap, int[] lowContrastMap, final int startX, final int startY,
 				final int mappedImageWidth, final int mappedImageHeight, final int xIncr, final int yIncr);
 
-		public void setMarginBlocks(AtomicIntegerArray map, final int mappedImageWidth, final int mappedImageHeight,
+		public void setMarginBlocks(int[] map, final int mappedImageWidth, final int mappedImageHeight,
 				final int marginValue);
 	}
 
@@ -1447,29 +1472,29 @@ public interface ILfs {
 		@SuppressWarnings({ "java:S107" })
 		public IContour getHighCurvatureContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int halfContour,
 				final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public IContour getCenteredContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int halfContour,
 				final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public IContour traceContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int maxLenOfContour,
 				final int xLoop, final int yLoop, final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc,
-				final int yEdgePixelLoc, final int scanClock, int[] binarizedImageData, final int imageWidth,
+				final int yEdgePixelLoc, final int scanClock, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public int searchContour(final int xPixelSearch, final int yPixelSearch, final int searchLen,
 				final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc,
-				final int scanClock, int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				final int scanClock, byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public int nextContourPixel(AtomicInteger nextXPixelLoc, AtomicInteger nextYPixelLoc,
 				AtomicInteger nextXEdgePixelLoc, AtomicInteger nextYEdgePixelLoc, final int cur_x_loc,
 				final int cur_y_loc, final int currentXEdgePixelLoc, final int currentYEdgePixelLoc,
-				final int scanClock, int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				final int scanClock, byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
 		public int startScanNbr(final int previousXPixelLoc, final int previousYPixelLoc, final int nextXPixelLoc,
 				final int nextYPixelLoc);
@@ -1484,39 +1509,43 @@ public interface ILfs {
 				AtomicIntegerArray contourX, AtomicIntegerArray contourY, final int noOfPointsInContour);
 
 		public void fixEdgePixelPair(AtomicInteger featureXPixel, AtomicInteger featureYPixel,
-				AtomicInteger featureEdgeXPixel, AtomicInteger featureEdgeYPixel, int[] binarizedImageData,
+				AtomicInteger featureEdgeXPixel, AtomicInteger featureEdgeYPixel, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight);
 	}
 
 	/* Detect.java */
 	public interface IDetect {
 		@SuppressWarnings({ "java:S107" })
-		public int[] lfsDetectMinutiaeV2(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps map,
-				AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight, int[] imageData,
-				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
+		public byte[] lfsDetectMinutiaeV2(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps map,
+				AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight, Raster8 image,
+				final LfsParams lfsParams);
+
+		public int isLowContrastImage(Maps map, Raster8 image, final LfsParams lfsParams);
 	}
 
 	/* Dft.java */
 	public interface IDft {
-		public int dftDirPowers(AtomicReferenceArray<Double[]> powers, int[] paddedImageData, final int blockOffset,
+		public int dftDirPowers(double[][] powers, byte[] paddedImageData, final int blockOffset,
 				final int paddedImageWidth, final int paddedImageHeight, DftWaves dftWaves, RotGrids dftGrids);
 
-		public void sumRotBlockRows(int[] rowSums, int[] paddedImageData, final int paddedImageDataIndex,
-				final AtomicIntegerArray gridOffsets, final int blockOffsetSize);
+		@SuppressWarnings({ "java:S107" })
+		public int dftDirPowers(double[][] powers, byte[] paddedImageData, final int blockOffset,
+				final int paddedImageWidth, final int paddedImageHeight, DftWaves dftWaves, RotGrids dftGrids,
+				DftLineSums lineSums);
+
+		public void sumRotBlockRows(int[] rowSums, byte[] paddedImageData, final int paddedImageDataIndex,
+				final int[] gridOffsets, final int blockOffsetSize);
 
-		public void computeDftPower(AtomicReference<Double> power, final int[] rowSums, final DftWave dftWave,
-				final int waveLen);
+		public double computeDftPower(final int[] rowSums, final DftWave dftWave, final int waveLen);
 
 		@SuppressWarnings({ "java:S107" })
-		public int getDftPowerStats(AtomicIntegerArray wis, AtomicReferenceArray<Double> powMaxs,
-				AtomicIntegerArray powmaxDirs, AtomicReferenceArray<Double> powNorms,
-				AtomicReferenceArray<Double[]> powers, final int fw, final int tw, final int nDirs);
+		public int getDftPowerStats(int[] wis, double[] powMaxs, int[] powmaxDirs, double[] powNorms,
+				double[][] powers, final int fw, final int tw, final int nDirs);
 
-		public void getMaxNorm(AtomicReference<Double> powmax, AtomicInteger powmaxDir, AtomicReference<Double> pownorm,
-				final AtomicReferenceArray<Double> powerVector, final int nDirs);
+		public void getMaxNorm(double[] powMaxs, int[] powmaxDirs, double[] powNorms, final int statIndex,
+				final double[] powerVector, final int nDirs);
 
-		public int sortDftWaves(AtomicIntegerArray wis, final AtomicReferenceArray<Double> powMaxs,
-				final AtomicReferenceArray<Double> powNorms, final int nStats);
+		public int sortDftWaves(int[] wis, final double[] powMaxs, final double[] powNorms, final int nStats);
 	}
 
 	/* Free.java */
@@ -1529,41 +1558,47 @@ public interface ILfs {
 
 		public void freeRotGrids(RotGrids rotGrids);
 
-		public void freeDirPowers(AtomicReferenceArray<Double[]> powers, final int nWaves);
+		public void freeDirPowers(double[][] powers, final int nWaves);
 	}
 
 	/* GetMinutiae.java */
 	public interface IGetMinutiae {
 		@SuppressWarnings({ "java:S107" })
-		public int[] getMinutiae(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps imageMap,
+		public byte[] getMinutiae(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps imageMap,
 				Quality qualityMap, AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight,
-				AtomicInteger oBinarizedImageDepth, int[] imageData, final int imageWidth, final int imageHeight,
-				final int imageDepth, final double imagePPI, final LfsParams lfsParams);
+				AtomicInteger oBinarizedImageDepth, Raster8 image, final int imageDepth, final double imagePPI,
+				final LfsParams lfsParams);
 	}
 
 	/* ImageUtil.java */
 	public interface IImageUtil {
-		public void bits6To8(int[] imageData, int imageWidth, int imageHeight);
+		public void bits6To8(byte[] imageData, int imageWidth, int imageHeight);
 
-		public void bits8To6(int[] imageData, int imageWidth, int imageHeight);
+		public void bits8To6(byte[] imageData, int imageWidth, int imageHeight);
 
-		public void grayToBinary(final int thresh, final int less_pix, final int greater_pix, int[] binarizedImageData,
+		public void grayToBinary(final int thresh, final int less_pix, final int greater_pix, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
-		public int[] padImage(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight, int[] imageData,
-				final int imageWidth, final int imageHeight, final int pad, final int padValue);
+		public byte[] padImage(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight, Raster8 image,
+				final int pad, final int padValue);
+
+		public byte[] padImageBits8To6(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+				Raster8 image, final int pad, final int padValue, byte[] buffer);
+
+		public void fillHoles(byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
-		public void fillHoles(int[] binarizedImageData, final int imageWidth, final int imageHeight);
+		public void fillHoles(byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+				final int numPasses);
 
 		@SuppressWarnings({ "java:S107" })
-		public int freePath(final int x1, final int y1, final int x2, final int y2, int[] binarizedImageData,
+		public int freePath(final int x1, final int y1, final int x2, final int y2, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int searchInDirection(AtomicInteger ox, AtomicInteger oy, AtomicInteger oex, AtomicInteger oey,
 				final int pix, final int strt_x, final int strt_y, final double delta_x, final double delta_y,
-				final int maxsteps, int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				final int maxsteps, byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 	}
 
 	/* init.c */
@@ -1580,22 +1615,22 @@ public interface ILfs {
 
 		public int initRotGrids(RotGrids optr, final int imageWidth, final int imageHeight, final int ipad);
 
-		public AtomicReferenceArray<Double[]> allocDirPowers(AtomicInteger ret, final int nWaves, final int nDirs);
+		public double[][] allocDirPowers(AtomicInteger ret, final int nWaves, final int nDirs);
 
-		public AtomicIntegerArray allocPowerStatsWis(AtomicInteger ret, final int nStats);
+		public int[] allocPowerStatsWis(AtomicInteger ret, final int nStats);
 
-		public AtomicReferenceArray<Double> allocPowerStatsPowmaxs(AtomicInteger ret, final int nStats);
+		public double[] allocPowerStatsPowmaxs(AtomicInteger ret, final int nStats);
 
-		public AtomicIntegerArray allocPowerStatsPowmaxDirs(AtomicInteger ret, final int nStats);
+		public int[] allocPowerStatsPowmaxDirs(AtomicInteger ret, final int nStats);
 
-		public AtomicReferenceArray<Double> allocPowerStatsPownorms(AtomicInteger ret, final int nStats);
+		public double[] allocPowerStatsPownorms(AtomicInteger ret, final int nStats);
 	}
 
 	/* IsEmpty.java */
 	public interface IIsEmpty {
-		public int isImageEmpty(AtomicIntegerArray qualityMap, final int mapWidth, final int mapHeight);
+		public int isImageEmpty(int[] qualityMap, final int mapWidth, final int mapHeight);
 
-		public int isQualityMapEmpty(AtomicIntegerArray qualityMap, final int mapWidth, final int mapHeight);
+		public int isQualityMapEmpty(int[] qualityMap, final int mapWidth, final int mapHeight);
 	}
 
 	/* Line.java */
@@ -1664,16 +1699,16 @@ public interface ILfs {
 	/* Loop.java */
 	public interface ILoop {
 		public int getLoopList(AtomicIntegerArray onloop, AtomicReference<Minutiae> oMinutiae, final int loopLen,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
-		public int onLoop(final Minutia minutia, final int max_loop_len, int[] binarizedImageData, final int imageWidth,
+		public int onLoop(final Minutia minutia, final int max_loop_len, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public IContour onIslandLake(AtomicInteger ret, AtomicInteger oNoOfContour, Minutia minutia1, Minutia minutia2,
-				final int maxHalfLoop, int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				final int maxHalfLoop, byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
-		public int onHook(Minutia minutia1, Minutia minutia2, final int maxHookLen, int[] binarizedImageData,
+		public int onHook(Minutia minutia1, Minutia minutia2, final int maxHookLen, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight);
 
 		public int isLoopClockwise(AtomicIntegerArray contourX, AtomicIntegerArray contourY,
@@ -1682,121 +1717,124 @@ public interface ILfs {
 		@SuppressWarnings({ "java:S107" })
 		public int processLoop(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray contourX,
 				AtomicIntegerArray contourY, AtomicIntegerArray contourEx, AtomicIntegerArray contourEy,
-				final int noOfPointsInContour, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+				final int noOfPointsInContour, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int processLoopV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray contourX,
 				AtomicIntegerArray contourY, AtomicIntegerArray contourEx, AtomicIntegerArray contourEy,
-				final int noOfPointsInContour, int[] binarizedImageData, final int imageWidth, final int imageHeight,
-				AtomicIntegerArray plowFlowMap, final LfsParams lfsParams);
+				final int noOfPointsInContour, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+				PixelMapView plowFlowMap, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public void getLoopAspect(AtomicInteger ominFr, AtomicInteger ominTo, AtomicReference<Double> ominDist,
 				AtomicInteger omaxFr, AtomicInteger omaxTo, AtomicReference<Double> omaxDist,
 				AtomicIntegerArray contourX, AtomicIntegerArray contourY, final int noOfPointsInContour);
 
-		public int fillLoop(final AtomicIntegerArray a, final AtomicIntegerArray b, final int c, int[] d, final int e,
+		public int fillLoop(final AtomicIntegerArray a, final AtomicIntegerArray b, final int c, byte[] d, final int e,
 				final int f);
 
 		public void fillPartialRow(final int fill_pix, final int frx, final int tox, final int y,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
 		public void floodLoop(final AtomicIntegerArray contourX, final AtomicIntegerArray contourY,
-				final int noOfPointsInContour, int[] binarizedImageData, final int imageWidth, final int imageHeight);
+				final int noOfPointsInContour, byte[] binarizedImageData, final int imageWidth, final int imageHeight);
 
-		public void floodFill4(final int fill_pix, final int x, final int y, int[] binarizedImageData,
+		public void floodFill4(final int fill_pix, final int x, final int y, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight);
 	}
 
 	/* Maps.java */
 	public interface IMaps {
-		public int genImageMaps(int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+		public int genImageMaps(byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
 				DirToRad dir2Rad, DftWaves dftWaves, RotGrids dftgrids, LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int initialiseMaps(AtomicIntegerArray odmap, AtomicIntegerArray olcmap, AtomicIntegerArray olfmap,
-				AtomicIntegerArray blkoffs, final int mappedImageWidth, final int mappedImageHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight, final DftWaves dftWaves,
+		public int initialiseMaps(int[] odmap, int[] olcmap, int[] olfmap,
+				int[] blkoffs, final int mappedImageWidth, final int mappedImageHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight, final DftWaves dftWaves,
 				final RotGrids dftGrids, final LfsParams lfsParams);
 
-		public int interpolateDirectionMap(AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap,
+		public int isLowContrastImage(Raster8 image, final RotGrids dftGrids, final LfsParams lfsParams);
+
+		public int interpolateDirectionMap(int[] directionMap, int[] lowContrastMap,
 				final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams);
 
-		public int morphMapWithTF(AtomicIntegerArray tfmap, final LfsParams lfsParams);
+		public int morphMapWithTF(int[] tfmap, final LfsParams lfsParams);
+
+		public int pixelizeMap(int[] ret, int imageWidth, int imageHeight, int[] imap,
+				final int mappedImageWidth, final int mappedImageHeight, final int blockOffsetSize);
 
-		public int pixelizeMap(AtomicIntegerArray ret, int imageWidth, int imageHeight, AtomicIntegerArray imap,
+		public PixelMapView pixelMapView(AtomicInteger ret, int[] imap, final int imageWidth, final int imageHeight,
 				final int mappedImageWidth, final int mappedImageHeight, final int blockOffsetSize);
 
-		public void smoothDirectionMap(AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap,
+		public void smoothDirectionMap(int[] directionMap, int[] lowContrastMap,
 				final DirToRad dir2Rad, final LfsParams lfsParams);
 
-		public int generateHighCurveMap(AtomicIntegerArray ohcmap, AtomicIntegerArray directionMap,
+		public int generateHighCurveMap(int[] ohcmap, int[] directionMap,
 				final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public AtomicIntegerArray generateInputBlockImageMap(AtomicInteger ret, AtomicInteger oImageWidth,
-				AtomicInteger oImageHeight, int[] paddedImageData, final int paddedImageWidth,
+		public int[] generateInputBlockImageMap(AtomicInteger ret, AtomicInteger oImageWidth,
+				AtomicInteger oImageHeight, byte[] paddedImageData, final int paddedImageWidth,
 				final int paddedImageHeight, final DirToRad dir2Rad, final DftWaves dftWaves, final RotGrids dftGrids,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public AtomicIntegerArray initialiseInputBlockImageMap(AtomicInteger ret, AtomicIntegerArray blkoffs,
-				final AtomicInteger mappedImageWidth, final AtomicInteger mappedImageHeight, int[] paddedImageData,
+		public int[] initialiseInputBlockImageMap(AtomicInteger ret, int[] blkoffs,
+				final AtomicInteger mappedImageWidth, final AtomicInteger mappedImageHeight, byte[] paddedImageData,
 				final int paddedImageWidth, final int paddedImageHeight, final DftWaves dftWaves,
 				final RotGrids dftGrids, final LfsParams lfsParams);
 
-		public int primaryDirectionTest(AtomicReferenceArray<Double[]> powers, final AtomicIntegerArray wis,
-				final AtomicReferenceArray<Double> powMaxs, final AtomicIntegerArray powmaxDirs,
-				final AtomicReferenceArray<Double> powNorms, final int nStats, final LfsParams lfsParams);
+		public int primaryDirectionTest(double[][] powers, final int[] wis, final double[] powMaxs,
+				final int[] powmaxDirs, final double[] powNorms, final int nStats, final LfsParams lfsParams);
 
-		public int secondaryForkTest(AtomicReferenceArray<Double[]> powers, final AtomicIntegerArray wis,
-				final AtomicReferenceArray<Double> powMaxs, final AtomicIntegerArray powmaxDirs,
-				final AtomicReferenceArray<Double> powNorms, final int nStats, final LfsParams lfsParams);
+		public int secondaryForkTest(double[][] powers, final int[] wis, final double[] powMaxs,
+				final int[] powmaxDirs, final double[] powNorms, final int nStats, final LfsParams lfsParams);
 
-		public void removeInconsistentDirs(AtomicIntegerArray imap, final DirToRad dir2Rad, final LfsParams lfsParams);
+		public void removeInconsistentDirs(int[] imap, final DirToRad dir2Rad, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int testTopEdge(final int lbox, final int tbox, final int rbox, final int bbox, AtomicIntegerArray imap,
+		public int testTopEdge(final int lbox, final int tbox, final int rbox, final int bbox, int[] imap,
 				final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad, LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int testRightEdge(final int lbox, final int tbox, final int rbox, final int bbox,
-				AtomicIntegerArray imap, final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad,
+				int[] imap, final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad,
 				LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int testBottomEdge(final int lbox, final int tbox, final int rbox, final int bbox,
-				AtomicIntegerArray imap, final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad,
+				int[] imap, final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad,
 				LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int testLeftEdge(final int lbox, final int tbox, final int rbox, final int bbox, AtomicIntegerArray imap,
+		public int testLeftEdge(final int lbox, final int tbox, final int rbox, final int bbox, int[] imap,
 				final int mappedImageWidth, final int mappedImageHeight, DirToRad dir2Rad, LfsParams lfsParams);
 
-		public int removeIMAPDirection(AtomicIntegerArray imap, final int mx, final int my, final int mappedImageWidth,
+		public int removeIMAPDirection(int[] imap, final int mx, final int my, final int mappedImageWidth,
 				final int mappedImageHeight, final DirToRad dir2Rad, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public void average8NbrDir(AtomicInteger avrdir, AtomicReference<Double> dirStrength, AtomicInteger nvalid,
-				AtomicIntegerArray imap, final int mx, final int my, final int mappedImageWidth,
+				int[] imap, final int mx, final int my, final int mappedImageWidth,
 				final int mappedImageHeight, final DirToRad dir2Rad);
 
-		public int numValid8Nbrs(AtomicIntegerArray imap, final int mx, final int my, final int mappedImageWidth,
+		public int numValid8Nbrs(int[] imap, final int mx, final int my, final int mappedImageWidth,
 				final int mappedImageHeight);
 
-		public void smoothInputBlockImageMap(AtomicIntegerArray imap, final DirToRad dir2Rad,
+		public void smoothInputBlockImageMap(int[] imap, final DirToRad dir2Rad,
 				final LfsParams lfsParams);
 
-		public int genNMap(AtomicIntegerArray optr, AtomicIntegerArray imap, final int mappedImageWidth,
+		public int genNMap(int[] optr, int[] imap, final int mappedImageWidth,
 				final int mappedImageHeight, final LfsParams lfsParams);
 
-		public int vorticity(AtomicIntegerArray imap, final int mx, final int my, final int mappedImageWidth,
+		public int vorticity(int[] imap, final int mx, final int my, final int mappedImageWidth,
 				final int mappedImageHeight, final int nDirs);
 
 		public void accumulateNbrVorticity(AtomicInteger vmeasure, final int dir1, final int dir2, final int nDirs);
 
-		public int curvature(AtomicIntegerArray imap, final int mx, final int my, final int mappedImageWidth,
+		public int curvature(int[] imap, final int mx, final int my, final int mappedImageWidth,
 				final int mappedImageHeight, final int nDirs);
 	}
 
@@ -1811,11 +1849,11 @@ public interface ILfs {
 		public int matchThirdPair(int firstPixel, int secondPixel, AtomicIntegerArray possible,
 				AtomicInteger oPossibleMatch);
 
-		public void skipRepeatedHorizontalPair(AtomicInteger cx, final int ex, int[] binarizedImageData,
+		public void skipRepeatedHorizontalPair(AtomicInteger cx, final int ex, byte[] binarizedImageData,
 				AtomicInteger p1ptr, AtomicInteger p2ptr, final int imageWidth, final int imageHeight);
 
 		public void skipRepeatedVerticalPair(AtomicInteger currentYPixelIndex, final int currentBottomYPixelIndex,
-				int[] binarizedImageData, AtomicInteger currentLeftPixelIndex, AtomicInteger currentRightPixelIndex,
+				byte[] binarizedImageData, AtomicInteger currentLeftPixelIndex, AtomicInteger currentRightPixelIndex,
 				final int imageWidth, final int imageHeight);
 	}
 
@@ -1825,15 +1863,15 @@ public interface ILfs {
 
 		public int reallocMinutiae(AtomicReference<Minutiae> oMinutiae, final int incr_minutiae);
 
-		public int detectMinutiaeV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int detectMinutiaeV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int mappedImageWidth, final int mappedImageHeight, Maps map, LfsParams lfsParams);
 
-		public int updateMinutiae(AtomicReference<Minutiae> oMinutiae, Minutia minutia, int[] binarizedImageData,
+		public int updateMinutiae(AtomicReference<Minutiae> oMinutiae, Minutia minutia, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int updateMinutiaeV2(AtomicReference<Minutiae> oMinutiae, Minutia minutia, final int scanDir,
-				final int dmapval, int[] binarizedImageData, final int mappedImageWidth, final int mappedImageHeight,
+				final int dmapval, byte[] binarizedImageData, final int mappedImageWidth, final int mappedImageHeight,
 				final LfsParams lfsParams);
 
 		public int sortMinutiaeTopToBottomAndThenLeftToRight(AtomicReference<Minutiae> oMinutiae, final int imageWidth,
@@ -1862,7 +1900,9 @@ public interface ILfs {
 
 		public int removeMinutia(final int index, AtomicReference<Minutiae> ominutiae);
 
-		public int joinMinutia(Minutia minutia1, Minutia minutia2, int[] binarizedImageData, final int imageWidth,
+		public int removeMinutiae(final int[] toRemoveIndexes, AtomicReference<Minutiae> ominutiae);
+
+		public int joinMinutia(Minutia minutia1, Minutia minutia2, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final int with_boundary, final int line_radius);
 
 		public int getMinutiaType(final int feature_pix);
@@ -1873,56 +1913,56 @@ public interface ILfs {
 		public int chooseScanDirection(final int imapval, final int nDirs);
 
 		@SuppressWarnings({ "java:S107" })
-		public int scanForMinutiae(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
-				final int imageHeight, AtomicIntegerArray imap, AtomicIntegerArray mapDirectionArr, final int blkX,
+		public int scanForMinutiae(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, int[] imap, int[] mapDirectionArr, final int blkX,
 				final int blkY, final int mappedImageWidth, final int mappedImageHeight, final int scanX,
 				final int scanY, final int scanW, final int scanH, final int scanDir, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int scanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int scanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final int imapval, final int nmapval, final int scanX,
 				final int scanY, final int scanW, final int scanH, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int scanForMinutiaeHorizontallyV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-				final int imageWidth, final int imageHeight, AtomicIntegerArray pdirectionMap,
-				AtomicIntegerArray plowFlowMap, AtomicIntegerArray phighCurveMap, final LfsParams lfsParams);
+		public int scanForMinutiaeHorizontallyV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, PixelMapView pdirectionMap,
+				PixelMapView plowFlowMap, PixelMapView phighCurveMap, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int scanForMinutiaeVertically(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int scanForMinutiaeVertically(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final int imapval, final int nmapval, final int scanX,
 				final int scanY, final int scanW, final int scanH, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int rescanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-				final int imageWidth, final int imageHeight, AtomicIntegerArray imap,
-				AtomicIntegerArray mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
+		public int rescanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, int[] imap,
+				int[] mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
 				final int mappedImageHeight, final int scanX, final int scanY, final int scanW, final int scanH,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int scanForMinutiaeVerticallyV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-				final int imageWidth, final int imageHeight, AtomicIntegerArray pdirectionMap,
-				AtomicIntegerArray plowFlowMap, AtomicIntegerArray phighCurveMap, final LfsParams lfsParams);
+		public int scanForMinutiaeVerticallyV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, PixelMapView pdirectionMap,
+				PixelMapView plowFlowMap, PixelMapView phighCurveMap, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int rescanForMinutiaeVertically(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-				final int imageWidth, final int imageHeight, AtomicIntegerArray imap,
-				AtomicIntegerArray mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
+		public int rescanForMinutiaeVertically(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, int[] imap,
+				int[] mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
 				final int mappedImageHeight, final int scanX, final int scanY, final int scanW, final int scanH,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int rescanPartialHorizontally(final int nbrDir, AtomicReference<Minutiae> oMinutiae,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight, AtomicIntegerArray imap,
-				AtomicIntegerArray mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight, int[] imap,
+				int[] mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
 				final int mappedImageHeight, final int scanX, final int scanY, final int scanW, final int scanH,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int rescanPartialVertically(final int nbrDir, AtomicReference<Minutiae> oMinutiae,
-				int[] binarizedImageData, final int imageWidth, final int imageHeight, AtomicIntegerArray imap,
-				AtomicIntegerArray mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
+				byte[] binarizedImageData, final int imageWidth, final int imageHeight, int[] imap,
+				int[] mapDirectionArr, final int blkX, final int blkY, final int mappedImageWidth,
 				final int mappedImageHeight, final int scanX, final int scanY, final int scanW, final int scanH,
 				final LfsParams lfsParams);
 
@@ -1940,37 +1980,37 @@ public interface ILfs {
 
 		@SuppressWarnings({ "java:S107" })
 		public int processHorizontalScanMinutia(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-				final int x2, final int featureId, int[] binarizedImageData, final int imageWidth,
+				final int x2, final int featureId, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final int imapval, final int nmapval, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int processHorizontalScanMinutiaV2(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-				final int x2, final int featureId, int[] binarizedImageData, final int imageWidth,
-				final int imageHeight, AtomicIntegerArray pdirectionMap, AtomicIntegerArray plowFlowMap,
-				AtomicIntegerArray phighCurveMap, final LfsParams lfsParams);
+				final int x2, final int featureId, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, PixelMapView pdirectionMap, PixelMapView plowFlowMap,
+				PixelMapView phighCurveMap, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int processVerticalScanMinutia(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-				final int y2, final int featureId, int[] binarizedImageData, final int imageWidth,
+				final int y2, final int featureId, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final int imapval, final int nmapval, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int processVerticalScanMinutiaV2(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-				final int y2, final int featureId, int[] binarizedImageData, final int imageWidth,
-				final int imageHeight, AtomicIntegerArray pdirectionMap, AtomicIntegerArray plowFlowMap,
-				AtomicIntegerArray phighCurveMap, final LfsParams lfsParams);
+				final int y2, final int featureId, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, PixelMapView pdirectionMap, PixelMapView plowFlowMap,
+				PixelMapView phighCurveMap, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int adjustHighCurvatureMinutia(AtomicInteger oidir, AtomicInteger oxLoc, AtomicInteger oyLoc,
 				AtomicInteger oxEdge, AtomicInteger oyEdge, final int xPixelLoc, final int yPixelLoc,
-				final int xEdgePixelLoc, final int yEdgePixelLoc, int[] binarizedImageData, final int imageWidth,
+				final int xEdgePixelLoc, final int yEdgePixelLoc, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, AtomicReference<Minutiae> oMinutiae, final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
 		public int adjustHighCurvatureMinutiaV2(AtomicInteger oidir, AtomicInteger oxLoc, AtomicInteger oyLoc,
 				AtomicInteger oxEdge, AtomicInteger oyEdge, final int xPixelLoc, final int yPixelLoc,
-				final int xEdgePixelLoc, final int yEdgePixelLoc, int[] binarizedImageData, final int imageWidth,
-				final int imageHeight, AtomicIntegerArray plowFlowMap, AtomicReference<Minutiae> oMinutiae,
+				final int xEdgePixelLoc, final int yEdgePixelLoc, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, PixelMapView plowFlowMap, AtomicReference<Minutiae> oMinutiae,
 				final LfsParams lfsParams);
 
 		public int getLowCurvatureDirection(final int a, final int b, final int c, final int d);
@@ -2002,14 +2042,17 @@ public interface ILfs {
 
 		@SuppressWarnings({ "java:S107" })
 		public int combinedMinutiaQuality(AtomicReference<Minutiae> oMinutiae, Maps map, final int blockOffsetSize,
-				int[] imageData, final int imageWidth, final int imageHeight, final int imageDepth,
-				final double imagePPI);
+				Raster8 image, final int imageDepth, final double imagePPI);
+
+		double grayscaleReliability(Minutia minutia, Raster8 image, final int radiusPixel);
 
-		double grayscaleReliability(Minutia minutia, int[] imageData, final int imageWidth, final int imageHeight,
-				final int radiusPixel);
+		double grayscaleReliability(Minutia minutia, IntegralImage integralImage, final int radiusPixel);
 
 		public void getNeighborhoodStats(AtomicReference<Double> mean, AtomicReference<Double> stdev, Minutia minutia,
-				int[] imageData, final int imageWidth, final int imageHeight, final int radiusPixel);
+				Raster8 image, final int radiusPixel);
+
+		public void getNeighborhoodStats(AtomicReference<Double> mean, AtomicReference<Double> stdev, Minutia minutia,
+				IntegralImage integralImage, final int radiusPixel);
 
 		public int reliabilityFromQualityMap(Minutiae oMinutiae, Maps map, final int imageWidth, final int imageHeight,
 				final int blockOffsetSize);
@@ -2018,44 +2061,44 @@ public interface ILfs {
 	/* RemoveMinutia.java */
 	public interface IRemoveMinutia {
 		@SuppressWarnings({ "java:S107" })
-		public int removeFalseMinutiaV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int removeFalseMinutiaV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, Maps map, final int mappedImageWidth,
 				final int mappedImageHeight, final LfsParams lfsParams);
 
-		public int removeHoles(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+		public int removeHoles(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final LfsParams lfsParams);
 
-		public int removeHooks(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+		public int removeHooks(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final LfsParams lfsParams);
 
-		public int removeHooksIslandsLakesOverlaps(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int removeHooksIslandsLakesOverlaps(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
 
-		public int removeIslandsAndLakes(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
+		public int removeIslandsAndLakes(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
 				int imageHeight, LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int removeMalformations(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
-				int imageHeight, AtomicIntegerArray lowFlowMap, int mappedImageWidth, int mappedImageHeight,
+		public int removeMalformations(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
+				int imageHeight, int[] lowFlowMap, int mappedImageWidth, int mappedImageHeight,
 				LfsParams lfsParams);
 
-		public int removeNearInvblocksV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray directionMap,
+		public int removeNearInvblocksV2(AtomicReference<Minutiae> oMinutiae, int[] directionMap,
 				final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams);
 
-		public int removePointingInvblockV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray directionMap,
+		public int removePointingInvblockV2(AtomicReference<Minutiae> oMinutiae, int[] directionMap,
 				final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams);
 
-		public int removeOverlaps(AtomicReference<Minutiae> oMinutiae, int[] a, final int b, final int c,
+		public int removeOverlaps(AtomicReference<Minutiae> oMinutiae, byte[] a, final int b, final int c,
 				final LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int removePoresV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
-				int imageHeight, AtomicIntegerArray directionMap, AtomicIntegerArray lowFlowMap,
-				AtomicIntegerArray highCurveMap, int mappedImageWidth, int mappedImageHeight, LfsParams lfsParams);
+		public int removePoresV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
+				int imageHeight, int[] directionMap, int[] lowFlowMap,
+				int[] highCurveMap, int mappedImageWidth, int mappedImageHeight, LfsParams lfsParams);
 
 		@SuppressWarnings({ "java:S107" })
-		public int removeOrAdjustSideMinutiaeV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-				final int imageWidth, final int imageHeight, AtomicIntegerArray directionMap,
+		public int removeOrAdjustSideMinutiaeV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, int[] directionMap,
 				final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams);
 	}
 
@@ -2063,29 +2106,29 @@ public interface ILfs {
 	public interface IResults {
 		@SuppressWarnings({ "java:S107" })
 		public int writeTextResults(File file, final int m1flag, final int imageWidth, final int imageHeight,
-				final AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray oQualityMap,
-				AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowContrastMap, AtomicIntegerArray oLowFlowMap,
-				AtomicIntegerArray oHighCurveMap, final int mapWidth, final int mapHeight);
+				final AtomicReference<Minutiae> oMinutiae, int[] oQualityMap,
+				int[] oDirectionMap, int[] oLowContrastMap, int[] oLowFlowMap,
+				int[] oHighCurveMap, final int mapWidth, final int mapHeight);
 
 		public int writeMinutiaeXYTQ(File file, final int repType, final AtomicReference<Minutiae> oMinutiae,
 				final int imageWidth, final int imageHeight);
 
-		public void dumpMap(File file, AtomicIntegerArray oMap, final int mapWidth, final int mapHeight)
+		public void dumpMap(File file, int[] oMap, final int mapWidth, final int mapHeight)
 				throws IOException;
 
 		@SuppressWarnings({ "java:S107" })
-		public int drawInputBlockImageMap(AtomicIntegerArray oInputBlockImageMap, final int mapWidth,
+		public int drawInputBlockImageMap(int[] oInputBlockImageMap, final int mapWidth,
 				final int mapHeight, int[] imageData, final int imageWidth, final int imageHeight,
 				final RotGrids rotGrids, final int drawPixel);
 
 		@SuppressWarnings({ "java:S107" })
-		public void drawInputBlockImageMap2(AtomicIntegerArray oInputBlockImageMap,
-				final AtomicIntegerArray oBlockOffsets, final int mapWidth, final int mapHeight, int[] paddedImageData,
+		public void drawInputBlockImageMap2(int[] oInputBlockImageMap,
+				final int[] oBlockOffsets, final int mapWidth, final int mapHeight, byte[] paddedImageData,
 				final int paddedImageWidth, final int paddedImageHeight, final double startAngle, final int nDirs,
 				final int blocksize);
 
-		public void drawBlocks(final AtomicIntegerArray oBlockOffsets, final int mapWidth, final int mapHeight,
-				int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight, final int drawPixel);
+		public void drawBlocks(final int[] oBlockOffsets, final int mapWidth, final int mapHeight,
+				byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight, final int drawPixel);
 
 		public int drawRotGrid(final RotGrids rotGrids, final int nDir, int[] imageData, final int blockOffset,
 				final int imageWidth, final int imageHeight, final int drawPixel);
@@ -2095,27 +2138,42 @@ public interface ILfs {
 				final int nxAxis, final int nyAxis, final int tblDim, final AtomicReference<Minutiae> oMinutiae);
 
 		@SuppressWarnings({ "java:S107" })
-		public int drawDirectionMap(StringBuilder fileName, AtomicIntegerArray oDirectionMap,
-				AtomicIntegerArray oBlockOffsets, final int mapWidth, final int mapHeight, final int blocksize,
+		public int drawDirectionMap(StringBuilder fileName, int[] oDirectionMap,
+				int[] oBlockOffsets, final int mapWidth, final int mapHeight, final int blocksize,
 				int[] imageData, final int imageWidth, final int imageHeight, final int flag);
 
 		@SuppressWarnings({ "java:S107" })
-		public int drawTFMap(StringBuilder fileName, AtomicIntegerArray oMap, AtomicIntegerArray oBlockOffsets,
+		public int drawTFMap(StringBuilder fileName, int[] oMap, int[] oBlockOffsets,
 				final int mapWidth, final int mapHeight, final int blocksize, int[] imageData, final int imageWidth,
 				final int imageHeight, final int flag);
 	}
 
 	/* Ridges.java */
 	public interface IRidges {
-		public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
 
-		public int countMinutiaRidges(final int first, AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+		public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+				final int imageWidth, final int imageHeight, final LfsParams lfsParams, final boolean parallel);
+
+		public int countMinutiaRidges(final int first, AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 				final int imageWidth, final int imageHeight, final LfsParams lfsParams);
 
+		public int countNeighborRidges(final int first, AtomicIntegerArray nbrList, final int noOfNbrs,
+				AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, final LfsParams lfsParams);
+
+		@SuppressWarnings({ "java:S107" })
+		public int countNeighborRidges(final int first, AtomicIntegerArray nbrList, final int noOfNbrs,
+				AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, final LfsParams lfsParams, int[] xlist, int[] ylist);
+
 		public int findNeighbors(AtomicIntegerArray oNbrList, AtomicInteger oNoOfNbrs, final int maxNbrs,
 				final int first, AtomicReference<Minutiae> oMinutiae);
 
+		public int findAllNeighbors(int[] oNbrLists, int[] oNoOfNbrs, final int maxNbrs,
+				AtomicReference<Minutiae> oMinutiae);
+
 		public int updateNbrDists(AtomicIntegerArray nbrList, AtomicReferenceArray<Double> nbrSqrDists,
 				AtomicInteger noOfNbrs, final int maxNbrs, final int first, final int second,
 				AtomicReference<Minutiae> oMinutiae);
@@ -2128,17 +2186,22 @@ public interface ILfs {
 				AtomicReference<Minutiae> oMinutiae);
 
 		public int ridgeCount(final int firstMinutiaIndex, final int secondMinutiaIndex,
-				AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+				AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight, final LfsParams lfsParams);
 
+		@SuppressWarnings({ "java:S107" })
+		public int ridgeCount(final int firstMinutiaIndex, final int secondMinutiaIndex,
+				AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+				final int imageHeight, final LfsParams lfsParams, int[] xlist, int[] ylist);
+
 		@SuppressWarnings({ "java:S107" })
 		public int findTransition(AtomicInteger startPixel, final int firstPixel, final int secondPixel,
-				final int[] xlist, final int[] ylist, final int num, int[] binarizedImageData, final int imageWidth,
+				final int[] xlist, final int[] ylist, final int num, byte[] binarizedImageData, final int imageWidth,
 				final int imageHeight);
 
 		@SuppressWarnings({ "java:S107" })
 		public int validateRidgeCrossing(final int ridgeStart, final int ridgeEnd, final int[] xlist, final int[] ylist,
-				final int num, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+				final int num, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 				final int maxRidgeSteps);
 	}
 
@@ -2168,9 +2231,20 @@ public interface ILfs {
 		public void bubbleSortDoubleArrayIncremental2(AtomicReferenceArray<Double> ranks, AtomicIntegerArray items,
 				final int len);
 
-		public void bubbleSortDoubleArrayDecremental2(AtomicReferenceArray<Double> ranks, AtomicIntegerArray items,
-				final int len);
+		public void bubbleSortDoubleArrayDecremental2(double[] ranks, int[] items, final int len);
 
 		public void bubbleSortIntArrayIncremental(AtomicIntegerArray ranks, final int len);
+
+		public int sortIndicesIntArrayIncremental(int[] order, int[] ranks, final int num);
+
+		public void radixSortIntArrayIncremental2(int[] ranks, int[] items, final int len);
+
+		public void insertionSortIntArrayIncremental2(int[] ranks, int[] items, final int len);
+
+		public void insertionSortDoubleArrayIncremental2(double[] ranks, int[] items, final int len);
+
+		public void insertionSortDoubleArrayDecremental2(double[] ranks, int[] items, final int len);
+
+		public void insertionSortIntArrayIncremental(AtomicIntegerArray ranks, final int len);
 	}
 }
\ No newline at end of file
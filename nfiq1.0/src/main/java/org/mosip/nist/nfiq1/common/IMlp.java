@@ -245,6 +245,14 @@ public interface IMlp {
 		public void acVSigmoid(AtomicReferenceArray<Double> p, int index);
 
 		public void acVLinear(AtomicReferenceArray<Double> p, int index);
+
+		public void acVSinusoid(double[] p, int index);
+
+		public void acVSigmoid(double[] p, int index);
+
+		public void acVLinear(double[] p, int index);
+
+		public void acV(final int acFuncCode, double[] p, int index);
 	}
 
 	/***********************************************************************/
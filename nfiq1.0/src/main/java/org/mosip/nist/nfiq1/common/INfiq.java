@@ -1,9 +1,16 @@
 package org.mosip.nist.nfiq1.common;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.mosip.nist.nfiq1.FingerImage;
+import org.mosip.nist.nfiq1.NfiqContext;
+import org.mosip.nist.nfiq1.NfiqFeatureFile;
+import org.mosip.nist.nfiq1.NfiqResult;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs.Minutiae;
 import org.mosip.nist.nfiq1.mindtct.Quality;
 
@@ -17,6 +24,7 @@ public interface INfiq {
 	public static final int TOO_FEW_MINUTIAE = 2;
 	public static final int MIN_MINUTIAE = 5;
 	public static final int MIN_MINUTIAE_QUAL = 5;
+	public static final int BATCH_TASK_FAILED = -1;// computeNfiqBatch : image task threw, was rejected or interrupted
 
 	/***********************************************************************/
 	/* NFIQ1.java : NFIQ supporting routines */
@@ -30,6 +38,25 @@ public interface INfiq {
 			double[] znorm_means, double[] znorm_stds, 
 			int nInps, int nHids, int nOuts, final int acfunc_hids, final int acfunc_outs,
 			double[] wts);
+		public int computeNfiqFlex(NfiqContext context, AtomicInteger onfiq, AtomicReference<Double> oconf, int [] idata, 
+			final int imageWidth, final int imageHeight, final int imageDepth, final int imagePPI,
+			double[] znorm_means, double[] znorm_stds, 
+			int nInps, int nHids, int nOuts, final int acfunc_hids, final int acfunc_outs,
+			double[] wts);
+		public int computeNfiqFlex(NfiqContext context, AtomicInteger onfiq, AtomicReference<Double> oconf, Raster8 image, 
+			final int imageDepth, final int imagePPI,
+			double[] znorm_means, double[] znorm_stds, 
+			int nInps, int nHids, int nOuts, final int acfunc_hids, final int acfunc_outs,
+			double[] wts);
+		public List<NfiqResult> computeNfiqBatch(List<FingerImage> images);
+		public List<NfiqResult> computeNfiqBatch(List<FingerImage> images, Executor executor);
+		public int computeNfiqFeatures(NfiqContext context, double[] featvctr, int [] idata, 
+			final int imageWidth, final int imageHeight, final int imageDepth, final int imagePPI);
+		public int computeNfiqFeatures(NfiqContext context, double[] featvctr, Raster8 image, 
+			final int imageDepth, final int imagePPI);
+		public void extractNfiqFeatures(List<FingerImage> images, NfiqFeatureFile.Writer writer) throws IOException;
+		public void extractNfiqFeatures(List<FingerImage> images, Executor executor, 
+			double[] znorm_means, double[] znorm_stds, NfiqFeatureFile.Writer writer) throws IOException;
 	}	
 	/***********************************************************************/
 	/* IZNormalization.java : Routines supporting Z-Normalization */
@@ -37,6 +64,7 @@ public interface INfiq {
 		public void ZNormalizeFeatureVector(double[] featvctr, double[] znorm_means, double[] znorm_stds, final int vctrlen);
 		public int computeZNormStats(List<List<Double>> omeans, List<List<Double>> ostddevs, 
 			List<List<Double>> feats, final int nfeatvctrs, final int nfeats);
+		public int computeZNormStats(double[] omeans, double[] ostddevs, NfiqFeatureFile featfile);
 	}
 
 	/***********************************************************************/
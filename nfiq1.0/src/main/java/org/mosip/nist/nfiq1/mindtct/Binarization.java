@@ -2,7 +2,6 @@ package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.mosip.nist.nfiq1.Defs;
 import org.mosip.nist.nfiq1.common.ILfs;
@@ -16,6 +15,8 @@ public class Binarization extends MindTct implements IBinarization {
 	private static final Logger logger = LoggerFactory.getLogger(Binarization.class);
 
 	private static Binarization instance;
+	/* Output rows per fork/join task in parallel binarization. */
+	private static final int BINARIZE_ROWS_PER_TASK = 32;
 
 	private Binarization() {
 		super();
@@ -52,11 +53,11 @@ public class Binarization extends MindTct implements IBinarization {
 	 * oBinarizedHeight - height of binary image Return Code: binarizedImageData -
 	 * points to created (unpadded) binary image
 	 **************************************************************************/
-	public int[] binarize(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
-			int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-			AtomicIntegerArray mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
+	public byte[] binarize(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
 			final RotGrids dirBinGrids, final LfsParams lfsParms) {
-		int[] binarizedImageData;
+		byte[] binarizedImageData;
 		int i;
 		AtomicInteger binarizedWidth = new AtomicInteger(0);
 		AtomicInteger binarizedHeight = new AtomicInteger(0);
@@ -67,7 +68,7 @@ public class Binarization extends MindTct implements IBinarization {
 				paddedImageHeight, mapDirectionArr, mappedImageWidth, mappedImageHeight, lfsParms.getBlockOffsetSize(),
 				dirBinGrids, lfsParms.getIsoBinGridDim());
 		if (ret.get() != ILfs.FALSE) {
-			return new int[0];
+			return new byte[0];
 		}
 
 		/* 2. Fill black and white holes in binary image. */
@@ -100,27 +101,41 @@ public class Binarization extends MindTct implements IBinarization {
 	 * binary image oBinarizedHeight - height of binary image Return Code:
 	 * binarizedImageData - points to created (unpadded) binary image
 	 **************************************************************************/
-	public int[] binarizeV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
-			int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-			AtomicIntegerArray directionMap, final int mappedImageWidth, final int mappedImageHeight,
+	public byte[] binarizeV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
 			final RotGrids dirBinGrids, final LfsParams lfsParms) {
-		int[] binarizeImagedata;
+		return binarizeV2(ret, oBinarizedWidth, oBinarizedHeight, paddedImageData, paddedImageWidth,
+				paddedImageHeight, directionMap, mappedImageWidth, mappedImageHeight, dirBinGrids, lfsParms, false);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: binarizeV2 - Same as above; with parallel set, the image is binarized
+	 * #cat: in horizontal stripes on the fork/join pool.
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public byte[] binarizeV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
+			final RotGrids dirBinGrids, final LfsParams lfsParms, final boolean parallel) {
+		byte[] binarizeImagedata;
 		AtomicInteger binarizedWidth = new AtomicInteger(0);
 		AtomicInteger binarizedHeight = new AtomicInteger(0);
 		// return code
 		/* 1. Binarize the padded input image using NMAP information. */
 		binarizeImagedata = binarizeImageV2(ret, binarizedWidth, binarizedHeight, paddedImageData, paddedImageWidth,
 				paddedImageHeight, directionMap, mappedImageWidth, mappedImageHeight, lfsParms.getBlockOffsetSize(),
-				dirBinGrids);
+				dirBinGrids, parallel);
 		if (ret.get() != ILfs.FALSE) {
-			return new int[0];
+			return new byte[0];
 		}
 
 		/* 2. Fill black and white holes in binary image. */
-		/* LFS scans the binary image, filling holes, 3 times. */
-		for (int i = 0; i < lfsParms.getNumFillHoles(); i++) {
-			getImageUtil().fillHoles(binarizeImagedata, binarizedWidth.get(), binarizedHeight.get());
-		}
+		/* LFS scans the binary image, filling holes, 3 times; */
+		/* all passes are done in one sweep. */
+		getImageUtil().fillHoles(binarizeImagedata, binarizedWidth.get(), binarizedHeight.get(),
+				lfsParms.getNumFillHoles());
 
 		/* Return binarized input image. */
 		oBinarizedWidth.set(binarizedWidth.get());
@@ -146,16 +161,16 @@ public class Binarization extends MindTct implements IBinarization {
 	 * binary image results
 	 **************************************************************************/
 	@SuppressWarnings("unused")
-	public int[] binarizeImage(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
-			int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-			AtomicIntegerArray mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
+	public byte[] binarizeImage(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] mapDirectionArr, final int mappedImageWidth, final int mappedImageHeight,
 			final int imapBlockSize, RotGrids dirBinGrids, final int isoBinGridDim) {
 		int binarizedWidth;
 		int binarizedHeight;
 		int binarizedXPixel;
 		int binarizedYPixel;
 		int nMapValue;
-		int[] binarizedImageData;
+		byte[] binarizedImageData;
 		int binarizedImageIndex;
 		int paddedImageIndex;
 		int currentPaddedImageIndex;
@@ -164,11 +179,11 @@ public class Binarization extends MindTct implements IBinarization {
 		binarizedWidth = paddedImageWidth - (dirBinGrids.getPad() << 1);
 		binarizedHeight = paddedImageHeight - (dirBinGrids.getPad() << 1);
 
-		binarizedImageData = new int[binarizedWidth * binarizedHeight];
+		binarizedImageData = MindtctWorkspace.current().acquireBytes(binarizedWidth * binarizedHeight);
 		if (Objects.isNull(binarizedImageData)) {
 			logger.error("ERROR : binarizeImage : binarizedImageData : null");
 			ret.set(ILfs.ERROR_CODE_110);
-			return new int[0];
+			return new byte[0];
 		}
 
 		binarizedImageIndex = 0;
@@ -181,22 +196,22 @@ public class Binarization extends MindTct implements IBinarization {
 				binarizedXPixel = (ix / imapBlockSize);
 				binarizedYPixel = (iy / imapBlockSize);
 				/* Get corresponding value in NMAP */
-				nMapValue = mapDirectionArr.get((binarizedYPixel * mappedImageWidth) + binarizedXPixel);
+				nMapValue = mapDirectionArr[(binarizedYPixel * mappedImageWidth) + binarizedXPixel];
 				/* If current block has no neighboring blocks with */
 				/* VALID directions ... */
 				if (nMapValue == ILfs.NO_VALID_NBRS) {
 					/* Set binary pixel to white (255). */
-					binarizedImageData[binarizedImageIndex] = ILfs.WHITE_PIXEL;
+					binarizedImageData[binarizedImageIndex] = (byte) ILfs.WHITE_PIXEL;
 				}
 				/* Otherwise, if block's NMAP has a valid direction ... */
 				else if (nMapValue >= 0) {
 					/* Use directional binarization based on NMAP direction. */
-					binarizedImageData[binarizedImageIndex] = dirbinarize(paddedImageData, paddedImageIndex, nMapValue,
+					binarizedImageData[binarizedImageIndex] = (byte) dirbinarize(paddedImageData, paddedImageIndex, nMapValue,
 							dirBinGrids);
 				} else {
 					/* Otherwise, the block's NMAP is either INVALID or */
 					/* HIGH-CURVATURE, so use isotropic binarization. */
-					binarizedImageData[binarizedImageIndex] = isoBinarize(paddedImageData, paddedImageIndex,
+					binarizedImageData[binarizedImageIndex] = (byte) isoBinarize(paddedImageData, paddedImageIndex,
 							paddedImageWidth, paddedImageHeight, isoBinGridDim);
 				}
 				/* Bump input and output pixel pointers. */
@@ -229,28 +244,76 @@ public class Binarization extends MindTct implements IBinarization {
 	 * points to binary image height Return Code: binarizedImageData - points to
 	 * binary image results
 	 **************************************************************************/
-	public int[] binarizeImageV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
-			int[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
-			AtomicIntegerArray directionMap, final int mappedImageWidth, final int mappedImageHeight,
+	public byte[] binarizeImageV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
 			final int blocksize, final RotGrids dirBinGrids) {
-		int binarizedWidth;
-		int binarizedHeight;
+		return binarizeImageV2(ret, oBinarizedWidth, oBinarizedHeight, paddedImageData, paddedImageWidth,
+				paddedImageHeight, directionMap, mappedImageWidth, mappedImageHeight, blocksize, dirBinGrids, false);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: binarizeImageV2 - Same as above; with parallel set, stripes of
+	 * #cat: BINARIZE_ROWS_PER_TASK output rows are binarized on the fork/join
+	 * #cat: pool. Each output pixel only depends on the padded input image and
+	 * #cat: the Direction Map, so the result does not depend on the split.
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public byte[] binarizeImageV2(AtomicInteger ret, AtomicInteger oBinarizedWidth, AtomicInteger oBinarizedHeight,
+			byte[] paddedImageData, final int paddedImageWidth, final int paddedImageHeight,
+			int[] directionMap, final int mappedImageWidth, final int mappedImageHeight,
+			final int blocksize, final RotGrids dirBinGrids, final boolean parallel) {
+		final int binarizedWidth;
+		final int binarizedHeight;
+		final byte[] binarizedImageData;
+
+		/* Compute dimensions of "unpadded" binary image results. */
+		binarizedWidth = paddedImageWidth - (dirBinGrids.getPad() << 1);
+		binarizedHeight = paddedImageHeight - (dirBinGrids.getPad() << 1);
+
+		binarizedImageData = MindtctWorkspace.current().acquireBytes(binarizedWidth * binarizedHeight);
+		if (parallel && binarizedHeight > BINARIZE_ROWS_PER_TASK) {
+			final AtomicInteger stripesRet = new AtomicInteger(ILfs.FALSE);
+			new RangeTask(0, binarizedHeight, BINARIZE_ROWS_PER_TASK, stripesRet,
+					(fromRow, toRow) -> binarizeRowsV2(binarizedImageData, fromRow, toRow, binarizedWidth,
+							paddedImageData, paddedImageWidth, directionMap, mappedImageWidth, blocksize,
+							dirBinGrids))
+					.invoke();
+			ret.set(stripesRet.get());
+		} else {
+			ret.set(binarizeRowsV2(binarizedImageData, 0, binarizedHeight, binarizedWidth, paddedImageData,
+					paddedImageWidth, directionMap, mappedImageWidth, blocksize, dirBinGrids));
+		}
+
+		oBinarizedWidth.set(binarizedWidth);
+		oBinarizedHeight.set(binarizedHeight);
+
+		return binarizedImageData;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: binarizeRowsV2 - Binarizes the output rows [fromRow, toRow) for
+	 * #cat: binarizeImageV2. Input: fromRow - first output row toRow - one past
+	 * the last output row binarizedWidth - width (in pixels) of the binary image
+	 * remaining inputs as for binarizeImageV2 Output: binarizedImageData - the
+	 * binarized rows Return Code: Zero - successful completion
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	private int binarizeRowsV2(byte[] binarizedImageData, final int fromRow, final int toRow,
+			final int binarizedWidth, byte[] paddedImageData, final int paddedImageWidth, int[] directionMap,
+			final int mappedImageWidth, final int blocksize, final RotGrids dirBinGrids) {
 		int binarizedXPixel;
 		int binarizedYPixel;
 		int mapValue;
-		int[] binarizedImageData;
 		int binarizedImageIndex;
 		int paddedImageIndex;
 		int currentPaddedImageIndex;
 
-		/* Compute dimensions of "unpadded" binary image results. */
-		binarizedWidth = paddedImageWidth - (dirBinGrids.getPad() << 1);
-		binarizedHeight = paddedImageHeight - (dirBinGrids.getPad() << 1);
-
-		binarizedImageData = new int[binarizedWidth * binarizedHeight];
-		binarizedImageIndex = 0;
-		currentPaddedImageIndex = 0 + (dirBinGrids.getPad() * paddedImageWidth) + dirBinGrids.getPad();
-		for (int iy = 0; iy < binarizedHeight; iy++) {
+		binarizedImageIndex = fromRow * binarizedWidth;
+		currentPaddedImageIndex = 0 + ((dirBinGrids.getPad() + fromRow) * paddedImageWidth) + dirBinGrids.getPad();
+		for (int iy = fromRow; iy < toRow; iy++) {
 			/* Set pixel pointer to start of next row in grid. */
 			paddedImageIndex = currentPaddedImageIndex;
 			for (int ix = 0; ix < binarizedWidth; ix++) {
@@ -258,17 +321,17 @@ public class Binarization extends MindTct implements IBinarization {
 				binarizedXPixel = (ix / blocksize);
 				binarizedYPixel = (iy / blocksize);
 				/* Get corresponding value in Direction Map. */
-				mapValue = directionMap.get((binarizedYPixel * mappedImageWidth) + binarizedXPixel);
+				mapValue = directionMap[(binarizedYPixel * mappedImageWidth) + binarizedXPixel];
 
 				/* If current block has has INVALID direction ... */
 				if (mapValue == ILfs.INVALID_DIR) {
 					/* Set binary pixel to white (255). */
-					binarizedImageData[binarizedImageIndex] = ILfs.WHITE_PIXEL;
+					binarizedImageData[binarizedImageIndex] = (byte) ILfs.WHITE_PIXEL;
 				}
 				/* Otherwise, if block has a valid direction ... */
 				else {
 					/* Use directional binarization based on block's direction. */
-					binarizedImageData[binarizedImageIndex] = dirbinarize(paddedImageData, paddedImageIndex, mapValue,
+					binarizedImageData[binarizedImageIndex] = (byte) dirbinarize(paddedImageData, paddedImageIndex, mapValue,
 							dirBinGrids);
 				}
 
@@ -280,11 +343,7 @@ public class Binarization extends MindTct implements IBinarization {
 			currentPaddedImageIndex += paddedImageWidth;
 		}
 
-		oBinarizedWidth.set(binarizedWidth);
-		oBinarizedHeight.set(binarizedHeight);
-		ret.set(ILfs.FALSE);
-
-		return binarizedImageData;
+		return ILfs.FALSE;
 	}
 
 	/*************************************************************************
@@ -299,7 +358,7 @@ public class Binarization extends MindTct implements IBinarization {
 	 * rotated grid offsets Return Code: BLACK_PIXEL - pixel intensity for BLACK
 	 * WHITE_PIXEL - pixel intensity of WHITE
 	 **************************************************************************/
-	public int dirbinarize(int[] paddedImageData, final int paddedImageIndex, final int imapDirection,
+	public int dirbinarize(byte[] paddedImageData, final int paddedImageIndex, final int imapDirection,
 			final RotGrids dirBinGrids) {
 		int gx;
 		int gy;
@@ -372,7 +431,7 @@ public class Binarization extends MindTct implements IBinarization {
 	 * neighborhood Return Code: BLACK_PIXEL - pixel intensity for BLACK WHITE_PIXEL
 	 * - pixel intensity of WHITE
 	 **************************************************************************/
-	public int isoBinarize(int[] paddedImageData, final int paddedImageIndex, final int paddedImageWidth,
+	public int isoBinarize(byte[] paddedImageData, final int paddedImageIndex, final int paddedImageWidth,
 			final int paddedImageHeight, final int isoBinGridDim) {
 		int currentPaddedImageIndex;
 		int currentImageIndex;
@@ -2,9 +2,9 @@ package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.mosip.nist.nfiq1.Defs;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.IBlock;
 import org.mosip.nist.nfiq1.common.ILfs.LfsParams;
@@ -55,9 +55,9 @@ public class Block extends MindTct implements IBlock {
 	 * - the number of vertical blocks in the input image Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	public AtomicIntegerArray blockOffsets(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
+	public int[] blockOffsets(AtomicInteger ret, AtomicInteger oImageWidth, AtomicInteger oImageHeight,
 			int imageWidth, int imageHeight, int pad, int blockSize) {
-		AtomicIntegerArray blockOffsets;
+		int[] blockOffsets;
 		int bx;
 		int by;
 		int blockImageWidth;
@@ -100,7 +100,7 @@ public class Block extends MindTct implements IBlock {
 		lastbh = blockImageHeight - 1;
 
 		/* Allocate list of block offsets */
-		blockOffsets = new AtomicIntegerArray(blockImageSize);
+		blockOffsets = MindtctWorkspace.current().acquireInts(blockImageSize);
 
 		/* Current block index */
 		bi = 0;
@@ -122,7 +122,7 @@ public class Block extends MindTct implements IBlock {
 			/* Foreach non-overlapping column of blocks in the image */
 			for (bx = 0; bx < lastbw; bx++) {
 				/* Store current block offset */
-				blockOffsets.set(bi++, offset);
+				blockOffsets[bi++] = offset;
 				/* Bump to the beginning of the next block */
 				offset += blockSize;
 			}
@@ -131,7 +131,7 @@ public class Block extends MindTct implements IBlock {
 			/* This is the block in the last column of row. */
 			/* Start at far right edge of unpadded image data */
 			/* and come in BLOCKSIZE pixels. */
-			blockOffsets.set(bi++, blockRowStart + imageWidth - blockSize);
+			blockOffsets[bi++] = blockRowStart + imageWidth - blockSize;
 			/* Bump to beginning of next row of blocks */
 			blockRowStart += blockRowSize;
 		}
@@ -145,7 +145,7 @@ public class Block extends MindTct implements IBlock {
 		/* Foreach non-overlapping column of blocks in last row of the image */
 		for (bx = 0; bx < lastbw; bx++) {
 			/* Store current block offset */
-			blockOffsets.set(bi++, offset);
+			blockOffsets[bi++] = offset;
 			/* Bump to the beginning of the next block */
 			offset += blockSize;
 		}
@@ -153,7 +153,7 @@ public class Block extends MindTct implements IBlock {
 		/* Compute and store last "left-over" block in last row. */
 		/* Start at right edge of unpadded image data and come in */
 		/* BLOCKSIZE pixels. */
-		blockOffsets.set(bi++, blockRowStart + imageWidth - blockSize);
+		blockOffsets[bi++] = blockRowStart + imageWidth - blockSize;
 
 		oImageWidth.set(blockImageWidth);
 		oImageHeight.set(blockImageHeight);
@@ -176,13 +176,71 @@ public class Block extends MindTct implements IBlock {
 	 * Negative - system error
 	 **************************************************************************
 	 **************************************************************************/
-	public int lowContrastBlock(int blockOffset, int blockSize, int[] paddedImageData, int paddedImageWidth,
+	public int lowContrastBlock(int blockOffset, int blockSize, byte[] paddedImageData, int paddedImageWidth,
 			int paddedImageHeight, LfsParams lfsparms) {
-		int[] pixTable = new int[ILfs.IMG_6BIT_PIX_LIMIT];
+		return lowContrastBlock(new int[ILfs.IMG_6BIT_PIX_LIMIT], -1, blockOffset, blockSize, paddedImageData,
+				paddedImageWidth, paddedImageHeight, lfsparms);
+	}
+
+	/*************************************************************************
+	 * #cat: lowContrastBlock - Same as above, keeping the pixel histogram of
+	 * #cat: the block in a caller's table between calls. When the previous
+	 * #cat: block the table holds is on the same row and overlaps the new
+	 * #cat: one, the histogram is slid across by removing the columns that
+	 * #cat: leave and adding the columns that enter; otherwise it is rebuilt.
+	 * #cat: Walking the windows of a row of blocks in order so costs two
+	 * #cat: columns per pixel of offset instead of a whole window per block.
+	 * Input: pixTable - histogram table of IMG_6BIT_PIX_LIMIT entries, holding
+	 * the histogram of the block at tableOffset tableOffset - byte offset of the
+	 * block held in pixTable, or negative if the table holds none blockOffset -
+	 * byte offset into the padded input image to the origin of the block to be
+	 * analyzed blockSize - dimension (in pixels) of the width and height of the
+	 * block paddedImageData - padded input image data (8 bits [0..256) grayscale)
+	 * paddedImageWidth - width (in pixels) of the padded input image
+	 * paddedImageHeight - height (in pixels) of the padded input image lfsparms -
+	 * parameters and thresholds for controlling LFS Output: pixTable - histogram
+	 * of the block at blockOffset Return Code: TRUE - block has sufficiently low
+	 * contrast FALSE - block has sufficiently hight contrast Negative - system
+	 * error
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public int lowContrastBlock(int[] pixTable, int tableOffset, int blockOffset, int blockSize,
+			byte[] paddedImageData, int paddedImageWidth, int paddedImageHeight, LfsParams lfsparms) {
+		return lowContrastBlock(pixTable, tableOffset, blockOffset, blockSize, paddedImageData, 0, paddedImageWidth,
+				0, lfsparms);
+	}
+
+	/*************************************************************************
+	 * #cat: lowContrastBlock - Same as above, on a block of an unpadded 8-bit
+	 * #cat: image: the pixels are shifted to 6 bits as they enter the
+	 * #cat: histogram, as padImageBits8To6 shifts them, so the result is that
+	 * #cat: of the same block of the padded 6-bit image. The block must lie
+	 * #cat: within the image. Input: pixTable - histogram table of
+	 * IMG_6BIT_PIX_LIMIT entries, holding the histogram of the block at
+	 * tableOffset tableOffset - index (see Raster8.index) of the block held in
+	 * pixTable, or negative if the table holds none blockOffset - index of the
+	 * origin of the block to be analyzed blockSize - dimension (in pixels) of
+	 * the width and height of the block image - input 8-bit grayscale image
+	 * lfsparms - parameters and thresholds for controlling LFS Output: pixTable -
+	 * histogram of the block at blockOffset Return Code: TRUE - block has
+	 * sufficiently low contrast FALSE - block has sufficiently hight contrast
+	 * Negative - system error
+	 **************************************************************************/
+	public int lowContrastBlock(int[] pixTable, int tableOffset, int blockOffset, int blockSize, Raster8 image,
+			LfsParams lfsparms) {
+		return lowContrastBlock(pixTable, tableOffset - image.getOffset(), blockOffset - image.getOffset(),
+				blockSize, image.getData(), image.getOffset(), image.getStride(), 2, lfsparms);
+	}
+
+	/*
+	 * Histogram test shared by the routines above; offsets are relative to
+	 * dataOffset and pixels are shifted right by pixelShift bits.
+	 */
+	@SuppressWarnings({ "java:S107" })
+	private int lowContrastBlock(int[] pixTable, int tableOffset, int blockOffset, int blockSize, byte[] data,
+			final int dataOffset, final int rowStride, final int pixelShift, LfsParams lfsparms) {
 		int numOfPix;
 		int pi;
-		int currentPaddedImageIndex;
-		int paddedImageIndex;
 		int delta;
 		double tdbl;
 		int prctMin = 0;
@@ -192,20 +250,26 @@ public class Block extends MindTct implements IBlock {
 		int found;
 
 		numOfPix = blockSize * blockSize;
-		Arrays.fill(pixTable, 0);
 
 		tdbl = (lfsparms.getPercentileMinMax() / 100.0) * (numOfPix - 1);
 		tdbl = getDefs().truncDoublePrecision(tdbl, ILfs.TRUNC_SCALE);
 		prctThresh = getDefs().sRound(tdbl);
 
-		currentPaddedImageIndex = 0 + blockOffset;
-		for (int py = 0; py < blockSize; py++) {
-			paddedImageIndex = currentPaddedImageIndex;
-			for (int px = 0; px < blockSize; px++) {
-				pixTable[paddedImageData[paddedImageIndex]]++;
-				paddedImageIndex++;
+		final int shift = blockOffset - tableOffset;
+		if ((tableOffset >= 0) && ((tableOffset / rowStride) == (blockOffset / rowStride))
+				&& (Math.abs(shift) < blockSize)) {
+			/* Slide the histogram along the row. */
+			if (shift > 0) {
+				slidePixTable(pixTable, data, rowStride, pixelShift, blockSize, dataOffset + tableOffset,
+						dataOffset + tableOffset + blockSize, shift);
+			} else if (shift < 0) {
+				slidePixTable(pixTable, data, rowStride, pixelShift, blockSize,
+						dataOffset + tableOffset + blockSize + shift, dataOffset + blockOffset, -shift);
 			}
-			currentPaddedImageIndex += paddedImageWidth;
+		} else {
+			Arrays.fill(pixTable, 0);
+			addPixTableColumns(pixTable, data, rowStride, pixelShift, blockSize, dataOffset + blockOffset, blockSize,
+					1);
 		}
 
 		pi = 0;
@@ -250,6 +314,29 @@ public class Block extends MindTct implements IBlock {
 		}
 	}
 
+	/* Removes count columns of the block rows from leaving and adds count from entering. */
+	@SuppressWarnings({ "java:S107" })
+	private static void slidePixTable(int[] pixTable, byte[] data, final int rowStride, final int pixelShift,
+			final int blockSize, final int leaving, final int entering, final int count) {
+		addPixTableColumns(pixTable, data, rowStride, pixelShift, blockSize, leaving, count, -1);
+		addPixTableColumns(pixTable, data, rowStride, pixelShift, blockSize, entering, count, 1);
+	}
+
+	/* Adds weight to the bins of count columns from offset over blockSize rows. */
+	@SuppressWarnings({ "java:S107" })
+	private static void addPixTableColumns(int[] pixTable, byte[] data, final int rowStride, final int pixelShift,
+			final int blockSize, final int offset, final int count, final int weight) {
+		int currentIndex = offset;
+		for (int py = 0; py < blockSize; py++) {
+			int index = currentIndex;
+			for (int px = 0; px < count; px++) {
+				pixTable[(data[index] & 0xff) >> pixelShift] += weight;
+				index++;
+			}
+			currentIndex += rowStride;
+		}
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: findValidBlock - Take a Direction Map, Low Contrast Map, #cat: Starting
@@ -270,7 +357,7 @@ public class Block extends MindTct implements IBlock {
 	 * with valid direction NOT found
 	 **************************************************************************/
 	public int findValidBlock(AtomicInteger nbrDir, AtomicInteger nbrX, AtomicInteger nbrY,
-			AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap, int startX, int startY,
+			int[] directionMap, int[] lowContrastMap, int startX, int startY,
 			int mappedImageWidth, int mappedImageHeight, int xIncr, int yIncr) {
 		int xPixel;
 		int yPixel;
@@ -283,12 +370,12 @@ public class Block extends MindTct implements IBlock {
 		/* While we are not outside the boundaries of the map ... */
 		while ((xPixel >= 0) && (xPixel < mappedImageWidth) && (yPixel >= 0) && (yPixel < mappedImageHeight)) {
 			/* Stop unsuccessfully if we encounter a LOW CONTRAST block. */
-			if (lowContrastMap.get((yPixel * mappedImageWidth) + xPixel) == 1) {
+			if (lowContrastMap[(yPixel * mappedImageWidth) + xPixel] == 1) {
 				return (ILfs.NOT_FOUND);
 			}
 
 			/* Stop successfully if we encounter a block with valid direction. */
-			if ((dir = directionMap.get((yPixel * mappedImageWidth) + xPixel)) >= ILfs.FALSE) {
+			if ((dir = directionMap[(yPixel * mappedImageWidth) + xPixel]) >= ILfs.FALSE) {
 				nbrDir.set(dir);
 				nbrX.set(xPixel);
 				nbrY.set(yPixel);
@@ -313,22 +400,22 @@ public class Block extends MindTct implements IBlock {
 	 * - number of blocks vertically in the map marginValue - value to be assigned
 	 * to the perimeter blocks Output: oMap - resulting map
 	 **************************************************************************/
-	public void setMarginBlocks(AtomicIntegerArray oMap, int mappedImageWidth, int mappedImageHeight, int marginValue) {
+	public void setMarginBlocks(int[] oMap, int mappedImageWidth, int mappedImageHeight, int marginValue) {
 		int mapIndex1;
 		int mapIndex2;
 
 		mapIndex1 = 0;
 		mapIndex2 = 0 + ((mappedImageHeight - 1) * mappedImageWidth);
 		for (int x = 0; x < mappedImageWidth; x++) {
-			oMap.set(mapIndex1++, marginValue);
-			oMap.set(mapIndex2++, marginValue);
+			oMap[mapIndex1++] = marginValue;
+			oMap[mapIndex2++] = marginValue;
 		}
 
 		mapIndex1 = 0 + mappedImageWidth;
 		mapIndex2 = 0 + mappedImageWidth + mappedImageWidth - 1;
 		for (int y = 1; y < mappedImageHeight - 1; y++) {
-			oMap.set(mapIndex1, marginValue);
-			oMap.set(mapIndex2, marginValue);
+			oMap[mapIndex1] = marginValue;
+			oMap[mapIndex2] = marginValue;
 			mapIndex1 += mappedImageWidth;
 			mapIndex2 += mappedImageWidth;
 		}
@@ -37,10 +37,11 @@ public class Contour extends MindTct implements IContour {
 
 	private Contour(int noOfContour) {
 		super();
-		this.contourX = new AtomicIntegerArray(noOfContour);
-		this.contourY = new AtomicIntegerArray(noOfContour);
-		this.contourEx = new AtomicIntegerArray(noOfContour);
-		this.contourEy = new AtomicIntegerArray(noOfContour);
+		MindtctWorkspace workspace = MindtctWorkspace.current();
+		this.contourX = workspace.acquireAtomicInts(noOfContour);
+		this.contourY = workspace.acquireAtomicInts(noOfContour);
+		this.contourEx = workspace.acquireAtomicInts(noOfContour);
+		this.contourEy = workspace.acquireAtomicInts(noOfContour);
 		this.noOfContour = noOfContour;
 	}
 
@@ -147,7 +148,7 @@ public class Contour extends MindTct implements IContour {
 	@SuppressWarnings({ "java:S3776" })
 	public Contour getHighCurvatureContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int halfContour,
 			final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		Contour contour = null;
 		Contour contourHalf1 = null;
 		Contour contourHalf2 = null;
@@ -364,7 +365,7 @@ public class Contour extends MindTct implements IContour {
 	 **************************************************************************/
 	public Contour getCenteredContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int halfContour,
 			final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		Contour contour = null;
 		Contour contourHalf1 = null;
 		Contour contourHalf2 = null;
@@ -554,7 +555,7 @@ public class Contour extends MindTct implements IContour {
 	 **************************************************************************/
 	public Contour traceContour(AtomicInteger ret, AtomicInteger oNoOfContour, final int maxLenOfContour,
 			final int xLoop, final int yLoop, final int xPixelLoc, final int yPixelLoc, final int xEdgePixelLoc,
-			final int yEdgePixelLoc, final int scanClock, int[] binarizedImageData, final int imageWidth,
+			final int yEdgePixelLoc, final int scanClock, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight) {
 		Contour contour = null;
 		int contourCount;
@@ -672,7 +673,7 @@ public class Contour extends MindTct implements IContour {
 	 **************************************************************************/
 	public int searchContour(final int xPixelSearch, final int yPixelSearch, final int searchLen, final int xPixelLoc,
 			final int yPixelLoc, final int xEdgePixelLoc, final int yEdgePixelLoc, final int scanClock,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int currentXPixelLoc;
 		int currentYPixelLoc;
 		int currentXEdgePixelLoc;
@@ -748,7 +749,7 @@ public class Contour extends MindTct implements IContour {
 	public int nextContourPixel(AtomicInteger nextXPixelLoc, AtomicInteger nextYPixelLoc,
 			AtomicInteger nextXEdgePixelLoc, AtomicInteger nextYEdgePixelLoc, final int currentXPixelLoc,
 			final int currentYPixelLoc, final int currentXEdgePixelLoc, final int currentYEdgePixelLoc,
-			final int scanClock, int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			final int scanClock, byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int featurePixel;
 		int edgePixel;
 		int previousNbrPixel;
@@ -1068,7 +1069,7 @@ public class Contour extends MindTct implements IContour {
 	 * featureEdgeYPixel - pointer to resulting y-pixel coord on edge of feature
 	 **************************************************************************/
 	public void fixEdgePixelPair(AtomicInteger featureXPixel, AtomicInteger featureYPixel,
-			AtomicInteger featureEdgeXPixel, AtomicInteger featureEdgeYPixel, int[] binarizedImageData,
+			AtomicInteger featureEdgeXPixel, AtomicInteger featureEdgeYPixel, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight) {
 		int distPixelX;
 		int distPixelY;
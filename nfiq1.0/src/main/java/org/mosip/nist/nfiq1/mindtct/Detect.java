@@ -2,8 +2,8 @@ package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.DftWaves;
 import org.mosip.nist.nfiq1.common.ILfs.DirToRad;
@@ -62,6 +62,30 @@ public class Detect extends MindTct implements IDetect {
 		return Ridges.getInstance();
 	}
 
+	/*************************************************************************
+	 * #cat: isLowContrastImage - Runs the low contrast pre-screen of Maps on a
+	 * #cat: grayscale fingerprint image, with the padding lfsDetectMinutiaeV2
+	 * #cat: would use, without padding the image, generating the maps or
+	 * #cat: binarizing it. An image every block of which has low contrast has
+	 * #cat: no valid ridge flow direction, so no minutia would be detected
+	 * #cat: from it. Input: map - image maps routines image - input 8-bit
+	 * grayscale fingerprint image lfsParams - parameters and thresholds for
+	 * controlling LFS Return Code: TRUE - every block of the image has low
+	 * contrast FALSE - some block has sufficient contrast Negative - system
+	 * error
+	 **************************************************************************/
+	public int isLowContrastImage(Maps map, Raster8 image, final LfsParams lfsParams) {
+		AtomicInteger ret = new AtomicInteger(0);
+
+		/* Look up the padding and DFT grids shared for this image width. */
+		DftKernel dftKernel = DftKernel.getInstance(ret, image.getWidth(), image.getHeight(), lfsParams);
+		if (ret.get() != ILfs.FALSE) {
+			return ret.get();
+		}
+
+		return map.isLowContrastImage(image, dftKernel.getDftGrids(), lfsParams);
+	}
+
 	/*************************************************************************
 	 * #cat: lfsDetectMinutiaeV2 - Takes a grayscale fingerprint image (of #cat:
 	 * arbitrary size), and returns a set of image block maps, #cat: a binarized
@@ -69,116 +93,73 @@ public class Detect extends MindTct implements IDetect {
 	 * (including position, reliability, #cat: type, direction, neighbors, and ridge
 	 * counts to neighbors). #cat: The image maps include a ridge flow directional
 	 * map, #cat: a map of low contrast blocks, a map of low ridge flow blocks.
-	 * #cat: and a map of high-curvature blocks. Input: imageData - input 8-bit
-	 * grayscale fingerprint image data imageWidth - width (in pixels) of the image
-	 * imageHeight - height (in pixels) of the image lfsParams - parameters and
+	 * #cat: and a map of high-curvature blocks. Input: image - input 8-bit
+	 * grayscale fingerprint image lfsParams - parameters and
 	 * thresholds for controlling LFS Output: ret - Zero - successful completion -
 	 * Negative - system error oMinutiae - resulting list of minutiae map --
 	 * contains above details oBinarizedImageWidth - width (in pixels) of the binary
 	 * image oBinarizedImageHeight - height (in pixels) of the binary image Return
 	 * Code: binarizedImageData - resulting binarized image {0 = black pixel (ridge)
-	 * and 255 = white pixel (valley)}
+	 * and 255 = white pixel (valley), -1 as a signed byte}
 	 **************************************************************************/
 	@SuppressWarnings({ "java:S3776" })
-	public int[] lfsDetectMinutiaeV2(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps map,
-			AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight, int[] imageData,
-			final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
-		int[] paddedImagedata = null;
-		int[] binarizedImageData = null;
+	public byte[] lfsDetectMinutiaeV2(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps map,
+			AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight, Raster8 image,
+			final LfsParams lfsParams) {
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
+		byte[] paddedImagedata = null;
+		byte[] binarizedImageData = null;
 		AtomicInteger paddedImageWidth = new AtomicInteger(0);
 		AtomicInteger paddedImageHeight = new AtomicInteger(0);
 		AtomicInteger binarizedImageWidth = new AtomicInteger(0);
 		AtomicInteger binarizedImageHeight = new AtomicInteger(0);
+		DftKernel dftKernel = null;
 		DirToRad dirToRad = null;
 		DftWaves dftWaves = null;
 		RotGrids dftGrids = null;
 		RotGrids dirBinGrids = null;
 		int maxPad;
 		AtomicReference<Minutiae> minutiae = null;
-		AtomicReferenceArray<Double> dftCoefs = null;
 		long totalStartTime = System.currentTimeMillis();
 
 		/******************/
 		/* INITIALIZATION */
 		/******************/
 
-		/* Determine the maximum amount of image padding required to support */
-		/* LFS processes. */
-		maxPad = getInit().getMaxPaddingV2(lfsParams.getWindowSize(), lfsParams.getWindowOffset(),
-				lfsParams.getDirbinGridWidth(), lfsParams.getDirbinGridHeight());
-
-		/* Initialize lookup table for converting integer directions */
-		/* to angles in radians. */
-		dirToRad = new DirToRad(lfsParams.getNumDirections());
-		ret.set(getInit().initDirToRad(dirToRad));
-		if (ret.get() != ILfs.FALSE) {
-			/* Free memory allocated to this point. */
-			binarizedImageData = null;
-			return binarizedImageData;
-		}
-
-		/* Initialize wave form lookup tables for DFT analyses. */
-		/* used for direction binarization. */
-		dftCoefs = new AtomicReferenceArray<>(getGlobals().getDftCoefs().length);
-		for (int index = 0; index < dftCoefs.length(); index++)
-			dftCoefs.set(index, getGlobals().getDftCoefs()[index]);
-
-		dftWaves = new DftWaves(lfsParams.getNumDftWaves(), lfsParams.getWindowSize());
-		ret.set(getInit().initDftWaves(dftWaves, dftCoefs));
+		/* Look up the padding, direction/radian table, DFT wave forms and */
+		/* rotated grids for this image width. They are built once per */
+		/* width and LFS parameters and shared, so they are never freed here. */
+		dftKernel = DftKernel.getInstance(ret, imageWidth, imageHeight, lfsParams);
 		if (ret.get() != ILfs.FALSE) {
-			/* Free memory allocated to this point. */
-			getFree().freeDirToRad(dirToRad);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
-
-		/* Initialize lookup table for pixel offsets to rotated grids */
-		/* used for DFT analyses. */
-		dftGrids = new RotGrids(lfsParams.getStartDirAngle(), lfsParams.getNumDirections(), lfsParams.getWindowSize(),
-				lfsParams.getWindowSize(), ILfs.RELATIVE_TO_ORIGIN);
-		ret.set(getInit().initRotGrids(dftGrids, imageWidth, imageHeight, maxPad));
+		maxPad = dftKernel.getMaxPad();
+		dirToRad = dftKernel.getDirToRad();
+		dftWaves = dftKernel.getDftWaves();
+		dftGrids = dftKernel.getDftGrids();
+		dirBinGrids = dftKernel.getDirBinGrids();
+
+		/* Pad input image based on max padding, and scale it to */
+		/* 6 bits [0..63] in the same pass, into an image buffer */
+		/* of this thread's workspace. */
+		/* !!! Would like to remove the 6 bit dependency eventualy !!! */
+		/* But, the DFT computations will need to be changed, and */
+		/* could not get this work upon first attempt. Also, if not */
+		/* careful, I think accumulated power magnitudes may overflow */
+		/* doubles. */
+		final byte[] paddedImageBuffer = MindtctWorkspace.current().acquireImageBuffer(
+				(imageWidth + (maxPad << 1)) * (imageHeight + (maxPad << 1)));
+		paddedImagedata = getImageUtil().padImageBits8To6(ret, paddedImageWidth, paddedImageHeight, image, maxPad,
+				lfsParams.getPadValue(), paddedImageBuffer);
 		if (ret.get() != ILfs.FALSE) {
 			/* Free memory allocated to this point. */
-			getFree().freeDirToRad(dirToRad);
-			getFree().freeDftWaves(dftWaves);
+			getFree().free(paddedImageBuffer);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
 
-		/* Pad input image based on max padding. */
-		if (maxPad > ILfs.FALSE)// 0
-		{
-			// May not need to pad at all
-			paddedImagedata = getImageUtil().padImage(ret, paddedImageWidth, paddedImageHeight, imageData, imageWidth,
-					imageHeight, maxPad, lfsParams.getPadValue());
-			if (ret.get() != ILfs.FALSE) {
-				/* Free memory allocated to this point. */
-				getFree().freeDirToRad(dirToRad);
-				getFree().freeDftWaves(dftWaves);
-				getFree().freeRotGrids(dftGrids);
-				binarizedImageData = null;
-				return binarizedImageData;
-			}
-		} else {
-			/* If padding is unnecessary, then copy the input image. */
-			paddedImagedata = new int[imageWidth * imageHeight];
-
-			for (int index = 0; index < imageData.length; index++) {
-				paddedImagedata[index] = imageData[index];
-			}
-
-			paddedImageWidth.set(imageWidth);
-			paddedImageHeight.set(imageHeight);
-		}
-
-		/* Scale input image to 6 bits [0..63] */
-		/* !!! Would like to remove this dependency eventualy !!! */
-		/* But, the DFT computations will need to be changed, and */
-		/* could not get this work upon first attempt. Also, if not */
-		/* careful, I think accumulated power magnitudes may overflow */
-		/* doubles. */
-		getImageUtil().bits8To6(paddedImagedata, paddedImageWidth.get(), paddedImageHeight.get());
-
 		long mapStartTime = System.currentTimeMillis();
 
 		if (isShowLogs())
@@ -192,16 +173,10 @@ public class Detect extends MindTct implements IDetect {
 				dftGrids, lfsParams));
 		if (ret.get() != ILfs.FALSE) {
 			/* Free memory allocated to this point. */
-			getFree().freeDirToRad(dirToRad);
-			getFree().freeDftWaves(dftWaves);
-			getFree().freeRotGrids(dftGrids);
+			getFree().free(paddedImagedata);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
-		/* Deallocate working memories. */
-		getFree().freeDirToRad(dirToRad);
-		getFree().freeDftWaves(dftWaves);
-		getFree().freeRotGrids(dftGrids);
 
 		if (isShowLogs())
 			logger.info("MAPS DONE");
@@ -214,41 +189,24 @@ public class Detect extends MindTct implements IDetect {
 			logger.info("BINARIZATION STARTED");
 		long binStartTime = System.currentTimeMillis();
 
-		/* Initialize lookup table for pixel offsets to rotated grids */
-		/* used for directional binarization. */
-		dirBinGrids = new RotGrids(lfsParams.getStartDirAngle(), lfsParams.getNumDirections(),
-				lfsParams.getDirbinGridWidth(), lfsParams.getDirbinGridHeight(), ILfs.RELATIVE_TO_CENTER);
-		ret.set(getInit().initRotGrids(dirBinGrids, imageWidth, imageHeight, maxPad));
-		if (ret.get() != ILfs.FALSE) {
-			/* Free memory allocated to this point. */
-			getFree().freeDirToRad(dirToRad);
-			getFree().freeDftWaves(dftWaves);
-			map.setDirectionMap(null);
-			map.setLowContrastMap(null);
-			map.setLowFlowMap(null);
-			map.setHighCurveMap(null);
-			binarizedImageData = null;
-			return binarizedImageData;
-		}
-
 		/* Binarize input image based on NMAP information. */
 		binarizedImageData = getBinarization().binarizeV2(ret, binarizedImageWidth, binarizedImageHeight,
 				paddedImagedata, paddedImageWidth.get(), paddedImageHeight.get(), map.getDirectionMap(),
-				map.getMappedImageWidth().get(), map.getMappedImageHeight().get(), dirBinGrids, lfsParams);
+				map.getMappedImageWidth().get(), map.getMappedImageHeight().get(), dirBinGrids, lfsParams,
+				map.isParallelAnalysis());
+		/* The padded image is no longer needed. */
+		getFree().free(paddedImagedata);
+		paddedImagedata = null;
 		if (ret.get() != ILfs.FALSE) {
 			/* Free memory allocated to this point. */
 			map.setDirectionMap(null);
 			map.setLowContrastMap(null);
 			map.setLowFlowMap(null);
 			map.setHighCurveMap(null);
-			getFree().freeRotGrids(dirBinGrids);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
 
-		/* Deallocate working memory. */
-		getFree().freeRotGrids(dirBinGrids);
-
 		/* Check dimension of binary image. If they are different from */
 		/* the input image, then ERROR. */
 		if ((imageWidth != binarizedImageWidth.get()) || (imageHeight != binarizedImageHeight.get())) {
@@ -261,6 +219,7 @@ public class Detect extends MindTct implements IDetect {
 					"ERROR : lfsDetectMinutiaeV2 : binary image has bad dimensions : binarizedImageWidth = {}, binarizedImageHeight = {}",
 					binarizedImageWidth, binarizedImageHeight);
 			ret.set(ILfs.ERROR_CODE_581);
+			getFree().free(binarizedImageData);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
@@ -285,6 +244,7 @@ public class Detect extends MindTct implements IDetect {
 		minutiae.set(new Minutiae());
 		ret.set(getMinutiaHelper().allocMinutiae(minutiae, ILfs.MAX_MINUTIAE));
 		if (ret.get() != ILfs.FALSE) {
+			getFree().free(binarizedImageData);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
@@ -298,6 +258,7 @@ public class Detect extends MindTct implements IDetect {
 			map.setLowContrastMap(null);
 			map.setLowFlowMap(null);
 			map.setHighCurveMap(null);
+			getFree().free(binarizedImageData);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
@@ -317,6 +278,7 @@ public class Detect extends MindTct implements IDetect {
 			map.setLowFlowMap(null);
 			map.setHighCurveMap(null);
 			getMinutiaHelper().freeMinutiae(minutiae);
+			getFree().free(binarizedImageData);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
@@ -329,7 +291,8 @@ public class Detect extends MindTct implements IDetect {
 		/* RIDGE COUNTS */
 		/******************/
 		long ridgeStartTime = System.currentTimeMillis();
-		ret.set(getRidges().countMinutiaeRidges(minutiae, binarizedImageData, imageWidth, imageHeight, lfsParams));
+		ret.set(getRidges().countMinutiaeRidges(minutiae, binarizedImageData, imageWidth, imageHeight, lfsParams,
+				map.isParallelAnalysis()));
 		if (ret.get() != ILfs.FALSE) {
 			/* Free memory allocated to this point. */
 			map.setDirectionMap(null);
@@ -337,6 +300,7 @@ public class Detect extends MindTct implements IDetect {
 			map.setLowFlowMap(null);
 			map.setHighCurveMap(null);
 			getMinutiaHelper().freeMinutiae(minutiae);
+			getFree().free(binarizedImageData);
 			binarizedImageData = null;
 			return binarizedImageData;
 		}
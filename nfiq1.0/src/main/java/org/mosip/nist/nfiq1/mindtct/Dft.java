@@ -1,10 +1,5 @@
 package org.mosip.nist.nfiq1.mindtct;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
-
 import org.mosip.nist.nfiq1.Defs;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.DftWave;
@@ -17,6 +12,11 @@ import org.slf4j.LoggerFactory;
 public class Dft extends MindTct implements IDft {
 	private static final Logger logger = LoggerFactory.getLogger(Dft.class);
 
+	/* The SIMD power path needs the incubator module to be resolved at */
+	/* startup (--add-modules jdk.incubator.vector); without it, or with */
+	/* -Dnfiq.dft.vector=false, the scalar routines below are used. */
+	private static final boolean VECTOR_DFT = isVectorDftAvailable();
+
 	private static Dft instance;
 
 	private Dft() {
@@ -90,6 +90,23 @@ public class Dft extends MindTct implements IDft {
 		return Loop.getInstance();
 	}
 
+	private static boolean isVectorDftAvailable() {
+		if (!Boolean.parseBoolean(System.getProperty("nfiq.dft.vector", "true"))
+				|| !ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			return false;
+		}
+		try {
+			return DftVector.isUsable();
+		} catch (LinkageError e) {
+			logger.warn("dftDirPowers : vector API unavailable, using scalar DFT", e);
+			return false;
+		}
+	}
+
+	public static boolean isVectorDft() {
+		return VECTOR_DFT;
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: dftDirPowers - Conducts the DFT analysis on a block of image data.
@@ -114,9 +131,27 @@ public class Dft extends MindTct implements IDft {
 	 * orientation (direction) in the current image block Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	@SuppressWarnings("unused")
-	public int dftDirPowers(AtomicReferenceArray<Double[]> powers, int[] paddedImagedata, final int blockOffset,
+	public int dftDirPowers(double[][] powers, byte[] paddedImagedata, final int blockOffset,
 			final int paddedImageWidth, final int paddedImageHeight, DftWaves dftWaves, RotGrids dftGrids) {
+		return dftDirPowers(powers, paddedImagedata, blockOffset, paddedImageWidth, paddedImageHeight, dftWaves,
+				dftGrids, null);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: dftDirPowers - Same as above, taking the row sums of the
+	 * #cat: directions whose grid rows are straight pixel runs from the line
+	 * #cat: sum tables of the image. Input: lineSums - line sum tables of the
+	 * padded input image built with the same grids, or null to sum every
+	 * direction through its grid; remaining inputs as above Output: powers - DFT
+	 * power computed from each wave form frequencies at each orientation
+	 * (direction) in the current image block Return Code: Zero - successful
+	 * completion Negative - system error
+	 **************************************************************************/
+	@SuppressWarnings({ "unused", "java:S107" })
+	public int dftDirPowers(double[][] powers, byte[] paddedImagedata, final int blockOffset,
+			final int paddedImageWidth, final int paddedImageHeight, DftWaves dftWaves, RotGrids dftGrids,
+			DftLineSums lineSums) {
 		int[] rowSums;
 		int paddedImageDataIndex;
 
@@ -126,6 +161,15 @@ public class Dft extends MindTct implements IDft {
 			logger.error("ERROR : dftDirPowers : DFT grids must be square\n");
 			return (-90);
 		}
+
+		/* All directions and waves of the block at once, lane by lane. */
+		final int[][] grids = dftGrids.getGrids();
+		if (VECTOR_DFT) {
+			DftVector.dftDirPowers(powers, paddedImagedata, blockOffset, dftWaves, grids, dftGrids.getNoOfGrids(),
+					dftGrids.getGridWidth(), lineSums);
+			return (ILfs.FALSE);
+		}
+
 		rowSums = new int[dftGrids.getGridWidth()];
 		if (rowSums == null) {
 			logger.error("ERROR : dftDirPowers : rowSums : Null \n");
@@ -135,19 +179,20 @@ public class Dft extends MindTct implements IDft {
 		/* Foreach direction ... */
 		for (int dirIndex = 0; dirIndex < dftGrids.getNoOfGrids(); dirIndex++) {
 			/* Compute vector of line sums from rotated grid */
-			paddedImageDataIndex = (0 + blockOffset);
-			sumRotBlockRows(rowSums, paddedImagedata, paddedImageDataIndex,
-					new AtomicIntegerArray(dftGrids.getGrids()[dirIndex]), dftGrids.getGridWidth());
+			if (lineSums != null && lineSums.hasRowSums(dirIndex)) {
+				for (int iy = 0; iy < dftGrids.getGridWidth(); iy++) {
+					rowSums[iy] = lineSums.rowSum(dirIndex, blockOffset, iy);
+				}
+			} else {
+				paddedImageDataIndex = (0 + blockOffset);
+				sumRotBlockRows(rowSums, paddedImagedata, paddedImageDataIndex, grids[dirIndex],
+						dftGrids.getGridWidth());
+			}
 
 			/* Foreach DFT wave ... */
 			for (int waveIndex = 0; waveIndex < dftWaves.getNWaves(); waveIndex++) {
-				Double[] arrpowers = powers.get(waveIndex);
-				AtomicReference<Double> refpowers = new AtomicReference<>(arrpowers[dirIndex]);
-
-				computeDftPower(refpowers, rowSums, dftWaves.getWaves()[waveIndex], dftWaves.getWaveLen());
-
-				arrpowers[dirIndex] = refpowers.get();
-				powers.set(waveIndex, arrpowers);
+				powers[waveIndex][dirIndex] = computeDftPower(rowSums, dftWaves.getWaves()[waveIndex],
+						dftWaves.getWaveLen());
 			}
 		}
 
@@ -169,8 +214,8 @@ public class Dft extends MindTct implements IDft {
 	 * blockOffsetSize - the width and height of the image block and thus the size
 	 * of the rotated grid Output: rowSums - the resulting vector of pixel row sums
 	 **************************************************************************/
-	public void sumRotBlockRows(int[] rowSums, int[] paddedImagedata, final int paddedImageDataIndex,
-			final AtomicIntegerArray gridOffsets, final int blockOffsetSize) {
+	public void sumRotBlockRows(int[] rowSums, byte[] paddedImagedata, final int paddedImageDataIndex,
+			final int[] gridOffsets, final int blockOffsetSize) {
 		int gi;
 
 		/* Initialize rotation offset index. */
@@ -184,7 +229,7 @@ public class Dft extends MindTct implements IDft {
 			/* Foreach column in block ... */
 			for (int ix = 0; ix < blockOffsetSize; ix++) {
 				/* Accumulate pixel value at rotated grid position in image */
-				rowSums[iy] += paddedImagedata[paddedImageDataIndex + gridOffsets.get(gi)];
+				rowSums[iy] += paddedImagedata[paddedImageDataIndex + gridOffsets[gi]];
 				gi++;
 			}
 		}
@@ -198,11 +243,10 @@ public class Dft extends MindTct implements IDft {
 	 * pixels from within a rotated grid overlaying an input image block wave - the
 	 * wave form (cosine and sine components) at a specific frequency waveLen - the
 	 * length of the wave form (must match the height of the image block which is
-	 * the length of the rowsum vector) Output: oPower - the computed DFT power for
-	 * the given wave form at the given orientation within the image block
+	 * the length of the rowsum vector) Return Code: the computed DFT power for the
+	 * given wave form at the given orientation within the image block
 	 **************************************************************************/
-	public void computeDftPower(AtomicReference<Double> oPower, final int[] rowSums, final DftWave dftWave,
-			final int waveLen) {
+	public double computeDftPower(final int[] rowSums, final DftWave dftWave, final int waveLen) {
 		/* Initialize accumulators */
 		double cospart = 0.0d;
 		double sinpart = 0.0d;
@@ -216,7 +260,7 @@ public class Dft extends MindTct implements IDft {
 		}
 
 		/* Power is the sum of the squared cos and sin components */
-		oPower.set((cospart * cospart) + (sinpart * sinpart));
+		return (cospart * cospart) + (sinpart * sinpart);
 	}
 
 	/*************************************************************************
@@ -244,22 +288,12 @@ public class Dft extends MindTct implements IDft {
 	 * addresses when processing the power statistics in descending order of
 	 * "dominance"
 	 **************************************************************************/
-	public int getDftPowerStats(AtomicIntegerArray wis, AtomicReferenceArray<Double> powMaxs,
-			AtomicIntegerArray powmaxDirs, AtomicReferenceArray<Double> powNorms, AtomicReferenceArray<Double[]> powers,
+	public int getDftPowerStats(int[] wis, double[] powMaxs, int[] powmaxDirs, double[] powNorms, double[][] powers,
 			final int fw, final int tw, final int nDirs) {
 		int ret;
 
 		for (int waveIndex = fw, index = 0; waveIndex < tw; waveIndex++, index++) {
-			AtomicReference<Double> refpowmaxs = new AtomicReference<>(powMaxs.get(index));
-			AtomicInteger refpowmaxdirs = new AtomicInteger(powmaxDirs.get(index));
-			AtomicReference<Double> refpownorms = new AtomicReference<>(powNorms.get(index));
-			AtomicReferenceArray<Double> refpowers = new AtomicReferenceArray<>(powers.get(waveIndex));
-
-			getMaxNorm(refpowmaxs, refpowmaxdirs, refpownorms, refpowers, nDirs);
-
-			powMaxs.set(index, refpowmaxs.get());
-			powmaxDirs.set(index, refpowmaxdirs.get());
-			powNorms.set(index, refpownorms.get());
+			getMaxNorm(powMaxs, powmaxDirs, powNorms, index, powers[waveIndex], nDirs);
 		}
 
 		/* Get sorted order of applied DFT waves based on normalized power */
@@ -282,13 +316,14 @@ public class Dft extends MindTct implements IDft {
 	 * are fundamental to the selection of #cat: a dominant direction flow for the
 	 * image block. Input: oPowerVector - the DFT power values derived form a
 	 * specific wave form applied at different directions nDirs - the number of
-	 * directions to which the wave form was applied Output: powmax - the maximum
-	 * power value in the DFT power vector powmaxDir - the direciton at which the
-	 * maximum power value occured pownorm - the normalized power corresponding to
-	 * the maximum power
+	 * directions to which the wave form was applied statIndex - the slot in the
+	 * statistics arrays to be filled Output: powmaxs - the maximum power value in
+	 * the DFT power vector powmaxDirs - the direciton at which the maximum power
+	 * value occured pownorms - the normalized power corresponding to the maximum
+	 * power
 	 **************************************************************************/
-	public void getMaxNorm(AtomicReference<Double> powmax, AtomicInteger powmaxDir, AtomicReference<Double> pownorm,
-			final AtomicReferenceArray<Double> oPowerVector, final int nDirs) {
+	public void getMaxNorm(double[] powmaxs, int[] powmaxDirs, double[] pownorms, final int statIndex,
+			final double[] oPowerVector, final int nDirs) {
 		int nDir;
 		double maxValue;
 		double powSum;
@@ -296,29 +331,29 @@ public class Dft extends MindTct implements IDft {
 		double powMean;
 
 		/* Find max power value and store corresponding direction */
-		maxValue = oPowerVector.get(0);
+		maxValue = oPowerVector[0];
 		maxIndex = 0;
 
 		/* Sum the total power in a block at a given direction */
-		powSum = oPowerVector.get(0);
+		powSum = oPowerVector[0];
 
 		/* For each direction ... */
 		for (nDir = 1; nDir < nDirs; nDir++) {
-			powSum += oPowerVector.get(nDir);
-			if (oPowerVector.get(nDir) > maxValue) {
-				maxValue = oPowerVector.get(nDir);
+			powSum += oPowerVector[nDir];
+			if (oPowerVector[nDir] > maxValue) {
+				maxValue = oPowerVector[nDir];
 				maxIndex = nDir;
 			}
 		}
 
-		powmax.set(maxValue);
-		powmaxDir.set(maxIndex);
+		powmaxs[statIndex] = maxValue;
+		powmaxDirs[statIndex] = maxIndex;
 
 		/* Powmean is used as denominator for pownorm, so setting */
 		/* a non-zero minimum avoids possible division by zero. */
 		powMean = Math.max(powSum, ILfs.MIN_POWER_SUM) / nDirs;
 
-		pownorm.set(powmax.get() / powMean);
+		pownorms[statIndex] = maxValue / powMean;
 	}
 
 	/*************************************************************************
@@ -334,20 +369,19 @@ public class Dft extends MindTct implements IDft {
 	 * successful completion - Negative - system error
 	 **************************************************************************/
 	@SuppressWarnings({ "java:S3516" })
-	public int sortDftWaves(AtomicIntegerArray wis, final AtomicReferenceArray<Double> powMaxs,
-			final AtomicReferenceArray<Double> powNorms, final int nStats) {
+	public int sortDftWaves(int[] wis, final double[] powMaxs, final double[] powNorms, final int nStats) {
 		int i;
 		int ret;
-		AtomicReferenceArray<Double> powNorms2 = new AtomicReferenceArray<>(nStats);
+		double[] powNorms2 = new double[nStats];
 		for (i = 0; i < nStats; i++) {
 			/* Wis will hold the sorted statistic indices when all is done. */
-			wis.set(i, i);
+			wis[i] = i;
 			/* This is normalized squared max power. */
-			powNorms2.set(i, powMaxs.get(i) * powNorms.get(i));
+			powNorms2[i] = powMaxs[i] * powNorms[i];
 		}
 
 		/* Sort the statistic indices on the normalized squared power. */
-		getSort().bubbleSortDoubleArrayDecremental2(powNorms2, wis, nStats);
+		getSort().insertionSortDoubleArrayDecremental2(powNorms2, wis, nStats);
 
 		/* Deallocate the working memory. */
 		getFree().free(powNorms2);
@@ -0,0 +1,157 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.mosip.nist.nfiq1.common.ILfs;
+import org.mosip.nist.nfiq1.common.ILfs.DftWaves;
+import org.mosip.nist.nfiq1.common.ILfs.DirToRad;
+import org.mosip.nist.nfiq1.common.ILfs.LfsParams;
+import org.mosip.nist.nfiq1.common.ILfs.RotGrids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: DftKernel - The lookup tables needed by the LFS map and binarization
+ * #cat: stages: the max image padding, the direction to radian table, the DFT
+ * #cat: wave forms and the rotated grid offsets for both the DFT analysis and
+ * #cat: directional binarization. None of them depend on the image content,
+ * #cat: only on the padded image width and the LFS parameters, so a kernel is
+ * #cat: built once per combination and shared by every caller. The tables are
+ * #cat: read-only once published and must not be modified.
+ **************************************************************************/
+public final class DftKernel extends MindTct {
+	private static final Logger logger = LoggerFactory.getLogger(DftKernel.class);
+	/* Distinct image widths seen by a deployment are few; bound the cache */
+	/* anyway so a stream of odd sizes cannot grow it without limit. */
+	private static final int MAX_CACHED_KERNELS = 64;
+	private static final Map<Key, DftKernel> kernels = new ConcurrentHashMap<>();
+
+	private final int maxPad;
+	private final DirToRad dirToRad;
+	private final DftWaves dftWaves;
+	private final RotGrids dftGrids;
+	private final RotGrids dirBinGrids;
+
+	private DftKernel(int maxPad, DirToRad dirToRad, DftWaves dftWaves, RotGrids dftGrids, RotGrids dirBinGrids) {
+		super();
+		this.maxPad = maxPad;
+		this.dirToRad = dirToRad;
+		this.dftWaves = dftWaves;
+		this.dftGrids = dftGrids;
+		this.dirBinGrids = dirBinGrids;
+	}
+
+	/*
+	 * Cache key. The grid offsets only depend on the image width (through the
+	 * padded row stride), the pad and the LFS parameters used to shape the grids.
+	 */
+	private record Key(int imageWidth, int pad, int numDirections, double startDirAngle, int windowSize,
+			int dirbinGridWidth, int dirbinGridHeight, int numDftWaves) {
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: getInstance - Returns the shared kernel for the given image width and
+	 * #cat: LFS parameters, building it on first use. Input: imageWidth - width (in
+	 * pixels) of the unpadded input image imageHeight - height (in pixels) of the
+	 * unpadded input image lfsParams - parameters and thresholds for controlling
+	 * LFS Output: ret - Zero - successful completion, Negative - system error
+	 * Return Code: the kernel, or null on error
+	 **************************************************************************/
+	public static DftKernel getInstance(AtomicInteger ret, final int imageWidth, final int imageHeight,
+			final LfsParams lfsParams) {
+		final int maxPad = Init.getInstance().getMaxPaddingV2(lfsParams.getWindowSize(), lfsParams.getWindowOffset(),
+				lfsParams.getDirbinGridWidth(), lfsParams.getDirbinGridHeight());
+		final Key key = new Key(imageWidth, maxPad, lfsParams.getNumDirections(), lfsParams.getStartDirAngle(),
+				lfsParams.getWindowSize(), lfsParams.getDirbinGridWidth(), lfsParams.getDirbinGridHeight(),
+				lfsParams.getNumDftWaves());
+
+		DftKernel kernel = kernels.get(key);
+		if (kernel != null) {
+			ret.set(ILfs.FALSE);
+			return kernel;
+		}
+
+		kernel = build(ret, imageWidth, imageHeight, maxPad, lfsParams);
+		if (kernel == null) {
+			return null;
+		}
+		if (kernels.size() >= MAX_CACHED_KERNELS) {
+			kernels.clear();
+		}
+		DftKernel existing = kernels.putIfAbsent(key, kernel);
+		return (existing != null) ? existing : kernel;
+	}
+
+	private static DftKernel build(AtomicInteger ret, final int imageWidth, final int imageHeight, final int maxPad,
+			final LfsParams lfsParams) {
+		final Init init = Init.getInstance();
+
+		/* Initialize lookup table for converting integer directions */
+		/* to angles in radians. */
+		DirToRad dirToRad = new DirToRad(lfsParams.getNumDirections());
+		ret.set(init.initDirToRad(dirToRad));
+		if (ret.get() != ILfs.FALSE) {
+			return null;
+		}
+
+		/* Initialize wave form lookup tables for DFT analyses. */
+		double[] coefs = Globals.getInstance().getDftCoefs();
+		AtomicReferenceArray<Double> dftCoefs = new AtomicReferenceArray<>(coefs.length);
+		for (int index = 0; index < dftCoefs.length(); index++)
+			dftCoefs.set(index, coefs[index]);
+
+		DftWaves dftWaves = new DftWaves(lfsParams.getNumDftWaves(), lfsParams.getWindowSize());
+		ret.set(init.initDftWaves(dftWaves, dftCoefs));
+		if (ret.get() != ILfs.FALSE) {
+			return null;
+		}
+
+		/* Initialize lookup table for pixel offsets to rotated grids */
+		/* used for DFT analyses. */
+		RotGrids dftGrids = new RotGrids(lfsParams.getStartDirAngle(), lfsParams.getNumDirections(),
+				lfsParams.getWindowSize(), lfsParams.getWindowSize(), ILfs.RELATIVE_TO_ORIGIN);
+		ret.set(init.initRotGrids(dftGrids, imageWidth, imageHeight, maxPad));
+		if (ret.get() != ILfs.FALSE) {
+			return null;
+		}
+
+		/* Initialize lookup table for pixel offsets to rotated grids */
+		/* used for directional binarization. */
+		RotGrids dirBinGrids = new RotGrids(lfsParams.getStartDirAngle(), lfsParams.getNumDirections(),
+				lfsParams.getDirbinGridWidth(), lfsParams.getDirbinGridHeight(), ILfs.RELATIVE_TO_CENTER);
+		ret.set(init.initRotGrids(dirBinGrids, imageWidth, imageHeight, maxPad));
+		if (ret.get() != ILfs.FALSE) {
+			return null;
+		}
+
+		if (isShowLogs())
+			logger.info("DFT kernel built for image width {} pad {}", imageWidth, maxPad);
+
+		return new DftKernel(maxPad, dirToRad, dftWaves, dftGrids, dirBinGrids);
+	}
+
+	public int getMaxPad() {
+		return maxPad;
+	}
+
+	public DirToRad getDirToRad() {
+		return dirToRad;
+	}
+
+	public DftWaves getDftWaves() {
+		return dftWaves;
+	}
+
+	public RotGrids getDftGrids() {
+		return dftGrids;
+	}
+
+	public RotGrids getDirBinGrids() {
+		return dirBinGrids;
+	}
+}
@@ -0,0 +1,137 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import org.mosip.nist.nfiq1.common.ILfs.RotGrids;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: DftLineSums - Line sum tables of a padded image for the DFT
+ * #cat: directions whose rotated grid rows are straight runs of pixels
+ * #cat: along an image row or column. With the default 16 directions only
+ * #cat: the directions at 0 and 90 degrees qualify; the other 14 are not
+ * #cat: tabled (hasRowSums is false for them).
+ * #cat: The row sums of such a direction are then two table reads each,
+ * #cat: instead of a gather of gridSize pixels, and blocks whose windows
+ * #cat: overlap no longer sum the same pixels again. Rotated rows of the
+ * #cat: other directions sample a different pattern of pixels at every
+ * #cat: block, so there is nothing to share and their rows are still
+ * #cat: summed through the grid (see Dft.sumRotBlockRows). The tables hold
+ * #cat: int prefix sums of the signed pixel bytes, as sumRotBlockRows adds
+ * #cat: them, so the row sums are exactly those of the grid. They are
+ * #cat: leased from the building thread's MindtctWorkspace, read only after
+ * #cat: construction and handed back by release.
+ **************************************************************************/
+public final class DftLineSums {
+	/* Kinds of grid rows of a direction. */
+	private static final int ROTATED = 0;
+	private static final int ROW_RUNS = 1;
+	private static final int COLUMN_RUNS = 2;
+
+	private final int paddedImageWidth;
+	private final int gridSize;
+	private final int[] kinds;
+	/* Offset of the first pixel of each run, gridSize entries per direction. */
+	private final int[] runStarts;
+	/* rowPrefix[i] is the sum of pixels 0..i-1 of the image. */
+	private int[] rowPrefix;
+	/* columnPrefix[i + paddedImageWidth] is the sum of pixel i and the */
+	/* pixels above it in its column. */
+	private int[] columnPrefix;
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: DftLineSums - Classifies the rows of the DFT grids and builds the
+	 * #cat: tables the straight runs need. Input: paddedImagedata - the padded
+	 * input image paddedImageWidth - the width (in pixels) of the padded input
+	 * image paddedImageHeight - the height (in pixels) of the padded input image
+	 * dftGrids - structure containing the rotated pixel grid offsets
+	 **************************************************************************/
+	public DftLineSums(byte[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight,
+			final RotGrids dftGrids) {
+		super();
+		this.paddedImageWidth = paddedImageWidth;
+		this.gridSize = dftGrids.getGridWidth();
+		final int nDirs = dftGrids.getNoOfGrids();
+		this.kinds = new int[nDirs];
+		this.runStarts = new int[nDirs * gridSize];
+
+		boolean rowRuns = false;
+		boolean columnRuns = false;
+		for (int dir = 0; dir < nDirs; dir++) {
+			kinds[dir] = classify(dftGrids.getGrids()[dir], dir);
+			rowRuns |= (kinds[dir] == ROW_RUNS);
+			columnRuns |= (kinds[dir] == COLUMN_RUNS);
+		}
+
+		final int imageSize = paddedImageWidth * paddedImageHeight;
+		if (rowRuns) {
+			rowPrefix = MindtctWorkspace.current().acquireInts(imageSize + 1);
+			for (int i = 0; i < imageSize; i++) {
+				rowPrefix[i + 1] = rowPrefix[i] + paddedImagedata[i];
+			}
+		}
+		if (columnRuns) {
+			columnPrefix = MindtctWorkspace.current().acquireInts(imageSize + paddedImageWidth);
+			for (int i = 0; i < imageSize; i++) {
+				columnPrefix[i + paddedImageWidth] = columnPrefix[i] + paddedImagedata[i];
+			}
+		}
+	}
+
+	/* True if the row sums of direction dir come from the tables. */
+	public boolean hasRowSums(final int dir) {
+		return kinds[dir] != ROTATED;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: rowSum - Returns the sum of grid row iy of direction dir for the
+	 * #cat: block at blockOffset; only valid if hasRowSums(dir).
+	 **************************************************************************/
+	public int rowSum(final int dir, final int blockOffset, final int iy) {
+		final int start = blockOffset + runStarts[(dir * gridSize) + iy];
+		if (kinds[dir] == ROW_RUNS) {
+			return rowPrefix[start + gridSize] - rowPrefix[start];
+		}
+		return columnPrefix[start + (gridSize * paddedImageWidth)] - columnPrefix[start];
+	}
+
+	/* Hands the tables back to the workspace. */
+	public void release() {
+		Free.getInstance().free(rowPrefix);
+		Free.getInstance().free(columnPrefix);
+		rowPrefix = null;
+		columnPrefix = null;
+	}
+
+	/*
+	 * A direction qualifies if every grid row steps by one pixel along a row
+	 * (or a column) in the same sense; the runs are then kept by their lowest
+	 * offset.
+	 */
+	private int classify(final int[] gridOffsets, final int dir) {
+		if (gridSize < 2) {
+			return ROTATED;
+		}
+		final int step = gridOffsets[1] - gridOffsets[0];
+		final int kind;
+		if (Math.abs(step) == 1) {
+			kind = ROW_RUNS;
+		} else if (Math.abs(step) == paddedImageWidth) {
+			kind = COLUMN_RUNS;
+		} else {
+			return ROTATED;
+		}
+
+		for (int iy = 0; iy < gridSize; iy++) {
+			final int rowIndex = iy * gridSize;
+			for (int ix = 1; ix < gridSize; ix++) {
+				if (gridOffsets[rowIndex + ix] - gridOffsets[(rowIndex + ix) - 1] != step) {
+					return ROTATED;
+				}
+			}
+			runStarts[(dir * gridSize) + iy] = Math.min(gridOffsets[rowIndex],
+					gridOffsets[(rowIndex + gridSize) - 1]);
+		}
+		return kind;
+	}
+}
@@ -0,0 +1,107 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import org.mosip.nist.nfiq1.common.ILfs.DftWave;
+import org.mosip.nist.nfiq1.common.ILfs.DftWaves;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: DftVector - SIMD version of the DFT direction power analysis done by
+ * #cat: Dft.dftDirPowers. Row sums of all directions are taken first, then
+ * #cat: the powers are computed for several directions per lane group.
+ * #cat: Each lane accumulates its direction's cos and sin parts in the same
+ * #cat: row order, with a separate multiply and add, as computeDftPower, so
+ * #cat: the resulting powers are bit for bit those of the scalar routine.
+ * #cat: Only referenced from Dft once the incubator module is known to be
+ * #cat: present.
+ **************************************************************************/
+final class DftVector {
+	private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	private DftVector() {
+		super();
+	}
+
+	/* A single lane species means no SIMD support on this platform. */
+	static boolean isUsable() {
+		return DOUBLE_SPECIES.length() > 1;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: dftDirPowers - Computes the DFT power of every wave form at every
+	 * #cat: direction for the image block at blockOffset. Input: paddedImagedata
+	 * - the padded input image blockOffset - the pixel offset form the origin of
+	 * the padded image to the origin of the current block dftWaves - structure
+	 * containing the DFT wave forms grids - the rotated pixel grid offsets of each
+	 * direction nDirs - number of directions gridSize - the width and height of
+	 * the (square) grid lineSums - line sum tables of the image, or null Output:
+	 * powers - DFT power computed from each wave form at each direction (N Waves
+	 * X M Directions)
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	static void dftDirPowers(double[][] powers, final byte[] paddedImagedata, final int blockOffset,
+			final DftWaves dftWaves, final int[][] grids, final int nDirs, final int gridSize,
+			final DftLineSums lineSums) {
+		/* Row sums of all directions, direction minor: */
+		/* dirRowSums[(row * nDirs) + dir]. */
+		final MindtctWorkspace workspace = MindtctWorkspace.current();
+		final double[] dirRowSums = workspace.acquireDoubles(gridSize * nDirs);
+
+		for (int dir = 0; dir < nDirs; dir++) {
+			if (lineSums != null && lineSums.hasRowSums(dir)) {
+				for (int iy = 0; iy < gridSize; iy++) {
+					dirRowSums[(iy * nDirs) + dir] = lineSums.rowSum(dir, blockOffset, iy);
+				}
+			} else {
+				sumRotBlockRows(dirRowSums, dir, nDirs, paddedImagedata, blockOffset, grids[dir], gridSize);
+			}
+		}
+
+		final int waveLen = dftWaves.getWaveLen();
+		for (int waveIndex = 0; waveIndex < dftWaves.getNWaves(); waveIndex++) {
+			final DftWave dftWave = dftWaves.getWaves()[waveIndex];
+			final double[] cos = dftWave.getCos();
+			final double[] sin = dftWave.getSin();
+			final double[] wavePowers = powers[waveIndex];
+
+			for (int dir = 0; dir < nDirs; dir += DOUBLE_SPECIES.length()) {
+				final VectorMask<Double> mask = DOUBLE_SPECIES.indexInRange(dir, nDirs);
+				DoubleVector cospart = DoubleVector.zero(DOUBLE_SPECIES);
+				DoubleVector sinpart = DoubleVector.zero(DOUBLE_SPECIES);
+
+				for (int i = 0; i < waveLen; i++) {
+					final DoubleVector rowSums = DoubleVector.fromArray(DOUBLE_SPECIES, dirRowSums, (i * nDirs) + dir,
+							mask);
+					cospart = cospart.add(rowSums.mul(cos[i]));
+					sinpart = sinpart.add(rowSums.mul(sin[i]));
+				}
+
+				cospart.mul(cospart).add(sinpart.mul(sinpart)).intoArray(wavePowers, dir, mask);
+			}
+		}
+
+		workspace.release(dirRowSums);
+	}
+
+	/*
+	 * Same sums as Dft.sumRotBlockRows. A lane gather of the byte pixels is not
+	 * intrinsified and loses to this scalar loop, so only the power
+	 * accumulation is vectorized.
+	 */
+	private static void sumRotBlockRows(double[] dirRowSums, final int dir, final int nDirs,
+			final byte[] paddedImagedata, final int blockOffset, final int[] gridOffsets, final int gridSize) {
+		int gi = 0;
+
+		for (int iy = 0; iy < gridSize; iy++) {
+			int rowSum = 0;
+			for (int ix = 0; ix < gridSize; ix++) {
+				rowSum += paddedImagedata[blockOffset + gridOffsets[gi++]];
+			}
+			dirRowSums[(iy * nDirs) + dir] = rowSum;
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package org.mosip.nist.nfiq1.mindtct;
 
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.mosip.nist.nfiq1.common.ILfs.DftWave;
 import org.mosip.nist.nfiq1.common.ILfs.DftWaves;
@@ -22,13 +21,23 @@ public class Free extends MindTct implements IFree {
 		return instance;
 	}
 
+	public Contour getContour() {
+		return Contour.getInstance();
+	}
+
 	/*************************************************************************
 	 **************************************************************************
-	 * #cat: free_dir2rad - Deallocates memory associated with a DIR2RAD structure
+	 * #cat: free - Deallocates memory: a buffer leased from the calling thread's
+	 * #cat: MindtctWorkspace goes back to it for reuse, a contour has its
+	 * #cat: lists freed, and anything else is left to the garbage collector.
 	 * Input: Object - pointer to memory to be freed
 	 *************************************************************************/
-	@SuppressWarnings({ "java:S1186" })
 	public void free(Object object) {
+		if (object instanceof Contour) {
+			getContour().freeContour((Contour) object);
+			return;
+		}
+		MindtctWorkspace.current().release(object);
 	}
 
 	/*************************************************************************
@@ -89,12 +98,14 @@ public class Free extends MindTct implements IFree {
 	 * Input: powers - vectors of DFT power values (N Waves X M Directions) nwaves -
 	 * number of DFT wave forms used
 	 **************************************************************************/
-	public void freeDirPowers(AtomicReferenceArray<Double[]> powers, final int nwaves) {
+	public void freeDirPowers(double[][] powers, final int nwaves) {
 		int w;
 
 		for (w = 0; w < nwaves; w++) {
-			if (powers != null)
-				powers.set(w, null);
+			if (powers != null) {
+				free(powers[w]);
+				powers[w] = null;
+			}
 		}
 		free(powers);
 	}
@@ -3,6 +3,7 @@ package org.mosip.nist.nfiq1.mindtct;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.IGetMinutiae;
 import org.mosip.nist.nfiq1.common.ILfs.LfsParams;
@@ -38,9 +39,8 @@ public class GetMinutiae extends MindTct implements IGetMinutiae {
 	 * #cat: getMinutiae - Takes a grayscale fingerprint image, binarizes the input
 	 * #cat: image, and detects minutiae points using LFS Version 2. #cat: The
 	 * routine passes back the detected minutiae, the #cat: binarized image, and a
-	 * set of image quality maps. Input: imageData - grayscale fingerprint image
-	 * data imageWidth - width (in pixels) of the grayscale image imageHeight -
-	 * height (in pixels) of the grayscale image imageDepth - pixel depth (in bits)
+	 * set of image quality maps. Input: image - grayscale fingerprint image
+	 * imageDepth - pixel depth (in bits)
 	 * of the grayscale image imagePPI - the scan resolution (in pixels/mm) of the
 	 * grayscale image lfsParams - parameters and thresholds for controlling LFS
 	 * Output: ret - Zero - successful completion - Negative - system error
@@ -48,14 +48,18 @@ public class GetMinutiae extends MindTct implements IGetMinutiae {
 	 * oBinarizedImageWidth - width (in pixels) of binarized image
 	 * oBinarizedImageHeight - height (in pixels) of binarized image
 	 * oBinarizedImageDepth - pixel depth (in bits) of binarized image Return Code:
-	 * binarizedImageData - points to binarized image data
+	 * binarizedImageData - points to binarized image data {0, 255 (stored as -1)}
 	 **************************************************************************/
-	public int[] getMinutiae(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps imageMap, Quality qualityMap,
-			AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight, AtomicInteger oBinarizedImageDepth,
-			int[] imageData, final int imageWidth, final int imageHeight, final int imageDepth, final double imagePPI,
+	public byte[] getMinutiae(AtomicInteger ret, AtomicReference<Minutiae> oMinutiae, Maps imageMap,
+			Quality qualityMap, AtomicInteger oBinarizedImageWidth, AtomicInteger oBinarizedImageHeight,
+			AtomicInteger oBinarizedImageDepth, Raster8 image, final int imageDepth, final double imagePPI,
 			final LfsParams lfsParams) {
 
-		int[] binarizedImageData = null;
+		byte[] binarizedImageData = null;
+		/* Buffers this thread leased for a previous image and never */
+		/* freed are left to the garbage collector from here on. */
+		MindtctWorkspace.current().forgetLeases();
+
 		/* If input image is not 8-bit grayscale ... */
 		if (imageDepth != ILfs.IMAGE_DEPTH) {
 			logger.info("ERROR : get_minutiae : input image pixel depth = {} != 8.", imageDepth);
@@ -65,7 +69,7 @@ public class GetMinutiae extends MindTct implements IGetMinutiae {
 
 		/* Detect minutiae in grayscale fingerpeint image. */
 		binarizedImageData = getDetect().lfsDetectMinutiaeV2(ret, oMinutiae, imageMap, oBinarizedImageWidth,
-				oBinarizedImageHeight, imageData, imageWidth, imageHeight, lfsParams);
+				oBinarizedImageHeight, image, lfsParams);
 		if (ret.get() != ILfs.FALSE) {
 			binarizedImageData = null;
 			return binarizedImageData;
@@ -80,8 +84,8 @@ public class GetMinutiae extends MindTct implements IGetMinutiae {
 		}
 
 		/* Assign reliability from quality map. */
-		ret.set(qualityMap.combinedMinutiaQuality(oMinutiae, imageMap, lfsParams.getBlockOffsetSize(), imageData, imageWidth,
-				imageHeight, imageDepth, imagePPI));
+		ret.set(qualityMap.combinedMinutiaQuality(oMinutiae, imageMap, lfsParams.getBlockOffsetSize(), image,
+				imageDepth, imagePPI));
 		if (ret.get() != ILfs.FALSE) {
 			getMinutiaHelper().freeMinutiae(oMinutiae);
 			binarizedImageData = null;
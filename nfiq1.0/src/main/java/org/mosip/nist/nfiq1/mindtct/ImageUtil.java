@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mosip.nist.nfiq1.Defs;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.IImageUtil;
 import org.mosip.nist.nfiq1.common.ILfs.LfsParams;
@@ -58,7 +59,7 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * (in characters) of the input array Output: imageData - contains the
 	 * bit-shifted results
 	 **************************************************************************/
-	public void bits6To8(int[] imageData, int imageWidth, int imageHeight) {
+	public void bits6To8(byte[] imageData, int imageWidth, int imageHeight) {
 		int imageSize;
 		int iptrIndex;
 
@@ -82,7 +83,7 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * - height (in characters) of the input array Output: imageData - contains the
 	 * bit-shifted results
 	 **************************************************************************/
-	public void bits8To6(int[] imageData, int imageWidth, int imageHeight) {
+	public void bits8To6(byte[] imageData, int imageWidth, int imageHeight) {
 		int imageSize;
 		int iptrIndex;
 
@@ -90,7 +91,8 @@ public class ImageUtil extends MindTct implements IImageUtil {
 		iptrIndex = 0;
 		for (int i = 0; i < imageSize; i++) {
 			/* Divide every pixel value by 4 so that [0..256) -> [0..64) */
-			imageData[iptrIndex++] >>= 2;
+			imageData[iptrIndex] = (byte) ((imageData[iptrIndex] & 0xff) >> 2);
+			iptrIndex++;
 		}
 	}
 
@@ -108,14 +110,14 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * image imageHeight - height (in pixels) of the image Output: binarizedmageData
 	 * - altered 8-bit image data
 	 **************************************************************************/
-	public void grayToBinary(final int threshold, final int lessPixel, final int greaterPixel, int[] binarizedmageData,
+	public void grayToBinary(final int threshold, final int lessPixel, final int greaterPixel, byte[] binarizedmageData,
 			final int imageWidth, final int imageHeight) {
 		int imageSize = imageWidth * imageHeight;
 		for (int i = 0; i < imageSize; i++) {
-			if (binarizedmageData[i] >= threshold) {
-				binarizedmageData[i] = greaterPixel;
+			if ((binarizedmageData[i] & 0xff) >= threshold) {
+				binarizedmageData[i] = (byte) greaterPixel;
 			} else {
-				binarizedmageData[i] = lessPixel;
+				binarizedmageData[i] = (byte) lessPixel;
 			}
 		}
 	}
@@ -128,17 +130,18 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * of #cat: pixel padding and the intensity of the pixel padding #cat: are
 	 * specified. An alternative to padding with a #cat: constant intensity would be
 	 * to copy the edge pixels #cat: of the centered image into the adjacent pad
-	 * area. Input: imageData - input 8-bit grayscale image imageWidth - width (in
-	 * pixels) of the input image imageHeight - height (in pixels) of the input
-	 * image pad - size of padding (in pixels) to be added padValue - intensity of
+	 * area. Input: image - input 8-bit grayscale image (a pad of 0 makes a plain
+	 * contiguous copy) pad - size of padding (in pixels) to be added padValue - intensity of
 	 * the padded area Output: ret - Zero - successful completion - Negative -
 	 * system error ow - width (in pixels) of the padded image oh - height (in
 	 * pixels) of the padded image Return Code: optr - points to the newly padded
 	 * image
 	 **************************************************************************/
-	public int[] padImage(AtomicInteger ret, AtomicInteger ow, AtomicInteger oh, int[] imageData, final int imageWidth,
-			final int imageHeight, final int pad, final int padValue) {
-		int[] paddedImagedata;
+	public byte[] padImage(AtomicInteger ret, AtomicInteger ow, AtomicInteger oh, Raster8 image, final int pad,
+			final int padValue) {
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
+		byte[] paddedImagedata;
 		int pptrIndex;
 		int imageDataIndex;
 		int pdataIndex;
@@ -156,19 +159,19 @@ public class ImageUtil extends MindTct implements IImageUtil {
 		paddedImageSize = paddedImageWidth * paddedImageHeight;
 
 		/* Allocate padded image */
-		paddedImagedata = new int[paddedImageSize];
+		paddedImagedata = new byte[paddedImageSize];
 
 		/* Initialize values to a constant PAD value */
-		Arrays.fill(paddedImagedata, 0, paddedImageSize, padValue);
+		Arrays.fill(paddedImagedata, 0, paddedImageSize, (byte) padValue);
 
 		/* Copy input image into padded image one scanline at a time */
-		imageDataIndex = 0;
+		imageDataIndex = image.getOffset();
 		pdataIndex = 0;
 		pptrIndex = pdataIndex + (pad * paddedImageWidth) + pad;
 
 		for (int i = 0; i < imageHeight; i++) {
-			System.arraycopy(imageData, imageDataIndex, paddedImagedata, pptrIndex, imageWidth);
-			imageDataIndex += imageWidth;
+			System.arraycopy(image.getData(), imageDataIndex, paddedImagedata, pptrIndex, imageWidth);
+			imageDataIndex += image.getStride();
 			pptrIndex += paddedImageWidth;
 		}
 
@@ -178,6 +181,68 @@ public class ImageUtil extends MindTct implements IImageUtil {
 		return paddedImagedata;
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: padImageBits8To6 - Same result as padImage followed by bits8To6, in
+	 * #cat: one sequential pass over the padded image: each scanline of the
+	 * #cat: input is shifted to 6 bits as it is copied, and only the pad area
+	 * #cat: is filled with the (shifted) pad value. The padded image is written
+	 * #cat: into buffer when it is large enough, so a caller analysing many
+	 * #cat: images can keep passing back the previous result. Input: image -
+	 * input 8-bit grayscale image pad - size of padding (in pixels) to be added
+	 * padValue - 8-bit intensity of the padded area buffer - reusable output
+	 * buffer, may be null Output: ret - Zero - successful completion ow - width
+	 * (in pixels) of the padded image oh - height (in pixels) of the padded image
+	 * Return Code: optr - the padded 6-bit image; buffer, or a new array if
+	 * buffer was too small (only the first ow * oh values are meaningful)
+	 **************************************************************************/
+	public byte[] padImageBits8To6(AtomicInteger ret, AtomicInteger ow, AtomicInteger oh, Raster8 image,
+			final int pad, final int padValue, byte[] buffer) {
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
+		final byte[] imageData = image.getData();
+		final int paddedImageWidth = imageWidth + (pad << 1);
+		final int paddedImageHeight = imageHeight + (pad << 1);
+		final int paddedImageSize = paddedImageWidth * paddedImageHeight;
+		final byte padPixel = (byte) ((padValue & 0xff) >> 2);
+		byte[] paddedImagedata = buffer;
+
+		if (paddedImagedata == null || paddedImagedata.length < paddedImageSize) {
+			paddedImagedata = new byte[paddedImageSize];
+		}
+
+		/* Top pad rows */
+		final int topSize = pad * paddedImageWidth;
+		Arrays.fill(paddedImagedata, 0, topSize, padPixel);
+
+		/* Left pad, shifted scanline, right pad */
+		int imageDataIndex = image.getOffset();
+		int pptrIndex = topSize;
+		for (int i = 0; i < imageHeight; i++) {
+			Arrays.fill(paddedImagedata, pptrIndex, pptrIndex + pad, padPixel);
+			pptrIndex += pad;
+			/* Shift in place while the copied scanline is in cache; */
+			/* the compiler vectorizes this, not a shift across arrays. */
+			System.arraycopy(imageData, imageDataIndex, paddedImagedata, pptrIndex, imageWidth);
+			final int rowEnd = pptrIndex + imageWidth;
+			for (int j = pptrIndex; j < rowEnd; j++) {
+				paddedImagedata[j] = (byte) ((paddedImagedata[j] & 0xff) >> 2);
+			}
+			pptrIndex = rowEnd;
+			Arrays.fill(paddedImagedata, pptrIndex, pptrIndex + pad, padPixel);
+			pptrIndex += pad;
+			imageDataIndex += image.getStride();
+		}
+
+		/* Bottom pad rows */
+		Arrays.fill(paddedImagedata, pptrIndex, paddedImageSize, padPixel);
+
+		ow.set(paddedImageWidth);
+		oh.set(paddedImageHeight);
+		ret.set(ILfs.FALSE);
+		return paddedImagedata;
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: fillHoles - Takes an input image and analyzes triplets of horizontal
@@ -190,7 +255,7 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * (in pixels) of the binary input image Output: binarizedmageData - points to
 	 * the results
 	 **************************************************************************/
-	public void fillHoles(int[] binarizedmageData, final int imageWidth, final int imageHeight) {
+	public void fillHoles(byte[] binarizedmageData, final int imageWidth, final int imageHeight) {
 		int xIndex;
 		int yIndex;
 		int iw2;
@@ -270,6 +335,88 @@ public class ImageUtil extends MindTct implements IImageUtil {
 		}
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: fillHoles - Runs numPasses fillHoles passes in a single sweep down
+	 * #cat: the image. Pass k fills the horizontal holes of a row only after
+	 * #cat: pass k-1 has finished every vertical triplet reading that row, and
+	 * #cat: fills a vertical hole only after its own horizontal step has reached
+	 * #cat: the row below. So each pass trails the previous one by two rows, and
+	 * #cat: every triplet is tested against the same pixel values as in
+	 * #cat: numPasses separate calls. The vertical step works a row at a time
+	 * #cat: with a per-column flag for the pixel skipped after a fill, so all
+	 * #cat: passes touch a band of about 2 x numPasses rows instead of sweeping
+	 * #cat: the image column by column. Input: binarizedmageData - binary image
+	 * data to be processed imageWidth - width (in pixels) of the binary input
+	 * image imageHeight - height (in pixels) of the binary input image numPasses -
+	 * number of fillHoles passes Output: binarizedmageData - points to the
+	 * results
+	 **************************************************************************/
+	public void fillHoles(byte[] binarizedmageData, final int imageWidth, final int imageHeight,
+			final int numPasses) {
+		/* Skip flags of the vertical step of each pass, one per column. */
+		final boolean[][] skipRows = new boolean[numPasses][imageWidth];
+		final int numStages = numPasses << 1;
+
+		for (int step = 0; step < imageHeight + numStages - 1; step++) {
+			/* Stage 2k is the horizontal step of pass k, stage 2k+1 its */
+			/* vertical step; stage s works on row (step - s). */
+			for (int stage = 0; stage < numStages; stage++) {
+				final int yIndex = step - stage;
+				if ((stage & 1) == 0) {
+					if (yIndex >= 0 && yIndex < imageHeight) {
+						fillHorizontalHoles(binarizedmageData, yIndex * imageWidth, imageWidth);
+					}
+				} else if (yIndex >= 1 && yIndex < imageHeight - 1) {
+					fillVerticalHoles(binarizedmageData, yIndex * imageWidth, imageWidth, skipRows[stage >> 1]);
+				}
+			}
+		}
+	}
+
+	/* The horizontal step of fillHoles for the row starting at rowIndex. */
+	private void fillHorizontalHoles(byte[] binarizedmageData, final int rowIndex, final int imageWidth) {
+		int leftPixelIndex = rowIndex;
+		/* Foreach column in image (less far left and right pixels) ... */
+		for (int xIndex = 1; xIndex < imageWidth - 1; xIndex++) {
+			/* Do we have a horizontal hole of length 1? */
+			if ((binarizedmageData[leftPixelIndex] != binarizedmageData[leftPixelIndex + 1])
+					&& (binarizedmageData[leftPixelIndex] == binarizedmageData[leftPixelIndex + 2])) {
+				/* If so, then fill it, and bump passed the right pixel. */
+				binarizedmageData[leftPixelIndex + 1] = binarizedmageData[leftPixelIndex];
+				leftPixelIndex += 2;
+				xIndex++;
+			} else {
+				leftPixelIndex++;
+			}
+		}
+	}
+
+	/*
+	 * The vertical step of fillHoles for every column at the middle row starting
+	 * at rowIndex. skipRow flags the columns whose previous middle pixel was a
+	 * filled hole; those pixels are known not to be holes and are passed over,
+	 * as the column by column loop does.
+	 */
+	private void fillVerticalHoles(byte[] binarizedmageData, final int rowIndex, final int imageWidth,
+			boolean[] skipRow) {
+		for (int xIndex = 0; xIndex < imageWidth; xIndex++) {
+			if (skipRow[xIndex]) {
+				skipRow[xIndex] = false;
+				continue;
+			}
+			final int middlePixelIndex = rowIndex + xIndex;
+			final byte topPixel = binarizedmageData[middlePixelIndex - imageWidth];
+			/* Do we have a vertical hole of length 1? */
+			if ((topPixel != binarizedmageData[middlePixelIndex])
+					&& (topPixel == binarizedmageData[middlePixelIndex + imageWidth])) {
+				/* If so, then fill it. */
+				binarizedmageData[middlePixelIndex] = topPixel;
+				skipRow[xIndex] = true;
+			}
+		}
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: freePath - Traverses a straight line between 2 pixel points in an #cat:
@@ -283,7 +430,7 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 * TRUE - free path determined to exist FALSE - free path determined not to
 	 * exist Negative - system error
 	 **************************************************************************/
-	public int freePath(final int x1, final int y1, final int x2, final int y2, int[] binarizedmageData,
+	public int freePath(final int x1, final int y1, final int x2, final int y2, byte[] binarizedmageData,
 			final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
 		int[] xList;
 		int[] yList;
@@ -360,7 +507,7 @@ public class ImageUtil extends MindTct implements IImageUtil {
 	 **************************************************************************/
 	public int searchInDirection(AtomicInteger ox, AtomicInteger oy, AtomicInteger oex, AtomicInteger oey,
 			final int pix, final int startX, final int startY, final double deltaX, final double deltaY,
-			final int maxsteps, int[] binarizedmageData, final int imageWidth, final int imageHeight) {
+			final int maxsteps, byte[] binarizedmageData, final int imageWidth, final int imageHeight) {
 		int i;
 		AtomicInteger x = new AtomicInteger(0);
 		AtomicInteger y = new AtomicInteger(0);
@@ -1,7 +1,6 @@
 package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.mosip.nist.nfiq1.Defs;
@@ -444,20 +443,18 @@ public class Init extends MindTct implements IInit {
 	 * oPowers - pointer to the allcated power vectors Return Code: ret - Zero -
 	 * successful completion - Negative - system error
 	 **************************************************************************/
-	public AtomicReferenceArray<Double[]> allocDirPowers(AtomicInteger ret, final int nWaves, final int nDirs) {
+	public double[][] allocDirPowers(AtomicInteger ret, final int nWaves, final int nDirs) {
 		ret.set(ILfs.UNDEFINED);
 		/* Allocate list of double pointers to hold power vectors */
-		Double[][] oPowers = new Double[nWaves][nDirs];
+		double[][] oPowers = new double[nWaves][];
 
 		/* Foreach DFT wave ... */
 		for (int w = 0; w < nWaves; w++) {
-			/* Allocate power vector for all directions */
-			for (int d = 0; d < nDirs; d++) {
-				oPowers[w][d] = 0.0d;
-			}
+			/* Allocate (zeroed) power vector for all directions */
+			oPowers[w] = MindtctWorkspace.current().acquireDoubles(nDirs);
 		}
 		ret.set(ILfs.FALSE);
-		return new AtomicReferenceArray<>(oPowers);
+		return oPowers;
 	}
 
 	/*************************************************************************
@@ -475,15 +472,11 @@ public class Init extends MindTct implements IInit {
 	 * hold the ranked wave form indicies of the corresponding statistics Return
 	 * Code: ret - Zero - successful completion - Negative - system error
 	 **************************************************************************/
-	public AtomicIntegerArray allocPowerStatsWis(AtomicInteger ret, final int nStats) {
+	public int[] allocPowerStatsWis(AtomicInteger ret, final int nStats) {
 		/* Allocate DFT wave index vector */
-		int[] wis = new int[nStats];
-		/* Allocate power vector for all directions */
-		for (int i = 0; i < nStats; i++) {
-			wis[i] = 0;
-		}
+		int[] wis = MindtctWorkspace.current().acquireInts(nStats);
 		ret.set(ILfs.FALSE);
-		return new AtomicIntegerArray(wis);
+		return wis;
 	}
 
 	/*************************************************************************
@@ -501,14 +494,11 @@ public class Init extends MindTct implements IInit {
 	 * array to hold the maximum DFT power for each Return Code: ret - Zero -
 	 * successful completion - Negative - system error
 	 **************************************************************************/
-	public AtomicReferenceArray<Double> allocPowerStatsPowmaxs(AtomicInteger ret, final int nStats) {
+	public double[] allocPowerStatsPowmaxs(AtomicInteger ret, final int nStats) {
 		/* Allocate max power vector */
-		Double[] powmaxs = new Double[nStats];
-		for (int i = 0; i < nStats; i++) {
-			powmaxs[i] = 0.0;
-		}
+		double[] powmaxs = MindtctWorkspace.current().acquireDoubles(nStats);
 		ret.set(ILfs.FALSE);
-		return new AtomicReferenceArray<>(powmaxs);
+		return powmaxs;
 	}
 
 	/*************************************************************************
@@ -526,14 +516,11 @@ public class Init extends MindTct implements IInit {
 	 * array to hold the direction corresponding to each maximum power value Return
 	 * Code: ret - Zero - successful completion - Negative - system error
 	 **************************************************************************/
-	public AtomicIntegerArray allocPowerStatsPowmaxDirs(AtomicInteger ret, final int nStats) {
+	public int[] allocPowerStatsPowmaxDirs(AtomicInteger ret, final int nStats) {
 		/* Allocate max power direction vector */
-		int[] powmaxDirs = new int[nStats];
-		for (int i = 0; i < nStats; i++) {
-			powmaxDirs[i] = 0;
-		}
+		int[] powmaxDirs = MindtctWorkspace.current().acquireInts(nStats);
 		ret.set(ILfs.FALSE);
-		return new AtomicIntegerArray(powmaxDirs);
+		return powmaxDirs;
 	}
 
 	/*************************************************************************
@@ -551,13 +538,10 @@ public class Init extends MindTct implements IInit {
 	 * normalized maximum power Return Code: ret - Zero - successful completion -
 	 * Negative - system error
 	 **************************************************************************/
-	public AtomicReferenceArray<Double> allocPowerStatsPownorms(AtomicInteger ret, final int nStats) {
+	public double[] allocPowerStatsPownorms(AtomicInteger ret, final int nStats) {
 		/* Allocate normalized power vector */
-		Double[] pownorms = new Double[nStats];
-		for (int i = 0; i < nStats; i++) {
-			pownorms[i] = 0.0d;
-		}
+		double[] pownorms = MindtctWorkspace.current().acquireDoubles(nStats);
 		ret.set(ILfs.FALSE);
-		return new AtomicReferenceArray<>(pownorms);
+		return pownorms;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import org.mosip.nist.nfiq1.Raster8;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: IntegralImage - Summed area tables of the pixel values and of the
+ * #cat: squared pixel values of an 8-bit grayscale image, so the sum and
+ * #cat: the sum of squares of any rectangle of pixels is read from four
+ * #cat: table entries. The tables hold int sums that wrap on overflow; the
+ * #cat: difference of wrapped sums is still exact for any rectangle whose
+ * #cat: own sums fit in an int, and wraps like an int accumulator would for
+ * #cat: one that does not (as getNeighborhoodStats accumulates). The tables
+ * #cat: are leased from the calling thread's MindtctWorkspace and handed
+ * #cat: back by release.
+ **************************************************************************/
+public final class IntegralImage {
+	private final int width;
+	private final int height;
+	/* Entry (x, y) holds the sums over the pixels left of x and above y. */
+	private final int tableWidth;
+	private int[] sums;
+	private int[] squareSums;
+
+	public IntegralImage(Raster8 image) {
+		super();
+		this.width = image.getWidth();
+		this.height = image.getHeight();
+		this.tableWidth = width + 1;
+		this.sums = MindtctWorkspace.current().acquireInts(tableWidth * (height + 1));
+		this.squareSums = MindtctWorkspace.current().acquireInts(tableWidth * (height + 1));
+
+		final byte[] data = image.getData();
+		/* Row 0 and column 0 of the tables stay zero. */
+		for (int y = 0; y < height; y++) {
+			int rowSum = 0;
+			int rowSquareSum = 0;
+			int pixelIndex = image.index(0, y);
+			int tableIndex = ((y + 1) * tableWidth) + 1;
+			for (int x = 0; x < width; x++) {
+				final int pixel = data[pixelIndex++] & 0xff;
+				rowSum += pixel;
+				rowSquareSum += pixel * pixel;
+				sums[tableIndex] = sums[tableIndex - tableWidth] + rowSum;
+				squareSums[tableIndex] = squareSums[tableIndex - tableWidth] + rowSquareSum;
+				tableIndex++;
+			}
+		}
+	}
+
+	/* Sum of the pixels in columns x0..x1 and rows y0..y1 (inclusive). */
+	public int sum(final int x0, final int y0, final int x1, final int y1) {
+		return rectangle(sums, x0, y0, x1, y1);
+	}
+
+	/* Sum of the squared pixels in columns x0..x1 and rows y0..y1 (inclusive). */
+	public int squareSum(final int x0, final int y0, final int x1, final int y1) {
+		return rectangle(squareSums, x0, y0, x1, y1);
+	}
+
+	/* Hands the tables back to the workspace; the image is unusable after. */
+	public void release() {
+		Free.getInstance().free(sums);
+		Free.getInstance().free(squareSums);
+		sums = null;
+		squareSums = null;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	private int rectangle(int[] table, final int x0, final int y0, final int x1, final int y1) {
+		final int top = y0 * tableWidth;
+		final int bottom = (y1 + 1) * tableWidth;
+		return (table[bottom + x1 + 1] - table[bottom + x0]) - (table[top + x1 + 1] - table[top + x0]);
+	}
+}
@@ -1,6 +1,5 @@
 package org.mosip.nist.nfiq1.mindtct;
 
-import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.IIsEmpty;
@@ -26,7 +25,7 @@ public class IsEmpty extends MindTct implements IIsEmpty {
 	 * mapWidth - width of map mapHeight - height of map Return Code: True - image
 	 * determined empty False - image determined NOT empty
 	 ************************************************************************/
-	public int isImageEmpty(AtomicIntegerArray qualityMap, final int mapWidth, final int mapHeight) {
+	public int isImageEmpty(int[] qualityMap, final int mapWidth, final int mapHeight) {
 		/* This routine is designed to be expanded as more statistical */
 		/* tests are developed. */
 
@@ -44,14 +43,14 @@ public class IsEmpty extends MindTct implements IIsEmpty {
 	 * width of map mapHeight - height of map Return Code: True - quality map is
 	 * empty False - quality map is NOT empty
 	 ************************************************************************/
-	public int isQualityMapEmpty(AtomicIntegerArray qualityMap, final int mapWidth, final int mapHeight) {
+	public int isQualityMapEmpty(int[] qualityMap, final int mapWidth, final int mapHeight) {
 		int i;
 		int mapLen;
 		int qptrIndex;
 		qptrIndex = 0;
 		mapLen = mapWidth * mapHeight;
 		for (i = 0; i < mapLen; i++) {
-			if (qualityMap.get(qptrIndex++) != ILfs.FALSE) {
+			if (qualityMap[qptrIndex++] != ILfs.FALSE) {
 				return (ILfs.FALSE);
 			}
 		}
@@ -1,5 +1,6 @@
 package org.mosip.nist.nfiq1.mindtct;
 
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
@@ -16,6 +17,8 @@ import org.slf4j.LoggerFactory;
 public class Loop extends MindTct implements ILoop {
 	private static final Logger logger = LoggerFactory.getLogger(Loop.class);
 	private static Loop instance;
+	/* Initial size of the floodFill4 seed stack; grown as needed. */
+	private static final int FLOOD_FILL_STACK_SIZE = 256;
 
 	private Loop() {
 		super();
@@ -69,7 +72,7 @@ public class Loop extends MindTct implements ILoop {
 	 * Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
 	public int getLoopList(AtomicIntegerArray onloop, AtomicReference<Minutiae> oMinutiae, final int loopLen,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int i;
 		int ret;
 		Minutia minutia;
@@ -140,7 +143,7 @@ public class Loop extends MindTct implements ILoop {
 	 * determined to lie on qualifying loop FALSE - minutia determined not to lie on
 	 * qualifying loop Negative - system error
 	 **************************************************************************/
-	public int onLoop(final Minutia minutia, final int maxLoopLen, int[] binarizedImageData, final int imageWidth,
+	public int onLoop(final Minutia minutia, final int maxLoopLen, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight) {
 		AtomicInteger ret = new AtomicInteger(0);
 		AtomicInteger oNoOfContour = new AtomicInteger(0);
@@ -192,7 +195,7 @@ public class Loop extends MindTct implements ILoop {
 	 * edge pixel
 	 **************************************************************************/
 	public Contour onIslandLake(AtomicInteger ret, AtomicInteger oncontour, Minutia firstMinutia, Minutia secondMinutia,
-			final int maxHalfLoop, int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			final int maxHalfLoop, byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int i;
 		int l;
 		Contour contour1 = null;
@@ -324,7 +327,7 @@ public class Loop extends MindTct implements ILoop {
 	 * - oMinutiae determined to lie on same qualifying hook FALSE - oMinutiae
 	 * determined not to lie on same qualifying hook Negative - system error
 	 **************************************************************************/
-	public int onHook(Minutia firstMinutia, Minutia secondMinutia, final int maxHookLen, int[] binarizedImageData,
+	public int onHook(Minutia firstMinutia, Minutia secondMinutia, final int maxHookLen, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight) {
 		AtomicInteger ret = new AtomicInteger(0);
 		Contour contour = null;
@@ -456,7 +459,7 @@ public class Loop extends MindTct implements ILoop {
 	 **************************************************************************/
 	public int processLoop(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray oContourX,
 			AtomicIntegerArray oContourY, AtomicIntegerArray oContourEx, AtomicIntegerArray oContourEy,
-			final int noOfContour, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int noOfContour, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final LfsParams lfsParams) {
 		int iDir;
 		int type;
@@ -588,7 +591,7 @@ public class Loop extends MindTct implements ILoop {
 	 * y-coord list for loop's edge points noOfContour - number of points in contour
 	 * binarizedImageData - binary image data (0==while & 1==black) imageWidth -
 	 * width (in pixels) of image imageHeight - height (in pixels) of image
-	 * oLowFlowMap - pixelized Low Ridge Flow Map lfsParams - parameters and
+	 * oLowFlowMap - pixel view of the Low Ridge Flow Map lfsParams - parameters and
 	 * thresholds for controlling LFS Output: oMinutiae - points to a list of
 	 * detected minutia structures OR binarizedImageData - binary image data with
 	 * loop filled Return Code: Zero - loop processed successfully Negative - system
@@ -596,8 +599,8 @@ public class Loop extends MindTct implements ILoop {
 	 **************************************************************************/
 	public int processLoopV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray oContourX,
 			AtomicIntegerArray oContourY, AtomicIntegerArray oContourEx, AtomicIntegerArray oContourEy,
-			final int noOfContour, int[] binarizedImageData, final int imageWidth, final int imageHeight,
-			AtomicIntegerArray oLowFlowMap, final LfsParams lfsParams) {
+			final int noOfContour, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			PixelMapView oLowFlowMap, final LfsParams lfsParams) {
 		int halfway;
 		int idir;
 		int type;
@@ -664,8 +667,7 @@ public class Loop extends MindTct implements ILoop {
 					}
 
 					/* Is the new point in a LOW RIDGE FLOW block? */
-					fmapval = oLowFlowMap
-							.get(0 + (oContourY.get(oMaxFrom.get()) * imageWidth) + oContourX.get(oMaxFrom.get()));
+					fmapval = oLowFlowMap.get(oContourX.get(oMaxFrom.get()), oContourY.get(oMaxFrom.get()));
 
 					/* If current minutia is in a LOW RIDGE FLOW block ... */
 					if (fmapval >= ILfs.TRUE) {
@@ -710,8 +712,7 @@ public class Loop extends MindTct implements ILoop {
 					}
 
 					/* Is the new point in a LOW RIDGE FLOW block? */
-					fmapval = oLowFlowMap
-							.get(0 + (oContourY.get(oMaxTo.get()) * imageWidth) + oContourX.get(oMaxTo.get()));
+					fmapval = oLowFlowMap.get(oContourX.get(oMaxTo.get()), oContourY.get(oMaxTo.get()));
 
 					/* If current minutia is in a LOW RIDGE FLOW block ... */
 					if (fmapval >= ILfs.TRUE) {
@@ -867,7 +868,7 @@ public class Loop extends MindTct implements ILoop {
 	 * filled Return Code: Zero - loop filled successfully Negative - system error
 	 **************************************************************************/
 	public int fillLoop(AtomicIntegerArray oContourX, AtomicIntegerArray oContourY, final int noOfContour,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		Shape shape;
 		int ret;
 		int i;
@@ -924,7 +925,7 @@ public class Loop extends MindTct implements ILoop {
 			/* Get first x-coord corresponding to the first contour point on row. */
 			x = shape.getRows().get(i).getXs().get(j);
 			/* Fill the first contour point on the row. */
-			binarizedImageData[(y * imageWidth) + x] = edgePixel;
+			binarizedImageData[(y * imageWidth) + x] = (byte) edgePixel;
 			/* Set the index of last contour point on row. */
 			lastj = shape.getRows().get(i).getNoOfPts() - 1;
 
@@ -951,7 +952,7 @@ public class Loop extends MindTct implements ILoop {
 					/* Fill the new contour point because we know it is on the */
 					/* feature's contour. */
 					x = shape.getRows().get(i).getXs().get(j);
-					binarizedImageData[(y * imageWidth) + x] = edgePixel;
+					binarizedImageData[(y * imageWidth) + x] = (byte) edgePixel;
 
 					/* Now we are ready to loop again. */
 				}
@@ -996,7 +997,7 @@ public class Loop extends MindTct implements ILoop {
 	 * - 8-bit image data with partial row filled.
 	 **************************************************************************/
 	public void fillPartialRow(final int fillPixel, final int fromX, final int toX, final int yIndex,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int binarizedImageDataIndex;
 
 		/* Set pixel pointer to starting x-coord on current row. */
@@ -1006,7 +1007,7 @@ public class Loop extends MindTct implements ILoop {
 		/* (including the end points) ... */
 		for (int x = fromX; x <= toX; x++) {
 			/* Set current pixel with fill pixel value. */
-			binarizedImageData[binarizedImageDataIndex] = fillPixel;
+			binarizedImageData[binarizedImageDataIndex] = (byte) fillPixel;
 			/* Bump to next pixel in the row. */
 			binarizedImageDataIndex++;
 		}
@@ -1015,7 +1016,7 @@ public class Loop extends MindTct implements ILoop {
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: floodLoop - Fills a given contour (determined to form a complete loop)
-	 * #cat: with a specified pixel value using a recursive flood-fill #cat:
+	 * #cat: with a specified pixel value using a 4-neighbor flood-fill #cat:
 	 * technique. #cat: NOTE, this fill approach will NOT always work with the #cat:
 	 * contours generated in this application because they #cat: are NOT guaranteed
 	 * to be ENTIRELY surrounded by 8-connected #cat: pixels not equal to the fill
@@ -1028,7 +1029,7 @@ public class Loop extends MindTct implements ILoop {
 	 * binary image data with loop filled
 	 **************************************************************************/
 	public void floodLoop(final AtomicIntegerArray oContourX, final AtomicIntegerArray oContourY, final int noOfContour,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int featurePixel;
 		int fillPixel;
 
@@ -1055,65 +1056,84 @@ public class Loop extends MindTct implements ILoop {
 		/* pixel, and the subsequent calls will immediately return */
 		/* as their seed pixel will have already been flipped. */
 		for (int i = 0; i < noOfContour; i++) {
-			/* Start the recursive flooding. */
+			/* Start the flooding. */
 			floodFill4(fillPixel, oContourX.get(i), oContourY.get(i), binarizedImageData, imageWidth, imageHeight);
 		}
 	}
 
 	/*************************************************************************
 	 **************************************************************************
-	 * #cat: floodFill4 - Recursively floods a region of an 8-bit pixel image with a
-	 * #cat: specified pixel value given a starting (seed) point. The #cat:
-	 * recursion is based neighbors being 4-connected. Input: fillPixel - 8-bit
-	 * pixel value to be filled with (on range [0..255] xIndex - starting x-pixel
-	 * coord yIndex - starting y-pixel coord binarizedImageData - 8-bit pixel image
-	 * data imageWidth - width (in pixels) of image imageHeight - height (in pixels)
-	 * of image Output: binarizedImageData - 8-bit pixel image data with region
-	 * filled
+	 * #cat: floodFill4 - Floods a region of an 8-bit pixel image with a #cat:
+	 * specified pixel value given a starting (seed) point. The #cat: region is
+	 * the set of pixels not equal to the fill value that are #cat: 4-connected to
+	 * the seed, filled one horizontal span at a time. #cat: Seeds of the spans
+	 * still to be filled are kept on an explicit #cat: stack instead of the call
+	 * stack, so large regions can not #cat: overflow the thread's stack. Input:
+	 * fillPixel - 8-bit pixel value to be filled with (on range [0..255] xIndex -
+	 * starting x-pixel coord yIndex - starting y-pixel coord binarizedImageData -
+	 * 8-bit pixel image data imageWidth - width (in pixels) of image imageHeight -
+	 * height (in pixels) of image Output: binarizedImageData - 8-bit pixel image
+	 * data with region filled
 	 **************************************************************************/
-	public void floodFill4(final int fillPixel, final int xIndex, final int yIndex, int[] binarizedImageData,
+	public void floodFill4(final int fillPixel, final int xIndex, final int yIndex, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight) {
-		int binarizedImageDataIndex;
-		int yNorthPixel;
-		int ySouthPixel;
-		int xEastPixel;
-		int xWestPixel;
-
-		/* Get address of current pixel. */
-		binarizedImageDataIndex = (0 + (yIndex * imageWidth) + xIndex);
-		/* If pixel needs to be filled ... */
-		if (binarizedImageData[binarizedImageDataIndex] != fillPixel) {
-			/* Fill the current pixel. */
-			binarizedImageData[binarizedImageDataIndex] = fillPixel;
-
-			/* Recursively invoke flood on the pixel's 4 neighbors. */
-			/* Test to make sure neighbors are within image boudaries */
-			/* before invoking each flood. */
-			yNorthPixel = yIndex - 1;
-			ySouthPixel = yIndex + 1;
-			xWestPixel = xIndex - 1;
-			xEastPixel = xIndex + 1;
-
-			/* Invoke North */
-			if (yNorthPixel >= 0) {
-				floodFill4(fillPixel, xIndex, yNorthPixel, binarizedImageData, imageWidth, imageHeight);
-			}
+		final byte fill = (byte) fillPixel;
+		/* Stack of seed pixel indices, one per span still to be filled. */
+		int[] seeds;
+		int noOfSeeds;
+
+		/* If seed pixel is already filled, there is nothing to be done. */
+		if (binarizedImageData[0 + (yIndex * imageWidth) + xIndex] == fill) {
+			return;
+		}
 
-			/* Invoke East */
-			if (xEastPixel < imageWidth) {
-				floodFill4(fillPixel, xEastPixel, yIndex, binarizedImageData, imageWidth, imageHeight);
+		seeds = new int[FLOOD_FILL_STACK_SIZE];
+		seeds[0] = 0 + (yIndex * imageWidth) + xIndex;
+		noOfSeeds = 1;
+		while (noOfSeeds > 0) {
+			final int seedIndex = seeds[--noOfSeeds];
+			final int y = seedIndex / imageWidth;
+			final int rowIndex = y * imageWidth;
+			int leftX = seedIndex - rowIndex;
+			int rightX = leftX;
+
+			/* Seed may have been filled since it was pushed. */
+			if (binarizedImageData[seedIndex] == fill) {
+				continue;
 			}
-
-			/* Invoke South */
-			if (ySouthPixel < imageHeight) {
-				floodFill4(fillPixel, xIndex, ySouthPixel, binarizedImageData, imageWidth, imageHeight);
+			/* Extend the span west and east to the pixels already filled */
+			/* (or the image boundaries) ... */
+			while (leftX > 0 && binarizedImageData[rowIndex + leftX - 1] != fill) {
+				leftX--;
 			}
-
-			/* Invoke West */
-			if (xWestPixel >= 0) {
-				floodFill4(fillPixel, xWestPixel, yIndex, binarizedImageData, imageWidth, imageHeight);
+			while (rightX < imageWidth - 1 && binarizedImageData[rowIndex + rightX + 1] != fill) {
+				rightX++;
+			}
+			/* ... and fill it. */
+			Arrays.fill(binarizedImageData, rowIndex + leftX, rowIndex + rightX + 1, fill);
+
+			/* Push one seed for each run of unfilled pixels on the rows */
+			/* north and south of the span; these are the span's 4-neighbors. */
+			for (int ny = y - 1; ny <= y + 1; ny += 2) {
+				if (ny < 0 || ny >= imageHeight) {
+					continue;
+				}
+				final int nRowIndex = ny * imageWidth;
+				boolean inRun = false;
+				for (int x = leftX; x <= rightX; x++) {
+					if (binarizedImageData[nRowIndex + x] != fill) {
+						if (!inRun) {
+							if (noOfSeeds == seeds.length) {
+								seeds = Arrays.copyOf(seeds, seeds.length << 1);
+							}
+							seeds[noOfSeeds++] = nRowIndex + x;
+							inRun = true;
+						}
+					} else {
+						inRun = false;
+					}
+				}
 			}
 		}
-		/* Otherwise, there is nothing to be done. */
 	}
 }
\ No newline at end of file
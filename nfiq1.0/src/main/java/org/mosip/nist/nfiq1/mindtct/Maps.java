@@ -1,11 +1,10 @@
 package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.mosip.nist.nfiq1.Defs;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.DftWaves;
 import org.mosip.nist.nfiq1.common.ILfs.DirToRad;
@@ -18,14 +17,24 @@ import org.slf4j.LoggerFactory;
 public class Maps extends MindTct implements IMaps {
 	private static final Logger logger = LoggerFactory.getLogger(Maps.class);
 	private static Maps instance;
-	private AtomicIntegerArray directionMap;
-	private AtomicIntegerArray lowContrastMap;
-	private AtomicIntegerArray lowFlowMap;
-	private AtomicIntegerArray highCurveMap;
+	/* Smallest block range handed to one fork/join task. */
+	private static final int MAP_BLOCKS_PER_TASK = 64;
+	/* Spacing (in blocks) of the coarse grid tested first by isLowContrastImage. */
+	private static final int PRESCREEN_BLOCK_STEP = 4;
+	private int[] directionMap;
+	private int[] lowContrastMap;
+	private int[] lowFlowMap;
+	private int[] highCurveMap;
 	// mappedImageWidth - number of blocks horizontally in the padded input image
 	// mappedImageHeight - number of blocks vertically in the padded input image
 	private AtomicInteger mappedImageWidth;
 	private AtomicInteger mappedImageHeight;
+	// parallelAnalysis - analyse map blocks, binarize image stripes and count
+	// minutia ridges on the fork/join pool
+	private boolean parallelAnalysis;
+	// lineSumTables - take the DFT row sums of the 0 and 90 degree directions
+	// from line sum tables of the image (see DftLineSums)
+	private boolean lineSumTables = true;
 
 	private Maps() {
 		super();
@@ -40,14 +49,14 @@ public class Maps extends MindTct implements IMaps {
 
 		/* Compute total number of blocks in map */
 		int mapSize = mappedImageWidth * mappedImageHeight;
-		directionMap = new AtomicIntegerArray(mapSize);
-		lowContrastMap = new AtomicIntegerArray(mapSize);
-		lowFlowMap = new AtomicIntegerArray(mapSize);
-		highCurveMap = new AtomicIntegerArray(mapSize);
+		directionMap = new int[mapSize];
+		lowContrastMap = new int[mapSize];
+		lowFlowMap = new int[mapSize];
+		highCurveMap = new int[mapSize];
 	}
 
-	private Maps(AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap, AtomicIntegerArray lowFlowMap,
-			AtomicIntegerArray highCurveMap) {
+	private Maps(int[] directionMap, int[] lowContrastMap, int[] lowFlowMap,
+			int[] highCurveMap) {
 		super();
 		this.directionMap = directionMap;
 		this.lowContrastMap = lowContrastMap;
@@ -62,6 +71,14 @@ public class Maps extends MindTct implements IMaps {
 		return instance;
 	}
 
+	/**
+	 * Returns a new, unshared set of maps. Callers that may run concurrently must
+	 * use a fresh instance per image since the maps are held as instance state.
+	 */
+	public static Maps newInstance() {
+		return new Maps();
+	}
+
 	public static synchronized Maps getInstance(int mappedImageWidth, int mappedImageHeight) {
 		if (instance == null) {
 			instance = new Maps(mappedImageWidth, mappedImageHeight);
@@ -69,8 +86,8 @@ public class Maps extends MindTct implements IMaps {
 		return instance;
 	}
 
-	public static synchronized Maps getInstance(AtomicIntegerArray directionMap, AtomicIntegerArray lowContrastMap,
-			AtomicIntegerArray lowFlowMap, AtomicIntegerArray highCurveMap) {
+	public static synchronized Maps getInstance(int[] directionMap, int[] lowContrastMap,
+			int[] lowFlowMap, int[] highCurveMap) {
 		if (instance == null) {
 			instance = new Maps(directionMap, lowContrastMap, lowFlowMap, highCurveMap);
 		}
@@ -129,13 +146,13 @@ public class Maps extends MindTct implements IMaps {
 	 * Object Method) //omh - height (in blocks) of the maps (Take from Map Object
 	 * Get Method) Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int genImageMaps(int[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight,
+	public int genImageMaps(byte[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight,
 			DirToRad dirToRad, DftWaves dftWaves, RotGrids dftGrids, LfsParams lfsParams) {
 		AtomicInteger mappedImageWidth = new AtomicInteger(0);
 		AtomicInteger mappedImageHeight = new AtomicInteger(0);
 		int imageWidth;
 		int imageHeight;
-		AtomicIntegerArray blockOffsets;
+		int[] blockOffsets;
 		AtomicInteger ret = new AtomicInteger(0); // return code
 
 		/* 1. Compute block offsets for the entire image, accounting for pad */
@@ -160,22 +177,22 @@ public class Maps extends MindTct implements IMaps {
 		setMappedImageHeight(new AtomicInteger(mappedImageHeight.get()));
 
 		/* Allocate Direction Map memory */
-		setDirectionMap(new AtomicIntegerArray(mapSize));
+		setDirectionMap(new int[mapSize]);
 		/* Initialize the Direction Map to INVALID (-1). */
-		for (int dmIndex = 0; dmIndex < getDirectionMap().length(); dmIndex++)
-			getDirectionMap().set(dmIndex, ILfs.INVALID_DIR);
+		for (int dmIndex = 0; dmIndex < getDirectionMap().length; dmIndex++)
+			getDirectionMap()[dmIndex] = ILfs.INVALID_DIR;
 
 		/* Allocate Low Contrast Map memory */
-		setLowContrastMap(new AtomicIntegerArray(mapSize));
+		setLowContrastMap(new int[mapSize]);
 		/* Initialize the Low Contrast Map to FALSE (0). */
-		for (int lcmIndex = 0; lcmIndex < getLowContrastMap().length(); lcmIndex++)
-			getLowContrastMap().set(lcmIndex, 0);
+		for (int lcmIndex = 0; lcmIndex < getLowContrastMap().length; lcmIndex++)
+			getLowContrastMap()[lcmIndex] = 0;
 
 		/* Allocate Low Ridge Flow Map memory */
-		setLowFlowMap(new AtomicIntegerArray(mapSize));
+		setLowFlowMap(new int[mapSize]);
 		/* Initialize the Low Flow Map to FALSE (0). */
-		for (int lfmIndex = 0; lfmIndex < getLowFlowMap().length(); lfmIndex++)
-			getLowFlowMap().set(lfmIndex, 0);
+		for (int lfmIndex = 0; lfmIndex < getLowFlowMap().length; lfmIndex++)
+			getLowFlowMap()[lfmIndex] = 0;
 
 		/*
 		 * 2. Generate initial Direction Map and Low Contrast Map and Low Ridge Flow Map
@@ -220,10 +237,10 @@ public class Maps extends MindTct implements IMaps {
 				ILfs.INVALID_DIR);
 
 		/* Allocate High Curvature Map. */
-		setHighCurveMap(new AtomicIntegerArray(mapSize));
+		setHighCurveMap(new int[mapSize]);
 		/* Initialize High Curvature Map to FALSE (0). */
-		for (int hcmIndex = 0; hcmIndex < getHighCurveMap().length(); hcmIndex++)
-			getHighCurveMap().set(hcmIndex, 0);
+		for (int hcmIndex = 0; hcmIndex < getHighCurveMap().length; hcmIndex++)
+			getHighCurveMap()[hcmIndex] = 0;
 
 		/* 9. Generate High Curvature Map from interpolated Direction Map. */
 		ret.set(generateHighCurveMap(getHighCurveMap(), getDirectionMap(), getMappedImageWidth().get(),
@@ -266,28 +283,11 @@ public class Maps extends MindTct implements IMaps {
 	 * Map oLowContrastMap - points to the newly created Low Contrast Map Return
 	 * Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int initialiseMaps(AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowContrastMap,
-			AtomicIntegerArray oLowFlowMap, AtomicIntegerArray blockOffsets, final int mappedImageWidth,
-			final int mappedImageHeight, int[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight,
+	public int initialiseMaps(int[] oDirectionMap, int[] oLowContrastMap,
+			int[] oLowFlowMap, int[] blockOffsets, final int mappedImageWidth,
+			final int mappedImageHeight, byte[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight,
 			final DftWaves dftWaves, final RotGrids dftGrids, final LfsParams lfsParams) {
-		int bi;
 		int bSize;
-		int blockDir;
-		AtomicIntegerArray wis;
-		AtomicIntegerArray powmaxDirs;
-		AtomicReferenceArray<Double[]> powers;
-		AtomicReferenceArray<Double> powmaxs;
-		AtomicReferenceArray<Double> pownorms;
-		int nStats;
-		AtomicInteger ret = new AtomicInteger(0); // return code
-		int dftOffset;
-		int xminLimit;
-		int xmaxLimit;
-		int yminLimit;
-		int ymaxLimit;
-		int winX;
-		int winY;
-		int lowContrastOffset;
 
 		if (isShowLogs())
 			logger.info("INITIAL MAP");
@@ -296,16 +296,79 @@ public class Maps extends MindTct implements IMaps {
 		bSize = mappedImageWidth * mappedImageHeight;
 
 		/* Initialize the Direction Map to INVALID (-1). */
-		for (int i = 0; i < oDirectionMap.length(); i++)
-			oDirectionMap.set(i, ILfs.INVALID_DIR);
+		for (int i = 0; i < oDirectionMap.length; i++)
+			oDirectionMap[i] = ILfs.INVALID_DIR;
 
 		/* Initialize the Low Contrast Map to FALSE (0). */
-		for (int i = 0; i < oLowContrastMap.length(); i++)
-			oLowContrastMap.set(i, ILfs.FALSE);
+		for (int i = 0; i < oLowContrastMap.length; i++)
+			oLowContrastMap[i] = ILfs.FALSE;
 
 		/* Initialize the Low Flow Map to FALSE (0). */
-		for (int i = 0; i < oLowFlowMap.length(); i++)
-			oLowFlowMap.set(i, ILfs.FALSE);
+		for (int i = 0; i < oLowFlowMap.length; i++)
+			oLowFlowMap[i] = ILfs.FALSE;
+
+		/* Each block only writes its own map entries, so in parallel */
+		/* mode the block range is split across the fork/join pool. */
+		/* Per-block traces are only meaningful in block order, so */
+		/* logging keeps the serial path. */
+		/* Row sums along image rows and columns are shared by the blocks, */
+		/* so they are tabled once for the image; the tables are only read */
+		/* by the block ranges. Of the 16 DFT directions only those at 0 */
+		/* and 90 degrees have such rows; the 14 rotated directions sample */
+		/* different pixels at every block and are still summed per block. */
+		final DftLineSums lineSums = isLineSumTables()
+				? new DftLineSums(paddedImagedata, paddedImageWidth, paddedImageHeight, dftGrids)
+				: null;
+		final int ret;
+		if (isParallelAnalysis() && !isShowLogs() && bSize > MAP_BLOCKS_PER_TASK) {
+			final AtomicInteger taskRet = new AtomicInteger(ILfs.FALSE);
+			new RangeTask(0, bSize, MAP_BLOCKS_PER_TASK, taskRet,
+					(fromBlock, toBlock) -> initialiseMapBlocks(fromBlock, toBlock, oDirectionMap, oLowContrastMap,
+							oLowFlowMap, blockOffsets, mappedImageWidth, paddedImagedata, paddedImageWidth,
+							paddedImageHeight, dftWaves, dftGrids, lineSums, lfsParams))
+					.invoke();
+			ret = taskRet.get();
+		} else {
+			ret = initialiseMapBlocks(0, bSize, oDirectionMap, oLowContrastMap, oLowFlowMap, blockOffsets,
+					mappedImageWidth, paddedImagedata, paddedImageWidth, paddedImageHeight, dftWaves, dftGrids,
+					lineSums, lfsParams);
+		}
+		if (lineSums != null) {
+			lineSums.release();
+		}
+
+		return ret;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: initialiseMapBlocks - Runs the initialiseMaps analysis on the blocks
+	 * #cat: [fromBlock, toBlock) using its own DFT power and statistics #cat:
+	 * buffers, so disjoint ranges may be processed concurrently. Input: fromBlock
+	 * - first block to analyse toBlock - one past the last block to analyse
+	 * lineSums - line sum tables of the padded image, or null remaining inputs
+	 * as for initialiseMaps Output: oDirectionMap, oLowContrastMap, oLowFlowMap
+	 * - entries of the analysed blocks Return Code: Zero - successful completion
+	 * Negative - system error
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	private int initialiseMapBlocks(final int fromBlock, final int toBlock, int[] oDirectionMap,
+			int[] oLowContrastMap, int[] oLowFlowMap, int[] blockOffsets, final int mappedImageWidth,
+			byte[] paddedImagedata, final int paddedImageWidth, final int paddedImageHeight, final DftWaves dftWaves,
+			final RotGrids dftGrids, final DftLineSums lineSums, final LfsParams lfsParams) {
+		int bi;
+		int blockDir;
+		int[] wis;
+		int[] powmaxDirs;
+		double[][] powers;
+		double[] powmaxs;
+		double[] pownorms;
+		int nStats;
+		AtomicInteger ret = new AtomicInteger(0); // return code
+		int lowContrastOffset;
+		/* Pixel histogram of the last low contrast window, slid along rows. */
+		int[] lowContrastTable = new int[ILfs.IMG_6BIT_PIX_LIMIT];
+		int lowContrastTableOffset = -1;
 
 		/* Allocate DFT directional power vectors */
 		powers = getInit().allocDirPowers(ret, dftWaves.getNWaves(), dftGrids.getNoOfGrids());
@@ -321,62 +384,43 @@ public class Maps extends MindTct implements IMaps {
 		/* Compute length of statistics arrays. Statistics not needed */
 		/* for the first DFT wave, so the length is number of waves - 1. */
 		nStats = dftWaves.getNWaves() - 1;
-		wis = new AtomicIntegerArray(nStats);
-		powmaxs = new AtomicReferenceArray<Double>(nStats);
-		powmaxDirs = new AtomicIntegerArray(nStats);
-		pownorms = new AtomicReferenceArray<Double>(nStats);
-
-		/* Compute special window origin limits for determining low contrast. */
-		/* These pixel limits avoid analyzing the padded borders of the image. */
-		xminLimit = dftGrids.getPad();
-		yminLimit = dftGrids.getPad();
-		xmaxLimit = paddedImageWidth - dftGrids.getPad() - lfsParams.getWindowSize() - 1;
-		ymaxLimit = paddedImageHeight - dftGrids.getPad() - lfsParams.getWindowSize() - 1;
+		wis = getInit().allocPowerStatsWis(ret, nStats);
+		powmaxs = getInit().allocPowerStatsPowmaxs(ret, nStats);
+		powmaxDirs = getInit().allocPowerStatsPowmaxDirs(ret, nStats);
+		pownorms = getInit().allocPowerStatsPownorms(ret, nStats);
 
 		/* Foreach block in image ... */
-		for (bi = 0; bi < bSize; bi++) {
-			/* Adjust block offset from pointing to block origin to pointing */
-			/* to surrounding window origin. */
-			dftOffset = blockOffsets.get(bi) - (lfsParams.getWindowOffset() * paddedImageWidth)
-					- lfsParams.getWindowOffset();
-
-			/* Compute pixel coords of window origin. */
-			winX = dftOffset % paddedImageWidth;
-			winY = (int) (dftOffset / paddedImageWidth);
-
-			/* Make sure the current window does not access padded image pixels */
-			/* for analyzing low contrast. */
-			winX = Math.max(xminLimit, winX);
-			winX = Math.min(xmaxLimit, winX);
-			winY = Math.max(yminLimit, winY);
-			winY = Math.min(ymaxLimit, winY);
-			lowContrastOffset = (winY * paddedImageWidth) + winX;
+		for (bi = fromBlock; bi < toBlock; bi++) {
+			/* Window of the block for analyzing low contrast. */
+			lowContrastOffset = lowContrastWindowOffset(blockOffsets[bi], paddedImageWidth, paddedImageHeight,
+					dftGrids.getPad(), lfsParams);
 
 			if (isShowLogs())
 				logger.info("   MAP BLOCK {} ({}, {}) ", bi, bi % mappedImageWidth,
 						bi / mappedImageWidth);
 
 			/* If block is low contrast ... */
-			ret.set(getBlock().lowContrastBlock(lowContrastOffset, lfsParams.getWindowSize(), paddedImagedata,
-					paddedImageWidth, paddedImageHeight, lfsParams));
+			ret.set(getBlock().lowContrastBlock(lowContrastTable, lowContrastTableOffset, lowContrastOffset,
+					lfsParams.getWindowSize(), paddedImagedata, paddedImageWidth, paddedImageHeight, lfsParams));
+			lowContrastTableOffset = lowContrastOffset;
 			if (ret.get() != ILfs.FALSE) {
 				/* If system error ... */
 				if (ret.get() < ILfs.FALSE) {
 					oDirectionMap = null;
 					oLowContrastMap = null;
 					oLowFlowMap = null;
-					wis = null;
-					powmaxs = null;
+					getFree().free(wis);
+					getFree().free(powmaxs);
 					getFree().freeDirPowers(powers, dftWaves.getNWaves());
-					powmaxDirs = null;
-					pownorms = null;
+					getFree().free(powmaxDirs);
+					getFree().free(pownorms);
 					return (ret.get());
 				}
 
 				/* Otherwise, block is low contrast ... */
 				if (isShowLogs())
 					logger.info("LOW CONTRAST");
-				oLowContrastMap.set(bi, ILfs.TRUE);// = 1 = true
+				oLowContrastMap[bi] = ILfs.TRUE;// = 1 = true
 				/* Direction Map's block is already set to INVALID. */
 			}
 			/* Otherwise, sufficient contrast for DFT processing ... */
@@ -385,17 +429,17 @@ public class Maps extends MindTct implements IMaps {
 					logger.info("");
 				/* Compute DFT powers */
 				ret.set(getDft().dftDirPowers(powers, paddedImagedata, lowContrastOffset, paddedImageWidth,
-						paddedImageHeight, dftWaves, dftGrids));
+						paddedImageHeight, dftWaves, dftGrids, lineSums));
 				if (ret.get() != ILfs.FALSE) {
 					/* Free memory allocated to this point. */
 					oDirectionMap = null;
 					oLowContrastMap = null;
 					oLowFlowMap = null;
-					wis = null;
-					powmaxs = null;
+					getFree().free(wis);
+					getFree().free(powmaxs);
 					getFree().freeDirPowers(powers, dftWaves.getNWaves());
-					powmaxDirs = null;
-					pownorms = null;
+					getFree().free(powmaxDirs);
+					getFree().free(pownorms);
 					return (ret.get());
 				}
 
@@ -410,10 +454,10 @@ public class Maps extends MindTct implements IMaps {
 					oLowContrastMap = null;
 					oLowFlowMap = null;
 					getFree().freeDirPowers(powers, dftWaves.getNWaves());
-					wis = null;
-					powmaxs = null;
-					powmaxDirs = null;
-					pownorms = null;
+					getFree().free(wis);
+					getFree().free(powmaxs);
+					getFree().free(powmaxDirs);
+					getFree().free(pownorms);
 					return (ret.get());
 				}
 
@@ -422,26 +466,26 @@ public class Maps extends MindTct implements IMaps {
 					logger.info("      Power");
 					for (_w = 0; _w < nStats; _w++) {
 						/* Add 1 to wis[w] to create index to original dft_coefs[] */
-						logger.info("         wis[{}] {} {} {} {} {}", _w, wis.get(_w) + 1,
-								powmaxs.get(wis.get(_w)), powmaxDirs.get(wis.get(_w)), pownorms.get(wis.get(_w)),
-								powers.get(0)[powmaxDirs.get(wis.get(_w))]);
+						logger.info("         wis[{}] {} {} {} {} {}", _w, wis[_w] + 1,
+								powmaxs[wis[_w]], powmaxDirs[wis[_w]], pownorms[wis[_w]],
+								powers[0][powmaxDirs[wis[_w]]]);
 					}
 				}
 
 				/* Conduct primary direction test */
 				blockDir = primaryDirectionTest(powers, wis, powmaxs, powmaxDirs, pownorms, nStats, lfsParams);
 				if (blockDir != ILfs.INVALID_DIR) {
-					oDirectionMap.set(bi, blockDir);
+					oDirectionMap[bi] = blockDir;
 				} else {
 					/* Conduct secondary (fork) direction test */
 					blockDir = secondaryForkTest(powers, wis, powmaxs, powmaxDirs, pownorms, nStats, lfsParams);
 					if (blockDir != ILfs.INVALID_DIR) {
-						oDirectionMap.set(bi, blockDir);
+						oDirectionMap[bi] = blockDir;
 					}
 					/* Otherwise current direction in Direction Map remains INVALID */
 					else {
 						/* Flag the block as having LOW RIDGE FLOW. */
-						oLowFlowMap.set(bi, ILfs.TRUE);
+						oLowFlowMap[bi] = ILfs.TRUE;
 					}
 				}
 			} // End DFT
@@ -449,14 +493,125 @@ public class Maps extends MindTct implements IMaps {
 
 		/* Deallocate working memory */
 		getFree().freeDirPowers(powers, dftWaves.getNWaves());
-		wis = null;
-		powmaxs = null;
-		powmaxDirs = null;
-		pownorms = null;
+		getFree().free(wis);
+		getFree().free(powmaxs);
+		getFree().free(powmaxDirs);
+		getFree().free(pownorms);
 
 		return ILfs.FALSE;
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: lowContrastWindowOffset - Returns the offset of the window
+	 * #cat: surrounding the block at blockOffset, moved off the padded
+	 * #cat: borders of the image so that the low contrast test only
+	 * #cat: analyzes image pixels. Input: blockOffset - pixel offset to the
+	 * origin of the block in the padded image paddedImageWidth - width (in
+	 * pixels) of the padded input image paddedImageHeight - height (in pixels) of
+	 * the padded input image pad - the padding (in pixels) of the image lfsParams
+	 * - parameters and thresholds for controlling LFS Return Code: pixel offset
+	 * to the origin of the window in the padded image
+	 **************************************************************************/
+	private static int lowContrastWindowOffset(final int blockOffset, final int paddedImageWidth,
+			final int paddedImageHeight, final int pad, final LfsParams lfsParams) {
+		/* Compute special window origin limits for determining low contrast. */
+		/* These pixel limits avoid analyzing the padded borders of the image. */
+		final int xminLimit = pad;
+		final int yminLimit = pad;
+		final int xmaxLimit = paddedImageWidth - pad - lfsParams.getWindowSize() - 1;
+		final int ymaxLimit = paddedImageHeight - pad - lfsParams.getWindowSize() - 1;
+
+		/* Adjust block offset from pointing to block origin to pointing */
+		/* to surrounding window origin. */
+		final int dftOffset = blockOffset - (lfsParams.getWindowOffset() * paddedImageWidth)
+				- lfsParams.getWindowOffset();
+
+		/* Compute pixel coords of window origin. */
+		int winX = dftOffset % paddedImageWidth;
+		int winY = dftOffset / paddedImageWidth;
+
+		/* Make sure the current window does not access padded image pixels */
+		/* for analyzing low contrast. */
+		winX = Math.max(xminLimit, winX);
+		winX = Math.min(xmaxLimit, winX);
+		winY = Math.max(yminLimit, winY);
+		winY = Math.min(ymaxLimit, winY);
+		return (winY * paddedImageWidth) + winX;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: isLowContrastImage - Pre-screens an image with the low contrast
+	 * #cat: test initialiseMaps runs on the window of every block. The
+	 * #cat: windows are placed as on the padded image, but as they never
+	 * #cat: reach into the padding they are read from the unpadded image, so
+	 * #cat: the image is neither padded nor scaled to 6 bits here. The blocks
+	 * #cat: of a coarse grid (PRESCREEN_BLOCK_STEP blocks apart) are tested
+	 * #cat: first and then the others, stopping at the first block with
+	 * #cat: sufficient contrast, so a fingerprint is usually let through after
+	 * #cat: a few windows. If no block has sufficient contrast, every block of
+	 * #cat: the maps would be flagged LOW CONTRAST with an INVALID direction
+	 * #cat: and no minutia could be detected in the image. Input: image - input
+	 * 8-bit grayscale image dftGrids - structure containing the rotated pixel
+	 * grid offsets, and the padding of the image lfsParams - parameters and
+	 * thresholds for controlling LFS Return Code: TRUE - every block has low
+	 * contrast FALSE - some block has sufficient contrast, or the image is too
+	 * small for a window Negative - system error
+	 **************************************************************************/
+	public int isLowContrastImage(Raster8 image, final RotGrids dftGrids, final LfsParams lfsParams) {
+		AtomicInteger mappedImageWidth = new AtomicInteger(0);
+		AtomicInteger mappedImageHeight = new AtomicInteger(0);
+		AtomicInteger ret = new AtomicInteger(0);
+		final int pad = dftGrids.getPad();
+		final int paddedImageWidth = image.getWidth() + (pad << 1);
+		final int paddedImageHeight = image.getHeight() + (pad << 1);
+		int[] blockOffsets;
+		int result = ILfs.TRUE;
+
+		if (dftGrids.getGridWidth() != dftGrids.getGridHeight()) {
+			logger.error("ERROR : isLowContrastImage : DFT grids must be square");
+			return (ILfs.ERROR_CODE_540);
+		}
+		/* In an image narrower (or shorter) than a window, the windows */
+		/* reach into the padding; leave such images to the full analysis. */
+		if (image.getWidth() <= lfsParams.getWindowSize() || image.getHeight() <= lfsParams.getWindowSize()) {
+			return (ILfs.FALSE);
+		}
+		blockOffsets = getBlock().blockOffsets(ret, mappedImageWidth, mappedImageHeight, image.getWidth(),
+				image.getHeight(), pad, lfsParams.getBlockOffsetSize());
+		if (ret.get() != ILfs.FALSE) {
+			return ret.get();
+		}
+
+		/* Pixel histogram of the last window, slid along rows of blocks. */
+		int[] lowContrastTable = new int[ILfs.IMG_6BIT_PIX_LIMIT];
+		int lowContrastTableOffset = -1;
+		/* Pass 0 tests the coarse grid, pass 1 the remaining blocks. */
+		for (int pass = 0; pass < 2 && result == ILfs.TRUE; pass++) {
+			for (int by = 0; by < mappedImageHeight.get() && result == ILfs.TRUE; by++) {
+				for (int bx = 0; bx < mappedImageWidth.get() && result == ILfs.TRUE; bx++) {
+					final boolean coarse = (bx % PRESCREEN_BLOCK_STEP == 0) && (by % PRESCREEN_BLOCK_STEP == 0);
+					if (coarse != (pass == 0)) {
+						continue;
+					}
+					final int paddedOffset = lowContrastWindowOffset(
+							blockOffsets[(by * mappedImageWidth.get()) + bx], paddedImageWidth, paddedImageHeight,
+							pad, lfsParams);
+					/* Same window in the unpadded image. */
+					final int lowContrastOffset = image.index((paddedOffset % paddedImageWidth) - pad,
+							(paddedOffset / paddedImageWidth) - pad);
+					result = getBlock().lowContrastBlock(lowContrastTable, lowContrastTableOffset, lowContrastOffset,
+							lfsParams.getWindowSize(), image, lfsParams);
+					lowContrastTableOffset = lowContrastOffset;
+				}
+			}
+		}
+
+		getFree().free(blockOffsets);
+		return (result);
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: interpolateDirectionMap - Take a Direction Map and Low Contrast #cat:
@@ -474,7 +629,7 @@ public class Maps extends MindTct implements IMaps {
 	 * controlling LFS Output: oDirectionMap - contains the newly interpolated
 	 * results Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int interpolateDirectionMap(AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowContrastMap,
+	public int interpolateDirectionMap(int[] oDirectionMap, int[] oLowContrastMap,
 			final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams) {
 		int newDir;
 		AtomicInteger northDir = new AtomicInteger(0);
@@ -498,7 +653,7 @@ public class Maps extends MindTct implements IMaps {
 		int totalDelta;
 		AtomicInteger nbrX = new AtomicInteger(0);
 		AtomicInteger nbrY = new AtomicInteger(0);
-		AtomicIntegerArray oMap;
+		int[] oMap;
 		int dptrIndex = 0;
 		int cptrIndex = 0;
 		int mptrIndex = 0;
@@ -508,7 +663,7 @@ public class Maps extends MindTct implements IMaps {
 			logger.info("INTERPOLATE DIRECTION MAP STARTED");
 
 		/* Allocate output (interpolated) Direction Map. */
-		oMap = new AtomicIntegerArray(mappedImageWidth * mappedImageHeight);
+		oMap = MindtctWorkspace.current().acquireInts(mappedImageWidth * mappedImageHeight);
 
 		/* Set pointers to the first block in the maps. */
 		dptrIndex = 0;
@@ -519,7 +674,7 @@ public class Maps extends MindTct implements IMaps {
 		for (int y = 0; y < mappedImageHeight; y++) {
 			for (int x = 0; x < mappedImageWidth; x++) {
 				/* If image block is NOT LOW CONTRAST and has INVALID direction ... */
-				if ((oLowContrastMap.get(cptrIndex) == 0) && (oDirectionMap.get(dptrIndex) == ILfs.INVALID_DIR)) {
+				if ((oLowContrastMap[cptrIndex] == 0) && (oDirectionMap[dptrIndex] == ILfs.INVALID_DIR)) {
 					/* Set neighbor accumulators to 0. */
 					totalFound = 0;
 					totalDist = 0;
@@ -619,14 +774,14 @@ public class Maps extends MindTct implements IMaps {
 						if (isShowLogs())
 							logger.info("Block {},{} INTERP numnbs={} newdir={}", x, y, totalFound, newDir);
 
-						oMap.set(mptrIndex, newDir);
+						oMap[mptrIndex] = newDir;
 					} else {
 						/* Otherwise, the direction remains INVALID. */
-						oMap.set(mptrIndex, oDirectionMap.get(dptrIndex));
+						oMap[mptrIndex] = oDirectionMap[dptrIndex];
 					}
 				} else {
 					/* Otherwise, assign the current direction to the output block. */
-					oMap.set(mptrIndex, oDirectionMap.get(dptrIndex));
+					oMap[mptrIndex] = oDirectionMap[dptrIndex];
 				}
 
 				/* Bump to the next block in the maps ... */
@@ -637,8 +792,8 @@ public class Maps extends MindTct implements IMaps {
 		}
 
 		/* Copy the interpolated directions into the input map. */
-		for (int mapIndex = 0; mapIndex < oMap.length(); mapIndex++)
-			oDirectionMap.set(mapIndex, oMap.get(mapIndex));
+		for (int mapIndex = 0; mapIndex < oMap.length; mapIndex++)
+			oDirectionMap[mapIndex] = oMap[mapIndex];
 
 		/* Deallocate the working memory. */
 		getFree().free(oMap);
@@ -656,7 +811,7 @@ public class Maps extends MindTct implements IMaps {
 	 * the map. Input: tfMap - vector of integer block values lfsParams - parameters
 	 * and thresholds for controlling LFS Output: tfMap - resulting morphed map
 	 **************************************************************************/
-	public int morphMapWithTF(AtomicIntegerArray tfMap, final LfsParams lfsParams) {
+	public int morphMapWithTF(int[] tfMap, final LfsParams lfsParams) {
 		int[] cimage;
 		int[] mimage;
 		int cptrIndex;
@@ -669,13 +824,13 @@ public class Maps extends MindTct implements IMaps {
 			logger.info("morphMapWithTF Started ({}, {})", mappedImageWidth, mappedImageHeight);
 		/* Convert TRUE/FALSE map into a binary byte image. */
 		int mSize = mappedImageWidth * mappedImageHeight;
-		cimage = new int[mSize];
-		mimage = new int[mSize];
+		cimage = MindtctWorkspace.current().acquireInts(mSize);
+		mimage = MindtctWorkspace.current().acquireInts(mSize);
 
 		cptrIndex = 0;
 		mptrIndex = 0;
 		for (i = 0; i < mSize; i++) {
-			cimage[cptrIndex++] = tfMap.get(mptrIndex++);
+			cimage[cptrIndex++] = tfMap[mptrIndex++];
 		}
 
 		getMorph().dilateImage2(cimage, mimage, mappedImageWidth, mappedImageHeight);
@@ -686,7 +841,7 @@ public class Maps extends MindTct implements IMaps {
 		cptrIndex = 0;
 		mptrIndex = 0;
 		for (i = 0; i < mSize; i++) {
-			tfMap.set(mptrIndex++, cimage[cptrIndex++]);
+			tfMap[mptrIndex++] = cimage[cptrIndex++];
 		}
 
 		getFree().free(cimage);
@@ -707,10 +862,10 @@ public class Maps extends MindTct implements IMaps {
 	 * the dimension (in pixels) of each block Output: ret - value Return Code: ret
 	 * - Zero - successful completion - Negative - system error
 	 **************************************************************************/
-	public int pixelizeMap(AtomicIntegerArray oMap, int imageWidth, int imageHeight,
-			AtomicIntegerArray inputBlockImageMap, final int mapWidth, final int mapHeight, final int blockSize) {
+	public int pixelizeMap(int[] oMap, int imageWidth, int imageHeight,
+			int[] inputBlockImageMap, final int mapWidth, final int mapHeight, final int blockSize) {
 		AtomicInteger ret = new AtomicInteger(0);
-		AtomicIntegerArray blockOffsets = null;
+		int[] blockOffsets = null;
 		AtomicInteger oBlockOffsetWidth = new AtomicInteger(0);
 		AtomicInteger oBlockOffsetHeight = new AtomicInteger(0);
 		int mapIndex;
@@ -728,6 +883,7 @@ public class Maps extends MindTct implements IMaps {
 
 		if ((oBlockOffsetWidth.get() != mapWidth) || (oBlockOffsetHeight.get() != mapHeight)) {
 			logger.error("ERROR : pixelizeMap : block dimensions do not match");
+			getFree().free(blockOffsets);
 			blockOffsets = null;
 			oMap = null;
 			ret.set(ILfs.ERROR_CODE_591);
@@ -735,16 +891,17 @@ public class Maps extends MindTct implements IMaps {
 		}
 
 		for (mapIndex = 0; mapIndex < mapWidth * mapHeight; mapIndex++) {
-			blockOffsetsIndex = 0 + blockOffsets.get(mapIndex);
+			blockOffsetsIndex = 0 + blockOffsets[mapIndex];
 			for (int y = 0; y < blockSize; y++) {
 				mapCurrentIndex = blockOffsetsIndex;
 				for (int x = 0; x < blockSize; x++) {
-					oMap.set(mapCurrentIndex++, inputBlockImageMap.get(mapIndex));
+					oMap[mapCurrentIndex++] = inputBlockImageMap[mapIndex];
 				}
 				blockOffsetsIndex += imageWidth;
 			}
 		}
 
+		getFree().free(blockOffsets);
 		blockOffsets = null;
 		/* Assign pixelized map to output pointer. */
 
@@ -753,6 +910,39 @@ public class Maps extends MindTct implements IMaps {
 		return ret.get();
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: pixelMapView - Takes a block image map and returns a view that
+	 * #cat: answers the value pixelizeMap would assign to each pixel of the
+	 * #cat: image, reading it from the block map instead of an image sized
+	 * #cat: copy. Input: inputBlockImageMap - input block image map imageWidth
+	 * - the width (in pixels) of the corresponding image imageHeight - the height
+	 * (in pixels) of the corresponding image mapWidth - the width (in blocks) of
+	 * the map mapHeight - the height (in blocks) of the map blockSize - the
+	 * dimension (in pixels) of each block Output: ret - Zero - successful
+	 * completion - Negative - system error Return Code: view of the map, null on
+	 * error
+	 **************************************************************************/
+	public PixelMapView pixelMapView(AtomicInteger ret, int[] inputBlockImageMap, final int imageWidth,
+			final int imageHeight, final int mapWidth, final int mapHeight, final int blockSize) {
+		/* Test if image is smaller than a single block (as blockOffsets). */
+		if ((imageWidth < blockSize) || (imageHeight < blockSize)) {
+			logger.error("ERROR : block_offsets : image must be at least {} by {} in size", blockSize, blockSize);
+			ret.set(ILfs.ERROR_CODE_80);
+			return null;
+		}
+
+		if ((((imageWidth + blockSize) - 1) / blockSize != mapWidth)
+				|| (((imageHeight + blockSize) - 1) / blockSize != mapHeight)) {
+			logger.error("ERROR : pixelizeMap : block dimensions do not match");
+			ret.set(ILfs.ERROR_CODE_591);
+			return null;
+		}
+
+		ret.set(ILfs.FALSE);
+		return new PixelMapView(inputBlockImageMap, imageWidth, imageHeight, mapWidth, mapHeight, blockSize);
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: smoothDirectionMap - Takes a vector of integer directions and smooths
@@ -763,7 +953,7 @@ public class Maps extends MindTct implements IMaps {
 	 * for converting integer directions lfsParams - parameters and thresholds for
 	 * controlling LFS Output: oDirectionMap - vector of smoothed input values
 	 **************************************************************************/
-	public void smoothDirectionMap(AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowContrastMap,
+	public void smoothDirectionMap(int[] oDirectionMap, int[] oLowContrastMap,
 			final DirToRad dirToRad, final LfsParams lfsParams) {
 		AtomicInteger oAverageDir = new AtomicInteger(0);
 		AtomicInteger oValid = new AtomicInteger(0);
@@ -781,7 +971,7 @@ public class Maps extends MindTct implements IMaps {
 		for (int mappedYIndex = 0; mappedYIndex < mappedImageHeight; mappedYIndex++) {
 			for (int mappedXIndex = 0; mappedXIndex < mappedImageWidth; mappedXIndex++) {
 				/* If the current block does NOT have LOW CONTRAST ... */
-				if (oLowContrastMap.get(lowContrastMapIndex) == ILfs.FALSE) {
+				if (oLowContrastMap[lowContrastMapIndex] == ILfs.FALSE) {
 					/* Compute average direction from neighbors, returning the */
 					/* number of valid neighbors used in the computation, and */
 					/* the "strength" of the average direction. */
@@ -792,7 +982,7 @@ public class Maps extends MindTct implements IMaps {
 					/* (Ex. thresh==0.2)... */
 					if (oDirectionStrength.get() >= lfsParams.getDirStrengthMin()) {
 						/* If Direction Map direction is valid ... */
-						if (oDirectionMap.get(directionMapIndex) != ILfs.INVALID_DIR) {
+						if (oDirectionMap[directionMapIndex] != ILfs.INVALID_DIR) {
 							/* Conduct valid neighbor test (Ex. thresh==3)... */
 							if (oValid.get() >= lfsParams.getRmvValidNbrMin()) {
 								if (isShowLogs()) {
@@ -803,11 +993,11 @@ public class Maps extends MindTct implements IMaps {
 											oDirectionStrength.get(), oValid.get());
 									logger.info("      1. Valid NBR ({} >= {})", oValid.get(),
 											lfsParams.getRmvValidNbrMin());
-									logger.info("      Valid Direction = {}", oDirectionMap.get(directionMapIndex));
+									logger.info("      Valid Direction = {}", oDirectionMap[directionMapIndex]);
 									logger.info("      Smoothed Direction = {}", oAverageDir.get());
 								}
 								/* Reassign valid direction with average direction. */
-								oDirectionMap.set(directionMapIndex, oAverageDir.get());
+								oDirectionMap[directionMapIndex] = oAverageDir.get();
 							}
 						}
 						/* Otherwise direction is invalid ... */
@@ -823,11 +1013,11 @@ public class Maps extends MindTct implements IMaps {
 											oDirectionStrength.get(), oValid.get());
 									logger.info("      2. Invalid NBR ({} >= {})", oValid.get(),
 											lfsParams.getSmoothValidNbrMin());
-									logger.info("      Invalid Direction = {}", oDirectionMap.get(directionMapIndex));
+									logger.info("      Invalid Direction = {}", oDirectionMap[directionMapIndex]);
 									logger.info("      Smoothed Direction = {}", oAverageDir.get());
 								}
 								/* Assign invalid direction with average direction. */
-								oDirectionMap.set(directionMapIndex, oAverageDir.get());
+								oDirectionMap[directionMapIndex] = oAverageDir.get();
 							}
 						}
 					}
@@ -851,7 +1041,7 @@ public class Maps extends MindTct implements IMaps {
 	 * created High Curvature Map Return Code: Zero - successful completion Negative
 	 * - system error
 	 **************************************************************************/
-	public int generateHighCurveMap(AtomicIntegerArray oHighCurvatureMap, AtomicIntegerArray oDirectionMap,
+	public int generateHighCurveMap(int[] oHighCurvatureMap, int[] oDirectionMap,
 			final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams) {
 		AtomicInteger nvalid = new AtomicInteger(0);
 		int curvatureMeasure = 0;
@@ -868,7 +1058,7 @@ public class Maps extends MindTct implements IMaps {
 				/* If valid neighbors exist ... */
 				if (nvalid.get() > ILfs.FALSE) {
 					/* If current block's direction is INVALID ... */
-					if (oDirectionMap.get(directionMapIndex) == ILfs.INVALID_DIR) {
+					if (oDirectionMap[directionMapIndex] == ILfs.INVALID_DIR) {
 						/* If a sufficient number of VALID neighbors exists ... */
 						if (nvalid.get() >= lfsParams.getVortValidNbrMin()) {
 							/* Measure vorticity of neighbors. */
@@ -877,7 +1067,7 @@ public class Maps extends MindTct implements IMaps {
 							/* If vorticity is sufficiently high ... */
 							if (vorticityMeasure >= lfsParams.getHighcurvVorticityMin()) {
 								/* Flag block as HIGH CURVATURE. */
-								oHighCurvatureMap.set(highCurvatureMapIndex, ILfs.TRUE);
+								oHighCurvatureMap[highCurvatureMapIndex] = ILfs.TRUE;
 							}
 						}
 					}
@@ -888,7 +1078,7 @@ public class Maps extends MindTct implements IMaps {
 								mappedImageHeight, lfsParams.getNumDirections());
 						/* If curvature is sufficiently high ... */
 						if (curvatureMeasure >= lfsParams.getHighcurvCurvatureMin()) {
-							oHighCurvatureMap.set(highCurvatureMapIndex, ILfs.TRUE);
+							oHighCurvatureMap[highCurvatureMapIndex] = ILfs.TRUE;
 						}
 					}
 				}
@@ -918,16 +1108,16 @@ public class Maps extends MindTct implements IMaps {
 	 * oMappedImageWidth - width (in blocks) of the IMAP oMappedImageHeight - height
 	 * (in blocks) of the IMAP Return Code: optr - points to the created IMAP
 	 **************************************************************************/
-	public AtomicIntegerArray generateInputBlockImageMap(AtomicInteger ret, AtomicInteger oMappedImageWidth,
-			AtomicInteger oMappedImageHeight, int[] paddedImagedata, final int paddedImageWidth,
+	public int[] generateInputBlockImageMap(AtomicInteger ret, AtomicInteger oMappedImageWidth,
+			AtomicInteger oMappedImageHeight, byte[] paddedImagedata, final int paddedImageWidth,
 			final int paddedImageHeight, final DirToRad dirToRad, final DftWaves dftWaves, final RotGrids dftGrids,
 			final LfsParams lfsParams) {
-		AtomicIntegerArray oInputBlockImageMap = null;
+		int[] oInputBlockImageMap = null;
 		AtomicInteger mappedImageWidth = new AtomicInteger(0);
 		AtomicInteger mappedImageHeight = new AtomicInteger(0);
 		int imageWidth;
 		int imageHeight;
-		AtomicIntegerArray blockOffsets;
+		int[] blockOffsets;
 
 		/* 1. Compute block offsets for the entire image, accounting for pad */
 		/* Block_offsets() assumes square block (grid), so ERROR otherwise. */
@@ -992,25 +1182,25 @@ public class Maps extends MindTct implements IMaps {
 	 * IMAP
 	 **************************************************************************/
 	@SuppressWarnings("unused")
-	public AtomicIntegerArray initialiseInputBlockImageMap(AtomicInteger ret, AtomicIntegerArray blockOffsets,
-			final AtomicInteger mappedImageWidth, final AtomicInteger mappedImageHeight, int[] paddedImagedata,
+	public int[] initialiseInputBlockImageMap(AtomicInteger ret, int[] blockOffsets,
+			final AtomicInteger mappedImageWidth, final AtomicInteger mappedImageHeight, byte[] paddedImagedata,
 			final int paddedImageWidth, final int paddedImageHeight, final DftWaves dftWaves, final RotGrids dftGrids,
 			final LfsParams lfsParams) {
-		AtomicIntegerArray inputBlockImageMap = null;
+		int[] inputBlockImageMap = null;
 		int bSize;
 		int blockDir;
-		AtomicIntegerArray wis;
-		AtomicIntegerArray powmaxDirs;
-		AtomicReferenceArray<Double[]> powers;
-		AtomicReferenceArray<Double> powmaxs = null;
-		AtomicReferenceArray<Double> pownorms = null;
+		int[] wis;
+		int[] powmaxDirs;
+		double[][] powers;
+		double[] powmaxs = null;
+		double[] pownorms = null;
 		int nStats;
 
 		if (isShowLogs())
 			logger.info("INITIAL MAP");
 		/* Compute total number of blocks in IMAP */
 		bSize = mappedImageWidth.get() * mappedImageHeight.get();
-		inputBlockImageMap = new AtomicIntegerArray(bSize);
+		inputBlockImageMap = new int[bSize];
 		if (inputBlockImageMap == null) {
 			logger.error("ERROR : initialiseInputBlockImageMap : imap : NULL");
 			ret.set(ILfs.ERROR_CODE_70);
@@ -1069,7 +1259,7 @@ public class Maps extends MindTct implements IMaps {
 		/* Foreach block in imap ... */
 		for (int blockOffsetIndex = 0; blockOffsetIndex < bSize; blockOffsetIndex++) {
 			/* Compute DFT powers */
-			ret.set(getDft().dftDirPowers(powers, paddedImagedata, blockOffsets.get(blockOffsetIndex), paddedImageWidth,
+			ret.set(getDft().dftDirPowers(powers, paddedImagedata, blockOffsets[blockOffsetIndex], paddedImageWidth,
 					paddedImageHeight, dftWaves, dftGrids));
 			if (ret.get() != ILfs.FALSE) {
 				getFree().free(inputBlockImageMap);
@@ -1101,12 +1291,12 @@ public class Maps extends MindTct implements IMaps {
 			/* Conduct primary direction test */
 			blockDir = primaryDirectionTest(powers, wis, powmaxs, powmaxDirs, pownorms, nStats, lfsParams);
 			if (blockDir != ILfs.INVALID_DIR) {
-				inputBlockImageMap.set(blockOffsetIndex, blockDir);
+				inputBlockImageMap[blockOffsetIndex] = blockDir;
 			} else {
 				/* Conduct secondary (fork) direction test */
 				blockDir = secondaryForkTest(powers, wis, powmaxs, powmaxDirs, pownorms, nStats, lfsParams);
 				if (blockDir != ILfs.INVALID_DIR) {
-					inputBlockImageMap.set(blockOffsetIndex, blockDir);
+					inputBlockImageMap[blockOffsetIndex] = blockDir;
 				}
 			}
 			/* Otherwise current block direction in IMAP remains INVALID */
@@ -1138,36 +1328,35 @@ public class Maps extends MindTct implements IMaps {
 	 * IMAP integer direction INVALID_DIR - IMAP Integer direction could not be
 	 * determined
 	 **************************************************************************/
-	public int primaryDirectionTest(AtomicReferenceArray<Double[]> powers, final AtomicIntegerArray wis,
-			final AtomicReferenceArray<Double> powmaxs, final AtomicIntegerArray powmaxDirs,
-			final AtomicReferenceArray<Double> pownorms, final int nStats, final LfsParams lfsParams) {
+	public int primaryDirectionTest(double[][] powers, final int[] wis, final double[] powmaxs,
+			final int[] powmaxDirs, final double[] pownorms, final int nStats, final LfsParams lfsParams) {
 		if (isShowLogs())
 			logger.info("      Primary");
 
 		/* Look at max power statistics in decreasing order ... */
 		for (int statIndex = 0; statIndex < nStats; statIndex++) {
 			/* 1. Test magnitude of current max power (Ex. Thresh==100000) */
-			if ((powmaxs.get(wis.get(statIndex)) > lfsParams.getPowmaxMin()) &&
+			if ((powmaxs[wis[statIndex]] > lfsParams.getPowmaxMin()) &&
 			/* 2. Test magnitude of normalized max power (Ex. Thresh==3.8) */
-					(pownorms.get(wis.get(statIndex)) > lfsParams.getPownormMin()) &&
+					(pownorms[wis[statIndex]] > lfsParams.getPownormMin()) &&
 					/* 3. Test magnitude of power of lowest DFT frequency at current */
 					/* max power direction and make sure it is not too big. */
 					/* (Ex. Thresh==50000000) */
-					(powers.get(0)[powmaxDirs.get(wis.get(statIndex))] <= lfsParams.getPowmaxMax())) {
+					(powers[0][powmaxDirs[wis[statIndex]]] <= lfsParams.getPowmaxMax())) {
 				/* Add 1 to wis[w] to create index to original dft_coefs[] */
 				if (isShowLogs()) {
-					logger.info("         Selected Wave = {}", (wis.get(statIndex) + 1));
-					logger.info("         1. Power Magnitude ({} > {})", powmaxs.get(wis.get(statIndex)),
+					logger.info("         Selected Wave = {}", (wis[statIndex] + 1));
+					logger.info("         1. Power Magnitude ({} > {})", powmaxs[wis[statIndex]],
 							lfsParams.getPowmaxMin());
-					logger.info("         2. Norm Power Magnitude ({} > {})", pownorms.get(wis.get(statIndex)),
+					logger.info("         2. Norm Power Magnitude ({} > {})", pownorms[wis[statIndex]],
 							lfsParams.getPownormMin());
 					logger.info("         3. Low Freq Wave Magnitude ({} <= {})",
-							powers.get(0)[powmaxDirs.get(wis.get(statIndex))], lfsParams.getPowmaxMax());
+							powers[0][powmaxDirs[wis[statIndex]]], lfsParams.getPowmaxMax());
 					logger.info("         PASSED");
-					logger.info("         Selected Direction = {}", powmaxDirs.get(wis.get(statIndex)));
+					logger.info("         Selected Direction = {}", powmaxDirs[wis[statIndex]]);
 				}
 				/* If ALL 3 criteria met, return current max power direction. */
-				return (powmaxDirs.get(wis.get(statIndex)));
+				return (powmaxDirs[wis[statIndex]]);
 			}
 		}
 
@@ -1198,9 +1387,8 @@ public class Maps extends MindTct implements IMaps {
 	 * controlling LFS Return Code: Zero or Positive - The selected IMAP integer
 	 * direction INVALID_DIR - IMAP Integer direction could not be determined
 	 **************************************************************************/
-	public int secondaryForkTest(AtomicReferenceArray<Double[]> powers, final AtomicIntegerArray wis,
-			final AtomicReferenceArray<Double> powmaxs, final AtomicIntegerArray powmaxDirs,
-			final AtomicReferenceArray<Double> pownorms, final int nStats, final LfsParams lfsParams) {
+	public int secondaryForkTest(double[][] powers, final int[] wis, final double[] powmaxs,
+			final int[] powmaxDirs, final double[] pownorms, final int nStats, final LfsParams lfsParams) {
 		int leftDir;
 		int rightDir;
 		double forkPownormMin;
@@ -1214,32 +1402,32 @@ public class Maps extends MindTct implements IMaps {
 		forkPownormMin = lfsParams.getForkPctPownorm() * lfsParams.getPownormMin();
 
 		/* 1. Test magnitude of largest max power (Ex. Thresh==100000) */
-		if ((powmaxs.get(wis.get(0)) > lfsParams.getPowmaxMin()) &&
+		if ((powmaxs[wis[0]] > lfsParams.getPowmaxMin()) &&
 		/* 2. Test magnitude of corresponding normalized power */
 		/* (Ex. Thresh==2.85) */
-				(pownorms.get(wis.get(0)) >= forkPownormMin) &&
+				(pownorms[wis[0]] >= forkPownormMin) &&
 				/* 3. Test magnitude of power of lowest DFT frequency at largest */
 				/* max power direction and make sure it is not too big. */
 				/* (Ex. Thresh==50000000) */
-				(powers.get(0)[powmaxDirs.get(wis.get(0))] <= lfsParams.getPowmaxMax())) {
+				(powers[0][powmaxDirs[wis[0]]] <= lfsParams.getPowmaxMax())) {
 			/* First part passed ... */
 			firstpart = 1;
 			if (isShowLogs()) {
-				logger.info("         Selected Wave = {}", (wis.get(0) + 1));
-				logger.info("         1. Power Magnitude ({} > {})", powmaxs.get(wis.get(0)), lfsParams.getPowmaxMin());
-				logger.info("         2. Norm Power Magnitude ({} >= {})", pownorms.get(wis.get(0)), forkPownormMin);
-				logger.info("         3. Low Freq Wave Magnitude ({} <= {})", powers.get(0)[powmaxDirs.get(wis.get(0))],
+				logger.info("         Selected Wave = {}", (wis[0] + 1));
+				logger.info("         1. Power Magnitude ({} > {})", powmaxs[wis[0]], lfsParams.getPowmaxMin());
+				logger.info("         2. Norm Power Magnitude ({} >= {})", pownorms[wis[0]], forkPownormMin);
+				logger.info("         3. Low Freq Wave Magnitude ({} <= {})", powers[0][powmaxDirs[wis[0]]],
 						lfsParams.getPowmaxMax());
 			}
 
 			/* Add FORK_INTERVALs to current direction modulo NDIRS */
-			rightDir = (powmaxDirs.get(wis.get(0)) + lfsParams.getForkInterval()) % lfsParams.getNumDirections();
+			rightDir = (powmaxDirs[wis[0]] + lfsParams.getForkInterval()) % lfsParams.getNumDirections();
 
 			/* Subtract FORK_INTERVALs from direction modulo NDIRS */
 			/* For example, FORK_INTERVAL==2 & NDIRS==16, then */
 			/* ldir = (dir - (16-2)) % 16 */
 			/* which keeps result in proper modulo range. */
-			leftDir = (powmaxDirs.get(wis.get(0)) + lfsParams.getNumDirections() - lfsParams.getForkInterval())
+			leftDir = (powmaxDirs[wis[0]] + lfsParams.getNumDirections() - lfsParams.getForkInterval())
 					% lfsParams.getNumDirections();
 
 			// logger.info((" Left = {}, Current = {}, Right = {}" + ldir +
@@ -1247,7 +1435,7 @@ public class Maps extends MindTct implements IMaps {
 
 			/* Set forked angle threshold to be a % of the max directional */
 			/* power. (Ex. thresh==0.7*powmax) */
-			forkPowThresh = powmaxs.get(wis.get(0)) * lfsParams.getForkPctPowmax();
+			forkPowThresh = powmaxs[wis[0]] * lfsParams.getForkPctPowmax();
 
 			/* Look up and test the computed power for the left and right */
 			/* fork directions.s */
@@ -1258,21 +1446,21 @@ public class Maps extends MindTct implements IMaps {
 			/* powers vector. */
 			/* LFS permits one and only one of the fork angles to exceed */
 			/* the relative power threshold. */
-			if (((powers.get(wis.get(0) + 1)[leftDir] <= forkPowThresh)
-					|| (powers.get(wis.get(0) + 1)[rightDir] <= forkPowThresh))
-					&& ((powers.get(wis.get(0) + 1)[leftDir] > forkPowThresh)
-							|| (powers.get(wis.get(0) + 1)[rightDir] > forkPowThresh))) {
+			if (((powers[wis[0] + 1][leftDir] <= forkPowThresh)
+					|| (powers[wis[0] + 1][rightDir] <= forkPowThresh))
+					&& ((powers[wis[0] + 1][leftDir] > forkPowThresh)
+							|| (powers[wis[0] + 1][rightDir] > forkPowThresh))) {
 				if (isShowLogs()) {
-					logger.info("         4. Left Power Magnitude ({} > {})", powers.get(wis.get(0) + 1)[leftDir],
+					logger.info("         4. Left Power Magnitude ({} > {})", powers[wis[0] + 1][leftDir],
 							forkPowThresh);
-					logger.info("         5. Right Power Magnitude ({} > {})", powers.get(wis.get(0) + 1)[rightDir],
+					logger.info("         5. Right Power Magnitude ({} > {})", powers[wis[0] + 1][rightDir],
 							forkPowThresh);
 					logger.info("         PASSED");
-					logger.info("         Selected Direction = {}", powmaxDirs.get(wis.get(0)));
+					logger.info("         Selected Direction = {}", powmaxDirs[wis[0]]);
 				}
 				/* If ALL the above criteria hold, then return the direction */
 				/* of the largest max power. */
-				return powmaxDirs.get(wis.get(0));
+				return powmaxDirs[wis[0]];
 			}
 		}
 
@@ -1293,7 +1481,7 @@ public class Maps extends MindTct implements IMaps {
 	 * parameters and thresholds for controlling LFS Output: imap - vector of pruned
 	 * input values
 	 **************************************************************************/
-	public void removeInconsistentDirs(AtomicIntegerArray oInputBlockImageMap, final DirToRad dirToRad,
+	public void removeInconsistentDirs(int[] oInputBlockImageMap, final DirToRad dirToRad,
 			final LfsParams lfsParams) {
 		int mappedImageXIndex;
 		int mappedImageYIndex;
@@ -1318,7 +1506,7 @@ public class Maps extends MindTct implements IMaps {
 			/* Count number of complete passes through IMAP */
 			++numPass;
 			if (isShowLogs())
-				logger.info("REMOVE MAP PASS = {}, {}, {}", numPass, oInputBlockImageMap.length(), nRemoved);
+				logger.info("REMOVE MAP PASS = {}, {}, {}", numPass, oInputBlockImageMap.length, nRemoved);
 			/* Reinitialize number of removed directions to 0 */
 			nRemoved = 0;
 
@@ -1326,11 +1514,11 @@ public class Maps extends MindTct implements IMaps {
 			nInputBlockImageMapIndex = 0 + (mappedImageYIndex * mappedImageWidth) + mappedImageXIndex;
 
 			/* If valid IMAP direction and test for removal is true ... */
-			if ((oInputBlockImageMap.get(nInputBlockImageMapIndex) != ILfs.INVALID_DIR)
+			if ((oInputBlockImageMap[nInputBlockImageMapIndex] != ILfs.INVALID_DIR)
 					&& (removeIMAPDirection(oInputBlockImageMap, mappedImageXIndex, mappedImageYIndex, mappedImageWidth,
 							mappedImageHeight, dirToRad, lfsParams) >= ILfs.TRUE)) {
 				/* Set to INVALID */
-				oInputBlockImageMap.set(nInputBlockImageMapIndex, ILfs.INVALID_DIR);
+				oInputBlockImageMap[nInputBlockImageMapIndex] = ILfs.INVALID_DIR;
 				/* Bump number of removed IMAP directions */
 				nRemoved++;
 			}
@@ -1394,7 +1582,7 @@ public class Maps extends MindTct implements IMaps {
 	 * should NOT be remove from IMAP
 	 **************************************************************************/
 	public int testTopEdge(final int leftBoxIndex, final int topBoxIndex, final int rightBoxIndex,
-			final int bottomBoxIndex, AtomicIntegerArray oInputBlockImageMap, final int mappedImageWidth,
+			final int bottomBoxIndex, int[] oInputBlockImageMap, final int mappedImageWidth,
 			final int mappedImageHeight, DirToRad dirToRad, LfsParams lfsParams) {
 		int bx, by, sx, ex;
 		int inputBlockImageMapIndex, inputBlockImageMapCurrentIndex, inputBlockImageMapEdgeIndex;
@@ -1417,11 +1605,11 @@ public class Maps extends MindTct implements IMaps {
 		/* For each point on box's edge ... */
 		for (inputBlockImageMapIndex = inputBlockImageMapCurrentIndex, bx = sx, by = topBoxIndex; inputBlockImageMapIndex <= inputBlockImageMapEdgeIndex; inputBlockImageMapIndex++, bx++) {
 			/* If valid IMAP direction and test for removal is true ... */
-			if ((oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR)
+			if ((oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR)
 					&& (removeIMAPDirection(oInputBlockImageMap, bx, by, mappedImageWidth, mappedImageHeight, dirToRad,
 							lfsParams) >= ILfs.TRUE)) {
 				/* Set to INVALID */
-				oInputBlockImageMap.set(inputBlockImageMapIndex, ILfs.INVALID_DIR);
+				oInputBlockImageMap[inputBlockImageMapIndex] = ILfs.INVALID_DIR;
 				/* Bump number of removed IMAP directions */
 				nRemoved++;
 			}
@@ -1447,7 +1635,7 @@ public class Maps extends MindTct implements IMaps {
 	 * direction should NOT be remove from IMAP
 	 **************************************************************************/
 	public int testRightEdge(final int leftBoxIndex, final int topBoxIndex, final int rightBoxIndex,
-			final int bottomBoxIndex, AtomicIntegerArray oInputBlockImageMap, final int mappedImageWidth,
+			final int bottomBoxIndex, int[] oInputBlockImageMap, final int mappedImageWidth,
 			final int mappedImageHeight, DirToRad dirToRad, LfsParams lfsParams) {
 		int bx, by, sy, ey;
 		int inputBlockImageMapIndex, inputBlockImageMapCurrentIndex, inputBlockImageMapEdgeIndex;
@@ -1470,11 +1658,11 @@ public class Maps extends MindTct implements IMaps {
 		/* For each point on box's edge ... */
 		for (inputBlockImageMapIndex = inputBlockImageMapCurrentIndex, bx = rightBoxIndex, by = sy; inputBlockImageMapIndex <= inputBlockImageMapEdgeIndex; inputBlockImageMapIndex += mappedImageWidth, by++) {
 			/* If valid IMAP direction and test for removal is true ... */
-			if ((oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR)
+			if ((oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR)
 					&& (removeIMAPDirection(oInputBlockImageMap, bx, by, mappedImageWidth, mappedImageHeight, dirToRad,
 							lfsParams) >= ILfs.TRUE)) {
 				/* Set to INVALID */
-				oInputBlockImageMap.set(inputBlockImageMapIndex, ILfs.INVALID_DIR);
+				oInputBlockImageMap[inputBlockImageMapIndex] = ILfs.INVALID_DIR;
 				/* Bump number of removed IMAP directions */
 				nRemoved++;
 			}
@@ -1500,7 +1688,7 @@ public class Maps extends MindTct implements IMaps {
 	 * direction should NOT be remove from IMAP
 	 **************************************************************************/
 	public int testBottomEdge(final int leftBoxIndex, final int topBoxIndex, final int rightBoxIndex,
-			final int bottomBoxIndex, AtomicIntegerArray oInputBlockImageMap, final int mappedImageWidth,
+			final int bottomBoxIndex, int[] oInputBlockImageMap, final int mappedImageWidth,
 			final int mappedImageHeight, DirToRad dirToRad, LfsParams lfsParams) {
 		int bx, by, sx, ex;
 		int inputBlockImageMapIndex;
@@ -1528,11 +1716,11 @@ public class Maps extends MindTct implements IMaps {
 		/* For each point on box's edge ... */
 		for (inputBlockImageMapIndex = inputBlockImageMapCurrentIndex, bx = sx, by = bottomBoxIndex; inputBlockImageMapIndex >= inputBlockImageMapEdgeIndex; inputBlockImageMapIndex--, bx--) {
 			/* If valid IMAP direction and test for removal is true ... */
-			if ((oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR)
+			if ((oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR)
 					&& (removeIMAPDirection(oInputBlockImageMap, bx, by, mappedImageWidth, mappedImageHeight, dirToRad,
 							lfsParams) >= ILfs.TRUE)) {
 				/* Set to INVALID */
-				oInputBlockImageMap.set(inputBlockImageMapIndex, ILfs.INVALID_DIR);
+				oInputBlockImageMap[inputBlockImageMapIndex] = ILfs.INVALID_DIR;
 				/* Bump number of removed IMAP directions */
 				nRemoved++;
 			}
@@ -1558,7 +1746,7 @@ public class Maps extends MindTct implements IMaps {
 	 * should NOT be remove from IMAP
 	 **************************************************************************/
 	public int testLeftEdge(final int leftBoxIndex, final int topBoxIndex, final int rightBoxIndex,
-			final int bottomBoxIndex, AtomicIntegerArray oInputBlockImageMap, final int mappedImageWidth,
+			final int bottomBoxIndex, int[] oInputBlockImageMap, final int mappedImageWidth,
 			final int mappedImageHeight, DirToRad dirToRad, LfsParams lfsParams) {
 		int bx, by, sy, ey;
 		int inputBlockImageMapIndex;
@@ -1584,11 +1772,11 @@ public class Maps extends MindTct implements IMaps {
 		/* For each point on box's edge ... */
 		for (inputBlockImageMapIndex = inputBlockImageMapCurrentIndex, bx = leftBoxIndex, by = sy; inputBlockImageMapIndex >= inputBlockImageMapEdgeIndex; inputBlockImageMapIndex -= mappedImageWidth, by--) {
 			/* If valid IMAP direction and test for removal is true ... */
-			if ((oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR)
+			if ((oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR)
 					&& (removeIMAPDirection(oInputBlockImageMap, bx, by, mappedImageWidth, mappedImageHeight, dirToRad,
 							lfsParams) >= ILfs.TRUE)) {
 				/* Set to INVALID */
-				oInputBlockImageMap.set(inputBlockImageMapIndex, ILfs.INVALID_DIR);
+				oInputBlockImageMap[inputBlockImageMapIndex] = ILfs.INVALID_DIR;
 				/* Bump number of removed IMAP directions */
 				nRemoved++;
 			}
@@ -1611,7 +1799,7 @@ public class Maps extends MindTct implements IMaps {
 	 * IMAP Zero - direction should NOT be remove from IMAP
 	 **************************************************************************/
 	@SuppressWarnings({ "java:S2629" })
-	public int removeIMAPDirection(AtomicIntegerArray oInputBlockImageMap, final int mappedImageXIndex,
+	public int removeIMAPDirection(int[] oInputBlockImageMap, final int mappedImageXIndex,
 			final int mappedImageYIndex, final int mappedImageWidth, final int mappedImageHeight,
 			final DirToRad dirToRad, final LfsParams lfsParams) {
 		AtomicInteger oAverageDirection = new AtomicInteger(), oValid = new AtomicInteger();
@@ -1642,7 +1830,7 @@ public class Maps extends MindTct implements IMaps {
 			/* Compute minimum absolute distance between current and */
 			/* average directions accounting for wrapping from 0 to NDIRS. */
 			nDistance = Math.abs(oAverageDirection.get()
-					- (oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + mappedImageXIndex)));
+					- (oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + mappedImageXIndex]));
 			nDistance = Math.min(nDistance, dirToRad.getNDirs() - nDistance);
 			if (nDistance > lfsParams.getDirDistanceMax()) {
 				if (isShowLogs()) {
@@ -1654,7 +1842,7 @@ public class Maps extends MindTct implements IMaps {
 					logger.info("         2. Direction Strength ({} >= {})", dirStrength.get(),
 							lfsParams.getDirStrengthMin());
 					logger.info("         Current Dir =  {}, Average Dir = {}",
-							oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + mappedImageXIndex),
+							oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + mappedImageXIndex],
 							oAverageDirection.get());
 					logger.info("         3. Direction Distance ({} > {})", nDistance, lfsParams.getDirDistanceMax());
 				}
@@ -1682,7 +1870,7 @@ public class Maps extends MindTct implements IMaps {
 	 * oValid - the number of valid directions used to compute the average
 	 **************************************************************************/
 	public void average8NbrDir(AtomicInteger oAverageDir, AtomicReference<Double> oDirStrength, AtomicInteger oValid,
-			AtomicIntegerArray oInputBlockImageMap, final int mapXIndex, final int mapYIndex,
+			int[] oInputBlockImageMap, final int mapXIndex, final int mapYIndex,
 			final int mappedImageWidth, final int mappedImageHeight, final DirToRad dirToRad) {
 		int inputBlockImageMapIndex;
 		int eastIndex;
@@ -1712,10 +1900,10 @@ public class Maps extends MindTct implements IMaps {
 		if ((westIndex >= 0) && (northIndex >= 0)) {
 			inputBlockImageMapIndex = 0 + (northIndex * mappedImageWidth) + westIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1726,10 +1914,10 @@ public class Maps extends MindTct implements IMaps {
 		if (northIndex >= 0) {
 			inputBlockImageMapIndex = 0 + (northIndex * mappedImageWidth) + mapXIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1740,10 +1928,10 @@ public class Maps extends MindTct implements IMaps {
 		if ((eastIndex < mappedImageWidth) && (northIndex >= 0)) {
 			inputBlockImageMapIndex = 0 + (northIndex * mappedImageWidth) + eastIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1754,10 +1942,10 @@ public class Maps extends MindTct implements IMaps {
 		if (eastIndex < mappedImageWidth) {
 			inputBlockImageMapIndex = 0 + (mapYIndex * mappedImageWidth) + eastIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1768,10 +1956,10 @@ public class Maps extends MindTct implements IMaps {
 		if ((eastIndex < mappedImageWidth) && (southIndex < mappedImageHeight)) {
 			inputBlockImageMapIndex = 0 + (southIndex * mappedImageWidth) + eastIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1782,10 +1970,10 @@ public class Maps extends MindTct implements IMaps {
 		if (southIndex < mappedImageHeight) {
 			inputBlockImageMapIndex = 0 + (southIndex * mappedImageWidth) + mapXIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1796,10 +1984,10 @@ public class Maps extends MindTct implements IMaps {
 		if ((westIndex >= 0) && (southIndex < mappedImageHeight)) {
 			inputBlockImageMapIndex = 0 + (southIndex * mappedImageWidth) + westIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1810,10 +1998,10 @@ public class Maps extends MindTct implements IMaps {
 		if (westIndex >= 0) {
 			inputBlockImageMapIndex = 0 + (mapYIndex * mappedImageWidth) + westIndex;
 			/* If valid direction ... */
-			if (oInputBlockImageMap.get(inputBlockImageMapIndex) != ILfs.INVALID_DIR) {
+			if (oInputBlockImageMap[inputBlockImageMapIndex] != ILfs.INVALID_DIR) {
 				/* Accumulate cosine and sine components of the direction */
-				cospart += dirToRad.getCos()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
-				sinpart += dirToRad.getSin()[oInputBlockImageMap.get(inputBlockImageMapIndex)];
+				cospart += dirToRad.getCos()[oInputBlockImageMap[inputBlockImageMapIndex]];
+				sinpart += dirToRad.getSin()[oInputBlockImageMap[inputBlockImageMapIndex]];
 				/* Bump number of accumulated directions */
 				nValid++;
 			}
@@ -1889,7 +2077,7 @@ public class Maps extends MindTct implements IMaps {
 	 * mappedImageHeight - height (in blocks) of the IMAP Return Code: Non-negative
 	 * - the number of valid IMAP neighbors
 	 **************************************************************************/
-	public int numValid8Nbrs(AtomicIntegerArray oInputBlockImageMap, final int mapXIndex, final int mapYIndex,
+	public int numValid8Nbrs(int[] oInputBlockImageMap, final int mapXIndex, final int mapYIndex,
 			final int mappedImageWidth, final int mappedImageHeight) {
 		int eastIndex;
 		int westIndex;
@@ -1909,48 +2097,48 @@ public class Maps extends MindTct implements IMaps {
 		/* 1. Test NW IMAP value. */
 		/* If neighbor indices are within IMAP boundaries and it is VALID ... */
 		if ((westIndex >= 0) && (northIndex >= 0)
-				&& (oInputBlockImageMap.get((northIndex * mappedImageWidth) + westIndex) >= 0)) {
+				&& (oInputBlockImageMap[(northIndex * mappedImageWidth) + westIndex] >= 0)) {
 			/* Bump VALID counter. */
 			nValid++;
 		}
 
 		/* 2. Test N IMAP value. */
-		if ((northIndex >= 0) && (oInputBlockImageMap.get((northIndex * mappedImageWidth) + mapXIndex) >= 0)) {
+		if ((northIndex >= 0) && (oInputBlockImageMap[(northIndex * mappedImageWidth) + mapXIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 3. Test NE IMAP value. */
 		if ((northIndex >= 0) && (eastIndex < mappedImageWidth)
-				&& (oInputBlockImageMap.get((northIndex * mappedImageWidth) + eastIndex) >= 0)) {
+				&& (oInputBlockImageMap[(northIndex * mappedImageWidth) + eastIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 4. Test E IMAP value. */
 		if ((eastIndex < mappedImageWidth)
-				&& (oInputBlockImageMap.get((mapYIndex * mappedImageWidth) + eastIndex) >= 0)) {
+				&& (oInputBlockImageMap[(mapYIndex * mappedImageWidth) + eastIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 5. Test SE IMAP value. */
 		if ((eastIndex < mappedImageWidth) && (southIndex < mappedImageHeight)
-				&& (oInputBlockImageMap.get((southIndex * mappedImageWidth) + eastIndex) >= 0)) {
+				&& (oInputBlockImageMap[(southIndex * mappedImageWidth) + eastIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 6. Test S IMAP value. */
 		if ((southIndex < mappedImageHeight)
-				&& (oInputBlockImageMap.get((southIndex * mappedImageWidth) + mapXIndex) >= 0)) {
+				&& (oInputBlockImageMap[(southIndex * mappedImageWidth) + mapXIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 7. Test SW IMAP value. */
 		if ((westIndex >= 0) && (southIndex < mappedImageHeight)
-				&& (oInputBlockImageMap.get((southIndex * mappedImageWidth) + westIndex) >= 0)) {
+				&& (oInputBlockImageMap[(southIndex * mappedImageWidth) + westIndex] >= 0)) {
 			nValid++;
 		}
 
 		/* 8. Test W IMAP value. */
-		if ((westIndex >= 0) && (oInputBlockImageMap.get((mapYIndex * mappedImageWidth) + westIndex) >= 0)) {
+		if ((westIndex >= 0) && (oInputBlockImageMap[(mapYIndex * mappedImageWidth) + westIndex] >= 0)) {
 			nValid++;
 		}
 
@@ -1968,7 +2156,7 @@ public class Maps extends MindTct implements IMaps {
 	 * parameters and thresholds for controlling LFS Output: oInputBlockImageMap -
 	 * vector of smoothed input values
 	 **************************************************************************/
-	public void smoothInputBlockImageMap(AtomicIntegerArray oInputBlockImageMap, final DirToRad dirToRad,
+	public void smoothInputBlockImageMap(int[] oInputBlockImageMap, final DirToRad dirToRad,
 			final LfsParams lfsParams) {
 		int inputBlockImageMapIndex = 0;
 		int inputBlockImageMapIndexValue;
@@ -1980,7 +2168,7 @@ public class Maps extends MindTct implements IMaps {
 
 		if (isShowLogs())
 			logger.info("SMOOTH MAP");
-		inputBlockImageMapIndexValue = oInputBlockImageMap.get(inputBlockImageMapIndex);
+		inputBlockImageMapIndexValue = oInputBlockImageMap[inputBlockImageMapIndex];
 		for (int mapYIndex = 0; mapYIndex < mappedImageHeight; mapYIndex++) {
 			for (int mapXIndex = 0; mapXIndex < mappedImageWidth; mapXIndex++) {
 				/* Compute average direction from neighbors, returning the */
@@ -2011,8 +2199,8 @@ public class Maps extends MindTct implements IMaps {
 					}
 				}
 				/* Bump to next IMAP direction. */
-				oInputBlockImageMap.set(inputBlockImageMapIndex++, inputBlockImageMapIndexValue);
-				inputBlockImageMapIndexValue = oInputBlockImageMap.get(inputBlockImageMapIndex);
+				oInputBlockImageMap[inputBlockImageMapIndex++] = inputBlockImageMapIndexValue;
+				inputBlockImageMapIndexValue = oInputBlockImageMap[inputBlockImageMapIndex];
 			}
 		}
 	}
@@ -2031,7 +2219,7 @@ public class Maps extends MindTct implements IMaps {
 	 * controlling LFS Output: oNMap - points to the created NMAP Return Code: Zero
 	 * - successful completion Negative - system error
 	 **************************************************************************/
-	public int genNMap(AtomicIntegerArray oNMap, AtomicIntegerArray oInputBlockImageMap, final int mappedImageWidth,
+	public int genNMap(int[] oNMap, int[] oInputBlockImageMap, final int mappedImageWidth,
 			final int mappedImageHeight, final LfsParams lfsParams) {
 		int nmapIndex;
 		int inputBlockImageMapIndex;
@@ -2052,24 +2240,24 @@ public class Maps extends MindTct implements IMaps {
 				/* If block has no valid neighbors ... */
 				if (nValid == ILfs.FALSE) {
 					/* Set NMAP value to NO VALID NEIGHBORS */
-					oNMap.set(nmapIndex, ILfs.NO_VALID_NBRS);
+					oNMap[nmapIndex] = ILfs.NO_VALID_NBRS;
 				} else {
 					/* If current IMAP value is INVALID ... */
-					if (oInputBlockImageMap.get(inputBlockImageMapIndex) == ILfs.INVALID_DIR) {
+					if (oInputBlockImageMap[inputBlockImageMapIndex] == ILfs.INVALID_DIR) {
 						/* If not enough VALID neighbors ... */
 						if (nValid < lfsParams.getVortValidNbrMin()) {
 							/* Set NMAP value to INVALID */
-							oNMap.set(nmapIndex, ILfs.INVALID_DIR);
+							oNMap[nmapIndex] = ILfs.INVALID_DIR;
 						} else {
 							/* Otherwise measure vorticity of neighbors. */
 							vorticityMeasure = vorticity(oInputBlockImageMap, mappedImageXIndex, mappedImageYIndex,
 									mappedImageWidth, mappedImageHeight, lfsParams.getNumDirections());
 							/* If vorticity too low ... */
 							if (vorticityMeasure < lfsParams.getHighcurvVorticityMin()) {
-								oNMap.set(nmapIndex, ILfs.INVALID_DIR);
+								oNMap[nmapIndex] = ILfs.INVALID_DIR;
 							} else {
 								/* Otherwise high-curvature area (Ex. core or delta). */
-								oNMap.set(nmapIndex, ILfs.HIGH_CURVATURE);
+								oNMap[nmapIndex] = ILfs.HIGH_CURVATURE;
 							}
 						}
 					}
@@ -2080,11 +2268,11 @@ public class Maps extends MindTct implements IMaps {
 								mappedImageWidth, mappedImageHeight, lfsParams.getNumDirections());
 						/* If curvature is too high ... */
 						if (curvatureMeasure >= lfsParams.getHighcurvCurvatureMin()) {
-							oNMap.set(nmapIndex, ILfs.HIGH_CURVATURE);
+							oNMap[nmapIndex] = ILfs.HIGH_CURVATURE;
 						} else {
 							/* Otherwise acceptable amount of curature, so assign */
 							/* VALID IMAP value to NMAP. */
-							oNMap.set(nmapIndex, oInputBlockImageMap.get(inputBlockImageMapIndex));
+							oNMap[nmapIndex] = oInputBlockImageMap[inputBlockImageMapIndex];
 						}
 					}
 				} // end else (nvalid > 0)
@@ -2108,7 +2296,7 @@ public class Maps extends MindTct implements IMaps {
 	 * (in blocks) of the IMAP nDirs - number of possible directions in the IMAP
 	 * Return Code: Non-negative - the measured vorticity among the neighbors
 	 **************************************************************************/
-	public int vorticity(AtomicIntegerArray oInputBlockImageMap, final int mappedImageXIndex,
+	public int vorticity(int[] oInputBlockImageMap, final int mappedImageXIndex,
 			final int mappedImageYIndex, final int mappedImageWidth, final int mappedImageHeight, final int nDirs) {
 		int eastIndex;
 		int westIndex;
@@ -2134,7 +2322,7 @@ public class Maps extends MindTct implements IMaps {
 		/* If neighbor indices are within IMAP boundaries ... */
 		if ((westIndex >= 0) && (northIndex >= 0)) {
 			/* Set neighbor value to IMAP value. */
-			northwestValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + westIndex);
+			northwestValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + westIndex];
 		} else {
 			/* Otherwise, set the neighbor value to INVALID. */
 			northwestValue = ILfs.INVALID_DIR;
@@ -2142,49 +2330,49 @@ public class Maps extends MindTct implements IMaps {
 
 		/* 2. Get N IMAP value. */
 		if (northIndex >= 0) {
-			northValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + mappedImageXIndex);
+			northValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + mappedImageXIndex];
 		} else {
 			northValue = ILfs.INVALID_DIR;
 		}
 
 		/* 3. Get NE IMAP value. */
 		if ((northIndex >= 0) && (eastIndex < mappedImageWidth)) {
-			northeastValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + eastIndex);
+			northeastValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + eastIndex];
 		} else {
 			northeastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 4. Get E IMAP value. */
 		if (eastIndex < mappedImageWidth) {
-			eastValue = oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + eastIndex);
+			eastValue = oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + eastIndex];
 		} else {
 			eastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 5. Get SE IMAP value. */
 		if ((eastIndex < mappedImageWidth) && (southIndex < mappedImageHeight)) {
-			southeastValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + eastIndex);
+			southeastValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + eastIndex];
 		} else {
 			southeastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 6. Get S IMAP value. */
 		if (southIndex < mappedImageHeight) {
-			southValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + mappedImageXIndex);
+			southValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + mappedImageXIndex];
 		} else {
 			southValue = ILfs.INVALID_DIR;
 		}
 
 		/* 7. Get SW IMAP value. */
 		if ((westIndex >= 0) && (southIndex < mappedImageHeight)) {
-			southwestValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + westIndex);
+			southwestValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + westIndex];
 		} else {
 			southwestValue = ILfs.INVALID_DIR;
 		}
 
 		/* 8. Get W IMAP value. */
 		if (westIndex >= 0) {
-			westValue = oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + westIndex);
+			westValue = oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + westIndex];
 		} else {
 			westValue = ILfs.INVALID_DIR;
 		}
@@ -2278,7 +2466,7 @@ public class Maps extends MindTct implements IMaps {
 	 * direction found (curvature) Negative - No valid neighbor found to measure
 	 * change in direction
 	 **************************************************************************/
-	public int curvature(AtomicIntegerArray oInputBlockImageMap, final int mappedImageXIndex,
+	public int curvature(int[] oInputBlockImageMap, final int mappedImageXIndex,
 			final int mappedImageYIndex, final int mappedImageWidth, final int mappedImageHeight, final int nDirs) {
 		int nInputBlockImageMapIndexValue;
 		int eastIndex;
@@ -2306,7 +2494,7 @@ public class Maps extends MindTct implements IMaps {
 		/* If neighbor indices are within IMAP boundaries ... */
 		if ((westIndex >= 0) && (northIndex >= 0)) {
 			/* Set neighbor value to IMAP value. */
-			northwestValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + westIndex);
+			northwestValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + westIndex];
 		} else {
 			/* Otherwise, set the neighbor value to INVALID. */
 			northwestValue = ILfs.INVALID_DIR;
@@ -2314,49 +2502,49 @@ public class Maps extends MindTct implements IMaps {
 
 		/* 2. Get N IMAP value. */
 		if (northIndex >= 0) {
-			northValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + mappedImageXIndex);
+			northValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + mappedImageXIndex];
 		} else {
 			northValue = ILfs.INVALID_DIR;
 		}
 
 		/* 3. Get NE IMAP value. */
 		if ((northIndex >= 0) && (eastIndex < mappedImageWidth)) {
-			northeastValue = oInputBlockImageMap.get((northIndex * mappedImageWidth) + eastIndex);
+			northeastValue = oInputBlockImageMap[(northIndex * mappedImageWidth) + eastIndex];
 		} else {
 			northeastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 4. Get E IMAP value. */
 		if (eastIndex < mappedImageWidth) {
-			eastValue = oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + eastIndex);
+			eastValue = oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + eastIndex];
 		} else {
 			eastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 5. Get SE IMAP value. */
 		if ((eastIndex < mappedImageWidth) && (southIndex < mappedImageHeight)) {
-			southeastValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + eastIndex);
+			southeastValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + eastIndex];
 		} else {
 			southeastValue = ILfs.INVALID_DIR;
 		}
 
 		/* 6. Get S IMAP value. */
 		if (southIndex < mappedImageHeight) {
-			southValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + mappedImageXIndex);
+			southValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + mappedImageXIndex];
 		} else {
 			southValue = ILfs.INVALID_DIR;
 		}
 
 		/* 7. Get SW IMAP value. */
 		if ((westIndex >= 0) && (southIndex < mappedImageHeight)) {
-			southwestValue = oInputBlockImageMap.get((southIndex * mappedImageWidth) + westIndex);
+			southwestValue = oInputBlockImageMap[(southIndex * mappedImageWidth) + westIndex];
 		} else {
 			southwestValue = ILfs.INVALID_DIR;
 		}
 
 		/* 8. Get W IMAP value. */
 		if (westIndex >= 0) {
-			westValue = oInputBlockImageMap.get((mappedImageYIndex * mappedImageWidth) + westIndex);
+			westValue = oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + westIndex];
 		} else {
 			westValue = ILfs.INVALID_DIR;
 		}
@@ -2365,8 +2553,7 @@ public class Maps extends MindTct implements IMaps {
 		/* direction from current block to each of its 8 VALID neighbors. */
 
 		/* Initialize pointer to current IMAP value. */
-		nInputBlockImageMapIndexValue = oInputBlockImageMap
-				.get((mappedImageYIndex * mappedImageWidth) + mappedImageXIndex);
+		nInputBlockImageMapIndexValue = oInputBlockImageMap[(mappedImageYIndex * mappedImageWidth) + mappedImageXIndex];
 
 		/* Initialize curvature measure to negative as closest_dir_dist() */
 		/* always returns -1=INVALID or a positive value. */
@@ -2427,35 +2614,35 @@ public class Maps extends MindTct implements IMaps {
 		return (nCurvatureMeasure);
 	}
 
-	public AtomicIntegerArray getDirectionMap() {
+	public int[] getDirectionMap() {
 		return directionMap;
 	}
 
-	public void setDirectionMap(AtomicIntegerArray directionMap) {
+	public void setDirectionMap(int[] directionMap) {
 		this.directionMap = directionMap;
 	}
 
-	public AtomicIntegerArray getLowContrastMap() {
+	public int[] getLowContrastMap() {
 		return lowContrastMap;
 	}
 
-	public void setLowContrastMap(AtomicIntegerArray lowContrastMap) {
+	public void setLowContrastMap(int[] lowContrastMap) {
 		this.lowContrastMap = lowContrastMap;
 	}
 
-	public AtomicIntegerArray getLowFlowMap() {
+	public int[] getLowFlowMap() {
 		return lowFlowMap;
 	}
 
-	public void setLowFlowMap(AtomicIntegerArray lowFlowMap) {
+	public void setLowFlowMap(int[] lowFlowMap) {
 		this.lowFlowMap = lowFlowMap;
 	}
 
-	public AtomicIntegerArray getHighCurveMap() {
+	public int[] getHighCurveMap() {
 		return highCurveMap;
 	}
 
-	public void setHighCurveMap(AtomicIntegerArray highCurveMap) {
+	public void setHighCurveMap(int[] highCurveMap) {
 		this.highCurveMap = highCurveMap;
 	}
 
@@ -2474,4 +2661,31 @@ public class Maps extends MindTct implements IMaps {
 	public void setMappedImageHeight(AtomicInteger mappedImageHeight) {
 		this.mappedImageHeight = mappedImageHeight;
 	}
+
+	public boolean isParallelAnalysis() {
+		return parallelAnalysis;
+	}
+
+	/*
+	 * Enables the block-parallel initial map analysis, the stripe-parallel
+	 * binarization and the parallel ridge counting of the image these maps
+	 * belong to. The results are the same as with the serial analysis; only
+	 * the latency of a single image changes.
+	 */
+	public void setParallelAnalysis(boolean parallelAnalysis) {
+		this.parallelAnalysis = parallelAnalysis;
+	}
+
+	public boolean isLineSumTables() {
+		return lineSumTables;
+	}
+
+	/*
+	 * Turning the line sum tables off sums every DFT row through the rotated
+	 * grids; the maps are the same either way, which the checkmaps mode of the
+	 * test application verifies.
+	 */
+	public void setLineSumTables(boolean lineSumTables) {
+		this.lineSumTables = lineSumTables;
+	}
 }
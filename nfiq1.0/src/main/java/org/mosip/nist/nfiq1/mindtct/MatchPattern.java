@@ -149,7 +149,7 @@ public class MatchPattern extends MindTct implements IMatchPattern {
 	 * currentBottomPixel - points to bottom pixel where rightward skip terminated
 	 *************************************************************************/
 	public void skipRepeatedHorizontalPair(AtomicInteger currentXPixelIndex, final int currentRightXPixelIndex,
-			int[] binarizedImageData, AtomicInteger currentTopPixel, AtomicInteger currentBottomPixel,
+			byte[] binarizedImageData, AtomicInteger currentTopPixel, AtomicInteger currentBottomPixel,
 			final int imageWidth, final int imageHeight) {
 		int oldTopPixel;
 		int oldBottomPixel;
@@ -194,7 +194,7 @@ public class MatchPattern extends MindTct implements IMatchPattern {
 	 * currentRightPixel - points to right pixel where donward skip terminated
 	 *************************************************************************/
 	public void skipRepeatedVerticalPair(AtomicInteger currentYPixelIndex, final int currentBottomYPixelIndex,
-			int[] binarizedImageData, AtomicInteger currentLeftPixel, AtomicInteger currentRightPixel,
+			byte[] binarizedImageData, AtomicInteger currentLeftPixel, AtomicInteger currentRightPixel,
 			final int imageWidth, final int imageHeight) {
 		int oldLeftPixelIndex;
 		int oldRightPixelIndex;
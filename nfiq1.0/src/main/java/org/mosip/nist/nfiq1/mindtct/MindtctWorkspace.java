@@ -0,0 +1,277 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: MindtctWorkspace - Per-thread arena of the working buffers of the
+ * #cat: mindtct routines: the padded input image, the binarized image, the
+ * #cat: pixelized maps, DFT powers and contour lists. A buffer is leased with
+ * #cat: one of the acquire routines and handed back through Free.free (or
+ * #cat: release), after which the next lease of the same length reuses it
+ * #cat: instead of allocating. Free.free of anything that is not an
+ * #cat: outstanding lease of the calling thread's workspace is ignored, as it
+ * #cat: always was, so a buffer freed twice or on another thread is never
+ * #cat: handed out twice. Leases still outstanding when the next image starts
+ * #cat: (see GetMinutiae.getMinutiae) are forgotten and left to the garbage
+ * #cat: collector. A workspace lives as long as its thread, so pool threads
+ * #cat: keep their idle buffers between images; releaseAll drops the idle
+ * #cat: buffers of every live workspace, from any thread.
+ **************************************************************************/
+public final class MindtctWorkspace {
+	private static final ThreadLocal<MindtctWorkspace> WORKSPACE = ThreadLocal.withInitial(MindtctWorkspace::create);
+	/* Workspaces of the live threads, for releaseAll. */
+	private static final Set<MindtctWorkspace> WORKSPACES = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+	/* Idle arrays kept per length. */
+	private static final int MAX_POOLED_PER_LENGTH = 8;
+	/* Idle padded image buffers kept; the largest ones are kept. */
+	private static final int MAX_IMAGE_BUFFERS = 2;
+	/* Bound on the idle memory held by one workspace. */
+	private static final long MAX_POOLED_BYTES = 64L << 20;
+	/* Bound on the outstanding leases, in case a thread never starts an */
+	/* image (fork/join workers) and leaks leases on error paths. */
+	private static final int MAX_LEASES = 1 << 16;
+
+	private final Map<Integer, ArrayDeque<byte[]>> bytePool = new HashMap<>();
+	private final Map<Integer, ArrayDeque<int[]>> intPool = new HashMap<>();
+	private final Map<Integer, ArrayDeque<double[]>> doublePool = new HashMap<>();
+	private final Map<Integer, ArrayDeque<AtomicIntegerArray>> atomicIntPool = new HashMap<>();
+	private final ArrayDeque<byte[]> imageBuffers = new ArrayDeque<>();
+	/* Outstanding leases; the value tells an image buffer. */
+	private final Map<Object, Boolean> leases = new IdentityHashMap<>();
+	private long pooledBytes;
+
+	private MindtctWorkspace() {
+		super();
+	}
+
+	private static MindtctWorkspace create() {
+		MindtctWorkspace workspace = new MindtctWorkspace();
+		WORKSPACES.add(workspace);
+		return workspace;
+	}
+
+	/* Workspace of the calling thread. */
+	public static MindtctWorkspace current() {
+		return WORKSPACE.get();
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: releaseAll - Drops the idle buffers of the workspaces of all live
+	 * #cat: threads (batch pool workers, fork/join workers running block
+	 * #cat: ranges, callers of the engine), so a long running service can give
+	 * #cat: the memory back after a burst of work. Outstanding leases are left
+	 * #cat: alone, so it is safe to call while images are being scored; the
+	 * #cat: workspaces simply allocate again on their next leases.
+	 **************************************************************************/
+	public static void releaseAll() {
+		List<MindtctWorkspace> workspaces;
+		synchronized (WORKSPACES) {
+			workspaces = new ArrayList<>(WORKSPACES);
+		}
+		for (MindtctWorkspace workspace : workspaces) {
+			workspace.releaseIdle();
+		}
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: acquireImageBuffer - Leases a buffer for an image of size pixels. The
+	 * #cat: buffer may be longer than size and its contents are undefined; the
+	 * #cat: smallest idle buffer that is large enough is used, so the workspace
+	 * #cat: grows to the largest image seen and then stops allocating.
+	 **************************************************************************/
+	public synchronized byte[] acquireImageBuffer(final int size) {
+		byte[] buffer = null;
+		for (byte[] candidate : imageBuffers) {
+			if (candidate.length >= size && (buffer == null || candidate.length < buffer.length)) {
+				buffer = candidate;
+			}
+		}
+		if (buffer != null) {
+			imageBuffers.remove(buffer);
+			pooledBytes -= buffer.length;
+		} else {
+			buffer = new byte[size];
+		}
+		if (leases.size() >= MAX_LEASES) {
+			leases.clear();
+		}
+		leases.put(buffer, Boolean.TRUE);
+		return buffer;
+	}
+
+	/* Zeroed byte array of exactly length elements. */
+	public synchronized byte[] acquireBytes(final int length) {
+		byte[] array = take(bytePool, length, length);
+		if (array == null) {
+			array = new byte[length];
+		} else {
+			Arrays.fill(array, (byte) 0);
+		}
+		return lease(array);
+	}
+
+	/* Zeroed int array of exactly length elements. */
+	public synchronized int[] acquireInts(final int length) {
+		int[] array = take(intPool, length, (long) length * Integer.BYTES);
+		if (array == null) {
+			array = new int[length];
+		} else {
+			Arrays.fill(array, 0);
+		}
+		return lease(array);
+	}
+
+	/* Zeroed double array of exactly length elements. */
+	public synchronized double[] acquireDoubles(final int length) {
+		double[] array = take(doublePool, length, (long) length * Double.BYTES);
+		if (array == null) {
+			array = new double[length];
+		} else {
+			Arrays.fill(array, 0.0d);
+		}
+		return lease(array);
+	}
+
+	/* Zeroed AtomicIntegerArray of exactly length elements. */
+	public synchronized AtomicIntegerArray acquireAtomicInts(final int length) {
+		AtomicIntegerArray array = take(atomicIntPool, length, (long) length * Integer.BYTES);
+		if (array == null) {
+			array = new AtomicIntegerArray(length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array.setPlain(i, 0);
+			}
+		}
+		return lease(array);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: release - Returns a leased buffer to the workspace. Input: buffer -
+	 * array previously returned by an acquire routine of this workspace Return
+	 * Code: true - the buffer was pooled (or dropped because the pool is full)
+	 * false - the buffer is not an outstanding lease and was left alone
+	 **************************************************************************/
+	public synchronized boolean release(Object buffer) {
+		final Boolean imageBuffer = (buffer == null) ? null : leases.remove(buffer);
+		if (imageBuffer == null) {
+			return false;
+		}
+		if (imageBuffer.booleanValue()) {
+			putImageBuffer((byte[]) buffer);
+		} else if (buffer instanceof byte[]) {
+			byte[] array = (byte[]) buffer;
+			put(bytePool, array, array.length, array.length);
+		} else if (buffer instanceof int[]) {
+			int[] array = (int[]) buffer;
+			put(intPool, array, array.length, (long) array.length * Integer.BYTES);
+		} else if (buffer instanceof double[]) {
+			double[] array = (double[]) buffer;
+			put(doublePool, array, array.length, (long) array.length * Double.BYTES);
+		} else if (buffer instanceof AtomicIntegerArray) {
+			AtomicIntegerArray array = (AtomicIntegerArray) buffer;
+			put(atomicIntPool, array, array.length(), (long) array.length() * Integer.BYTES);
+		}
+		return true;
+	}
+
+	/*
+	 * Forgets the outstanding leases; called when a new image starts so buffers
+	 * that escaped (or were never freed on an error path) do not pin memory.
+	 */
+	public synchronized void forgetLeases() {
+		leases.clear();
+	}
+
+	/* Drops every idle buffer. */
+	public void clear() {
+		releaseIdle();
+	}
+
+	public synchronized int getLeaseCount() {
+		return leases.size();
+	}
+
+	public synchronized long getPooledBytes() {
+		return pooledBytes;
+	}
+
+	/*
+	 * The pools are only contended by releaseAll, so the locks of the lease
+	 * routines stay uncontended in practice.
+	 */
+	private synchronized void releaseIdle() {
+		bytePool.clear();
+		intPool.clear();
+		doublePool.clear();
+		atomicIntPool.clear();
+		imageBuffers.clear();
+		pooledBytes = 0;
+	}
+
+	/*
+	 * Keeps the largest idle image buffers: when the list is full, the smallest
+	 * one is dropped if it is smaller than the returned buffer.
+	 */
+	private void putImageBuffer(byte[] buffer) {
+		if (imageBuffers.size() >= MAX_IMAGE_BUFFERS) {
+			byte[] smallest = null;
+			for (byte[] candidate : imageBuffers) {
+				if (smallest == null || candidate.length < smallest.length) {
+					smallest = candidate;
+				}
+			}
+			if (smallest.length >= buffer.length) {
+				return;
+			}
+			imageBuffers.remove(smallest);
+			pooledBytes -= smallest.length;
+		}
+		if (pooledBytes + buffer.length <= MAX_POOLED_BYTES) {
+			imageBuffers.add(buffer);
+			pooledBytes += buffer.length;
+		}
+	}
+
+	private <T> T lease(T array) {
+		if (leases.size() >= MAX_LEASES) {
+			leases.clear();
+		}
+		leases.put(array, Boolean.FALSE);
+		return array;
+	}
+
+	private <T> T take(Map<Integer, ArrayDeque<T>> pool, final int length, final long bytes) {
+		ArrayDeque<T> idle = pool.get(length);
+		if (idle == null || idle.isEmpty()) {
+			return null;
+		}
+		pooledBytes -= bytes;
+		return idle.pop();
+	}
+
+	private <T> void put(Map<Integer, ArrayDeque<T>> pool, T array, final int length, final long bytes) {
+		if (pooledBytes + bytes > MAX_POOLED_BYTES) {
+			return;
+		}
+		ArrayDeque<T> idle = pool.computeIfAbsent(length, key -> new ArrayDeque<>());
+		if (idle.size() < MAX_POOLED_PER_LENGTH) {
+			idle.push(array);
+			pooledBytes += bytes;
+		}
+	}
+}
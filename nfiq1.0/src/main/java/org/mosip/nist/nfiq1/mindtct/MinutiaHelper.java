@@ -120,32 +120,20 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * LFS Output: oMinutiae - points to a list of detected minutia structures
 	 * Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int detectMinutiaeV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+	public int detectMinutiaeV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 			final int mappedImageWidth, final int mappedImageHeight, Maps map, LfsParams lfsParams) {
 		AtomicInteger ret = new AtomicInteger(0);
-		int mapSize = mappedImageWidth * mappedImageHeight;
-		AtomicIntegerArray pDirectionMap = new AtomicIntegerArray(mapSize);
-		AtomicIntegerArray oLowFlowMap = new AtomicIntegerArray(mapSize);
-		AtomicIntegerArray pHighCurveMap = new AtomicIntegerArray(mapSize);
-
-		/* Pixelize the maps by assigning block values to individual pixels. */
-		ret.set(map.pixelizeMap(pDirectionMap, mappedImageWidth, mappedImageHeight, map.getDirectionMap(),
-				map.getMappedImageWidth().get(), map.getMappedImageHeight().get(), lfsParams.getBlockOffsetSize()));
-		if (ret.get() != ILfs.FALSE) {
-			return ret.get();
-		}
-
-		ret.set(map.pixelizeMap(oLowFlowMap, mappedImageWidth, mappedImageHeight, map.getLowFlowMap(),
-				map.getMappedImageWidth().get(), map.getMappedImageHeight().get(), lfsParams.getBlockOffsetSize()));
-		if (ret.get() != ILfs.FALSE) {
-			return ret.get();
-		}
 
-		ret.set(map.pixelizeMap(pHighCurveMap, mappedImageWidth, mappedImageHeight, map.getHighCurveMap(),
-				map.getMappedImageWidth().get(), map.getMappedImageHeight().get(), lfsParams.getBlockOffsetSize()));
+		/* View the maps by pixel; the block values are looked up per pixel */
+		/* instead of being copied to image sized maps. */
+		PixelMapView pDirectionMap = map.pixelMapView(ret, map.getDirectionMap(), mappedImageWidth,
+				mappedImageHeight, map.getMappedImageWidth().get(), map.getMappedImageHeight().get(),
+				lfsParams.getBlockOffsetSize());
 		if (ret.get() != ILfs.FALSE) {
 			return ret.get();
 		}
+		PixelMapView oLowFlowMap = pDirectionMap.withBlockMap(map.getLowFlowMap());
+		PixelMapView pHighCurveMap = pDirectionMap.withBlockMap(map.getHighCurveMap());
 
 		ret.set(scanForMinutiaeHorizontallyV2(oMinutiae, binarizedImageData, mappedImageWidth, mappedImageHeight,
 				pDirectionMap, oLowFlowMap, pHighCurveMap, lfsParams));
@@ -159,7 +147,6 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 			return ret.get();
 		}
 
-		/* Deallocate working memories. */
 		/* Return normally. */
 		return (ILfs.FALSE);
 	}
@@ -176,7 +163,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * added to minutiae list IGNORE - minutia is to be ignored (already in the
 	 * minutiae list) Negative - system error
 	 **************************************************************************/
-	public int updateMinutiae(AtomicReference<Minutiae> oMinutiae, Minutia minutia, int[] binarizedImageData,
+	public int updateMinutiae(AtomicReference<Minutiae> oMinutiae, Minutia minutia, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
 		int minutiaIndex;
 		int ret;
@@ -301,7 +288,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * error
 	 **************************************************************************/
 	public int updateMinutiaeV2(AtomicReference<Minutiae> oMinutiae, Minutia minutia, final int scanDir,
-			final int directionMapValue, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int directionMapValue, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final LfsParams lfsParams) {
 		int i;
 		int ret;
@@ -439,18 +426,17 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 **************************************************************************/
 	public int sortMinutiaeTopToBottomAndThenLeftToRight(AtomicReference<Minutiae> oMinutiae, final int imageWidth,
 			final int imageHeight) {
-		AtomicIntegerArray ranks, order;
+		int[] ranks, order;
 		int i;
 		int ret;
 		List<Minutia> newlist;
 
-		ranks = new AtomicIntegerArray(oMinutiae.get().getNum());
-		order = new AtomicIntegerArray(oMinutiae.get().getNum());
+		ranks = new int[oMinutiae.get().getNum()];
+		order = new int[oMinutiae.get().getNum()];
 
 		/* Compute 1-D image pixel offsets form 2-D minutia coordinate points. */
 		for (i = 0; i < oMinutiae.get().getNum(); i++) {
-			ranks.set(i,
-					(oMinutiae.get().getList().get(i).getY() * imageWidth) + oMinutiae.get().getList().get(i).getX());
+			ranks[i] = (oMinutiae.get().getList().get(i).getY() * imageWidth) + oMinutiae.get().getList().get(i).getX();
 		}
 
 		/* Get sorted order of minutiae. */
@@ -464,7 +450,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 
 		/* Put minutia into sorted order in new list. */
 		for (i = 0; i < oMinutiae.get().getNum(); i++) {
-			newlist.add(oMinutiae.get().getList().get(order.get(i)));
+			newlist.add(oMinutiae.get().getList().get(order[i]));
 		}
 		/* Deallocate non-sorted list of minutia pointers. */
 		oMinutiae.get().getList().clear();
@@ -492,19 +478,18 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 **************************************************************************/
 	public int sortMinutiaeLeftToRightAndThenTopToBottom(AtomicReference<Minutiae> oMinutiae, final int imageWidth,
 			final int imageHeight) {
-		AtomicIntegerArray ranks;
-		AtomicIntegerArray order;
+		int[] ranks;
+		int[] order;
 		int i;
 		int ret;
 		List<Minutia> newlist;
 
-		ranks = new AtomicIntegerArray(oMinutiae.get().getNum());
-		order = new AtomicIntegerArray(oMinutiae.get().getNum());
+		ranks = new int[oMinutiae.get().getNum()];
+		order = new int[oMinutiae.get().getNum()];
 
 		/* Compute 1-D image pixel offsets form 2-D minutia coordinate points. */
 		for (i = 0; i < oMinutiae.get().getNum(); i++) {
-			ranks.set(i,
-					(oMinutiae.get().getList().get(i).getX() * imageWidth) + oMinutiae.get().getList().get(i).getY());
+			ranks[i] = (oMinutiae.get().getList().get(i).getX() * imageWidth) + oMinutiae.get().getList().get(i).getY();
 		}
 
 		/* Get sorted order of minutiae. */
@@ -518,7 +503,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 
 		/* Put minutia into sorted order in new list. */
 		for (i = 0; i < oMinutiae.get().getNum(); i++) {
-			newlist.add(oMinutiae.get().getList().get(order.get(i)));
+			newlist.add(oMinutiae.get().getList().get(order[i]));
 		}
 		/* Deallocate non-sorted list of minutia pointers. */
 		oMinutiae.get().getList().clear();
@@ -727,9 +712,6 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * removed Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
 	public int removeMinutia(final int index, AtomicReference<Minutiae> oMinutiae) {
-		int fromIndex;
-		int toIndex;
-
 		/* Make sure the requested index is within range. */
 		if ((index < 0) && (index >= oMinutiae.get().getNum())) {
 			logger.error("ERROR : removeMinutia : index out of range");
@@ -737,13 +719,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		}
 
 		/* Slide the remaining list of ominutiae up over top of the */
-		/* position of the minutia being removed. */
-		for (toIndex = index, fromIndex = index + 1; fromIndex < oMinutiae.get().getNum(); toIndex++, fromIndex++) {
-			oMinutiae.get().getList().set(toIndex, oMinutiae.get().getList().get(fromIndex));
-		}
-
-		/* Deallocate the minutia structure to be removed the last one. */
-		oMinutiae.get().getList().remove(oMinutiae.get().getList().size() - 1);
+		/* position of the minutia being removed (a single array copy). */
+		oMinutiae.get().getList().remove(index);
 
 		/* Decrement the number of ominutiae remaining in the list. */
 		oMinutiae.get().setNum(oMinutiae.get().getNum() - 1);
@@ -752,6 +729,48 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		return (ILfs.FALSE);
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: removeMinutiae - Removes all the minutia points flagged for removal
+	 * #cat: from the input list of minutiae in a single pass, keeping the #cat:
+	 * order of the remaining points. The removal stages flag #cat: minutiae while
+	 * they scan the list and compact it once at #cat: the end, instead of sliding
+	 * the list down on every removal. Input: toRemoveIndexes - TRUE for each
+	 * position of the list to be removed oMinutiae - input list of minutiae
+	 * Output: oMinutiae - list with flagged minutiae removed Return Code: Zero -
+	 * successful completion Negative - system error
+	 **************************************************************************/
+	public int removeMinutiae(final int[] toRemoveIndexes, AtomicReference<Minutiae> oMinutiae) {
+		final Minutiae minutiae = oMinutiae.get();
+		final List<Minutia> list = minutiae.getList();
+		final int noOfMinutiae = minutiae.getNum();
+		int toIndex;
+
+		/* Make sure there is a flag for each minutia in the list. */
+		if (toRemoveIndexes.length < noOfMinutiae) {
+			logger.error("ERROR : removeMinutiae : flag list shorter than minutiae list");
+			return (ILfs.ERROR_CODE_381);
+		}
+
+		/* Slide each minutia to keep down over the removed ones. */
+		toIndex = 0;
+		for (int fromIndex = 0; fromIndex < noOfMinutiae; fromIndex++) {
+			if (toRemoveIndexes[fromIndex] != ILfs.TRUE) {
+				if (toIndex != fromIndex) {
+					list.set(toIndex, list.get(fromIndex));
+				}
+				toIndex++;
+			}
+		}
+
+		/* Drop the tail of the list left by the removed minutiae. */
+		list.subList(toIndex, list.size()).clear();
+		minutiae.setNum(toIndex);
+
+		/* Return normally. */
+		return (ILfs.FALSE);
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: joinMinutia - Takes 2 minutia points and connectes their features in
@@ -766,7 +785,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * minutia features joined Return Code: Zero - successful completion Negative -
 	 * system error
 	 **************************************************************************/
-	public int joinMinutia(Minutia minutia1, Minutia minutia2, int[] binarizedImageData, final int imageWidth,
+	public int joinMinutia(Minutia minutia1, Minutia minutia2, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight, final int with_boundary, final int line_radius) {
 		int dxGreaterThandy;
 		int deltaX;
@@ -827,7 +846,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		/* Foreach point on line connecting the minutiae points ... */
 		for (i = 1; i < oNum.get() - 1; i++) {
 			/* Draw minutia pixel at current point on line. */
-			binarizedImageData[0 + (yList[i] * imageWidth) + xList[i]] = minutiaPixel;
+			binarizedImageData[0 + (yList[i] * imageWidth) + xList[i]] = (byte) minutiaPixel;
 
 			/* Initialize starting corrdinates for adding width to the */
 			/* join line to the current point on the line. */
@@ -852,7 +871,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				/* If pixel 1st point is within image boundaries ... */
 				if ((x1 >= 0) && (x1 < imageWidth) && (y1 >= 0) && (y1 < imageHeight)) {
 					/* Write the pixel ABOVE or LEFT. */
-					binarizedImageData[0 + (y1 * imageWidth) + x1] = minutiaPixel;
+					binarizedImageData[0 + (y1 * imageWidth) + x1] = (byte) minutiaPixel;
 				}
 
 				/* Advance 2nd point along width dimension. */
@@ -860,7 +879,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				y2 += dxGreaterThandy;
 				/* If pixel 2nd point is within image boundaries ... */
 				if ((x2 >= 0) && (x2 < imageWidth) && (y2 >= 0) && (y2 < imageHeight)) {
-					binarizedImageData[0 + (y2 * imageWidth) + x2] = minutiaPixel;
+					binarizedImageData[0 + (y2 * imageWidth) + x2] = (byte) minutiaPixel;
 				}
 			}
 
@@ -872,7 +891,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				/* If pixel 1st point is within image boundaries ... */
 				if ((x1 >= 0) && (x1 < imageWidth) && (y1 >= 0) && (y1 < imageHeight)) {
 					/* Write the pixel ABOVE or LEFT of opposite color. */
-					binarizedImageData[0 + (y1 * imageWidth) + x1] = boundaryPixel;
+					binarizedImageData[0 + (y1 * imageWidth) + x1] = (byte) boundaryPixel;
 				}
 
 				/* Advance 2nd point along width dimension. */
@@ -881,7 +900,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				/* If pixel 2nd point is within image boundaries ... */
 				if ((x2 >= 0) && (x2 < imageWidth) && (y2 >= 0) && (y2 < imageHeight)) {
 					/* Write the pixel BELOW or RIGHT of opposite color. */
-					binarizedImageData[0 + (y2 * imageWidth) + x2] = boundaryPixel;
+					binarizedImageData[0 + (y2 * imageWidth) + x2] = (byte) boundaryPixel;
 				}
 			}
 		}
@@ -1007,8 +1026,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * a list of detected minutia structures Return Code: Zero - successful
 	 * completion Negative - system error
 	 **************************************************************************/
-	public int scanForMinutiae(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
-			final int imageHeight, AtomicIntegerArray oInputBlockImageMap, AtomicIntegerArray oNMap, final int blockX,
+	public int scanForMinutiae(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+			final int imageHeight, int[] oInputBlockImageMap, int[] oNMap, final int blockX,
 			final int blockY, final int mapWidth, final int mapHeight, final int scanX, final int scanY,
 			final int scanWidth, final int scanHeight, final int scanDir, final LfsParams lfsParams) {
 		int blockIndex;
@@ -1020,7 +1039,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		/* Conduct primary scan for minutiae horizontally. */
 		if (scanDir == ILfs.SCAN_HORIZONTAL) {
 			if ((ret = scanForMinutiaeHorizontally(oMinutiae, binarizedImageData, imageWidth, imageHeight,
-					oInputBlockImageMap.get(blockIndex), oNMap.get(blockIndex), scanX, scanY, scanWidth, scanHeight,
+					oInputBlockImageMap[blockIndex], oNMap[blockIndex], scanX, scanY, scanWidth, scanHeight,
 					lfsParams)) != ILfs.FALSE) {
 				/* Return code may be: */
 				/* 1. ret<0 (implying system error) */
@@ -1039,7 +1058,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		/* Otherwise, conduct primary scan for minutiae vertically. */
 		else {
 			if ((ret = scanForMinutiaeVertically(oMinutiae, binarizedImageData, imageWidth, imageHeight,
-					oInputBlockImageMap.get(blockIndex), oNMap.get(blockIndex), scanX, scanY, scanWidth, scanHeight,
+					oInputBlockImageMap[blockIndex], oNMap[blockIndex], scanX, scanY, scanWidth, scanHeight,
 					lfsParams)) != ILfs.FALSE) {
 				/* Return resulting code. */
 				return (ret);
@@ -1077,7 +1096,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * LFS Output: oMinutiae - points to a list of detected minutia structures
 	 * Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int scanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+	public int scanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight, final int nInputBlockImageMapValue, final int nNMapValue,
 			final int scanX, final int scanY, final int scanWidth, final int scanHeight, final LfsParams lfsParams) {
 		int sx;
@@ -1206,9 +1225,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * Output: minutiae - points to a list of detected minutia structures Return
 	 * Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int scanForMinutiaeHorizontallyV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray oDirectionMap,
-			AtomicIntegerArray oLowFlowMap, AtomicIntegerArray oHighCurveMap, final LfsParams lfsParams) {
+	public int scanForMinutiaeHorizontallyV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, PixelMapView oDirectionMap,
+			PixelMapView oLowFlowMap, PixelMapView oHighCurveMap, final LfsParams lfsParams) {
 		int sx;
 		int sy;
 		int ex;
@@ -1335,7 +1354,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * LFS Output: minutiae - points to a list of detected minutia structures Return
 	 * Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int scanForMinutiaeVertically(AtomicReference<Minutiae> minutiae, int[] binarizedImageData,
+	public int scanForMinutiaeVertically(AtomicReference<Minutiae> minutiae, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight, final int nInputBlockImageMapValue, final int nNMapValue,
 			final int scanX, final int scanY, final int scanWidth, final int scanHeight, final LfsParams lfsParams) {
 		int sx;
@@ -1470,9 +1489,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * Output: oMinutiae - points to a list of detected minutia structures Return
 	 * Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int rescanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray oInputBlockImageMap,
-			AtomicIntegerArray oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
+	public int rescanForMinutiaeHorizontally(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, int[] oInputBlockImageMap,
+			int[] oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
 			final int scanX, final int scanY, final int scanWidth, final int scanHeight, final LfsParams lfsParams) {
 		int blockIndex;
 		int ret;
@@ -1481,10 +1500,10 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		blockIndex = (blockY * mapWidth) + blockX;
 
 		/* If high-curve block... */
-		if (oNMap.get(blockIndex) == ILfs.HIGH_CURVATURE) {
+		if (oNMap[blockIndex] == ILfs.HIGH_CURVATURE) {
 			/* Rescan entire block in orthogonal direction. */
 			if ((ret = scanForMinutiaeHorizontally(oMinutiae, binarizedImageData, imageWidth, imageHeight,
-					oInputBlockImageMap.get(blockIndex), oNMap.get(blockIndex), scanX, scanY, scanWidth, scanHeight,
+					oInputBlockImageMap[blockIndex], oNMap[blockIndex], scanX, scanY, scanWidth, scanHeight,
 					lfsParams)) != ILfs.FALSE) {
 				/* Return code may be: */
 				/* 1. ret<0 (implying system error) */
@@ -1542,9 +1561,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * detected minutia structures Return Code: Zero - successful completion
 	 * Negative - system error
 	 **************************************************************************/
-	public int scanForMinutiaeVerticallyV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray oDirectionMap,
-			AtomicIntegerArray oLowFlowMap, AtomicIntegerArray oHighCurveMap, final LfsParams lfsParams) {
+	public int scanForMinutiaeVerticallyV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, PixelMapView oDirectionMap,
+			PixelMapView oLowFlowMap, PixelMapView oHighCurveMap, final LfsParams lfsParams) {
 		int sx;
 		int sy;
 		int ex;
@@ -1667,9 +1686,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * points to a list of detected minutia structures Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	public int rescanForMinutiaeVertically(AtomicReference<Minutiae> minutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray oInputBlockImageMap,
-			AtomicIntegerArray oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
+	public int rescanForMinutiaeVertically(AtomicReference<Minutiae> minutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, int[] oInputBlockImageMap,
+			int[] oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
 			final int scanX, final int scanY, final int scanWidth, final int scanHeight, final LfsParams lfsParams) {
 		int blockIndex;
 		int ret;
@@ -1678,10 +1697,10 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		blockIndex = (blockY * mapWidth) + blockX;
 
 		/* If high-curve block... */
-		if (oNMap.get(blockIndex) == ILfs.HIGH_CURVATURE) {
+		if (oNMap[blockIndex] == ILfs.HIGH_CURVATURE) {
 			/* Rescan entire block in orthogonal direction. */
 			if ((ret = scanForMinutiaeVertically(minutiae, binarizedImageData, imageWidth, imageHeight,
-					oInputBlockImageMap.get(blockIndex), oNMap.get(blockIndex), scanX, scanY, scanWidth, scanHeight,
+					oInputBlockImageMap[blockIndex], oNMap[blockIndex], scanX, scanY, scanWidth, scanHeight,
 					lfsParams)) != ILfs.FALSE) {
 				/* Return code may be: */
 				/* 1. ret<0 (implying system error) */
@@ -1744,8 +1763,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * structures Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
 	public int rescanPartialHorizontally(final int nbrDir, AtomicReference<Minutiae> oMinutiae,
-			int[] binarizedImageData, final int imageWidth, final int imageHeight,
-			AtomicIntegerArray oInputBlockImageMap, AtomicIntegerArray oNMap, final int blockX, final int blockY,
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			int[] oInputBlockImageMap, int[] oNMap, final int blockX, final int blockY,
 			final int mapWidth, final int mapHeight, final int scanX, final int scanY, final int scanWidth,
 			final int scanHeight, final LfsParams lfsParams) {
 		AtomicInteger oBlockIndex = new AtomicInteger(0);
@@ -1779,12 +1798,12 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		/* Otherwise, neighboring block found ... */
 
 		/* If neighbor block is VALID... */
-		if (oInputBlockImageMap.get(oBlockIndex.get()) != ILfs.INVALID_DIR) {
+		if (oInputBlockImageMap[oBlockIndex.get()] != ILfs.INVALID_DIR) {
 			/* Compute block index from current (not neighbor) block coordinates. */
 			blockIndex = (blockY * mapWidth) + blockX;
 
 			/* Select feature scan direction based on neighbor IMAP. */
-			rescanDir = chooseScanDirection(oInputBlockImageMap.get(oBlockIndex.get()), lfsParams.getNumDirections());
+			rescanDir = chooseScanDirection(oInputBlockImageMap[oBlockIndex.get()], lfsParams.getNumDirections());
 			/* If new scan direction is HORIZONTAL... */
 			if (rescanDir == ILfs.SCAN_HORIZONTAL) {
 				/* Adjust scanX, scanY, scanWidth, scanHeight for rescan. */
@@ -1796,7 +1815,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				/* Rescan specified region in block vertically. */
 				/* Pass IMAP direction for the block, NOT its neighbor. */
 				if ((ret = scanForMinutiaeHorizontally(oMinutiae, binarizedImageData, imageWidth, imageHeight,
-						oInputBlockImageMap.get(blockIndex), oNMap.get(blockIndex), rescanX.get(), rescanY.get(),
+						oInputBlockImageMap[blockIndex], oNMap[blockIndex], rescanX.get(), rescanY.get(),
 						rescanWidth.get(), rescanHeight.get(), lfsParams)) != ILfs.FALSE) {
 					/* Return code may be: */
 					/* 1. ret<0 (implying system error) */
@@ -1827,9 +1846,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * controlling LFS Output: oMinutiae - points to a list of detected minutia
 	 * structures Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int rescanPartialVertically(final int nbrDir, AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray oInputBlockImageMap,
-			AtomicIntegerArray oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
+	public int rescanPartialVertically(final int nbrDir, AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, int[] oInputBlockImageMap,
+			int[] oNMap, final int blockX, final int blockY, final int mapWidth, final int mapHeight,
 			final int scanX, final int scanY, final int scanWidth, final int scanHeight, final LfsParams lfsParams) {
 		AtomicInteger oBlockIndex = new AtomicInteger(0);
 		int blkIndex;
@@ -1861,12 +1880,12 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 
 		/* Otherwise, neighboring block found ... */
 		/* If neighbor block is VALID... */
-		if (oInputBlockImageMap.get(oBlockIndex.get()) != ILfs.INVALID_DIR) {
+		if (oInputBlockImageMap[oBlockIndex.get()] != ILfs.INVALID_DIR) {
 			/* Compute block index from current (not neighbor) block coordinates. */
 			blkIndex = (blockY * mapWidth) + blockX;
 
 			/* Select feature scan direction based on neighbor IMAP. */
-			rescanDir = chooseScanDirection(oInputBlockImageMap.get(oBlockIndex.get()), lfsParams.getNumDirections());
+			rescanDir = chooseScanDirection(oInputBlockImageMap[oBlockIndex.get()], lfsParams.getNumDirections());
 			/* If new scan direction is VERTICAL... */
 			if (rescanDir == ILfs.SCAN_VERTICAL) {
 				/* Adjust scanX, scanY, scanWidth, scanHeight for rescan. */
@@ -1878,7 +1897,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 				/* Rescan specified region in block vertically. */
 				/* Pass IMAP direction for the block, NOT its neighbor. */
 				if ((ret = scanForMinutiaeVertically(oMinutiae, binarizedImageData, imageWidth, imageHeight,
-						oInputBlockImageMap.get(blkIndex), oNMap.get(blkIndex), rescanX.get(), rescanY.get(),
+						oInputBlockImageMap[blkIndex], oNMap[blkIndex], rescanX.get(), rescanY.get(),
 						rescanWidth.get(), rescanHeight.get(), lfsParams)) != ILfs.FALSE) {
 					/* Return code may be: */
 					/* 1. ret<0 (implying system error) */
@@ -2177,7 +2196,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * error
 	 **************************************************************************/
 	public int processHorizontalScanMinutia(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-			final int x2, final int featureId, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int x2, final int featureId, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final int nInputBlockImageMapValue, final int nNMapValue, final LfsParams lfsParams) {
 		Minutia minutia;
 		AtomicInteger xLoc = new AtomicInteger(0);
@@ -2267,8 +2286,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * - system error
 	 **************************************************************************/
 	public int processHorizontalScanMinutiaV2(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-			final int x2, final int featureId, int[] binarizedImageData, final int imageWidth, final int imageHeight,
-			AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowFlowMap, AtomicIntegerArray oHighCurveMap,
+			final int x2, final int featureId, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			PixelMapView oDirectionMap, PixelMapView oLowFlowMap, PixelMapView oHighCurveMap,
 			final LfsParams lfsParams) {
 		Minutia minutia = null;
 		AtomicInteger xLoc = new AtomicInteger(0);
@@ -2308,9 +2327,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 			yEdge.set(cy + 1);
 		}
 
-		directionMapValue = oDirectionMap.get(0 + (yLoc.get() * imageWidth) + xLoc.get());
-		lowFlowMapValue = oLowFlowMap.get(0 + (yLoc.get() * imageWidth) + xLoc.get());
-		highCurveMapValue = oHighCurveMap.get(0 + +(yLoc.get() * imageWidth) + xLoc.get());
+		directionMapValue = oDirectionMap.get(xLoc.get(), yLoc.get());
+		lowFlowMapValue = oLowFlowMap.get(xLoc.get(), yLoc.get());
+		highCurveMapValue = oHighCurveMap.get(xLoc.get(), yLoc.get());
 
 		/* If the minutia point is in a block with INVALID direction ... */
 		if (directionMapValue == ILfs.INVALID_DIR) {
@@ -2385,7 +2404,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * error
 	 **************************************************************************/
 	public int processVerticalScanMinutia(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy, final int y2,
-			final int featureId, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int featureId, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final int nInputBlockImageMapValue, final int nNMapValue, final LfsParams lfsParams) {
 		Minutia minutia;
 		AtomicInteger xLoc = new AtomicInteger(0);
@@ -2474,8 +2493,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 * error
 	 **************************************************************************/
 	public int processVerticalScanMinutiaV2(AtomicReference<Minutiae> oMinutiae, final int cx, final int cy,
-			final int y2, final int featureId, int[] binarizedImageData, final int imageWidth, final int imageHeight,
-			AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowFlowMap, AtomicIntegerArray oHighCurveMap,
+			final int y2, final int featureId, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			PixelMapView oDirectionMap, PixelMapView oLowFlowMap, PixelMapView oHighCurveMap,
 			final LfsParams lfsParams) {
 		Minutia minutia = null;
 		AtomicInteger xLoc = new AtomicInteger(0);
@@ -2514,9 +2533,9 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 		/* Set same y location to neighboring edge pixel. */
 		yEdge.set(yLoc.get());
 
-		directionMapValue = oDirectionMap.get(0 + (yLoc.get() * imageWidth) + xLoc.get());
-		lowFlowMapValue = oLowFlowMap.get(0 + (yLoc.get() * imageWidth) + xLoc.get());
-		highCurveMapValue = oHighCurveMap.get(0 + (yLoc.get() * imageWidth) + xLoc.get());
+		directionMapValue = oDirectionMap.get(xLoc.get(), yLoc.get());
+		lowFlowMapValue = oLowFlowMap.get(xLoc.get(), yLoc.get());
+		highCurveMapValue = oHighCurveMap.get(xLoc.get(), yLoc.get());
 
 		/* If the minutia point is in a block with INVALID direction ... */
 		if (directionMapValue == ILfs.INVALID_DIR) {
@@ -2596,7 +2615,7 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 **************************************************************************/
 	public int adjustHighCurvatureMinutia(AtomicInteger oIDir, AtomicInteger oXLoc, AtomicInteger oYLoc,
 			AtomicInteger oXEdge, AtomicInteger oYEdge, final int xLoc, final int yLoc, final int xEdge,
-			final int yEdge, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int yEdge, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			AtomicReference<Minutiae> oMinutiae, final LfsParams lfsParams) {
 		Contour contour = null;
 		AtomicInteger ret = new AtomicInteger(0);
@@ -2790,8 +2809,8 @@ public class MinutiaHelper extends MindTct implements IMinutia {
 	 **************************************************************************/
 	public int adjustHighCurvatureMinutiaV2(AtomicInteger oIDir, AtomicInteger oXLoc, AtomicInteger oYLoc,
 			AtomicInteger oXEdge, AtomicInteger oYEdge, final int xLoc, final int yLoc, final int xEdge,
-			final int yEdge, int[] binarizedImageData, final int imageWidth, final int imageHeight,
-			AtomicIntegerArray oLowFlowMap, AtomicReference<Minutiae> oMinutiae, final LfsParams lfsParams) {
+			final int yEdge, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			PixelMapView oLowFlowMap, AtomicReference<Minutiae> oMinutiae, final LfsParams lfsParams) {
 		Contour contour = null;
 		AtomicInteger ret = new AtomicInteger(0);
 		AtomicInteger oNoOfContour = new AtomicInteger(0);
@@ -0,0 +1,87 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: PixelMapView - Pixel addressed view of a block image map. It
+ * #cat: answers the same values as the map pixelizeMap expands, without
+ * #cat: the image sized copy: the value of pixel (x, y) is read from the
+ * #cat: block the pixel falls in. As in blockOffsets, the last column and
+ * #cat: row of blocks are shifted to end at the right and bottom edges of
+ * #cat: the image and overlap the previous ones; pixelizeMap writes the
+ * #cat: blocks in order, so a pixel in an overlap takes the value of the
+ * #cat: last block. The block of every column and row is looked up in two
+ * #cat: small tables that withBlockMap shares between the maps of an image.
+ **************************************************************************/
+public final class PixelMapView {
+	private final int[] blockMap;
+	private final int imageWidth;
+	private final int imageHeight;
+	/* Block column of each pixel column. */
+	private final int[] blockColumns;
+	/* Index in the map of the first block of each pixel row. */
+	private final int[] blockRowStarts;
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: PixelMapView - Builds the view of a map that Maps.pixelMapView has
+	 * #cat: checked against the image. Input: blockMap - input block image map
+	 * imageWidth - the width (in pixels) of the corresponding image imageHeight -
+	 * the height (in pixels) of the corresponding image mapWidth - the width (in
+	 * blocks) of the map mapHeight - the height (in blocks) of the map blockSize
+	 * - the dimension (in pixels) of each block
+	 **************************************************************************/
+	PixelMapView(int[] blockMap, final int imageWidth, final int imageHeight, final int mapWidth,
+			final int mapHeight, final int blockSize) {
+		super();
+		this.blockMap = blockMap;
+		this.imageWidth = imageWidth;
+		this.imageHeight = imageHeight;
+		this.blockColumns = new int[imageWidth];
+		this.blockRowStarts = new int[imageHeight];
+
+		final int lastColumnStart = imageWidth - blockSize;
+		for (int x = 0; x < imageWidth; x++) {
+			blockColumns[x] = (x >= lastColumnStart) ? mapWidth - 1 : x / blockSize;
+		}
+		final int lastRowStart = imageHeight - blockSize;
+		for (int y = 0; y < imageHeight; y++) {
+			blockRowStarts[y] = ((y >= lastRowStart) ? mapHeight - 1 : y / blockSize) * mapWidth;
+		}
+	}
+
+	private PixelMapView(int[] blockMap, final PixelMapView geometry) {
+		super();
+		this.blockMap = blockMap;
+		this.imageWidth = geometry.imageWidth;
+		this.imageHeight = geometry.imageHeight;
+		this.blockColumns = geometry.blockColumns;
+		this.blockRowStarts = geometry.blockRowStarts;
+	}
+
+	/* View of another map of the same dimensions, sharing the block tables. */
+	public PixelMapView withBlockMap(int[] otherBlockMap) {
+		return new PixelMapView(otherBlockMap, this);
+	}
+
+	/* Block value of pixel (x, y). */
+	public int get(final int x, final int y) {
+		return blockMap[blockRowStarts[y] + blockColumns[x]];
+	}
+
+	/* Block value of the pixel at index (y * imageWidth) + x. */
+	public int get(final int pixelIndex) {
+		return get(pixelIndex % imageWidth, pixelIndex / imageWidth);
+	}
+
+	public int[] getBlockMap() {
+		return blockMap;
+	}
+
+	public int getImageWidth() {
+		return imageWidth;
+	}
+
+	public int getImageHeight() {
+		return imageHeight;
+	}
+}
@@ -1,10 +1,10 @@
 package org.mosip.nist.nfiq1.mindtct;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.mosip.nist.nfiq1.Defs;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
 import org.mosip.nist.nfiq1.common.ILfs.IQuality;
 import org.mosip.nist.nfiq1.common.ILfs.Minutia;
@@ -27,6 +27,13 @@ public class Quality extends MindTct implements IQuality {
 		return instance;
 	}
 
+	/**
+	 * Returns a new, unshared quality map holder for use by a single invocation.
+	 */
+	public static Quality newInstance() {
+		return new Quality();
+	}
+
 	public static synchronized Quality getInstance(int mappedImageWidth, int mappedImageHeight) {
 		if (instance == null) {
 			instance = new Quality(mappedImageWidth, mappedImageHeight);
@@ -42,7 +49,7 @@ public class Quality extends MindTct implements IQuality {
 		return Free.getInstance();
 	}
 
-	private AtomicIntegerArray qualityMap;
+	private int[] qualityMap;
 	// mappedImageWidth - number of blocks horizontally in the padded input image
 	// mh - number of blocks vertically in the padded input image
 	private int mappedImageWidth;
@@ -53,7 +60,7 @@ public class Quality extends MindTct implements IQuality {
 		/* Compute total number of blocks in map */
 		this.mappedImageWidth = mappedImageWidth;
 		this.mappedImageHeight = mappedImageHeight;
-		this.qualityMap = new AtomicIntegerArray(this.mappedImageWidth * this.mappedImageHeight);
+		this.qualityMap = new int[this.mappedImageWidth * this.mappedImageHeight];
 	}
 
 	/***********************************************************************
@@ -83,10 +90,11 @@ public class Quality extends MindTct implements IQuality {
 		int arrayPos2;
 		int qualityOffset;
 
-		if (getQualityMap() == null) {
-			setMappedImageWidth(map.getMappedImageWidth().get());
-			setMappedImageHeight(map.getMappedImageHeight().get());
-			setQualityMap(new AtomicIntegerArray(this.mappedImageWidth * this.mappedImageHeight));
+		setMappedImageWidth(map.getMappedImageWidth().get());
+		setMappedImageHeight(map.getMappedImageHeight().get());
+		/* (Re)allocate when the block dimensions differ from a previous image */
+		if (getQualityMap() == null || getQualityMap().length != this.mappedImageWidth * this.mappedImageHeight) {
+			setQualityMap(new int[this.mappedImageWidth * this.mappedImageHeight]);
 		}
 		/* Foreach row of blocks in maps ... */
 		for (int thisY = 0; thisY < getMappedImageHeight(); thisY++) {
@@ -95,30 +103,30 @@ public class Quality extends MindTct implements IQuality {
 				/* Compute block index. */
 				arrayPos = (thisY * getMappedImageWidth()) + thisX;
 				/* If current block has low contrast or INVALID direction ... */
-				if (map.getLowContrastMap().get(arrayPos) == ILfs.TRUE
-						|| map.getDirectionMap().get(arrayPos) < ILfs.FALSE) {
+				if (map.getLowContrastMap()[arrayPos] == ILfs.TRUE
+						|| map.getDirectionMap()[arrayPos] < ILfs.FALSE) {
 					/* Set block's quality to 0/F. */
-					getQualityMap().set(arrayPos, ILfs.FALSE);
+					getQualityMap()[arrayPos] = ILfs.FALSE;
 				} else {
 					/* Set baseline quality before looking at neighbors */
 					/* (will subtract QualOffset below) */
 					/* If current block has low flow or high curvature ... */
-					if (map.getLowFlowMap().get(arrayPos) == ILfs.TRUE
-							|| map.getHighCurveMap().get(arrayPos) == ILfs.TRUE) {
+					if (map.getLowFlowMap()[arrayPos] == ILfs.TRUE
+							|| map.getHighCurveMap()[arrayPos] == ILfs.TRUE) {
 						/* Set block's quality initially to 3/B. */
-						getQualityMap().set(arrayPos, 3); // offset will be -1..-2
+						getQualityMap()[arrayPos] = 3; // offset will be -1..-2
 					}
 					/* Otherwise, block is NOT low flow AND NOT high curvature... */
 					else {
 						/* Set block's quality to 4/A. */
-						getQualityMap().set(arrayPos, 4); // offset will be 0..-2
+						getQualityMap()[arrayPos] = 4; // offset will be 0..-2
 					}
 
 					/* If block within NEIGHBOR_DELTA of edge ... */
 					if (thisY < ILfs.NEIGHBOR_DELTA || thisY > getMappedImageHeight() - 1 - ILfs.NEIGHBOR_DELTA
 							|| thisX < ILfs.NEIGHBOR_DELTA || thisX > getMappedImageWidth() - 1 - ILfs.NEIGHBOR_DELTA) {
 						/* Set block's quality to 1/E. */
-						getQualityMap().set(arrayPos, 1);
+						getQualityMap()[arrayPos] = 1;
 					}
 					/* Otherwise, test neighboring blocks ... */
 					else {
@@ -133,8 +141,8 @@ public class Quality extends MindTct implements IQuality {
 								arrayPos2 = (compY * getMappedImageWidth()) + compX;
 								/* If neighbor block (which might be itself) has */
 								/* low contrast or INVALID direction .. */
-								if (map.getLowContrastMap().get(arrayPos2) == ILfs.TRUE
-										|| map.getDirectionMap().get(arrayPos2) < ILfs.FALSE) {
+								if (map.getLowContrastMap()[arrayPos2] == ILfs.TRUE
+										|| map.getDirectionMap()[arrayPos2] < ILfs.FALSE) {
 									/* Set quality adjustment to -2. */
 									qualityOffset = -2;
 									/* Done with neighborhood row. */
@@ -142,15 +150,15 @@ public class Quality extends MindTct implements IQuality {
 								}
 								/* Otherwise, if neighbor block (which might be */
 								/* itself) has low flow or high curvature ... */
-								else if (map.getLowFlowMap().get(arrayPos2) == ILfs.TRUE
-										|| map.getHighCurveMap().get(arrayPos2) == ILfs.TRUE) {
+								else if (map.getLowFlowMap()[arrayPos2] == ILfs.TRUE
+										|| map.getHighCurveMap()[arrayPos2] == ILfs.TRUE) {
 									/* Set quality to -1 if not already -2. */
 									qualityOffset = Math.min(qualityOffset, -1);
 								}
 							}
 						}
 						/* Decrement minutia quality by neighborhood adjustment. */
-						getQualityMap().set(arrayPos, getQualityMap().get(arrayPos) + qualityOffset);
+						getQualityMap()[arrayPos] = getQualityMap()[arrayPos] + qualityOffset;
 					}
 				}
 			}
@@ -167,16 +175,17 @@ public class Quality extends MindTct implements IQuality {
 	 * detected minutia map - contain all below //quality_map - map with blocks
 	 * assigned 1 of 5 quality levels //map_w - width (in blocks) of the map //map_h
 	 * - height (in blocks) of the map blocksize - size (in pixels) of each block in
-	 * the map imageData - 8-bit grayscale fingerprint image imageWidth - width (in
-	 * pixels) of the image imageHeight - height (in pixels) of the image imageDepth
+	 * the map image - 8-bit grayscale fingerprint image imageDepth
 	 * - depth (in pixels) of the image imagePPI - scan resolution of the image in
 	 * pixels/mm Output: minutiae - updated reliability members Return Code: Zero -
 	 * successful completion Negative - system error
 	 ************************************************************************/
 	public int combinedMinutiaQuality(AtomicReference<Minutiae> oMinutiae, Maps map, final int blocksize,
-			int[] imageData, final int imageWidth, final int imageHeight, final int imageDepth, final double imagePPI) {
+			Raster8 image, final int imageDepth, final double imagePPI) {
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
 		AtomicInteger ret = new AtomicInteger(0);
-		int minutiaPixelIndex = 0, radiusPixel;
+		int radiusPixel;
 		int qualityMapValue;
 		double grayscaleReliability, reliability;
 
@@ -191,30 +200,40 @@ public class Quality extends MindTct implements IQuality {
 		/* Compute pixel radius of neighborhood based on image's scan resolution. */
 		radiusPixel = getDefs().sRound(ILfs.RADIUS_MM * imagePPI);
 
-		/* Expand block map values to pixel map. */
-		int mapSize = imageWidth * imageHeight;
-		AtomicIntegerArray pqualityMap = new AtomicIntegerArray(mapSize);
-		ret.set(map.pixelizeMap(pqualityMap, imageWidth, imageHeight, this.getQualityMap(), this.getMappedImageWidth(),
-				this.getMappedImageHeight(), blocksize));
+		/* View block map values by pixel. */
+		PixelMapView pqualityMap = map.pixelMapView(ret, this.getQualityMap(), imageWidth, imageHeight,
+				this.getMappedImageWidth(), this.getMappedImageHeight(), blocksize);
 		if (ret.get() != ILfs.FALSE) {
 			return ret.get();
 		}
 
+		/* Sum the neighborhoods through summed area tables when that reads */
+		/* fewer pixels than visiting every neighborhood. */
+		final int neighborhoodWidth = (2 * radiusPixel) + 1;
+		IntegralImage integralImage = null;
+		if ((long) oMinutiae.get().getNum() * neighborhoodWidth * neighborhoodWidth > (long) imageWidth
+				* imageHeight) {
+			integralImage = new IntegralImage(image);
+		}
+
 		// logger.info("====================================================================\n");
 		/* Foreach minutiae detected ... */
 		for (int minutiaIndex = 0; minutiaIndex < oMinutiae.get().getNum(); minutiaIndex++) {
 			/* Assign minutia pointer. */
 
 			/* Compute reliability from stdev and mean of pixel neighborhood. */
-			grayscaleReliability = grayscaleReliability(oMinutiae.get().getList().get(minutiaIndex), imageData,
-					imageWidth, imageHeight, radiusPixel);
+			if (integralImage != null) {
+				grayscaleReliability = grayscaleReliability(oMinutiae.get().getList().get(minutiaIndex),
+						integralImage, radiusPixel);
+			} else {
+				grayscaleReliability = grayscaleReliability(oMinutiae.get().getList().get(minutiaIndex), image,
+						radiusPixel);
+			}
 
 			/* Lookup quality map value. */
-			/* Compute minutia pixel index. */
-			minutiaPixelIndex = (oMinutiae.get().getList().get(minutiaIndex).getY() * imageWidth)
-					+ oMinutiae.get().getList().get(minutiaIndex).getX();
 			/* Switch on pixel's quality value ... */
-			qualityMapValue = pqualityMap.get(minutiaPixelIndex);
+			qualityMapValue = pqualityMap.get(oMinutiae.get().getList().get(minutiaIndex).getX(),
+					oMinutiae.get().getList().get(minutiaIndex).getY());
 
 			/* Combine grayscale reliability and quality map value. */
 			switch (qualityMapValue) {
@@ -243,15 +262,18 @@ public class Quality extends MindTct implements IQuality {
 				logger.error("ERROR : combined_miutia_quality : ");
 				logger.error("unexpected quality map value {} ", qualityMapValue);
 				logger.error("not in range [0..4]\n");
-				getFree().free(pqualityMap);
+				if (integralImage != null) {
+					integralImage.release();
+				}
 				return (-3);
 			}
 
 			oMinutiae.get().getList().get(minutiaIndex).setReliability(reliability);
 		}
 
-		/* NEW 05-08-2002 */
-		getFree().free(pqualityMap);
+		if (integralImage != null) {
+			integralImage.release();
+		}
 		/* Return normally. */
 		return (ILfs.FALSE);
 	}
@@ -265,36 +287,57 @@ public class Quality extends MindTct implements IQuality {
 	 * "ideal" Mean is 127. In a 1 ridge radius (11 pixels), if the bytevalue (shade
 	 * of gray) in the image has a stdev of >= 64 & a mean of 127, returns 1.0 (well
 	 * defined light & dark areas in equal proportions). Input: minutia - structure
-	 * containing detected minutia imageData - 8-bit grayscale fingerprint image
-	 * imageWidth - width (in pixels) of the image imageHeight - height (in pixels)
-	 * of the image radiusPixel - pixel radius of surrounding neighborhood Return
+	 * containing detected minutia image - 8-bit grayscale fingerprint image
+	 * radiusPixel - pixel radius of surrounding neighborhood Return
 	 * Value: reliability - computed reliability measure
 	 ************************************************************************/
-	public double grayscaleReliability(Minutia minutia, int[] imageData, final int imageWidth, final int imageHeight,
-			final int radiusPixel) {
+	public double grayscaleReliability(Minutia minutia, Raster8 image, final int radiusPixel) {
 		AtomicReference<Double> mean = new AtomicReference<>(0.0), stdev = new AtomicReference<>(0.0);
 		double reliability;
 
-		getNeighborhoodStats(mean, stdev, minutia, imageData, imageWidth, imageHeight, radiusPixel);
-		reliability = Math.min((stdev.get() > ILfs.IDEALSTDEV ? 1.0 : stdev.get() / (double) ILfs.IDEALSTDEV),
-				(1.0 - (Math.abs(mean.get() - ILfs.IDEALMEAN) / ILfs.IDEALMEAN)));
+		getNeighborhoodStats(mean, stdev, minutia, image, radiusPixel);
+		reliability = reliabilityFromStats(mean.get(), stdev.get());
 
 		return (reliability);
 	}
 
+	/***********************************************************************
+	 ************************************************************************
+	 * #cat: grayscaleReliability - Same as above, with the neighborhood
+	 * #cat: stats read from the summed area tables of the image. Input:
+	 * minutia - structure containing detected minutia integralImage - summed
+	 * area tables of the 8-bit grayscale fingerprint image radiusPixel - pixel
+	 * radius of surrounding neighborhood Return Value: reliability - computed
+	 * reliability measure
+	 ************************************************************************/
+	public double grayscaleReliability(Minutia minutia, IntegralImage integralImage, final int radiusPixel) {
+		AtomicReference<Double> mean = new AtomicReference<>(0.0), stdev = new AtomicReference<>(0.0);
+		double reliability;
+
+		getNeighborhoodStats(mean, stdev, minutia, integralImage, radiusPixel);
+		reliability = reliabilityFromStats(mean.get(), stdev.get());
+
+		return (reliability);
+	}
+
+	private static double reliabilityFromStats(final double mean, final double stdev) {
+		return Math.min((stdev > ILfs.IDEALSTDEV ? 1.0 : stdev / (double) ILfs.IDEALSTDEV),
+				(1.0 - (Math.abs(mean - ILfs.IDEALMEAN) / ILfs.IDEALMEAN)));
+	}
+
 	/***********************************************************************
 	 ************************************************************************
 	 * #cat: getNeighborhoodStats - Given a minutia point, computes the mean #cat:
 	 * and stdev of the 8-bit grayscale pixels values in a #cat: surrounding
 	 * neighborhood with specified radius. Input: minutia - structure containing
-	 * detected minutia imageData - 8-bit grayscale fingerprint image imageWidth -
-	 * width (in pixels) of the image imageHeight - height (in pixels) of the image
+	 * detected minutia image - 8-bit grayscale fingerprint image
 	 * radiusPixel - pixel radius of surrounding neighborhood Output: oMean - mean
 	 * of neighboring pixels oStDev - standard deviation of neighboring pixels
 	 ************************************************************************/
 	public void getNeighborhoodStats(AtomicReference<Double> oMean, AtomicReference<Double> oStDev, Minutia minutia,
-			int[] imageData, final int imageWidth, final int imageHeight, final int radiusPixel) {
-		int i;
+			Raster8 image, final int radiusPixel) {
+		final int imageWidth = image.getWidth();
+		final int imageHeight = image.getHeight();
 		int x;
 		int y;
 		int rows;
@@ -303,11 +346,6 @@ public class Quality extends MindTct implements IQuality {
 		int sumX = 0;
 		int sumXX = 0;
 
-		int[] histogram = new int[256];
-		/* Zero out histogram. */
-		for (int index = 0; index < histogram.length; index++)
-			histogram[index] = 0;
-
 		/* Set minutia's coordinate variables. */
 		x = minutia.getX();
 		y = minutia.getY();
@@ -325,21 +363,13 @@ public class Quality extends MindTct implements IQuality {
 		for (rows = y - radiusPixel; rows <= y + radiusPixel; rows++) {
 			/* Foreach column in neighborhood ... */
 			for (cols = x - radiusPixel; cols <= x + radiusPixel; cols++) {
-				/* Bump neighbor's pixel value bin in histogram. */
-				int histValue = imageData[(rows * imageWidth) + cols];
-				histogram[histValue] = histogram[histValue] + 1;
-			}
-		}
-
-		/* Foreach grayscale pixel bin ... */
-		for (i = 0; i < 256; i++) {
-			if (histogram[i] != ILfs.FALSE) {
+				final int value = image.get(cols, rows);
 				/* Accumulate Sum(X[i]) */
-				sumX += (i * histogram[i]);
+				sumX += value;
 				/* Accumulate Sum(X[i]^2) */
-				sumXX += (i * i * histogram[i]);
+				sumXX += value * value;
 				/* Accumulate N samples */
-				n += histogram[i];
+				n++;
 			}
 		}
 
@@ -349,6 +379,43 @@ public class Quality extends MindTct implements IQuality {
 		oStDev.set(Math.sqrt((sumXX / (double) n) - (oMean.get() * oMean.get())));
 	}
 
+	/***********************************************************************
+	 ************************************************************************
+	 * #cat: getNeighborhoodStats - Same as above, with the sums of the
+	 * #cat: neighborhood read from the summed area tables of the image in
+	 * #cat: constant time. Input: minutia - structure containing detected
+	 * minutia integralImage - summed area tables of the 8-bit grayscale
+	 * fingerprint image radiusPixel - pixel radius of surrounding neighborhood
+	 * Output: oMean - mean of neighboring pixels oStDev - standard deviation of
+	 * neighboring pixels
+	 ************************************************************************/
+	public void getNeighborhoodStats(AtomicReference<Double> oMean, AtomicReference<Double> oStDev, Minutia minutia,
+			IntegralImage integralImage, final int radiusPixel) {
+		final int imageWidth = integralImage.getWidth();
+		final int imageHeight = integralImage.getHeight();
+		final int x = minutia.getX();
+		final int y = minutia.getY();
+
+		/* Same border rule as above. */
+		if ((x < radiusPixel) || (x > imageWidth - radiusPixel - 1) || (y < radiusPixel)
+				|| (y > imageHeight - radiusPixel - 1)) {
+			oMean.set(0.0);
+			oStDev.set(0.0);
+			return;
+		}
+
+		final int neighborhoodWidth = (2 * radiusPixel) + 1;
+		final int n = neighborhoodWidth * neighborhoodWidth;
+		final int sumX = integralImage.sum(x - radiusPixel, y - radiusPixel, x + radiusPixel, y + radiusPixel);
+		final int sumXX = integralImage.squareSum(x - radiusPixel, y - radiusPixel, x + radiusPixel,
+				y + radiusPixel);
+
+		/* Mean = Sum(X[i])/N */
+		oMean.set(sumX / (double) n);
+		/* Stdev = sqrt((Sum(X[i]^2)/N) - Mean^2) */
+		oStDev.set(Math.sqrt((sumXX / (double) n) - (oMean.get() * oMean.get())));
+	}
+
 	/***********************************************************************
 	 ************************************************************************
 	 * #cat: reliabilityFromQualityMap - Takes a set of minutiae and assigns #cat:
@@ -363,13 +430,11 @@ public class Quality extends MindTct implements IQuality {
 	public int reliabilityFromQualityMap(Minutiae minutiae, Maps map, final int imageWidth, final int imageHeight,
 			final int blocksize) {
 		AtomicInteger ret = new AtomicInteger(0);
-		int index;
+		int qualityMapValue;
 
-		/* Expand block map values to pixel map. */
-		int mapSize = imageWidth * imageHeight;
-		AtomicIntegerArray pqualityMap = new AtomicIntegerArray(mapSize);
-		ret.set(map.pixelizeMap(pqualityMap, imageWidth, imageHeight, this.getQualityMap(), this.getMappedImageWidth(),
-				this.getMappedImageHeight(), blocksize));
+		/* View block map values by pixel. */
+		PixelMapView pqualityMap = map.pixelMapView(ret, this.getQualityMap(), imageWidth, imageHeight,
+				this.getMappedImageWidth(), this.getMappedImageHeight(), blocksize);
 		if (ret.get() != ILfs.FALSE) {
 			return ret.get();
 		}
@@ -377,11 +442,11 @@ public class Quality extends MindTct implements IQuality {
 		/* Foreach minutiae detected ... */
 		for (int minutiaIndex = 0; minutiaIndex < minutiae.getNum(); minutiaIndex++) {
 			/* Assign minutia pointer. */
-			/* Compute minutia pixel index. */
-			index = (minutiae.getList().get(minutiaIndex).getY() * imageWidth)
-					+ minutiae.getList().get(minutiaIndex).getX();
+			/* Lookup minutia pixel's quality value. */
+			qualityMapValue = pqualityMap.get(minutiae.getList().get(minutiaIndex).getX(),
+					minutiae.getList().get(minutiaIndex).getY());
 			/* Switch on pixel's quality value ... */
-			switch (pqualityMap.get(index)) {
+			switch (qualityMapValue) {
 			case 0:
 				minutiae.getList().get(minutiaIndex).setReliability(0.0);
 				break;
@@ -401,24 +466,21 @@ public class Quality extends MindTct implements IQuality {
 			default:
 				minutiae.getList().get(minutiaIndex).setReliability(0.0);
 				logger.error("ERROR : reliability_fr_quality_map :");
-				logger.error("unexpected quality value {} ", pqualityMap.get(index));
+				logger.error("unexpected quality value {} ", qualityMapValue);
 				logger.error("not in range [0..4]\n");
 				return (-2);
 			}
 		}
 
-		/* Deallocate pixelized quality map. */
-		getFree().free(pqualityMap);
-
 		/* Return normally. */
 		return (ILfs.FALSE);
 	}
 
-	public AtomicIntegerArray getQualityMap() {
+	public int[] getQualityMap() {
 		return qualityMap;
 	}
 
-	public void setQualityMap(AtomicIntegerArray qualityMap) {
+	public void setQualityMap(int[] qualityMap) {
 		this.qualityMap = qualityMap;
 	}
 
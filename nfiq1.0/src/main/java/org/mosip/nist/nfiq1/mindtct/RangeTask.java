@@ -0,0 +1,55 @@
+package org.mosip.nist.nfiq1.mindtct;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mosip.nist.nfiq1.common.ILfs;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: RangeTask - Fork/join task running a worker over [from, to), split in
+ * #cat: halves down to grain items per leaf. Used for the stages whose items
+ * #cat: (map blocks, image rows) only write their own part of the output. The
+ * #cat: first system error reported by a leaf is kept in ret, and leaves not
+ * #cat: yet started are then skipped. invoke() runs it in the caller's pool, or
+ * #cat: in the common pool when the caller is not a pool thread.
+ **************************************************************************/
+@SuppressWarnings("serial")
+final class RangeTask extends RecursiveAction {
+	@FunctionalInterface
+	interface Worker {
+		/* Return Code: Zero - successful completion, Negative - system error */
+		int run(int from, int to);
+	}
+
+	private final int from;
+	private final int to;
+	private final int grain;
+	private final transient AtomicInteger ret;
+	private final transient Worker worker;
+
+	RangeTask(final int from, final int to, final int grain, AtomicInteger ret, Worker worker) {
+		super();
+		this.from = from;
+		this.to = to;
+		this.grain = grain;
+		this.ret = ret;
+		this.worker = worker;
+	}
+
+	@Override
+	protected void compute() {
+		if (ret.get() != ILfs.FALSE) {
+			return;
+		}
+		if (to - from <= grain) {
+			int rangeRet = worker.run(from, to);
+			if (rangeRet != ILfs.FALSE) {
+				ret.compareAndSet(ILfs.FALSE, rangeRet);
+			}
+			return;
+		}
+		final int mid = (from + to) >>> 1;
+		invokeAll(new RangeTask(from, mid, grain, ret, worker), new RangeTask(mid, to, grain, ret, worker));
+	}
+}
@@ -1,9 +1,5 @@
 package org.mosip.nist.nfiq1.mindtct;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
@@ -83,7 +79,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * minutiae - list of pruned minutiae Return Code: Zero - successful completion
 	 * Negative - system error
 	 **************************************************************************/
-	public int removeFalseMinutiaV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+	public int removeFalseMinutiaV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight, Maps map, final int mappedImageWidth, final int mappedImageHeight,
 			final LfsParams lfsParams) {
 		int ret;
@@ -164,15 +160,21 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * thresholds for controlling LFS Output: oMinutiae - list of pruned minutiae
 	 * Return Code: Zero - successful completion Negative - system error
 	 **************************************************************************/
-	public int removeHoles(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+	public int removeHoles(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight, LfsParams lfsParams) {
 		int minutiaIndex;
+		int[] toRemoveIndexes;
 		int ret;
 		Minutia minutia;
 
 		if (isShowLogs())
 			logger.info("REMOVING HOLES:");
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		minutiaIndex = 0;
 		/* Foreach minutia remaining in list ... */
 		while (minutiaIndex < oMinutiae.get().getNum()) {
@@ -189,12 +191,10 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 						logger.info("{},{} RM", minutia.getX(), minutia.getY());
 
 					/* Then remove the minutia from list. */
-					if ((ret = getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-						/* Return error code. */
-						return (ret);
-					}
-					/* No need to advance because next minutia has "slid" */
-					/* into position pointed to by 'i'. */
+					toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
+					/* Advance to the next minutia; flagged minutiae */
+					/* are removed when the list is compacted. */
+					minutiaIndex++;
 				}
 				/* If the minutia is NOT on a loop... */
 				else if (ret == ILfs.FALSE) {
@@ -214,8 +214,13 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			}
 		}
 
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret = getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae);
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
 		/* Return normally. */
-		return (ILfs.FALSE);
+		return (ret);
 	}
 
 	/*************************************************************************
@@ -229,10 +234,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * list of pruned minutiae Return Code: Zero - successful completion Negative -
 	 * system error
 	 **************************************************************************/
-	public int removeHooks(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+	public int removeHooks(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight, final LfsParams lfsParams) {
-		List<Boolean> toRemoveIndexes;
-		int minutiaIndex;
+		int[] toRemoveIndexes;
 		int minutiaFIndex;
 		int minutiaSIndex;
 		int ret;
@@ -248,10 +252,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			logger.info("REMOVING HOOKS:");
 
 		/* Allocate list of minutia indices that upon completion of testing */
-		/* should be removed from the minutiae lists. Note: That using */
+		/* should be removed from the minutiae lists. Note: The workspace */
 		/* initializes the list to FALSE. */
-		toRemoveIndexes = new ArrayList<Boolean>(Arrays.asList(new Boolean[oMinutiae.get().getNum()]));
-		Collections.fill(toRemoveIndexes, Boolean.FALSE);
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
 
 		/* Compute number directions in full circle. */
 		fullNDirs = lfsParams.getNumDirections() << 1;
@@ -272,7 +275,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		/* Foreach primary (first) minutia (except for last one in list) ... */
 		while (minutiaFIndex < oMinutiae.get().getNum() - 1) {
 			/* If current first minutia not previously set to be removed. */
-			if (!toRemoveIndexes.get(minutiaFIndex)) {
+			if (toRemoveIndexes[minutiaFIndex] != ILfs.TRUE) {
 				if (isShowLogs())
 					logger.info("");
 
@@ -305,11 +308,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					/* If the second minutia's pixel has been previously changed... */
 					if (binarizedImageData[(minutia2.getY() * imageWidth) + minutia2.getX()] != minutia2.getType()) {
 						/* Set to remove second minutia. */
-						toRemoveIndexes.set(minutiaSIndex, true);
+						toRemoveIndexes[minutiaSIndex] = ILfs.TRUE;
 					}
 
 					/* If the second minutia not previously set to be removed. */
-					if (!toRemoveIndexes.get(minutiaSIndex)) {
+					if (toRemoveIndexes[minutiaSIndex] != ILfs.TRUE) {
 						/* Compute delta y between 1st & 2nd minutiae and test. */
 						deltaY = minutia2.getY() - minutia1.getY();
 						/* If delta y small enough (ex. < 8 pixels) ... */
@@ -353,9 +356,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("4HK RM");
 
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(minutiaFIndex, true);
+											toRemoveIndexes[minutiaFIndex] = ILfs.TRUE;
 											/* Set to remove second minutia. */
-											toRemoveIndexes.set(minutiaSIndex, true);
+											toRemoveIndexes[minutiaSIndex] = ILfs.TRUE;
 										}
 										/* If hook test IGNORED ... */
 										else if (ret == ILfs.IGNORE) {
@@ -363,7 +366,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("RM");
 
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(minutiaFIndex, true);
+											toRemoveIndexes[minutiaFIndex] = ILfs.TRUE;
 											/* Skip to next 1st minutia by breaking out of */
 											/* inner secondary loop. */
 											break;
@@ -419,22 +422,15 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			minutiaFIndex++;
 		} // End primary minutiae loop.
 
-		/* Now remove all minutiae in list that have been flagged for removal. */
-		/* NOTE: Need to remove the minutia from their lists in reverse */
-		/* order, otherwise, indices will be off. */
-		for (minutiaIndex = oMinutiae.get().getNum() - 1; minutiaIndex >= 0; minutiaIndex--) {
-			/* If the current minutia index is flagged for removal ... */
-			if (toRemoveIndexes.get(minutiaIndex)) {
-				/* Remove the minutia from the minutiae list. */
-				if ((ret = this.getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-					getFree().free(toRemoveIndexes);
-					return (ret);
-				}
-			}
-		}
+		/* Now remove all minutiae in list that have been flagged for removal, */
+		/* compacting the list in a single pass. */
+		ret = getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae);
 
 		/* Deallocate flag list. */
 		getFree().free(toRemoveIndexes);
+		if (ret != ILfs.FALSE) {
+			return (ret);
+		}
 
 		/* Return normally. */
 		return (ILfs.FALSE);
@@ -454,10 +450,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * binary image with loops filled and overlaps removed Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	public int removeHooksIslandsLakesOverlaps(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+	public int removeHooksIslandsLakesOverlaps(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
-		List<Boolean> toRemoveIndexes;
-		int minutiaIndex;
+		int[] toRemoveIndexes;
 		int firstMinutiaIndex;
 		int secondMinutiaIndex;
 		int ret;
@@ -475,9 +470,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			logger.info("REMOVING HOOKS, ISLANDS, LAKES, AND OVERLAPS:");
 
 		/* Allocate list of minutia indices that upon completion of testing */
-		/* should be removed from the minutiae lists. Note: That using */
+		/* should be removed from the minutiae lists. Note: The workspace */
 		/* initializes the list to FALSE. */
-		toRemoveIndexes = new ArrayList<Boolean>(Arrays.asList(new Boolean[oMinutiae.get().getNum()]));
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
 		/* Compute number directions in full circle. */
 		fullNDirs = lfsParams.getNumDirections() << 1;
 		/* Compute number of directions in 45=(180/4) degrees. */
@@ -495,7 +490,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		/* Foreach primary (first) minutia (except for last one in list) ... */
 		while (firstMinutiaIndex < oMinutiae.get().getNum() - 1) {
 			/* If current first minutia not previously set to be removed. */
-			if (!toRemoveIndexes.get(firstMinutiaIndex)) {
+			if (toRemoveIndexes[firstMinutiaIndex] != ILfs.TRUE) {
 				if (isShowLogs())
 					logger.info("");
 
@@ -530,11 +525,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					if (binarizedImageData[(secondMinutia.getY() * imageWidth) + secondMinutia.getX()] != secondMinutia
 							.getType()) {
 						/* Set to remove second minutia. */
-						toRemoveIndexes.set(secondMinutiaIndex, true);
+						toRemoveIndexes[secondMinutiaIndex] = ILfs.TRUE;
 					}
 
 					/* If the second minutia not previously set to be removed. */
-					if (!toRemoveIndexes.get(secondMinutiaIndex)) {
+					if (toRemoveIndexes[secondMinutiaIndex] != ILfs.TRUE) {
 						/* Compute delta y between 1st & 2nd minutiae and test. */
 						deltaY = secondMinutia.getY() - firstMinutia.getY();
 						/* If delta y small enough (ex. < 8 pixels) ... */
@@ -577,9 +572,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("4HK RM");
 
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(firstMinutiaIndex, true);
+											toRemoveIndexes[firstMinutiaIndex] = ILfs.TRUE;
 											/* Set to remove second minutia. */
-											toRemoveIndexes.set(secondMinutiaIndex, true);
+											toRemoveIndexes[secondMinutiaIndex] = ILfs.TRUE;
 										}
 										/* If hook test IGNORED ... */
 										else if (ret == ILfs.IGNORE) {
@@ -587,7 +582,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("RM");
 
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(firstMinutiaIndex, true);
+											toRemoveIndexes[firstMinutiaIndex] = ILfs.TRUE;
 											/* Skip to next 1st minutia by breaking out of */
 											/* inner secondary loop. */
 											break;
@@ -628,9 +623,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												return (ret);
 											}
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(firstMinutiaIndex, true);
+											toRemoveIndexes[firstMinutiaIndex] = ILfs.TRUE;
 											/* Set to remove second minutia. */
-											toRemoveIndexes.set(secondMinutiaIndex, true);
+											toRemoveIndexes[secondMinutiaIndex] = ILfs.TRUE;
 											/* Deallocate loop contour. */
 											getContour().freeContour(contour);
 										}
@@ -640,7 +635,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("RM");
 
 											/* Set to remove first minutia. */
-											toRemoveIndexes.set(firstMinutiaIndex, true);
+											toRemoveIndexes[firstMinutiaIndex] = ILfs.TRUE;
 											/* Skip to next 1st minutia by breaking out of */
 											/* inner secondary loop. */
 											break;
@@ -669,9 +664,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 													return (ret);
 												}
 												/* Set to remove first minutia. */
-												toRemoveIndexes.set(firstMinutiaIndex, true);
+												toRemoveIndexes[firstMinutiaIndex] = ILfs.TRUE;
 												/* Set to remove second minutia. */
-												toRemoveIndexes.set(secondMinutiaIndex, true);
+												toRemoveIndexes[secondMinutiaIndex] = ILfs.TRUE;
 											}
 											/* Otherwise, pair not on an overlap, so skip */
 											/* to next second minutia. */
@@ -715,22 +710,15 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			firstMinutiaIndex++;
 		} // End primary minutiae loop.
 
-		/* Now remove all minutiae in list that have been flagged for removal. */
-		/* NOTE: Need to remove the minutia from their lists in reverse */
-		/* order, otherwise, indices will be off. */
-		for (minutiaIndex = oMinutiae.get().getNum() - 1; minutiaIndex >= 0; minutiaIndex--) {
-			/* If the current minutia index is flagged for removal ... */
-			if (toRemoveIndexes.get(minutiaIndex)) {
-				/* Remove the minutia from the minutiae list. */
-				if ((ret = this.getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-					toRemoveIndexes = null;
-					return (ret);
-				}
-			}
-		}
+		/* Now remove all minutiae in list that have been flagged for removal, */
+		/* compacting the list in a single pass. */
+		ret = getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae);
 
 		/* Deallocate flag list. */
 		getFree().free(toRemoveIndexes);
+		if (ret != ILfs.FALSE) {
+			return (ret);
+		}
 
 		/* Return normally. */
 		return (ILfs.FALSE);
@@ -749,10 +737,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * oMinutiae - list of pruned minutiae Return Code: Zero - successful completion
 	 * Negative - system error
 	 **************************************************************************/
-	public int removeIslandsAndLakes(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
+	public int removeIslandsAndLakes(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
 			int imageHeight, LfsParams lfsParams) {
 		int[] toRemoveIndexes;
-		int minutiaIndex;
 		int firstMinutiaIndex;
 		int secondMinutiaIndex = 0;
 		AtomicInteger ret = new AtomicInteger(0);
@@ -775,7 +762,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		distThresh = lfsParams.getMaxRmTestDist();
 		halfLoop = lfsParams.getMaxHalfLoop();
 
-		toRemoveIndexes = new int[oMinutiae.get().getNum()];
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
 
 		/* Compute number directions in full circle. */
 		fullNDirs = lfsParams.getNumDirections() << 1;
@@ -959,23 +946,15 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			firstMinutiaIndex++;
 		} /* End primary minutiae loop. */
 
-		/* Now remove all minutiae in list that have been flagged for removal. */
-		/* NOTE: Need to remove the minutia from their lists in reverse */
-		/* order, otherwise, indices will be off. */
-		for (minutiaIndex = oMinutiae.get().getNum() - 1; minutiaIndex >= 0; minutiaIndex--) {
-			/* If the current minutia index is flagged for removal ... */
-			if (toRemoveIndexes[minutiaIndex] == ILfs.TRUE) {
-				/* Remove the minutia from the minutiae list. */
-				ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-				if (ret.get() != ILfs.FALSE) {
-					getFree().free(toRemoveIndexes);
-					return (ret.get());
-				}
-			}
-		}
+		/* Now remove all minutiae in list that have been flagged for removal, */
+		/* compacting the list in a single pass. */
+		ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
 
 		/* Deallocate flag list. */
 		getFree().free(toRemoveIndexes);
+		if (ret.get() != ILfs.FALSE) {
+			return (ret.get());
+		}
 
 		/* Return normally. */
 		return (ILfs.FALSE);
@@ -1003,10 +982,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * list of pruned minutiae Return Code: Zero - successful completion Negative -
 	 * system error
 	 **************************************************************************/
-	public int removeMalformations(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
-			int imageHeight, AtomicIntegerArray oLowFlowMap, int mappedImageWidth, int mappedImageHeight,
+	public int removeMalformations(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
+			int imageHeight, int[] oLowFlowMap, int mappedImageWidth, int mappedImageHeight,
 			LfsParams lfsParams) {
 		int minutiaIndex, j;
+		int[] toRemoveIndexes;
 		AtomicInteger ret = new AtomicInteger(0);
 		AtomicReference<Minutia> oMinutia = new AtomicReference<>();
 		Contour contour = null;
@@ -1034,6 +1014,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		if (isShowLogs())
 			logger.info("REMOVING MALFORMATIONS:");
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		for (minutiaIndex = oMinutiae.get().getNum() - 1; minutiaIndex >= 0; minutiaIndex--) {
 			oMinutia.set(oMinutiae.get().getList().get(minutiaIndex));
 
@@ -1061,11 +1046,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					logger.info("{},{} RMA", oMinutia.get().getX(), oMinutia.get().getY());
 
 				/* Then remove the minutia. */
-				ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-				if (ret.get() != ILfs.FALSE) {
-					/* If system error, return error code. */
-					return (ret.get());
-				}
+				toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 			}
 			/* Otherwise, traced contour is complete. */
 			else {
@@ -1104,11 +1085,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 						logger.info("{},{} RMB", oMinutia.get().getX(), oMinutia.get().getY());
 
 					/* Then remove the minutia. */
-					ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-					if (ret.get() != ILfs.FALSE) {
-						/* If system error, return error code. */
-						return (ret.get());
-					}
+					toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 				}
 				/* Otherwise, traced contour is complete. */
 				else {
@@ -1139,17 +1116,13 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 						if (isShowLogs())
 							logger.info("{},{} RMMAL1", oMinutia.get().getX(), oMinutia.get().getY());
 
-						ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-						if (ret.get() != ILfs.FALSE) {
-							/* If system error, return error code. */
-							return (ret.get());
-						}
+						toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 						removed = ILfs.TRUE;
 					}
 
 					if (removed == ILfs.FALSE) {
 						/* Determine if minutia is in LOW RIDGE FLOW block. */
-						fmapval = oLowFlowMap.get((blockY * mappedImageWidth) + blockX);
+						fmapval = oLowFlowMap[(blockY * mappedImageWidth) + blockX];
 						if (fmapval == ILfs.TRUE) {
 							/* If in LOW RIDGE LFOW, conduct a cursory distance test. */
 							/* Need to test this out! */
@@ -1158,11 +1131,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 								if (isShowLogs())
 									logger.info("{},{} RMMAL2", oMinutia.get().getX(), oMinutia.get().getY());
 
-								ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-								if (ret.get() != ILfs.FALSE) {
-									/* If system error, return error code. */
-									return (ret.get());
-								}
+								toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 								removed = ILfs.TRUE;
 							}
 						}
@@ -1193,11 +1162,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 									if (isShowLogs())
 										logger.info("{},{} RMMAL3", oMinutia.get().getX(), oMinutia.get().getY());
 
-									ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-									if (ret.get() != ILfs.FALSE) {
-										/* If system error, return error code. */
-										return (ret.get());
-									}
+									toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 									/* Break out of FOR loop. */
 									break;
 								}
@@ -1208,7 +1173,13 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			}
 		}
 
-		return ILfs.FALSE;
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
+		/* Return normally. */
+		return (ret.get());
 	}
 
 	/*************************************************************************
@@ -1222,9 +1193,10 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * Output: oMinutiae - list of pruned minutiae Return Code: Zero - successful
 	 * completion Negative - system error
 	 **************************************************************************/
-	public int removeNearInvblocksV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray directionMap,
+	public int removeNearInvblocksV2(AtomicReference<Minutiae> oMinutiae, int[] directionMap,
 			final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams) {
 		int minutiaIndex;
+		int[] toRemoveIndexes;
 		int ret;
 		int ni;
 		int nbx;
@@ -1238,7 +1210,6 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		int by;
 		int px;
 		int py;
-		boolean removed;
 		Minutia minutia;
 		int lowMargin;
 		int highMargin;
@@ -1314,6 +1285,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		lowMargin = lfsParams.getInvBlockMargin();
 		highMargin = lfsParams.getBlockOffsetSize() - lfsParams.getInvBlockMargin() - 1;
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		minutiaIndex = 0;
 		/* Foreach minutia remaining in the list ... */
 		while (minutiaIndex < oMinutiae.get().getNum()) {
@@ -1363,9 +1339,6 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 				iy = 1;
 			}
 
-			/* Set remove flag to FALSE. */
-			removed = false;
-
 			/* If one of the minutia's pixel offsets is in a margin ... */
 			if ((ix != 1) || (iy != 1)) {
 				/* Compute the starting neighbor block index for processing. */
@@ -1392,18 +1365,12 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 						/* an even multiple, then some minutia may not be detected */
 						/* as being in the margin of "the image" (not the block). */
 						/* In practice, I don't think this will impact performance. */
-						if ((ret = getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-							/* If system error occurred while removing minutia, */
-							/* then return error code. */
-							return (ret);
-						}
-						/* Set remove flag to TURE. */
-						removed = true;
+						toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 						/* Break out of neighboring block loop. */
 						break;
 					}
 					/* If the neighboring block has INVALID direction ... */
-					else if (directionMap.get((nby * mappedImageWidth) + nbx) == ILfs.INVALID_DIR) {
+					else if (directionMap[(nby * mappedImageWidth) + nbx] == ILfs.INVALID_DIR) {
 						/* Count the number of valid blocks neighboring */
 						/* the current neighbor. */
 						nvalid = getMap().numValid8Nbrs(directionMap, nbx, nby, mappedImageWidth, mappedImageHeight);
@@ -1414,13 +1381,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 								logger.info("{},{} RM2", minutia.getX(), minutia.getY());
 
 							/* Then remove the current minutia from the list. */
-							if ((ret = getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-								/* If system error occurred while removing minutia, */
-								/* then return error code. */
-								return (ret);
-							}
-							/* Set remove flag to TURE. */
-							removed = true;
+							toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 							/* Break out of neighboring block loop. */
 							break;
 						}
@@ -1432,17 +1393,18 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 				}
 			} // Otherwise not in margin, so skip to next minutia in list.
 
-			/* If current minutia not removed ... */
-			if (!removed) {
-				/* Advance to the next minutia in the list. */
-				minutiaIndex++;
-			}
-			/* Otherwise the next minutia has slid into the spot where current */
-			/* minutia was removed, so don't bump minutia index. */
+			/* Advance to the next minutia in the list; flagged minutiae */
+			/* are removed when the list is compacted. */
+			minutiaIndex++;
 		} // End minutia loop
 
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret = getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae);
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
 		/* Return normally. */
-		return ILfs.FALSE;
+		return (ret);
 	}
 
 	/*************************************************************************
@@ -1456,9 +1418,10 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * Output: oMinutiae - list of pruned minutiae Return Code: Zero - successful
 	 * completion Negative - system error
 	 **************************************************************************/
-	public int removePointingInvblockV2(AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray directionMap,
+	public int removePointingInvblockV2(AtomicReference<Minutiae> oMinutiae, int[] directionMap,
 			final int mappedImageWidth, final int mappedImageHeight, final LfsParams lfsParams) {
 		int minutiaIndex, ret;
+		int[] toRemoveIndexes;
 		int deltaX, deltaY, dMapValue;
 		int nx, ny, bx, by;
 		Minutia minutia;
@@ -1471,6 +1434,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		/* Compute factor for converting integer directions to radians. */
 		piFactor = ILfs.M_PI / lfsParams.getNumDirections();
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		minutiaIndex = 0;
 		/* Foreach minutia remaining in list ... */
 		while (minutiaIndex < oMinutiae.get().getNum()) {
@@ -1502,25 +1470,27 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			by = Math.min(mappedImageHeight - 1, by);
 
 			/* Get corresponding block's ridge flow direction. */
-			dMapValue = getPixelValueFromAtomicArray(directionMap, bx, by, mappedImageWidth, mappedImageHeight);
+			dMapValue = getPixelValueFromIntArray(directionMap, bx, by, mappedImageWidth, mappedImageHeight);
 			/* If the NMAP value of translated minutia point is INVALID ... */
 			if (dMapValue == ILfs.INVALID_DIR) {
 				if (isShowLogs())
 					logger.info("{},{} RM", minutia.getX(), minutia.getY());
 
 				/* Remove the minutia from the minutiae list. */
-				if ((ret = getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae)) != ILfs.FALSE) {
-					return (ret);
-				}
-				/* No need to advance because next minutia has slid into slot. */
-			} else {
-				/* Advance to next minutia in list. */
-				minutiaIndex++;
+				toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 			}
+			/* Advance to next minutia in list; flagged minutiae */
+			/* are removed when the list is compacted. */
+			minutiaIndex++;
 		}
 
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret = getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae);
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
 		/* Return normally. */
-		return (ILfs.FALSE);
+		return (ret);
 	}
 
 	/*************************************************************************
@@ -1535,10 +1505,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * oMinutiae - list of pruned minutiae Return Code: Zero - successful completion
 	 * Negative - system error
 	 **************************************************************************/
-	public int removeOverlaps(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
+	public int removeOverlaps(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
 			int imageHeight, LfsParams lfsParams) {
 		int[] toRemoveIndexes;
-		int minutiaIndex;
 		int firstMinutiaIndex;
 		int secondMinutiaIndex;
 		AtomicInteger ret = new AtomicInteger(0);
@@ -1558,9 +1527,9 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			logger.info("REMOVING OVERLAPS:");
 
 		/* Allocate list of minutia indices that upon completion of testing */
-		/* should be removed from the minutiae lists. Note: That using */
-		/* "calloc" initializes the list to FALSE. */
-		toRemoveIndexes = new int[oMinutiae.get().getNum()];
+		/* should be removed from the minutiae lists. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
 
 		/* Compute number directions in full circle. */
 		fullNDirs = lfsParams.getNumDirections() << 1;
@@ -1738,19 +1707,14 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			firstMinutiaIndex++;
 		} // End primary minutiae loop.
 
-		/* Now remove all minutiae in list that have been flagged for removal. */
-		/* NOTE: Need to remove the minutia from their lists in reverse */
-		/* order, otherwise, indices will be off. */
-		for (minutiaIndex = oMinutiae.get().getNum() - 1; minutiaIndex >= 0; minutiaIndex--) {
-			/* If the current minutia index is flagged for removal ... */
-			if (toRemoveIndexes[minutiaIndex] == ILfs.TRUE) {
-				/* Remove the minutia from the minutiae list. */
-				ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-				if (ret.get() != ILfs.FALSE) {
-					getFree().free(toRemoveIndexes);
-					return (ret.get());
-				}
-			}
+		/* Now remove all minutiae in list that have been flagged for removal, */
+		/* compacting the list in a single pass. */
+		ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
+
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+		if (ret.get() != ILfs.FALSE) {
+			return (ret.get());
 		}
 
 		/* Return normally. */
@@ -1772,12 +1736,12 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * controlling LFS Output: oMinutiae - list of pruned minutiae Return Code: Zero
 	 * - successful completion Negative - system error
 	 **************************************************************************/
-	public int removePoresV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, int imageWidth,
-			int imageHeight, AtomicIntegerArray oDirectionMap, AtomicIntegerArray oLowFlowMap,
-			AtomicIntegerArray oHighCurveMap, int mappedImageWidth, int mappedImageHeight, LfsParams lfsParams) {
+	public int removePoresV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, int imageWidth,
+			int imageHeight, int[] oDirectionMap, int[] oLowFlowMap,
+			int[] oHighCurveMap, int mappedImageWidth, int mappedImageHeight, LfsParams lfsParams) {
 		int minutiaIndex;
+		int[] toRemoveIndexes;
 		AtomicInteger ret = new AtomicInteger(0);
-		int removed;
 		int blockX;
 		int blockY;
 		int rx;
@@ -1847,6 +1811,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		/* Factor for converting integer directions into radians. */
 		piFactor = Math.PI / lfsParams.getNumDirections();
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		/* Initialize to the beginning of the minutia list. */
 		minutiaIndex = 0;
 		/* Foreach minutia remaining in the list ... */
@@ -1854,18 +1823,15 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			/* Set temporary minutia pointer. */
 			minutia.set(oMinutiae.get().getList().get(minutiaIndex));
 
-			/* Initialize remove flag to FALSE. */
-			removed = ILfs.FALSE;
-
 			/* Compute block coords from minutia point. */
 			blockX = minutia.get().getX() / lfsParams.getBlockOffsetSize();
 			blockY = minutia.get().getY() / lfsParams.getBlockOffsetSize();
 
 			/* If minutia in LOW RIDGE FLOW or HIGH CURVATURE block */
 			/* with a valid direction ... */
-			if ((oLowFlowMap.get((blockY * mappedImageWidth) + blockX) != ILfs.FALSE
-					|| oHighCurveMap.get((blockY * mappedImageWidth) + blockX) != ILfs.FALSE)
-					&& (oDirectionMap.get((blockY * mappedImageWidth) + blockX) >= ILfs.FALSE)) {
+			if ((oLowFlowMap[(blockY * mappedImageWidth) + blockX] != ILfs.FALSE
+					|| oHighCurveMap[(blockY * mappedImageWidth) + blockX] != ILfs.FALSE)
+					&& (oDirectionMap[(blockY * mappedImageWidth) + blockX] >= ILfs.FALSE)) {
 				/* Compute radian angle from minutia direction. */
 				theta = minutia.get().getDirection() * piFactor;
 				/* Compute sine and cosine factors of this angle. */
@@ -1918,13 +1884,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 								logger.info("{},{} RMB", minutia.get().getX(), minutia.get().getY());
 
 							/* Then remove the minutia. */
-							ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-							if (ret.get() != ILfs.FALSE) {
-								/* If system error, return error code. */
-								return (ret.get());
-							}
-							/* Set remove flag to TRUE. */
-							removed = ILfs.TRUE;
+							toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 						}
 						/* Otherwise, traced contour is complete. */
 						else {
@@ -1960,13 +1920,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 									logger.info("{},{} RMD", minutia.get().getX(), minutia.get().getY());
 
 								/* Then remove the minutia. */
-								ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-								if (ret.get() != ILfs.FALSE) {
-									/* If system error, return error code. */
-									return (ret.get());
-								}
-								/* Set remove flag to TRUE. */
-								removed = ILfs.TRUE;
+								toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 							}
 							/* Otherwise, traced contour is complete. */
 							else {
@@ -2012,13 +1966,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 											logger.info("{},{} RMA", minutia.get().getX(), minutia.get().getY());
 
 										/* Then remove the minutia. */
-										ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-										if (ret.get() != ILfs.FALSE) {
-											/* If system error, return error code. */
-											return (ret.get());
-										}
-										/* Set remove flag to TRUE. */
-										removed = ILfs.TRUE;
+										toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 									}
 									/* Otherwise, traced contour is complete. */
 									else {
@@ -2057,13 +2005,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 												logger.info("{},{} RMC", minutia.get().getX(), minutia.get().getY());
 
 											/* Then remove the minutia. */
-											ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-											if (ret.get() != ILfs.FALSE) {
-												/* If system error, return error code. */
-												return (ret.get());
-											}
-											/* Set remove flag to TRUE. */
-											removed = ILfs.TRUE;
+											toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 										}
 										/* Otherwise, traced contour is complete. */
 										else {
@@ -2098,13 +2040,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 														logger.info("RMRATIO %f", ratio);
 													}
 													/* Then assume pore & remove minutia. */
-													ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-													if (ret.get() != ILfs.FALSE) {
-														/* If system error, return error code. */
-														return (ret.get());
-													}
-													/* Set remove flag to TRUE. */
-													removed = ILfs.TRUE;
+													toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 												}
 												/* Otherwise, ratio to big, so assume */
 												/* legitimate minutia. */
@@ -2118,13 +2054,7 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 										logger.info("{},{} RMQ", minutia.get().getX(), minutia.get().getY());
 
 									/* Then remove the minutia. */
-									ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-									if (ret.get() != ILfs.FALSE) {
-										/* If system error, return error code. */
-										return (ret.get());
-									}
-									/* Set remove flag to TRUE. */
-									removed = ILfs.TRUE;
+									toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 								} // Done with Q.
 							} // Done with D.
 						} // Done with B.
@@ -2135,29 +2065,24 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 							logger.info("{},{} RMP", minutia.get().getX(), minutia.get().getY());
 
 						/* Then remove the minutia. */
-						ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-						if (ret.get() != ILfs.FALSE) {
-							/* If system error, return error code. */
-							return (ret.get());
-						}
-						/* Set remove flag to TRUE. */
-						removed = ILfs.TRUE;
+						toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
 					}
 				} // Else, R is on pixel the same color as type, so do not
 				/* remove minutia point and skip to next one. */
 			} // Else block is unreliable or has INVALID direction.
 
-			/* If current minutia not removed ... */
-			if (removed == ILfs.FALSE) {
-				/* Bump to next minutia in list. */
-				minutiaIndex++;
-			}
-			/* Otherwise, next minutia has slid into slot of current removed one. */
-
+			/* Advance to the next minutia in the list; flagged minutiae */
+			/* are removed when the list is compacted. */
+			minutiaIndex++;
 		} // End While minutia remaining in list.
 
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
 		/* Return normally. */
-		return ILfs.FALSE;
+		return (ret.get());
 	}
 
 	/*************************************************************************
@@ -2174,10 +2099,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 	 * LFS Output: oMinutiae - list of pruned minutiae Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	public int removeOrAdjustSideMinutiaeV2(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
-			final int imageWidth, final int imageHeight, AtomicIntegerArray directionMap, final int mappedImageWidth,
+	public int removeOrAdjustSideMinutiaeV2(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
+			final int imageWidth, final int imageHeight, int[] directionMap, final int mappedImageWidth,
 			final int mappedImageHeight, final LfsParams lfsParams) {
 		int minutiaIndex;
+		int[] toRemoveIndexes;
 		AtomicInteger ret = new AtomicInteger(0);
 		Minutia minutia;
 		double piFactor;
@@ -2206,6 +2132,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 		/* Compute factor for converting integer directions to radians. */
 		piFactor = ILfs.M_PI / lfsParams.getNumDirections();
 
+		/* Allocate list of minutia indices that upon completion of testing */
+		/* should be removed from the minutiae list. Note: The workspace */
+		/* initializes the list to FALSE. */
+		toRemoveIndexes = MindtctWorkspace.current().acquireInts(oMinutiae.get().getNum());
+
 		minutiaIndex = 0;
 		/* Foreach minutia remaining in list ... */
 		while (minutiaIndex < oMinutiae.get().getNum()) {
@@ -2232,15 +2163,10 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					logger.info("{},{} RM1", minutia.getX(), minutia.getY());
 
 				/* Remove minutia from list. */
-				ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-				if (ret.get() != ILfs.FALSE) {
-					/* Deallocate working memory. */
-					getFree().free(oRotatedYOfMinutiaContour);
-					/* Return error code. */
-					return (ret.get());
-				}
-				/* No need to advance because next minutia has "slid" */
-				/* into position pointed to by 'i'. */
+				toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
+				/* Advance to the next minutia; flagged minutiae */
+				/* are removed when the list is compacted. */
+				minutiaIndex++;
 			}
 			/* Otherwise, a complete contour was found and extracted ... */
 			else {
@@ -2290,7 +2216,11 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 				if (oNoOfContour.get() < 3) {
 					/* Then no min/max is possible, so set allocated length */
 					/* to 0 and return. */
-					return (0);
+					/* Remove all minutiae in list that have been flagged for removal. */
+					ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
+					/* Deallocate flag list. */
+					getFree().free(toRemoveIndexes);
+					return (ret.get());
 				}
 
 				/* Otherwise, set allocation length to number of items - 2 */
@@ -2327,24 +2257,13 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					/* Must check if adjusted minutia is now in INVALID block ... */
 					blockX = minutia.getX() / lfsParams.getBlockOffsetSize();
 					blockY = minutia.getY() / lfsParams.getBlockOffsetSize();
-					if (getPixelValueFromAtomicArray(directionMap, blockX, blockY, mappedImageWidth,
+					if (getPixelValueFromIntArray(directionMap, blockX, blockY, mappedImageWidth,
 							mappedImageHeight) == ILfs.INVALID_DIR) {
 						/* Remove minutia from list. */
-						ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-						if (ret.get() != ILfs.FALSE) {
-							/* Deallocate working memory. */
-							getFree().free(oRotatedYOfMinutiaContour);
-							getContour().freeContour(contour);
-							if (minmaxAlloc.get() > ILfs.FALSE) {
-								getFree().free(minmaxValue);
-								getFree().free(minmaxType);
-								getFree().free(minmaxIndex);
-							}
-							/* Return error code. */
-							return (ret.get());
-						}
-						/* No need to advance because next minutia has "slid" */
-						/* into position pointed to by 'i'. */
+						toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
+						/* Advance to the next minutia; flagged minutiae */
+						/* are removed when the list is compacted. */
+						minutiaIndex++;
 
 						if (isShowLogs())
 							logger.info("RM2");
@@ -2377,24 +2296,13 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 					blockX = minutia.getX() / lfsParams.getBlockOffsetSize();
 					blockY = minutia.getY() / lfsParams.getBlockOffsetSize();
 
-					if (getPixelValueFromAtomicArray(directionMap, blockX, blockY, mappedImageWidth,
+					if (getPixelValueFromIntArray(directionMap, blockX, blockY, mappedImageWidth,
 							mappedImageHeight) == ILfs.INVALID_DIR) {
 						/* Remove minutia from list. */
-						ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-						if (ret.get() != ILfs.FALSE) {
-							/* Deallocate working memory. */
-							getFree().free(oRotatedYOfMinutiaContour);
-							getContour().freeContour(contour);
-							if (minmaxAlloc.get() > ILfs.FALSE) {
-								getFree().free(minmaxValue);
-								getFree().free(minmaxType);
-								getFree().free(minmaxIndex);
-							}
-							/* Return error code. */
-							return (ret.get());
-						}
-						/* No need to advance because next minutia has "slid" */
-						/* into position pointed to by 'i'. */
+						toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
+						/* Advance to the next minutia; flagged minutiae */
+						/* are removed when the list is compacted. */
+						minutiaIndex++;
 
 						if (isShowLogs())
 							logger.info("RM3");
@@ -2411,22 +2319,10 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 						logger.info("{},{} RM4", minutia.getX(), minutia.getY());
 
 					/* Remove minutia from list. */
-					ret.set(getMinutiaHelper().removeMinutia(minutiaIndex, oMinutiae));
-					if (ret.get() != ILfs.FALSE) {
-						/* If system error, then deallocate working memories. */
-						getFree().free(oRotatedYOfMinutiaContour);
-						getContour().freeContour(contour);
-						if (minmaxAlloc.get() > ILfs.FALSE) {
-							getFree().free(minmaxValue);
-							getFree().free(minmaxType);
-							getFree().free(minmaxIndex);
-						}
-						/* Return error code. */
-						return (ret.get());
-
-					}
-					/* No need to advance because next minutia has "slid" */
-					/* into position pointed to by 'i'. */
+					toRemoveIndexes[minutiaIndex] = ILfs.TRUE;
+					/* Advance to the next minutia; flagged minutiae */
+					/* are removed when the list is compacted. */
+					minutiaIndex++;
 				}
 				/* Deallocate contour and min/max buffers. */
 				getContour().freeContour(contour);
@@ -2438,7 +2334,12 @@ public class RemoveMinutia extends MindTct implements IRemoveMinutia {
 			} // End else contour extracted.
 		} // End while not end of minutiae list.
 
+		/* Remove all minutiae in list that have been flagged for removal. */
+		ret.set(getMinutiaHelper().removeMinutiae(toRemoveIndexes, oMinutiae));
+		/* Deallocate flag list. */
+		getFree().free(toRemoveIndexes);
+
 		/* Return normally. */
-		return ILfs.FALSE;
+		return (ret.get());
 	}
 }
\ No newline at end of file
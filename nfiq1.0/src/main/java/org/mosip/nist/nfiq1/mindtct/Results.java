@@ -3,7 +3,6 @@ package org.mosip.nist.nfiq1.mindtct;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.mosip.nist.nfiq1.common.ILfs;
@@ -29,8 +28,8 @@ public class Results extends MindTct implements IResults {
 	}
 
 	public int writeTextResults(File file, int m1flag, int imageWidth, int imageHeight,
-			AtomicReference<Minutiae> oMinutiae, AtomicIntegerArray oQualityMap, AtomicIntegerArray oDirectionMap,
-			AtomicIntegerArray oLowContrastMap, AtomicIntegerArray oLowFlowMap, AtomicIntegerArray oHighCurveMap,
+			AtomicReference<Minutiae> oMinutiae, int[] oQualityMap, int[] oDirectionMap,
+			int[] oLowContrastMap, int[] oLowFlowMap, int[] oHighCurveMap,
 			int mapWidth, int mapHeight) {
 		// TODO Auto-generated method stub
 		return 0;
@@ -52,7 +51,7 @@ public class Results extends MindTct implements IResults {
 	 * 
 	 * @throws IOException
 	 **************************************************************************/
-	public void dumpMap(File file, AtomicIntegerArray oMap, int mapWidth, int mapHeight) throws IOException {
+	public void dumpMap(File file, int[] oMap, int mapWidth, int mapHeight) throws IOException {
 		int mx;
 		int my;
 		int mapIndex;
@@ -61,7 +60,7 @@ public class Results extends MindTct implements IResults {
 		mapIndex = 0;
 		for (my = 0; my < mapHeight; my++) {
 			for (mx = 0; mx < mapWidth; mx++) {
-				myWriter.write(String.format("%2d", oMap.get(mapIndex++)));
+				myWriter.write(String.format("%2d", oMap[mapIndex++]));
 			}
 			myWriter.write("\n");
 		}
@@ -69,13 +68,13 @@ public class Results extends MindTct implements IResults {
 		myWriter.close();
 	}
 
-	public int drawInputBlockImageMap(AtomicIntegerArray oInputBlockImageMap, int mapWidth, int mapHeight,
+	public int drawInputBlockImageMap(int[] oInputBlockImageMap, int mapWidth, int mapHeight,
 			int[] imageData, int imageWidth, int imageHeight, RotGrids rotGrids, int drawPixel) {
 		return 0;
 	}
 
-	public void drawInputBlockImageMap2(AtomicIntegerArray oInputBlockImageMap, AtomicIntegerArray oBlockOffsets,
-			int mapWidth, int mapHeight, int[] paddedImageData, int paddedImageWidth, int paddedImageHeight,
+	public void drawInputBlockImageMap2(int[] oInputBlockImageMap, int[] oBlockOffsets,
+			int mapWidth, int mapHeight, byte[] paddedImageData, int paddedImageWidth, int paddedImageHeight,
 			double startAngle, int nDirs, int blocksize) {
 	}
 
@@ -95,13 +94,13 @@ public class Results extends MindTct implements IResults {
 	 * drawPixel - pixel intensity to be used when drawing on the image Output:
 	 * paddedImageData - input image contains the results of the annoatation
 	 **************************************************************************/
-	public void drawBlocks(AtomicIntegerArray oBlockOffsets, int mapWidth, int mapHeight, int[] paddedImageData,
+	public void drawBlocks(int[] oBlockOffsets, int mapWidth, int mapHeight, byte[] paddedImageData,
 			int paddedImageWidth, int paddedImageHeight, int drawPixel) {
 		int paddedImageIndex;
 
 		for (int bi = 0; bi < paddedImageWidth * paddedImageHeight; bi++) {
-			paddedImageIndex = 0 + oBlockOffsets.get(bi);
-			paddedImageData[paddedImageIndex] = drawPixel;
+			paddedImageIndex = 0 + oBlockOffsets[bi];
+			paddedImageData[paddedImageIndex] = (byte) drawPixel;
 		}
 	}
 
@@ -155,13 +154,13 @@ public class Results extends MindTct implements IResults {
 			AtomicReference<Minutiae> oMinutiae) {
 	}
 
-	public int drawDirectionMap(StringBuilder fileName, AtomicIntegerArray oDirectionMap,
-			AtomicIntegerArray oBlockOffsets, int mapWidth, int mapHeight, int blocksize, int[] imageData,
+	public int drawDirectionMap(StringBuilder fileName, int[] oDirectionMap,
+			int[] oBlockOffsets, int mapWidth, int mapHeight, int blocksize, int[] imageData,
 			int imageWidth, int imageHeight, int flag) {
 		return 0;
 	}
 
-	public int drawTFMap(StringBuilder fileName, AtomicIntegerArray oMap, AtomicIntegerArray oBlockOffsets,
+	public int drawTFMap(StringBuilder fileName, int[] oMap, int[] oBlockOffsets,
 			int mapWidth, int mapHeight, int blocksize, int[] imageData, int imageWidth, int imageHeight, int flag) {
 		return 0;
 	}
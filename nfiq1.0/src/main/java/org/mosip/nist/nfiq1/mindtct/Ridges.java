@@ -18,6 +18,10 @@ import org.slf4j.LoggerFactory;
 public class Ridges extends MindTct implements IRidges {
 	private static final Logger logger = LoggerFactory.getLogger(Ridges.class);
 	private static Ridges instance;
+	/* Average number of minutiae per cell of the findAllNeighbors grid. */
+	private static final int NBR_GRID_OCCUPANCY = 2;
+	/* Minutiae whose ridges are counted by one fork/join task. */
+	private static final int RIDGE_COUNT_MINUTIAE_PER_TASK = 16;
 
 	private Ridges() {
 		super();
@@ -106,10 +110,27 @@ public class Ridges extends MindTct implements IRidges {
 	 * augmented with neighbors and ridge counts Return Code: Zero - successful
 	 * completion Negative - system error
 	 **************************************************************************/
-	public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth,
+	public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
 			final int imageHeight, final LfsParams lfsParams) {
+		return countMinutiaeRidges(oMinutiae, binarizedImageData, imageWidth, imageHeight, lfsParams, false);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: countMinutiaeRidges - Same as above; with parallel set, the ridges
+	 * #cat: of runs of RIDGE_COUNT_MINUTIAE_PER_TASK minutiae are counted on
+	 * #cat: the fork/join pool. Counting only reads the binary image and the
+	 * #cat: minutia positions and writes the neighbors and ridge counts of its
+	 * #cat: own minutia, so the results are the same as with the serial count.
+	 **************************************************************************/
+	public int countMinutiaeRidges(AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+			final int imageHeight, final LfsParams lfsParams, final boolean parallel) {
 		int ret;
-		int minutiaIndex;
+		final int noOfMinutiae;
+		final int maxNbrs;
+		final int[] nbrLists;
+		final int[] noOfNbrs;
+		final int[] minutiaRets;
 
 		if (isShowLogs())
 			logger.info("\nFINDING NBRS AND COUNTING RIDGES:\n");
@@ -125,13 +146,76 @@ public class Ridges extends MindTct implements IRidges {
 			return (ret);
 		}
 
+		/* Locate the neighbors of all minutiae in one pass. */
+		noOfMinutiae = oMinutiae.get().getNum();
+		maxNbrs = lfsParams.getMaxNbrs();
+		nbrLists = new int[noOfMinutiae * Math.max(0, maxNbrs)];
+		noOfNbrs = new int[noOfMinutiae];
+		if ((ret = findAllNeighbors(nbrLists, noOfNbrs, maxNbrs, oMinutiae)) != ILfs.FALSE) {
+			return (ret);
+		}
+
 		/* Foreach remaining sorted minutia in list ... */
-		for (minutiaIndex = 0; minutiaIndex < oMinutiae.get().getNum() - 1; minutiaIndex++) {
-			/* Located neighbors and count number of ridges in between. */
+		/* Ridge count traces are only meaningful in minutia order, so */
+		/* logging keeps the serial path. */
+		if (parallel && !isShowLogs() && noOfMinutiae - 1 > RIDGE_COUNT_MINUTIAE_PER_TASK) {
+			/* Each minutia keeps its own result, so the error reported */
+			/* is the one of the first failing minutia, as when serial. */
+			minutiaRets = new int[noOfMinutiae - 1];
+			new RangeTask(0, noOfMinutiae - 1, RIDGE_COUNT_MINUTIAE_PER_TASK, new AtomicInteger(ILfs.FALSE),
+					(fromMinutia, toMinutia) -> countRidgesOfMinutiae(minutiaRets, fromMinutia, toMinutia, nbrLists,
+							noOfNbrs, maxNbrs, oMinutiae, binarizedImageData, imageWidth, imageHeight, lfsParams))
+					.invoke();
+			for (int minutiaRet : minutiaRets) {
+				if (minutiaRet != ILfs.FALSE) {
+					return (minutiaRet);
+				}
+			}
+			return (ILfs.FALSE);
+		}
+
+		return countRidgesOfMinutiae(null, 0, noOfMinutiae - 1, nbrLists, noOfNbrs, maxNbrs, oMinutiae,
+				binarizedImageData, imageWidth, imageHeight, lfsParams);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: countRidgesOfMinutiae - Counts the ridges between the minutiae
+	 * #cat: [fromMinutia, toMinutia) and their neighbors found by
+	 * #cat: findAllNeighbors, tracing the lines through its own line point
+	 * #cat: buffers, so disjoint ranges may be processed concurrently. Input:
+	 * fromMinutia - first minutia toMinutia - one past the last minutia nbrLists,
+	 * noOfNbrs, maxNbrs - neighbor lists as returned by findAllNeighbors
+	 * remaining inputs as for countMinutiaeRidges Output: oMinutiaRets - if not
+	 * null, the return code of each minutia, and the range goes on past errors
+	 * oMinutiae - minutiae augmented with neighbors and ridge counts Return Code:
+	 * Zero - successful completion Negative - system error
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	private int countRidgesOfMinutiae(int[] oMinutiaRets, final int fromMinutia, final int toMinutia,
+			final int[] nbrLists, final int[] noOfNbrs, final int maxNbrs, AtomicReference<Minutiae> oMinutiae,
+			byte[] binarizedImageData, final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
+		int ret;
+		AtomicIntegerArray nbrList;
+		/* A line between two pixels of the image never has more points. */
+		final int[] xlist = new int[Math.max(imageWidth, imageHeight) + 2];
+		final int[] ylist = new int[xlist.length];
+
+		for (int minutiaIndex = fromMinutia; minutiaIndex < toMinutia; minutiaIndex++) {
+			/* Copy the neighbors found for the minutia to its own list. */
+			nbrList = new AtomicIntegerArray(maxNbrs);
+			for (int nbrIndex = 0; nbrIndex < noOfNbrs[minutiaIndex]; nbrIndex++) {
+				nbrList.set(nbrIndex, nbrLists[(minutiaIndex * maxNbrs) + nbrIndex]);
+			}
+
+			/* Count number of ridges in between. */
 			/* NOTE: neighbor and ridge count results are stored in */
 			/* oMinutiae->list[i]. */
-			if ((ret = countMinutiaRidges(minutiaIndex, oMinutiae, binarizedImageData, imageWidth, imageHeight,
-					lfsParams)) != ILfs.FALSE) {
+			ret = countNeighborRidges(minutiaIndex, nbrList, noOfNbrs[minutiaIndex], oMinutiae, binarizedImageData,
+					imageWidth, imageHeight, lfsParams, xlist, ylist);
+			if (oMinutiaRets != null) {
+				oMinutiaRets[minutiaIndex] = ret;
+			} else if (ret != ILfs.FALSE) {
 				return (ret);
 			}
 		}
@@ -151,10 +235,10 @@ public class Ridges extends MindTct implements IRidges {
 	 * minutia augmented with neighbors and ridge counts Return Code: Zero -
 	 * successful completion Negative - system error
 	 **************************************************************************/
-	public int countMinutiaRidges(final int first, AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData,
+	public int countMinutiaRidges(final int first, AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData,
 			final int imageWidth, final int imageHeight, final LfsParams lfsParams) {
-		int i, ret;
-		AtomicIntegerArray nbrList, nbrNRidges;
+		int ret;
+		AtomicIntegerArray nbrList;
 		AtomicInteger oNoOfNbrs = new AtomicInteger(0);
 
 		/* Allocate list of neighbor oMinutiae indices. */
@@ -166,6 +250,44 @@ public class Ridges extends MindTct implements IRidges {
 			return (ret);
 		}
 
+		/* Count the ridges between the minutia and its neighbors. */
+		return (countNeighborRidges(first, nbrList, oNoOfNbrs.get(), oMinutiae, binarizedImageData, imageWidth,
+				imageHeight, lfsParams));
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: countNeighborRidges - Takes a minutia and its closest neighbors, as
+	 * #cat: returned by findNeighbors or findAllNeighbors, and counts #cat: the
+	 * number of interveining ridges between the minutia #cat: point and each of
+	 * its neighbors. Input: first - index of the primary minutia nbrList - list of
+	 * neighbor minutia indices noOfNbrs - number of neighbors in the list
+	 * oMinutiae - input minutia binarizedImageData - binary image data (0==while &
+	 * 1==black) imageWidth - width (in pixels) of image imageHeight - height (in
+	 * pixels) of image lfsParams - parameters and thresholds for controlling LFS
+	 * Output: oMinutiae - minutia augmented with neighbors and ridge counts Return
+	 * Code: Zero - successful completion Negative - system error
+	 **************************************************************************/
+	public int countNeighborRidges(final int first, AtomicIntegerArray nbrList, final int noOfNbrs,
+			AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+			final int imageHeight, final LfsParams lfsParams) {
+		return countNeighborRidges(first, nbrList, noOfNbrs, oMinutiae, binarizedImageData, imageWidth, imageHeight,
+				lfsParams, null, null);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: countNeighborRidges - Same as above, tracing the lines to the
+	 * #cat: neighbors through the given line point buffers (see ridgeCount).
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public int countNeighborRidges(final int first, AtomicIntegerArray nbrList, final int noOfNbrs,
+			AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth,
+			final int imageHeight, final LfsParams lfsParams, int[] xlist, int[] ylist) {
+		int i, ret;
+		AtomicIntegerArray nbrNRidges;
+		AtomicInteger oNoOfNbrs = new AtomicInteger(noOfNbrs);
+
 		if (isShowLogs())
 			logger.info(MessageFormat.format("NBRS FOUND: %d, %d = %d\n", oMinutiae.get().getList().get(first).getX(),
 					oMinutiae.get().getList().get(first).getY(), oNoOfNbrs.get()));
@@ -189,7 +311,8 @@ public class Ridges extends MindTct implements IRidges {
 		/* Foreach neighbor found and sorted in list ... */
 		for (i = 0; i < oNoOfNbrs.get(); i++) {
 			/* Count the ridges between the primary minutia and the neighbor. */
-			ret = ridgeCount(first, nbrList.get(i), oMinutiae, binarizedImageData, imageWidth, imageHeight, lfsParams);
+			ret = ridgeCount(first, nbrList.get(i), oMinutiae, binarizedImageData, imageWidth, imageHeight, lfsParams,
+					xlist, ylist);
 			/* If system error ... */
 			if (ret < ILfs.FALSE) {
 				/* Deallocate working memories. */
@@ -301,6 +424,178 @@ public class Ridges extends MindTct implements IRidges {
 		return (ILfs.FALSE);
 	}
 
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: findAllNeighbors - Takes a list of minutiae sorted on x and then on
+	 * #cat: y and locates, for every minutia, the same closest #cat: neighbors
+	 * findNeighbors would return: up to maxNbrs #cat: minutiae following it in the
+	 * list, in order of increasing #cat: squared distance (ties in list order).
+	 * The minutiae #cat: are bucketed once in a uniform grid, and the cells on
+	 * #cat: and to the right of a minutia's column are searched in #cat: square
+	 * rings of growing size until no unsearched cell #cat: can hold a closer
+	 * neighbor. Input: oNbrLists - list of at least num * maxNbrs values
+	 * oNoOfNbrs - list of at least num values maxNbrs - maximum number of closest
+	 * neighbors to be returned oMinutiae - list of minutiae sorted on x then y
+	 * Output: oNbrLists - neighbor indices of minutia i stored from i * maxNbrs
+	 * oNoOfNbrs - number of neighbors found for each minutia Return Code: Zero -
+	 * successful completion Negative - system error
+	 **************************************************************************/
+	public int findAllNeighbors(int[] oNbrLists, int[] oNoOfNbrs, final int maxNbrs,
+			AtomicReference<Minutiae> oMinutiae) {
+		final int noOfMinutiae = oMinutiae.get().getNum();
+		int[] xList;
+		int[] yList;
+		int[] cellStarts;
+		int[] cellMinutiae;
+		long[] nbrSqrDists;
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		int cellSize;
+		int gridWidth;
+		int gridHeight;
+
+		/* If no neighbors can be stored, then none are found. */
+		if ((noOfMinutiae == 0) || (maxNbrs <= 0)) {
+			for (int i = 0; i < noOfMinutiae; i++) {
+				oNoOfNbrs[i] = 0;
+			}
+			return (ILfs.FALSE);
+		}
+
+		/* Copy the minutia coords to primitive lists. */
+		xList = new int[noOfMinutiae];
+		yList = new int[noOfMinutiae];
+		for (int i = 0; i < noOfMinutiae; i++) {
+			final Minutia minutia = oMinutiae.get().getList().get(i);
+			xList[i] = minutia.getX();
+			yList[i] = minutia.getY();
+			minX = Math.min(minX, xList[i]);
+			minY = Math.min(minY, yList[i]);
+			maxX = Math.max(maxX, xList[i]);
+			maxY = Math.max(maxY, yList[i]);
+		}
+
+		/* Size the cells to hold about NBR_GRID_OCCUPANCY minutiae each. */
+		cellSize = (int) Math.ceil(Math.sqrt(((double) (maxX - minX + 1) * (maxY - minY + 1) * NBR_GRID_OCCUPANCY)
+				/ noOfMinutiae));
+		cellSize = Math.max(1, cellSize);
+		gridWidth = ((maxX - minX) / cellSize) + 1;
+		gridHeight = ((maxY - minY) / cellSize) + 1;
+
+		/* Bucket the minutiae by cell (counting sort, so each cell lists its */
+		/* minutiae in list order). */
+		cellStarts = new int[(gridWidth * gridHeight) + 1];
+		cellMinutiae = new int[noOfMinutiae];
+		for (int i = 0; i < noOfMinutiae; i++) {
+			cellStarts[(((yList[i] - minY) / cellSize) * gridWidth) + ((xList[i] - minX) / cellSize) + 1]++;
+		}
+		for (int cell = 0; cell < gridWidth * gridHeight; cell++) {
+			cellStarts[cell + 1] += cellStarts[cell];
+		}
+		for (int i = 0; i < noOfMinutiae; i++) {
+			final int cell = (((yList[i] - minY) / cellSize) * gridWidth) + ((xList[i] - minX) / cellSize);
+			cellMinutiae[cellStarts[cell]++] = i;
+		}
+		/* Shift the starts back (each was advanced to the next cell's start). */
+		for (int cell = gridWidth * gridHeight; cell > 0; cell--) {
+			cellStarts[cell] = cellStarts[cell - 1];
+		}
+		cellStarts[0] = 0;
+
+		/* Squared distances of the neighbors of the current minutia. */
+		nbrSqrDists = new long[maxNbrs];
+
+		/* Foreach primary minutia ... */
+		for (int first = 0; first < noOfMinutiae; first++) {
+			final int x = xList[first];
+			final int y = yList[first];
+			final int cellX = (x - minX) / cellSize;
+			final int cellY = (y - minY) / cellSize;
+			final int nbrBase = first * maxNbrs;
+			int noOfNbrs = 0;
+
+			/* Foreach ring of cells around the minutia's cell ... */
+			for (int ring = 0;; ring++) {
+				final int fromCellY = Math.max(0, cellY - ring);
+				final int toCellY = Math.min(gridHeight - 1, cellY + ring);
+				final int toCellX = Math.min(gridWidth - 1, cellX + ring);
+
+				/* Search the ring's cells in and to the right of the */
+				/* minutia's column; secondaries in list order follow the */
+				/* primary, so none lie in a column to its left. */
+				for (int ny = fromCellY; ny <= toCellY; ny++) {
+					for (int nx = cellX; nx <= toCellX; nx++) {
+						if ((Math.abs(ny - cellY) != ring) && ((nx - cellX) != ring)) {
+							continue;
+						}
+						final int cell = (ny * gridWidth) + nx;
+						for (int k = cellStarts[cell]; k < cellStarts[cell + 1]; k++) {
+							final int second = cellMinutiae[k];
+							if (second <= first) {
+								continue;
+							}
+							final long dx = (long) xList[second] - x;
+							final long dy = (long) yList[second] - y;
+							final long dist2 = (dx * dx) + (dy * dy);
+							int pos;
+
+							/* Skip the secondary unless it beats the last */
+							/* neighbor stored, ties going to the lower index. */
+							if ((noOfNbrs == maxNbrs) && ((dist2 > nbrSqrDists[noOfNbrs - 1])
+									|| ((dist2 == nbrSqrDists[noOfNbrs - 1])
+											&& (second > oNbrLists[nbrBase + noOfNbrs - 1])))) {
+								continue;
+							}
+							/* Find insertion point and shift the neighbors */
+							/* after it down, dropping the last when full. */
+							pos = (noOfNbrs < maxNbrs) ? noOfNbrs : (maxNbrs - 1);
+							while ((pos > 0) && ((dist2 < nbrSqrDists[pos - 1])
+									|| ((dist2 == nbrSqrDists[pos - 1]) && (second < oNbrLists[nbrBase + pos - 1])))) {
+								nbrSqrDists[pos] = nbrSqrDists[pos - 1];
+								oNbrLists[nbrBase + pos] = oNbrLists[nbrBase + pos - 1];
+								pos--;
+							}
+							nbrSqrDists[pos] = dist2;
+							oNbrLists[nbrBase + pos] = second;
+							if (noOfNbrs < maxNbrs) {
+								noOfNbrs++;
+							}
+						}
+					}
+				}
+
+				/* Stop when the rings cover every cell that can hold a */
+				/* secondary ... */
+				if ((cellX + ring >= gridWidth - 1) && (cellY - ring <= 0) && (cellY + ring >= gridHeight - 1)) {
+					break;
+				}
+				/* ... or when the lists are full and the unsearched cells */
+				/* are all farther away than the last neighbor stored. */
+				if (noOfNbrs == maxNbrs) {
+					long minDist = Long.MAX_VALUE;
+					if (cellX + ring < gridWidth - 1) {
+						minDist = Math.min(minDist, ((long) minX + ((long) (cellX + ring + 1) * cellSize)) - x);
+					}
+					if (cellY - ring > 0) {
+						minDist = Math.min(minDist, (long) y - (minY + ((long) (cellY - ring) * cellSize)) + 1);
+					}
+					if (cellY + ring < gridHeight - 1) {
+						minDist = Math.min(minDist, ((long) minY + ((long) (cellY + ring + 1) * cellSize)) - y);
+					}
+					if (nbrSqrDists[maxNbrs - 1] < minDist * minDist) {
+						break;
+					}
+				}
+			}
+			oNoOfNbrs[first] = noOfNbrs;
+		}
+
+		/* Return normally. */
+		return (ILfs.FALSE);
+	}
+
 	/*************************************************************************
 	 **************************************************************************
 	 * #cat: updateNbrDists - Takes the current list of neighbors along with a #cat:
@@ -449,11 +744,13 @@ public class Ridges extends MindTct implements IRidges {
 	 **************************************************************************/
 	public int sortNeighbors(AtomicIntegerArray oNbrList, final int noOfNbrs, final int firstMinutiaIndex,
 			AtomicReference<Minutiae> oMinutiae) {
-		AtomicReferenceArray<Double> joinThetas;
+		double[] joinThetas;
+		int[] nbrs;
 		double theta;
 		double pi2 = ILfs.M_PI * 2.0;
 
-		joinThetas = new AtomicReferenceArray<Double>(noOfNbrs);
+		joinThetas = new double[noOfNbrs];
+		nbrs = new int[noOfNbrs];
 
 		for (int minutiaIndex = 0; minutiaIndex < noOfNbrs; minutiaIndex++) {
 			/* Compute angle to line connecting the 2 points. */
@@ -468,11 +765,15 @@ public class Ridges extends MindTct implements IRidges {
 			/* Make sure the angle is positive. */
 			theta += pi2;
 			theta = getDefs().fMod(theta, pi2);
-			joinThetas.set(minutiaIndex, theta);
+			joinThetas[minutiaIndex] = theta;
+			nbrs[minutiaIndex] = oNbrList.get(minutiaIndex);
 		}
 
 		/* Sort the neighbor indicies into rank order. */
-		getSort().bubbleSortDoubleArrayIncremental2(joinThetas, oNbrList, noOfNbrs);
+		getSort().insertionSortDoubleArrayIncremental2(joinThetas, nbrs, noOfNbrs);
+		for (int nbrIndex = 0; nbrIndex < noOfNbrs; nbrIndex++) {
+			oNbrList.set(nbrIndex, nbrs[nbrIndex]);
+		}
 
 		/* Deallocate the list of angles. */
 		getFree().free(joinThetas);
@@ -493,15 +794,29 @@ public class Ridges extends MindTct implements IRidges {
 	 * Zero or Positive - number of ridges counted Negative - system error
 	 **************************************************************************/
 	public int ridgeCount(final int firstMinutiaIndex, final int secondMinutiaIndex,
-			AtomicReference<Minutiae> oMinutiae, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final LfsParams lfsParams) {
+		return ridgeCount(firstMinutiaIndex, secondMinutiaIndex, oMinutiae, binarizedImageData, imageWidth,
+				imageHeight, lfsParams, null, null);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: ridgeCount - Same as above, tracing the line through the given
+	 * #cat: buffers when they hold its points (a buffer of the larger image
+	 * #cat: dimension plus 2 holds any line in the image), so a caller counting
+	 * #cat: many ridges does not allocate per line. Input: xlist, ylist - line
+	 * point buffers, or null to allocate them
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public int ridgeCount(final int firstMinutiaIndex, final int secondMinutiaIndex,
+			AtomicReference<Minutiae> oMinutiae, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final LfsParams lfsParams, int[] xlist, int[] ylist) {
 		Minutia firstMinutia;
 		Minutia secondMinutia;
 		AtomicInteger i = new AtomicInteger(0);
 		int ret;
 		int found;
-		int[] xlist;
-		int[] ylist;
 		AtomicInteger num = new AtomicInteger(0);
 		int ridgeCount;
 		int ridgeStart;
@@ -522,8 +837,10 @@ public class Ridges extends MindTct implements IRidges {
 		/* and second minutia points. */
 		int aSize = Math.max(Math.abs(secondMinutia.getX() - firstMinutia.getX()) + 2,
 				Math.abs(secondMinutia.getY() - firstMinutia.getY()) + 2);
-		xlist = new int[aSize];
-		ylist = new int[aSize];
+		if (xlist == null || ylist == null || xlist.length < aSize || ylist.length < aSize) {
+			xlist = new int[aSize];
+			ylist = new int[aSize];
+		}
 		if ((ret = getLine().linePoints(xlist, ylist, num, firstMinutia.getX(), firstMinutia.getY(),
 				secondMinutia.getX(), secondMinutia.getY())) != ILfs.FALSE) {
 			return (ret);
@@ -665,7 +982,7 @@ public class Ridges extends MindTct implements IRidges {
 	 * found FALSE - pixel pair transition not found
 	 **************************************************************************/
 	public int findTransition(AtomicInteger startPixel, final int firstPixel, final int secondPixel, final int[] xlist,
-			final int[] ylist, final int num, int[] binarizedImageData, final int imageWidth, final int imageHeight) {
+			final int[] ylist, final int num, byte[] binarizedImageData, final int imageWidth, final int imageHeight) {
 		int i, j;
 
 		/* Set previous index to starting position. */
@@ -715,7 +1032,7 @@ public class Ridges extends MindTct implements IRidges {
 	 * Negative - system error
 	 **************************************************************************/
 	public int validateRidgeCrossing(final int ridgeStart, final int ridgeEnd, final int[] xlist, final int[] ylist,
-			final int num, int[] binarizedImageData, final int imageWidth, final int imageHeight,
+			final int num, byte[] binarizedImageData, final int imageWidth, final int imageHeight,
 			final int maxRidgeSteps) {
 		AtomicInteger ret = new AtomicInteger(0);
 		AtomicInteger featureX = new AtomicInteger(0), featureY = new AtomicInteger(0), edgeX = new AtomicInteger(0),
@@ -242,9 +242,9 @@ public class Shapes extends MindTct implements IShapes {
 	 * row - row structure with points in sorted order
 	 **************************************************************************/
 	public void sortRowLeftToRightOnX(Rows row) {
-		/* Conduct a simple increasing bubble sort on the x-coords */
-		/* in the given row. A bubble sort is satisfactory as the */
+		/* Conduct a simple increasing insertion sort on the x-coords */
+		/* in the given row. An insertion sort is satisfactory as the */
 		/* number of points will be relatively small. */
-		getSort().bubbleSortIntArrayIncremental(row.getXs(), row.getNoOfPts());
+		getSort().insertionSortIntArrayIncremental(row.getXs(), row.getNoOfPts());
 	}
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.mosip.nist.nfiq1.mindtct;
 
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
@@ -8,6 +9,11 @@ import org.mosip.nist.nfiq1.common.ILfs.ISort;
 
 public class Sort extends MindTct implements ISort {
 	private static Sort instance;
+	/* Lists shorter than this are insertion sorted by the radix sort. */
+	private static final int RADIX_SORT_MIN_LENGTH = 64;
+	/* Bits of the rank offsets sorted on per radix pass. */
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
 
 	private Sort() {
 		super();
@@ -190,8 +196,7 @@ public class Sort extends MindTct implements ISort {
 	 * of the ranks. If these items are indices, upon return, they may be used as
 	 * indirect addresses reflecting the sorted order of the ranks.
 	 ****************************************************************************/
-	public void bubbleSortDoubleArrayDecremental2(AtomicReferenceArray<Double> ranks, AtomicIntegerArray items,
-			final int len) {
+	public void bubbleSortDoubleArrayDecremental2(double[] ranks, int[] items, final int len) {
 		int done = ILfs.FALSE;
 		int i;
 		int p;
@@ -204,15 +209,15 @@ public class Sort extends MindTct implements ISort {
 			done = ILfs.TRUE;
 			for (i = 1, p = 0; i < n; i++, p++) {
 				/* If previous rank is < current rank ... */
-				if (ranks.get(p) < ranks.get(i)) {
+				if (ranks[p] < ranks[i]) {
 					/* Swap ranks */
-					tRank = ranks.get(i);
-					ranks.set(i, ranks.get(p));
-					ranks.set(p, tRank);
+					tRank = ranks[i];
+					ranks[i] = ranks[p];
+					ranks[p] = tRank;
 					/* Swap corresponding items */
-					tItem = items.get(i);
-					items.set(i, items.get(p));
-					items.set(p, tItem);
+					tItem = items[i];
+					items[i] = items[p];
+					items[p] = tItem;
 					done = ILfs.FALSE;
 				}
 			}
@@ -261,4 +266,221 @@ public class Sort extends MindTct implements ISort {
 			n--;
 		}
 	}
-}
\ No newline at end of file
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: sortIndicesIntArrayIncremental - Same as above on primitive lists.
+	 * #cat: The indices of equal integers keep their original order, as with
+	 * #cat: the bubble sort. Input: ranks - list of integers to be sorted num -
+	 * number of integers in the list Output: order - list of indices referencing
+	 * the integer list in sorted order ranks - list of integers in increasing
+	 * order Return Code: Zero - successful completion Negative - system error
+	 **************************************************************************/
+	public int sortIndicesIntArrayIncremental(int[] order, int[] ranks, final int num) {
+		int i;
+
+		/* Initialize list of sequential indices. */
+		for (i = 0; i < num; i++) {
+			order[i] = i;
+		}
+
+		/* Sort the indecies into rank order. */
+		radixSortIntArrayIncremental2(ranks, order, num);
+
+		/* Return normally. */
+		return (ILfs.FALSE);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: radixSortIntArrayIncremental2 - Takes a list of integer ranks and a
+	 * #cat: corresponding list of integer attributes, and sorts the ranks #cat:
+	 * into increasing order moving the attributes #cat: correspondingly. The sort
+	 * is a stable least significant digit #cat: radix sort on the offsets of the
+	 * ranks from the smallest #cat: one, so equal ranks keep their order exactly
+	 * as with #cat: bubbleSortIntArrayIncremental2. Short lists are insertion
+	 * #cat: sorted. Input: ranks - list of integers to be sort on items - list of
+	 * corresponding integer attributes len - number of items in list Output:
+	 * ranks - list of integers sorted in increasing order items - list of
+	 * attributes in corresponding sorted order
+	 **************************************************************************/
+	public void radixSortIntArrayIncremental2(int[] ranks, int[] items, final int len) {
+		int minRank;
+		int maxRank;
+		int span;
+		int total;
+		int count;
+		int pos;
+		int[] srcRanks;
+		int[] srcItems;
+		int[] dstRanks;
+		int[] dstItems;
+		int[] swap;
+		int[] buckets;
+
+		if (len < RADIX_SORT_MIN_LENGTH) {
+			insertionSortIntArrayIncremental2(ranks, items, len);
+			return;
+		}
+
+		/* Find the range of the ranks. */
+		minRank = ranks[0];
+		maxRank = ranks[0];
+		for (int i = 1; i < len; i++) {
+			if (ranks[i] < minRank) {
+				minRank = ranks[i];
+			} else if (ranks[i] > maxRank) {
+				maxRank = ranks[i];
+			}
+		}
+		/* Offsets from the smallest rank fit in 32 unsigned bits. */
+		span = maxRank - minRank;
+
+		srcRanks = ranks;
+		srcItems = items;
+		dstRanks = new int[len];
+		dstItems = new int[len];
+		buckets = new int[1 << RADIX_BITS];
+		/* One counting pass per digit, skipping digits all offsets lack. */
+		for (int shift = 0; shift < Integer.SIZE && (span >>> shift) != 0; shift += RADIX_BITS) {
+			Arrays.fill(buckets, 0);
+			for (int i = 0; i < len; i++) {
+				buckets[((srcRanks[i] - minRank) >>> shift) & RADIX_MASK]++;
+			}
+			/* Turn the digit counts into bucket start positions. */
+			total = 0;
+			for (int b = 0; b < buckets.length; b++) {
+				count = buckets[b];
+				buckets[b] = total;
+				total += count;
+			}
+			/* Scatter in list order, which keeps the sort stable. */
+			for (int i = 0; i < len; i++) {
+				pos = buckets[((srcRanks[i] - minRank) >>> shift) & RADIX_MASK]++;
+				dstRanks[pos] = srcRanks[i];
+				dstItems[pos] = srcItems[i];
+			}
+			swap = srcRanks;
+			srcRanks = dstRanks;
+			dstRanks = swap;
+			swap = srcItems;
+			srcItems = dstItems;
+			dstItems = swap;
+		}
+
+		/* Copy back if the last pass left the lists in the scratch copies. */
+		if (srcRanks != ranks) {
+			System.arraycopy(srcRanks, 0, ranks, 0, len);
+			System.arraycopy(srcItems, 0, items, 0, len);
+		}
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: insertionSortIntArrayIncremental2 - Takes a list of integer ranks
+	 * #cat: and a corresponding list of integer attributes, and sorts the #cat:
+	 * ranks into increasing order moving the attributes #cat: correspondingly.
+	 * Equal ranks keep their order. Input: ranks - list of integers to be sort on
+	 * items - list of corresponding integer attributes len - number of items in
+	 * list Output: ranks - list of integers sorted in increasing order items -
+	 * list of attributes in corresponding sorted order
+	 **************************************************************************/
+	public void insertionSortIntArrayIncremental2(int[] ranks, int[] items, final int len) {
+		int j;
+		int tRank;
+		int tItem;
+
+		for (int i = 1; i < len; i++) {
+			tRank = ranks[i];
+			tItem = items[i];
+			/* Shift the larger ranks before i up by one. */
+			for (j = i; j > 0 && ranks[j - 1] > tRank; j--) {
+				ranks[j] = ranks[j - 1];
+				items[j] = items[j - 1];
+			}
+			ranks[j] = tRank;
+			items[j] = tItem;
+		}
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: insertionSortDoubleArrayIncremental2 - Takes a list of double ranks
+	 * #cat: and a corresponding list of integer attributes, and sorts the #cat:
+	 * ranks into increasing order moving the attributes #cat: correspondingly.
+	 * Equal ranks keep their order, as with #cat:
+	 * bubbleSortDoubleArrayIncremental2. Input: ranks - list of double to be sort
+	 * on items - list of corresponding integer attributes len - number of items in
+	 * list Output: ranks - list of doubles sorted in increasing order items - list
+	 * of attributes in corresponding sorted order
+	 **************************************************************************/
+	public void insertionSortDoubleArrayIncremental2(double[] ranks, int[] items, final int len) {
+		int j;
+		int tItem;
+		double tRank;
+
+		for (int i = 1; i < len; i++) {
+			tRank = ranks[i];
+			tItem = items[i];
+			/* Shift the larger ranks before i up by one. */
+			for (j = i; j > 0 && ranks[j - 1] > tRank; j--) {
+				ranks[j] = ranks[j - 1];
+				items[j] = items[j - 1];
+			}
+			ranks[j] = tRank;
+			items[j] = tItem;
+		}
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: insertionSortDoubleArrayDecremental2 - Takes a list of double ranks
+	 * #cat: and a corresponding list of integer attributes, and sorts the #cat:
+	 * ranks into decreasing order moving the attributes #cat: correspondingly.
+	 * Equal ranks keep their order, as with #cat:
+	 * bubbleSortDoubleArrayDecremental2. Input: ranks - list of values to be
+	 * sorted items - list of items, each corresponding to a particular rank value
+	 * len - length of the lists to be sorted Output: ranks - list of values sorted
+	 * in descending order items - list of items in the corresponding sorted order
+	 * of the ranks
+	 **************************************************************************/
+	public void insertionSortDoubleArrayDecremental2(double[] ranks, int[] items, final int len) {
+		int j;
+		int tItem;
+		double tRank;
+
+		for (int i = 1; i < len; i++) {
+			tRank = ranks[i];
+			tItem = items[i];
+			/* Shift the smaller ranks before i up by one. */
+			for (j = i; j > 0 && ranks[j - 1] < tRank; j--) {
+				ranks[j] = ranks[j - 1];
+				items[j] = items[j - 1];
+			}
+			ranks[j] = tRank;
+			items[j] = tItem;
+		}
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: insertionSortIntArrayIncremental - Takes a list of integers and
+	 * sorts #cat: them into increasing order using an insertion sort, which #cat:
+	 * only moves the integers that are out of order. Input: ranks - list of
+	 * integers to be sort on len - number of items in list Output: ranks - list of
+	 * integers sorted in increasing order
+	 **************************************************************************/
+	public void insertionSortIntArrayIncremental(AtomicIntegerArray ranks, final int len) {
+		int j;
+		int tRank;
+
+		for (int i = 1; i < len; i++) {
+			tRank = ranks.get(i);
+			/* Shift the larger ranks before i up by one. */
+			for (j = i; j > 0 && ranks.get(j - 1) > tRank; j--) {
+				ranks.set(j, ranks.get(j - 1));
+			}
+			ranks.set(j, tRank);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package org.mosip.nist.nfiq1.mlp;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.mosip.nist.nfiq1.common.IMlp;
 import org.mosip.nist.nfiq1.common.IMlp.IAcs;
 
 public class Acs extends Mlp implements IAcs {
@@ -80,4 +81,37 @@ public class Acs extends Mlp implements IAcs {
 	public void acVLinear(AtomicReferenceArray<Double> p, int index) {
 		p.set(index, 0.25f * p.get(index));
 	}
+
+	/* Primitive versions of the value only activation functions above. */
+	public void acVSinusoid(double[] p, int index) {
+		p[index] = 0.5d * (1.0d + Math.sin(0.5d * p[index]));
+	}
+
+	public void acVSigmoid(double[] p, int index) {
+		p[index] = (p[index] >= SMIN ? 1.0d / (1.0d + Math.exp(-p[index])) : 0.0d);
+	}
+
+	public void acVLinear(double[] p, int index) {
+		p[index] = 0.25f * p[index];
+	}
+
+	/*
+	 * Applies the activation function given by acFuncCode (LINEAR, SIGMOID or
+	 * SINUSOID) to p[index]; other codes leave it unchanged.
+	 */
+	public void acV(final int acFuncCode, double[] p, int index) {
+		switch (acFuncCode) {
+		case IMlp.LINEAR:
+			acVLinear(p, index);
+			break;
+		case IMlp.SIGMOID:
+			acVSigmoid(p, index);
+			break;
+		case IMlp.SINUSOID:
+			acVSinusoid(p, index);
+			break;
+		default:
+			break;
+		}
+	}
 }
\ No newline at end of file
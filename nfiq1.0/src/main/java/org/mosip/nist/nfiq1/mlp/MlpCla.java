@@ -59,19 +59,6 @@ public class MlpCla extends Mlp implements IMlpCla {
 	 * 
 	 * Parameter adjustments Function Body
 	 */
-	private static int info;
-	private static double temp;
-	private static int lenx;
-	private static int leny;
-	private static int i;
-	private static int j;
-	private static int ix;
-	private static int iy;
-	private static int jx;
-	private static int jy;
-	private static int kx;
-	private static int ky;
-
 	public int sgemV(AtomicReference<Character> trans, int m, int n, AtomicReference<Double> alpha,
 			AtomicReferenceArray<Double> a, int lda, AtomicReferenceArray<Double> x, int incx,
 			AtomicReference<Double> beta, AtomicReferenceArray<Double> y, int incy) {
@@ -81,6 +68,22 @@ public class MlpCla extends Mlp implements IMlpCla {
 		 */
 		int i1;
 		int i2;
+		/*
+		 * Loop indices and scratch are kept local (they were file-scope statics in the
+		 * f2c source) so that concurrent callers cannot clobber each other.
+		 */
+		int info;
+		double temp;
+		int lenx;
+		int leny;
+		int i;
+		int j;
+		int ix;
+		int iy;
+		int jx;
+		int jy;
+		int kx;
+		int ky;
 
 		info = 0;
 		if (!compareChars(trans, 'N') && !compareChars(trans, 'T') && !compareChars(trans, 'C')) {
@@ -366,8 +369,6 @@ public class MlpCla extends Mlp implements IMlpCla {
 		return ILfs.FALSE;
 	}
 
-	private static int inta, intb, zcode;
-
 	private boolean compareChars(AtomicReference<Character> ca, char cb) {
 		/*
 		 * -- LAPACK auxiliary routine (version 2.0) -- Univ. of Tennessee, Univ. of
@@ -382,6 +383,7 @@ public class MlpCla extends Mlp implements IMlpCla {
 		 */
 		/* System generated locals */
 		boolean ret_val = false;
+		int inta, intb, zcode;
 		ret_val = ca.get() == cb;
 		if (ret_val) {
 			return ret_val;
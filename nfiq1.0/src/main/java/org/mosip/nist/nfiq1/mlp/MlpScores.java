@@ -0,0 +1,31 @@
+package org.mosip.nist.nfiq1.mlp;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: MlpScores - Outcome of scoring a batch of feature vectors with
+ * #cat: NfiqMlpModel.score, one entry per vector, in input order.
+ * classes - hypothetical class of each vector (0 through nOuts - 1; the NFIQ
+ * value is class + 1) confidences - max output activation of each vector
+ **************************************************************************/
+public class MlpScores {
+	private final int[] classes;
+	private final double[] confidences;
+
+	public MlpScores(int[] classes, double[] confidences) {
+		super();
+		this.classes = classes;
+		this.confidences = confidences;
+	}
+
+	public int size() {
+		return classes.length;
+	}
+
+	public int[] getClasses() {
+		return classes;
+	}
+
+	public double[] getConfidences() {
+		return confidences;
+	}
+}
@@ -0,0 +1,306 @@
+package org.mosip.nist.nfiq1.mlp;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mosip.nist.nfiq1.common.ILfs;
+import org.mosip.nist.nfiq1.common.IMlp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*************************************************************************
+ **************************************************************************
+ * #cat: NfiqMlpModel - A feedforward MLP held as primitive layer arrays: the
+ * #cat: first layer weights and biases and the second layer weights and
+ * #cat: biases, split once out of the flat NIST weights vector. The model is
+ * #cat: immutable and may be shared between threads; runMlp only writes the
+ * #cat: activation buffers supplied by the caller, so scoring a feature
+ * #cat: vector allocates nothing. Results are those of RunMlp.runMlp2, which
+ * #cat: remains for callers holding boxed weights.
+ **************************************************************************/
+public final class NfiqMlpModel extends Mlp {
+	private static final Logger logger = LoggerFactory.getLogger(NfiqMlpModel.class);
+	/* Most callers score every image with the same (default) weights; */
+	/* keep the last model built so it is not rebuilt for each image. */
+	private static volatile NfiqMlpModel lastModel;
+	/* Feature vectors per block of a batched score. A block of inputs, */
+	/* hidden and output activations (11 + 22 + 5 doubles per vector for */
+	/* the NFIQ network) stays in the L1 cache while every weight row is */
+	/* applied to it. */
+	private static final int SCORE_BLOCK_SIZE = 64;
+
+	private final int nInps;
+	private final int nHids;
+	private final int nOuts;
+	private final int acFuncHidsCode;
+	private final int acFuncOutsCode;
+	/* Flat weights the model was built from, to recognise them again. */
+	private final double[] weights;
+	/* w1[(hid * nInps) + inp], b1[hid], w2[(out * nHids) + hid], b2[out] */
+	private final double[] w1;
+	private final double[] b1;
+	private final double[] w2;
+	private final double[] b2;
+	private final Acs acs = Acs.getInstance();
+
+	@SuppressWarnings({ "java:S107" })
+	private NfiqMlpModel(final int nInps, final int nHids, final int nOuts, final int acFuncHidsCode,
+			final int acFuncOutsCode, final double[] weights) {
+		super();
+		this.nInps = nInps;
+		this.nHids = nHids;
+		this.nOuts = nOuts;
+		this.acFuncHidsCode = acFuncHidsCode;
+		this.acFuncOutsCode = acFuncOutsCode;
+		this.weights = weights.clone();
+
+		/* Where the weights and biases of the two layers begin in weights. */
+		int w1Index = 0;
+		int b1Index = w1Index + nHids * nInps;
+		int w2Index = b1Index + nHids;
+		int b2Index = w2Index + nOuts * nHids;
+
+		this.w1 = Arrays.copyOfRange(weights, w1Index, b1Index);
+		this.b1 = Arrays.copyOfRange(weights, b1Index, w2Index);
+		this.w2 = Arrays.copyOfRange(weights, w2Index, b2Index);
+		this.b2 = Arrays.copyOfRange(weights, b2Index, b2Index + nOuts);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: getInstance - Returns a model for the given MLP shape and flat NIST
+	 * #cat: weights vector, reusing the last model built when both match. Input:
+	 * nInps, nHids, nOuts - numbers of input, hidden and output nodes
+	 * acFuncHidsCode - activation function of the hidden nodes (LINEAR, SIGMOID
+	 * or SINUSOID) acFuncOutsCode - activation function of the output nodes
+	 * weights - the MLP weights, first layer weights and biases followed by second
+	 * layer weights and biases Output: ret - Zero - successful completion,
+	 * Negative - system error Return Code: the model, or null on error
+	 **************************************************************************/
+	@SuppressWarnings({ "java:S107" })
+	public static NfiqMlpModel getInstance(AtomicInteger ret, final int nInps, final int nHids, final int nOuts,
+			final int acFuncHidsCode, final int acFuncOutsCode, final double[] weights) {
+		NfiqMlpModel model = lastModel;
+		if (model != null && model.matches(nInps, nHids, nOuts, acFuncHidsCode, acFuncOutsCode, weights)) {
+			ret.set(ILfs.FALSE);
+			return model;
+		}
+
+		if (nHids > IMlp.MAX_NHIDS) {
+			logger.error("ERROR : NfiqMlpModel : nHids : {} > {}", nHids, IMlp.MAX_NHIDS);
+			ret.set(-2);
+			return null;
+		}
+		if (!isAcFuncCode(acFuncHidsCode)) {
+			logger.error("ERROR : NfiqMlpModel : acFuncHidsCode :{} unsupported", acFuncHidsCode);
+			ret.set(-3);
+			return null;
+		}
+		if (!isAcFuncCode(acFuncOutsCode)) {
+			logger.error("ERROR : NfiqMlpModel : acFuncOutsCode : {} unsupported", acFuncOutsCode);
+			ret.set(-4);
+			return null;
+		}
+		if (nInps <= 0 || nHids <= 0 || nOuts <= 0
+				|| weights.length < (nHids * nInps) + nHids + (nOuts * nHids) + nOuts) {
+			logger.error("ERROR : NfiqMlpModel : {} weights too few for {} x {} x {} MLP", weights.length, nInps,
+					nHids, nOuts);
+			ret.set(-5);
+			return null;
+		}
+
+		model = new NfiqMlpModel(nInps, nHids, nOuts, acFuncHidsCode, acFuncOutsCode, weights);
+		lastModel = model;
+		ret.set(ILfs.FALSE);
+		return model;
+	}
+
+	private boolean matches(final int nInps, final int nHids, final int nOuts, final int acFuncHidsCode,
+			final int acFuncOutsCode, final double[] weights) {
+		return this.nInps == nInps && this.nHids == nHids && this.nOuts == nOuts
+				&& this.acFuncHidsCode == acFuncHidsCode && this.acFuncOutsCode == acFuncOutsCode
+				&& Arrays.equals(this.weights, weights);
+	}
+
+	private static boolean isAcFuncCode(final int acFuncCode) {
+		return acFuncCode == IMlp.LINEAR || acFuncCode == IMlp.SIGMOID || acFuncCode == IMlp.SINUSOID;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: runMlp - Runs the MLP on a feature vector. Same arithmetic, in the
+	 * #cat: same order, as RunMlp.runMlp2. Input: featureVector - the feature
+	 * vector; its first nInps elements are used Output: hidAcs - the hidden
+	 * activations, allocated to (at least) nHids doubles by the caller outAcs -
+	 * the output activations, allocated to (at least) nOuts doubles by the caller
+	 * Return Code: the hypothetical class, selected as runMlp2 does; the
+	 * confidence is given by getConfidence(outAcs)
+	 **************************************************************************/
+	public int runMlp(final double[] featureVector, double[] hidAcs, double[] outAcs) {
+		/* Hidden activations: first-layer biases plus the product of the */
+		/* first-layer weights with the feature vector. */
+		for (int hid = 0; hid < nHids; hid++) {
+			final int rowIndex = hid * nInps;
+			double temp = 0.0d;
+			for (int inp = 0; inp < nInps; inp++) {
+				temp += w1[rowIndex + inp] * featureVector[inp];
+			}
+			hidAcs[hid] = b1[hid] + temp;
+			acs.acV(acFuncHidsCode, hidAcs, hid);
+		}
+
+		/* Same steps again for second layer. */
+		for (int out = 0; out < nOuts; out++) {
+			final int rowIndex = out * nHids;
+			double temp = 0.0d;
+			for (int hid = 0; hid < nHids; hid++) {
+				temp += w2[rowIndex + hid] * hidAcs[hid];
+			}
+			outAcs[out] = b2[out] + temp;
+			acs.acV(acFuncOutsCode, outAcs, out);
+		}
+
+		/*
+		 * Find the hypothetical class. As in runMlp2, the class is advanced by one on
+		 * each new maximum rather than set to its index; kept as is so the NFIQ
+		 * values do not change.
+		 */
+		int hypClass = 0;
+		double maxac = outAcs[0];
+		for (int out = 1; out < nOuts; out++) {
+			if (outAcs[out] > maxac) {
+				maxac = outAcs[out];
+				hypClass++;
+			}
+		}
+		return hypClass;
+	}
+
+	/*
+	 * Confidence of the last runMlp: the highest output activation.
+	 */
+	public double getConfidence(final double[] outAcs) {
+		double maxac = outAcs[0];
+		for (int out = 1; out < nOuts; out++) {
+			if (outAcs[out] > maxac) {
+				maxac = outAcs[out];
+			}
+		}
+		return maxac;
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: score - Runs the MLP on a batch of feature vectors. Input:
+	 * zNormalizedFeatures - the (z-normalized) feature vectors, each with at
+	 * least nInps elements Return Code: the class and confidence of each vector,
+	 * as runMlp and getConfidence would give them
+	 **************************************************************************/
+	public MlpScores score(final double[][] zNormalizedFeatures) {
+		final int nVectors = zNormalizedFeatures.length;
+		int[] classes = new int[nVectors];
+		double[] confidences = new double[nVectors];
+
+		score(zNormalizedFeatures, 0, nVectors, classes, confidences);
+		return new MlpScores(classes, confidences);
+	}
+
+	/*************************************************************************
+	 **************************************************************************
+	 * #cat: score - Runs the MLP on the feature vectors from fromIndex up to
+	 * #cat: toIndex, a block of vectors at a time, as two matrix products: each
+	 * #cat: weight row is applied to the whole block before moving to the next.
+	 * #cat: Every activation still sums its products in input order, so the
+	 * #cat: results are bit for bit those of runMlp. Disjoint ranges may be
+	 * #cat: scored concurrently. Input: zNormalizedFeatures - the feature vectors
+	 * fromIndex, toIndex - range of vectors to score Output: classes -
+	 * hypothetical class of each scored vector, at its index confidences - max
+	 * output activation of each scored vector, at its index
+	 **************************************************************************/
+	public void score(final double[][] zNormalizedFeatures, final int fromIndex, final int toIndex, int[] classes,
+			double[] confidences) {
+		final int blockSize = Math.max(1, Math.min(SCORE_BLOCK_SIZE, toIndex - fromIndex));
+		/* Block activations are node major: acs[(node * blockSize) + vector], */
+		/* so the innermost loops run over consecutive vectors. */
+		final double[] inpAcs = new double[nInps * blockSize];
+		final double[] hidAcs = new double[nHids * blockSize];
+		final double[] outAcs = new double[nOuts * blockSize];
+		final double[] sums = new double[blockSize];
+
+		for (int first = fromIndex; first < toIndex; first += blockSize) {
+			final int count = Math.min(blockSize, toIndex - first);
+
+			for (int vector = 0; vector < count; vector++) {
+				final double[] featureVector = zNormalizedFeatures[first + vector];
+				for (int inp = 0; inp < nInps; inp++) {
+					inpAcs[(inp * blockSize) + vector] = featureVector[inp];
+				}
+			}
+
+			multiplyLayer(w1, b1, nInps, nHids, acFuncHidsCode, inpAcs, hidAcs, sums, count, blockSize);
+			multiplyLayer(w2, b2, nHids, nOuts, acFuncOutsCode, hidAcs, outAcs, sums, count, blockSize);
+
+			/* Class and confidence of each vector, selected as in runMlp. */
+			for (int vector = 0; vector < count; vector++) {
+				int hypClass = 0;
+				double maxac = outAcs[vector];
+				for (int out = 1; out < nOuts; out++) {
+					final double ac = outAcs[(out * blockSize) + vector];
+					if (ac > maxac) {
+						maxac = ac;
+						hypClass++;
+					}
+				}
+				classes[first + vector] = hypClass;
+				confidences[first + vector] = maxac;
+			}
+		}
+	}
+
+	/*
+	 * One layer over a block: outAcs = acFunc(biases + weights * inAcs), with
+	 * weights[(node * nIn) + in] and the activations node major.
+	 */
+	@SuppressWarnings({ "java:S107" })
+	private void multiplyLayer(final double[] weights, final double[] biases, final int nIn, final int nOut,
+			final int acFuncCode, final double[] inAcs, double[] outAcs, double[] sums, final int count,
+			final int blockSize) {
+		for (int node = 0; node < nOut; node++) {
+			final int rowIndex = node * nIn;
+			Arrays.fill(sums, 0, count, 0.0d);
+			for (int in = 0; in < nIn; in++) {
+				final double weight = weights[rowIndex + in];
+				final int inIndex = in * blockSize;
+				for (int vector = 0; vector < count; vector++) {
+					sums[vector] += weight * inAcs[inIndex + vector];
+				}
+			}
+
+			final int outIndex = node * blockSize;
+			for (int vector = 0; vector < count; vector++) {
+				outAcs[outIndex + vector] = biases[node] + sums[vector];
+				acs.acV(acFuncCode, outAcs, outIndex + vector);
+			}
+		}
+	}
+
+	public int getNInps() {
+		return nInps;
+	}
+
+	public int getNHids() {
+		return nHids;
+	}
+
+	public int getNOuts() {
+		return nOuts;
+	}
+
+	public int getAcFuncHidsCode() {
+		return acFuncHidsCode;
+	}
+
+	public int getAcFuncOutsCode() {
+		return acFuncOutsCode;
+	}
+}
@@ -1,12 +1,16 @@
 package org.mosip.nist.nfiq1.util;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
 import java.awt.image.DataBufferByte;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
 import java.io.*;
 
 import javax.imageio.ImageIO;
 
 import org.mosip.nist.nfiq1.Nist;
+import org.mosip.nist.nfiq1.Raster8;
 
 public final class ImageUtil extends Nist {
 	// convert BufferedImage to byte[]
@@ -17,32 +21,56 @@ public final class ImageUtil extends Nist {
 		return baos.toByteArray();
 	}
 
+	// get pixel values as a single int[] (one copy, no per row arrays);
+	// Raster8 images are better served by toRaster8, which does not copy
 	public static int[] convertTo1DWithoutUsingGetRGB(BufferedImage image, String format) throws IOException {
-		// get pixel value as single array from buffered Image
-		final byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
-		// get image width value
-		final int width = image.getWidth();
-		// get image height value
-		final int height = image.getHeight();
-
-		int[][] result = new int[height][width]; // Initialize the array with height and width
-
-		// this loop allocates pixels value to two dimensional array
-		for (int pixel = 0, row = 0, col = 0; pixel < pixels.length; pixel++) {
-			int argb = 0;
-			argb = pixels[pixel];
-			if (argb < 0) { // if pixel value is negative, change to positive //still weird to me
-				argb += 256;
+		final Raster8 raster = toRaster8(image);
+		final byte[] pixels = raster.getData();
+		final int width = raster.getWidth();
+		final int height = raster.getHeight();
+
+		int[] result = new int[width * height];
+		for (int row = 0, index = 0; row < height; row++) {
+			int pixel = raster.index(0, row);
+			for (int col = 0; col < width; col++) {
+				result[index++] = pixels[pixel++] & 0xff;
 			}
-			result[row][col] = argb;
-			col++;
-			if (col == width) {
-				col = 0;
-				row++;
+		}
+		return result;
+	}
+
+	// view the first band of a grayscale image as a Raster8. An 8-bit
+	// image backed by a DataBufferByte (TYPE_BYTE_GRAY, as decoded by
+	// ImageDecoder) is wrapped in place, using its scanline stride and
+	// offsets, so a sub-image works too; anything else is copied.
+	public static Raster8 toRaster8(BufferedImage image) {
+		final WritableRaster raster = image.getRaster();
+		final SampleModel sampleModel = raster.getSampleModel();
+		final int width = raster.getWidth();
+		final int height = raster.getHeight();
+
+		if (raster.getDataBuffer() instanceof DataBufferByte && sampleModel instanceof ComponentSampleModel
+				&& sampleModel.getSampleSize(0) == 8) {
+			final ComponentSampleModel componentModel = (ComponentSampleModel) sampleModel;
+			final DataBufferByte dataBuffer = (DataBufferByte) raster.getDataBuffer();
+			if (componentModel.getPixelStride() == 1 && dataBuffer.getNumBanks() == 1
+					&& componentModel.getBankIndices()[0] == 0) {
+				final int offset = dataBuffer.getOffset()
+						+ componentModel.getOffset(raster.getMinX() - raster.getSampleModelTranslateX(),
+								raster.getMinY() - raster.getSampleModelTranslateY(), 0);
+				return new Raster8(dataBuffer.getData(), offset, componentModel.getScanlineStride(), width, height);
 			}
 		}
 
-		return twoDConvert(result);
+		final byte[] data = new byte[width * height];
+		final int[] samples = new int[width];
+		for (int row = 0; row < height; row++) {
+			raster.getSamples(raster.getMinX(), raster.getMinY() + row, width, 1, 0, samples);
+			for (int col = 0; col < width; col++) {
+				data[(row * width) + col] = (byte) samples[col];
+			}
+		}
+		return Raster8.wrap(data, width, height);
 	}
 
 	public static int[] twoDConvert(int[][] nums) {
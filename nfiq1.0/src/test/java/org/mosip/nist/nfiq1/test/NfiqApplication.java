@@ -6,8 +6,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.mosip.nist.nfiq1.Nfiq1Helper;
+import org.mosip.nist.nfiq1.Raster8;
 import org.mosip.nist.nfiq1.common.ILfs;
+import org.mosip.nist.nfiq1.common.ILfs.LfsParams;
 import org.mosip.nist.nfiq1.imagetools.ImageDecoder;
+import org.mosip.nist.nfiq1.mindtct.Block;
+import org.mosip.nist.nfiq1.mindtct.Detect;
+import org.mosip.nist.nfiq1.mindtct.DftKernel;
+import org.mosip.nist.nfiq1.mindtct.Globals;
+import org.mosip.nist.nfiq1.mindtct.Maps;
 import org.mosip.nist.nfiq1.util.ImageUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +51,7 @@ public class NfiqApplication {
 		AtomicReference<Double> conf = new AtomicReference<Double>(0.0d);
 		AtomicReference<String> ifileType = new AtomicReference<String>();
 		AtomicInteger oLogsFlag = new AtomicInteger(0);
+		AtomicInteger oCheckMapsFlag = new AtomicInteger(0);
 
 		if (args != null && args.length >= 1) {
 			imageFile = args[0];
@@ -62,6 +70,15 @@ public class NfiqApplication {
 			}
 		}
 
+		if (args != null && args.length >= 3) {
+			// checkmaps=1 --compare the initial maps with and without DFT line sum tables
+			String checkMaps = args[2];
+			if (checkMaps.contains("checkmaps"))// 0
+			{
+				oCheckMapsFlag.set(Integer.parseInt(checkMaps.split("=")[1]));
+			}
+		}
+
 		/* This routine will automatically detect and load: ISO FORMAT */
 		/* WSQ, JP2 image formats */
 		retCode.set(-1);
@@ -86,6 +103,14 @@ public class NfiqApplication {
 		} catch (IOException e) {
 			logger.error("NFIQ={} Conf={}", nfiq.get(), conf.get());
 		}
+
+		/* Validate the initial maps instead of computing the NFIQ value */
+		if (oCheckMapsFlag.get() == ILfs.TRUE) {
+			ret = checkLineSumMaps(imageData, oImageWidth.get(), oImageHeight.get());
+			/* Exit with 1 if any map entry differs */
+			System.exit((ret > ILfs.FALSE) ? ILfs.TRUE : ret);
+		}
+
 		/* Compute the NFIQ value */
 		ret = nfiqApplication.getNfiqHelper().computeNfiq(nfiq, conf, imageData, oImageWidth.get(), oImageHeight.get(),
 				oImageDepth.get(), oImagePPI.get(), oLogsFlag.get());
@@ -107,4 +132,68 @@ public class NfiqApplication {
 		/* Exit successfully */
 		System.exit(0);
 	}
+
+	/*
+	 * Runs initialiseMaps on the image with the DFT line sum tables off, then on
+	 * (serially and on the fork/join pool), and compares the direction, low
+	 * contrast and low flow maps entry by entry. Returns zero if all maps agree,
+	 * the number of differing entries otherwise, or a negative system error.
+	 */
+	private static int checkLineSumMaps(int[] imageData, final int imageWidth, final int imageHeight) {
+		AtomicInteger ret = new AtomicInteger(0);
+		AtomicInteger paddedImageWidth = new AtomicInteger(0);
+		AtomicInteger paddedImageHeight = new AtomicInteger(0);
+		AtomicInteger mappedImageWidth = new AtomicInteger(0);
+		AtomicInteger mappedImageHeight = new AtomicInteger(0);
+		LfsParams lfsParams = Globals.getInstance().getLfsParamsV2();
+
+		DftKernel dftKernel = DftKernel.getInstance(ret, imageWidth, imageHeight, lfsParams);
+		if (ret.get() != ILfs.FALSE) {
+			return ret.get();
+		}
+		byte[] paddedImageData = Detect.getInstance().getImageUtil().padImageBits8To6(ret, paddedImageWidth,
+				paddedImageHeight, Raster8.fromInts(imageData, imageWidth, imageHeight), dftKernel.getMaxPad(),
+				lfsParams.getPadValue(), null);
+		if (ret.get() != ILfs.FALSE) {
+			return ret.get();
+		}
+		int[] blockOffsets = Block.getInstance().blockOffsets(ret, mappedImageWidth, mappedImageHeight, imageWidth,
+				imageHeight, dftKernel.getMaxPad(), lfsParams.getBlockOffsetSize());
+		if (ret.get() != ILfs.FALSE) {
+			return ret.get();
+		}
+
+		final int mapSize = mappedImageWidth.get() * mappedImageHeight.get();
+		final String[] mapNames = { "direction", "low contrast", "low flow" };
+		final boolean[][] modes = { { false, false }, { true, false }, { true, true } };
+		int[][][] maps = new int[modes.length][][];
+		for (int mode = 0; mode < modes.length; mode++) {
+			Maps imageMap = Maps.newInstance();
+			imageMap.setLineSumTables(modes[mode][0]);
+			imageMap.setParallelAnalysis(modes[mode][1]);
+			maps[mode] = new int[][] { new int[mapSize], new int[mapSize], new int[mapSize] };
+			int mapRet = imageMap.initialiseMaps(maps[mode][0], maps[mode][1], maps[mode][2], blockOffsets,
+					mappedImageWidth.get(), mappedImageHeight.get(), paddedImageData, paddedImageWidth.get(),
+					paddedImageHeight.get(), dftKernel.getDftWaves(), dftKernel.getDftGrids(), lfsParams);
+			if (mapRet != ILfs.FALSE) {
+				return mapRet;
+			}
+		}
+
+		int mismatches = 0;
+		for (int mode = 1; mode < modes.length; mode++) {
+			for (int map = 0; map < mapNames.length; map++) {
+				int differing = 0;
+				for (int i = 0; i < mapSize; i++) {
+					if (maps[mode][map][i] != maps[0][map][i]) {
+						differing++;
+					}
+				}
+				logger.info("checkmaps : line sum tables, parallel={} : {} map {} of {} blocks differ",
+						modes[mode][1], mapNames[map], differing, mapSize);
+				mismatches += differing;
+			}
+		}
+		return mismatches;
+	}
 }
\ No newline at end of file